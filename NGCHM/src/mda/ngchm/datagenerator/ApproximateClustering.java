@@ -0,0 +1,384 @@
+/*******************************************************************
+ * CLASS: ApproximateClustering
+ *
+ * This class orders and clusters the rows or columns of a data matrix
+ * that are too many for exact hierarchical clustering (which needs a
+ * distance matrix quadratic in the number of items).  Items are first
+ * grouped into micro-clusters using mini-batch k-means, the micro-cluster
+ * centroids are clustered exactly with HierarchicalClustering, and the
+ * items of each micro-cluster are ordered between the neighboring
+ * micro-clusters.  Time and memory are linear in the number of items
+ * (for a fixed number of micro-clusters).
+ *
+ * The result is a HierarchicalClustering in hclust format covering every
+ * item: the items of each micro-cluster are joined at height 0 (the
+ * micro-cluster subtrees are collapsed) and the micro-clusters are joined
+ * by the centroid dendrogram.
+ *
+ * For the correlation and cosine distance metrics, k-means works on
+ * items centered (correlation) and scaled to unit length so that
+ * euclidean distances between items follow the distance metric.
+ * Missing (NaN) values are skipped.
+ *
+ * The matrix is not held in memory: its rows are streamed from the
+ * input file into a memory-mapped temporary file holding the values of
+ * each item (row or column) together, which is deleted when clustering
+ * is done.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class ApproximateClustering {
+	private static final long SEED = 1;
+	private static final int ITEMS_PER_TASK = 256;
+	private static final int CHUNK_BITS = 28; // floats per mapped chunk (1GB)
+	private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+	private MappedByteBuffer chunks[];
+	private File mapFile;
+	private int n;
+	private int dims;
+	private float offset[];
+	private float scale[];
+	private float centers[][];
+	private int assignment[];
+
+	/*******************************************************************
+	 * METHOD: cluster
+	 *
+	 * This method clusters the rows or columns (items) of an input file's
+	 * data matrix, with missing values skipped, into a number of
+	 * micro-clusters and builds the dendrogram and leaf order of the
+	 * items.  Axes with no more items than micro-clusters are clustered
+	 * exactly.
+	 ******************************************************************/
+	public static HierarchicalClustering cluster(InputFile iFile, boolean columns, String distanceMetric, String linkage, int microClusters) throws Exception {
+		microClusters = Math.max(microClusters, 1);
+		if ((columns ? iFile.cols : iFile.rows) <= microClusters) {
+			return HierarchicalClustering.cluster(iFile.getInputData(), columns, distanceMetric, linkage);
+		}
+		ApproximateClustering ac = new ApproximateClustering(iFile, columns, distanceMetric);
+		try {
+			ac.trainCenters(microClusters);
+			ac.assignItems();
+			return ac.buildTree(distanceMetric, linkage);
+		} finally {
+			ac.close();
+		}
+	}
+
+	private ApproximateClustering(InputFile iFile, boolean columns, String distanceMetric) throws Exception {
+		n = columns ? iFile.cols : iFile.rows;
+		dims = columns ? iFile.rows : iFile.cols;
+		readItems(iFile, columns);
+		boolean center = DISTANCE_CORRELATION.equalsIgnoreCase(distanceMetric) || DISTANCE_PEARSON.equalsIgnoreCase(distanceMetric);
+		boolean unitLength = center || DISTANCE_COSINE.equalsIgnoreCase(distanceMetric);
+		offset = new float[n];
+		scale = new float[n];
+		for (int i = 0; i < n; i++) {
+			scale[i] = 1;
+			if (unitLength) {
+				setNormalization(i, center);
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readItems
+	 *
+	 * This method streams the data matrix of the input file into a
+	 * memory-mapped temporary file holding the dims values of item i at
+	 * positions i*dims through (i+1)*dims-1.
+	 ******************************************************************/
+	private void readItems(InputFile iFile, final boolean columns) throws Exception {
+		long size = (long)n*dims;
+		mapFile = File.createTempFile("ngchm_items", BIN_FILE);
+		mapFile.deleteOnExit();
+		RandomAccessFile raf = new RandomAccessFile(mapFile, "rw");
+		try {
+			FileChannel channel = raf.getChannel();
+			int numChunks = (int)((size + CHUNK_MASK) >>> CHUNK_BITS);
+			chunks = new MappedByteBuffer[numChunks];
+			for (int c = 0; c < numChunks; c++) {
+				long start = (long)c << CHUNK_BITS;
+				long len = Math.min(size - start, 1L << CHUNK_BITS);
+				chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, start*4, len*4);
+				chunks[c].order(ByteOrder.nativeOrder());
+			}
+		} finally {
+			raf.close();
+		}
+		iFile.readInputData(new InputFile.DataReceiver() {
+			public void receive(int row, int col, float value) {
+				long idx = columns ? (long)col*dims + row : (long)row*dims + col;
+				chunks[(int)(idx >>> CHUNK_BITS)].putFloat(((int)idx & CHUNK_MASK) << 2, value);
+			}
+		});
+	}
+
+	private void close() {
+		chunks = null;
+		if (mapFile != null) {
+			mapFile.delete();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: setNormalization
+	 *
+	 * This method sets the offset and scale that map an item's values
+	 * (centered for correlation) to unit length.  Items with no variation
+	 * are mapped to the origin.
+	 ******************************************************************/
+	private void setNormalization(int item, boolean center) {
+		double sum = 0;
+		int num = 0;
+		for (int d = 0; d < dims; d++) {
+			float v = rawValue(item, d);
+			if (!Float.isNaN(v)) {
+				sum += v;
+				num++;
+			}
+		}
+		double mean = (center && (num > 0)) ? sum/num : 0;
+		double sumSq = 0;
+		for (int d = 0; d < dims; d++) {
+			float v = rawValue(item, d);
+			if (!Float.isNaN(v)) {
+				sumSq += (v-mean)*(v-mean);
+			}
+		}
+		offset[item] = (float) mean;
+		scale[item] = sumSq > 0 ? (float) (1/Math.sqrt(sumSq)) : 0;
+	}
+
+	private float rawValue(int item, int d) {
+		long idx = (long)item*dims + d;
+		return chunks[(int)(idx >>> CHUNK_BITS)].getFloat(((int)idx & CHUNK_MASK) << 2);
+	}
+
+	private float value(int item, int d) {
+		return (rawValue(item, d) - offset[item])*scale[item];
+	}
+
+	/*******************************************************************
+	 * METHOD: trainCenters
+	 *
+	 * This method computes the micro-cluster centers with mini-batch
+	 * k-means: centers start at randomly chosen distinct items and each
+	 * batch of randomly sampled items moves the nearest centers toward the
+	 * items with a per-center learning rate of 1/(items seen).  The random
+	 * generator is seeded so the results are reproducible.
+	 ******************************************************************/
+	private void trainCenters(int microClusters) {
+		Random random = new Random(SEED);
+		int items[] = new int[n];
+		for (int i = 0; i < n; i++) {
+			items[i] = i;
+		}
+		centers = new float[microClusters][dims];
+		for (int c = 0; c < microClusters; c++) {
+			int j = c + random.nextInt(n-c);
+			int item = items[j];
+			items[j] = items[c];
+			items[c] = item;
+			for (int d = 0; d < dims; d++) {
+				float v = value(item, d);
+				centers[c][d] = Float.isNaN(v) ? 0 : v;
+			}
+		}
+		items = null;
+		int seen[] = new int[microClusters];
+		int batchSize = Math.min(APPROX_BATCH_SIZE, n);
+		int batchItems[] = new int[batchSize];
+		int batchCenters[] = new int[batchSize];
+		for (int iter = 0; iter < APPROX_ITERATIONS; iter++) {
+			for (int b = 0; b < batchSize; b++) {
+				batchItems[b] = random.nextInt(n);
+				batchCenters[b] = nearestCenter(batchItems[b]);
+			}
+			for (int b = 0; b < batchSize; b++) {
+				float center[] = centers[batchCenters[b]];
+				float rate = 1.0f/(++seen[batchCenters[b]]);
+				for (int d = 0; d < dims; d++) {
+					float v = value(batchItems[b], d);
+					if (!Float.isNaN(v)) {
+						center[d] += rate*(v - center[d]);
+					}
+				}
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: nearestCenter
+	 *
+	 * This method returns the center nearest to an item (squared euclidean
+	 * distance over the item's non-missing values).  The distance to a
+	 * center is abandoned once it exceeds the best distance found.
+	 ******************************************************************/
+	private int nearestCenter(int item) {
+		int best = 0;
+		double bestDist = Double.MAX_VALUE;
+		for (int c = 0; c < centers.length; c++) {
+			double dist = distanceSq(item, centers[c], bestDist);
+			if (dist < bestDist) {
+				bestDist = dist;
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	private double distanceSq(int item, float center[], double limit) {
+		double dist = 0;
+		for (int d = 0; (d < dims) && (dist < limit); d++) {
+			float v = value(item, d);
+			if (!Float.isNaN(v)) {
+				double diff = v - center[d];
+				dist += diff*diff;
+			}
+		}
+		return dist;
+	}
+
+	/*******************************************************************
+	 * METHOD: assignItems
+	 *
+	 * This method assigns every item to its nearest center in parallel.
+	 ******************************************************************/
+	private void assignItems() {
+		assignment = new int[n];
+		ForkJoinPool.commonPool().invoke(new AssignTask(0, n));
+	}
+
+	private class AssignTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private int first;
+		private int last;
+
+		AssignTask(int first, int last) {
+			this.first = first;
+			this.last = last;
+		}
+
+		protected void compute() {
+			if (last - first > ITEMS_PER_TASK) {
+				int mid = (first + last) >>> 1;
+				invokeAll(new AssignTask(first, mid), new AssignTask(mid, last));
+				return;
+			}
+			for (int i = first; i < last; i++) {
+				assignment[i] = nearestCenter(i);
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: buildTree
+	 *
+	 * This method clusters the centers of the non-empty micro-clusters and
+	 * builds the item order and dendrogram.  Micro-clusters are placed in
+	 * the order of the centroid dendrogram and the items of a micro-cluster
+	 * are sorted from those nearest the previous micro-cluster to those
+	 * nearest the next one.  The items of each micro-cluster are then joined
+	 * at height 0 (each item to the subtree of the items after it),
+	 * followed by the centroid merges.  Merges keep their two sides in leaf
+	 * order (rather than hclust's items first order) so that walking the
+	 * dendrogram left before right gives the order written to the order
+	 * file.
+	 ******************************************************************/
+	private HierarchicalClustering buildTree(String distanceMetric, String linkage) throws Exception {
+		//Drop empty micro-clusters, renumbering the assignments
+		int clusterIndex[] = new int[centers.length];
+		Arrays.fill(clusterIndex, -1);
+		int numClusters = 0;
+		for (int i = 0; i < n; i++) {
+			if (clusterIndex[assignment[i]] < 0) {
+				clusterIndex[assignment[i]] = numClusters++;
+			}
+		}
+		float centroids[][] = new float[numClusters][];
+		for (int c = 0; c < centers.length; c++) {
+			if (clusterIndex[c] >= 0) {
+				centroids[clusterIndex[c]] = centers[c];
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			assignment[i] = clusterIndex[assignment[i]];
+		}
+		HierarchicalClustering top = HierarchicalClustering.cluster(centroids, distanceMetric, linkage);
+		final int rank[] = new int[numClusters];
+		for (int p = 0; p < numClusters; p++) {
+			rank[top.order[p]-1] = p;
+		}
+
+		//Order the items by micro-cluster rank, then between the neighboring micro-clusters
+		final double key[] = new double[n];
+		for (int i = 0; i < n; i++) {
+			int p = rank[assignment[i]];
+			if (p > 0) {
+				key[i] += distanceSq(i, centroids[top.order[p-1]-1], Double.MAX_VALUE);
+			}
+			if (p < numClusters-1) {
+				key[i] -= distanceSq(i, centroids[top.order[p+1]-1], Double.MAX_VALUE);
+			}
+		}
+		Integer sorted[] = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = i;
+		}
+		Arrays.sort(sorted, new Comparator<Integer>() {
+			public int compare(Integer i1, Integer i2) {
+				int cmp = Integer.compare(rank[assignment[i1]], rank[assignment[i2]]);
+				return cmp != 0 ? cmp : Double.compare(key[i1], key[i2]);
+			}
+		});
+
+		HierarchicalClustering hc = new HierarchicalClustering();
+		hc.count = n;
+		hc.order = new int[n];
+		hc.mergeA = new int[n-1];
+		hc.mergeB = new int[n-1];
+		hc.height = new double[n-1];
+		int subtree[] = new int[numClusters];
+		int line = 0;
+		for (int p = n-1; p >= 0; p--) {
+			int item = sorted[p];
+			int c = assignment[item];
+			hc.order[p] = item+1;
+			if ((p == n-1) || (assignment[sorted[p+1]] != c)) {
+				subtree[c] = -(item+1);
+			} else {
+				addMerge(hc, line++, -(item+1), subtree[c], 0);
+				subtree[c] = line;
+			}
+		}
+		int itemMerges = line;
+		for (int k = 0; k < top.mergeA.length; k++) {
+			int a = top.mergeA[k] < 0 ? subtree[-top.mergeA[k]-1] : itemMerges + top.mergeA[k];
+			int b = top.mergeB[k] < 0 ? subtree[-top.mergeB[k]-1] : itemMerges + top.mergeB[k];
+			addMerge(hc, line++, a, b, top.height[k]);
+		}
+		return hc;
+	}
+
+	private static void addMerge(HierarchicalClustering hc, int k, int a, int b, double mergeHeight) {
+		hc.mergeA[k] = a;
+		hc.mergeB[k] = b;
+		hc.height[k] = mergeHeight;
+	}
+}
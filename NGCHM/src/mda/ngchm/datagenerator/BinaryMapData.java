@@ -0,0 +1,634 @@
+/*******************************************************************
+ * CLASS: BinaryMapData
+ *
+ * This class writes (and reads the section table of) the optional
+ * binary, columnar, version of the mapData.JSON file (mapData.bin).
+ * It is generated when the heatmapProperties.json file contains
+ * "write_binary_data": "Y".  The file is made up of independently
+ * addressable sections so that a viewer can retrieve only the
+ * sections it needs (e.g. dendrograms and summary covariates) without
+ * downloading and parsing every label in the map.
+ *
+ * All numeric values are little-endian (matching data tile files).
+ * Strings are written as a varint byte length followed by UTF-8 bytes.
+ *
+ * File layout:
+ *   Header (24 bytes): magic "NGCHMBIN", int version, int section
+ *                      count, long section table offset.
+ *   Sections:          section payloads (see SECTION_* types below).
+ *   Section table:     for each section: string name, int type,
+ *                      long offset, long length.
+ *
+ * Section names:
+ *   row.labels / col.labels           - SECTION_LABELS
+ *   row.dendrogram / col.dendrogram   - SECTION_DENDROGRAM
+ *   row.class.<name> / col.class.<name>   - covariate values
+ *   row.pyramid.<name>.<layer> / col.pyramid.<name>.<layer>
+ *                                     - covariate values at a reduced
+ *                                       resolution layer (tn or s)
+ *
+ * Section payloads:
+ *   SECTION_LABELS:     int count, int block size, int type count,
+ *                       type strings, int block count, int block offsets
+ *                       (relative to start of label data), label data.
+ *                       Labels are front-coded: varint shared prefix
+ *                       length, varint suffix length, suffix UTF-8 bytes.
+ *                       The first label of each block has no prefix.
+ *   SECTION_DENDROGRAM: int count, int left[count], int right[count],
+ *                       float height[count].
+ *   SECTION_CONTINUOUS: int count, float values[count].  Missing values
+ *                       are MAX_VALUES and cuts are MIN_VALUES.
+ *   SECTION_DISCRETE:   int count, int dictionary size, dictionary
+ *                       strings, int codes[count].
+ *   SECTION_CONTINUOUS_PYRAMID: int count, int interval, float
+ *                       mean[count], float min[count], float max[count].
+ *   SECTION_DISCRETE_PYRAMID: int count, int interval, int dictionary
+ *                       size, dictionary strings, int mode codes[count].
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class BinaryMapData {
+	public static final String MAGIC = "NGCHMBIN";
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 24;
+	public static final int SECTION_LABELS = 1;
+	public static final int SECTION_DENDROGRAM = 2;
+	public static final int SECTION_CONTINUOUS = 3;
+	public static final int SECTION_DISCRETE = 4;
+	public static final int SECTION_CONTINUOUS_PYRAMID = 5;
+	public static final int SECTION_DISCRETE_PYRAMID = 6;
+	public static final int LABEL_BLOCK_SIZE = 64;
+
+	/*******************************************************************
+	 * CLASS: Section
+	 *
+	 * Section table entry describing one named section of the file.
+	 ******************************************************************/
+	public static class Section {
+		public String name;
+		public int type;
+		public long offset;
+		public long length;
+	}
+
+	private FileChannel channel;
+	private List<Section> sections = new ArrayList<Section>();
+	private SectionBuffer buf = new SectionBuffer();
+
+	/*******************************************************************
+	 * METHOD: writeMapDataBinary
+	 *
+	 * This method is the main driver for the generation of the binary
+	 * mapData file.  Sections are written in the same order as the
+	 * subschemas of the mapData.JSON file.
+	 ******************************************************************/
+	public static void writeMapDataBinary(ImportData iData) throws Exception {
+		//The file header is written last, so the file is written with random access and then archived
+		File binFile = iData.output.getFile(MAP_DATA_BIN_FILE);
+		FileOutputStream fos = new FileOutputStream(binFile);
+		try {
+			BinaryMapData bmd = new BinaryMapData();
+			bmd.channel = fos.getChannel();
+			bmd.channel.position(HEADER_SIZE);
+			bmd.writeAxis(iData.rowData, ROW_AXIS);
+			bmd.writeAxis(iData.colData, COL_AXIS);
+			bmd.writeSectionTable();
+		} finally {
+			fos.close();
+		}
+		iData.output.addFile(MAP_DATA_BIN_FILE, binFile);
+	}
+
+	/*******************************************************************
+	 * METHOD: writeAxis
+	 *
+	 * This method writes all of the label, dendrogram, and classification
+	 * sections for either the row or column axis of the map.
+	 ******************************************************************/
+	private void writeAxis(RowColData rcData, String axis) throws Exception {
+		HashMap<String, String> extraLabelInfo = HeatmapDataGenerator.loadExtraLabel(rcData.labelExtraFile);
+		String labels[] = new String[rcData.classArray.length-1];
+		for (int i = 1; i < rcData.classArray.length; i++) {
+			String initLabel = rcData.classArray[i].equals(CUT_VALUE) ? EMPTY : rcData.classArray[i];
+			labels[i-1] = HeatmapDataGenerator.addExtra(initLabel, extraLabelInfo);
+		}
+		writeLabelSection(axis+".labels", rcData.dataTypes, labels);
+		if (rcData.dendroFile != null) {
+			writeDendrogramSection(axis+".dendrogram", rcData.dendrogram);
+		}
+		for (int i = 0; i < rcData.classFiles.size(); i++) {
+			InputClass iClass = rcData.classFiles.get(i);
+			writeClassSection(axis+".class."+iClass.name, iClass.column);
+			for (CovariatePyramid.Level lvl : iClass.pyramid.levels) {
+				writePyramidSection(axis+".pyramid."+iClass.name+"."+lvl.layer, iClass.pyramid, lvl);
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: writeLabelSection
+	 *
+	 * This method writes a front-coded label section.  Every
+	 * LABEL_BLOCK_SIZE labels a block restarts with a full label so that
+	 * any index range can be decoded without reading the whole section.
+	 ******************************************************************/
+	private void writeLabelSection(String name, String dataTypes[], String labels[]) throws Exception {
+		buf.clear();
+		int numBlocks = (labels.length + LABEL_BLOCK_SIZE - 1) / LABEL_BLOCK_SIZE;
+		buf.putInt(labels.length);
+		buf.putInt(LABEL_BLOCK_SIZE);
+		buf.putInt(dataTypes.length);
+		for (int i = 0; i < dataTypes.length; i++) {
+			buf.putString(dataTypes[i]);
+		}
+		buf.putInt(numBlocks);
+		int offsetsPos = buf.position();
+		for (int i = 0; i < numBlocks; i++) {
+			buf.putInt(0);
+		}
+		int dataStart = buf.position();
+		byte prev[] = new byte[0];
+		for (int i = 0; i < labels.length; i++) {
+			byte curr[] = labels[i].getBytes(StandardCharsets.UTF_8);
+			int prefix = 0;
+			if (i % LABEL_BLOCK_SIZE == 0) {
+				buf.putIntAt(offsetsPos + (i / LABEL_BLOCK_SIZE)*4, buf.position() - dataStart);
+			} else {
+				int max = Math.min(prev.length, curr.length);
+				while ((prefix < max) && (prev[prefix] == curr[prefix])) {
+					prefix++;
+				}
+			}
+			buf.putVarInt(prefix);
+			buf.putVarInt(curr.length - prefix);
+			buf.putBytes(curr, prefix, curr.length - prefix);
+			prev = curr;
+		}
+		writeSection(name, SECTION_LABELS);
+	}
+
+	/*******************************************************************
+	 * METHOD: writeDendrogramSection
+	 *
+	 * This method writes the dendrogram bars for an axis as parallel
+	 * left/right index and height arrays.
+	 ******************************************************************/
+	private void writeDendrogramSection(String name, Dendrogram dendrogram) throws Exception {
+		buf.clear();
+		int count = dendrogram.count;
+		int left[] = dendrogram.left;
+		int right[] = dendrogram.right;
+		float height[] = dendrogram.height;
+		buf.putInt(count);
+		for (int i = 0; i < count; i++) {
+			buf.putInt(left[i]);
+		}
+		for (int i = 0; i < count; i++) {
+			buf.putInt(right[i]);
+		}
+		for (int i = 0; i < count; i++) {
+			buf.putFloat(height[i]);
+		}
+		writeSection(name, SECTION_DENDROGRAM);
+	}
+
+	/*******************************************************************
+	 * METHOD: writeClassSection
+	 *
+	 * This method writes a classification (covariate) column.  Continuous
+	 * covariates are written as a float column and discrete covariates
+	 * as a dictionary of distinct values plus an int code per value.
+	 ******************************************************************/
+	private void writeClassSection(String name, CovariateColumn column) throws Exception {
+		buf.clear();
+		buf.putInt(column.length-1);
+		if (column.continuous) {
+			for (int i = 1; i < column.length; i++) {
+				buf.putFloat(column.getFloat(i));
+			}
+			writeSection(name, SECTION_CONTINUOUS);
+		} else {
+			buf.putInt(column.dictionary.length);
+			for (int i = 0; i < column.dictionary.length; i++) {
+				buf.putString(column.dictionary[i]);
+			}
+			for (int i = 1; i < column.length; i++) {
+				buf.putInt(column.codes[i]);
+			}
+			writeSection(name, SECTION_DISCRETE);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: writePyramidSection
+	 *
+	 * This method writes one reduced resolution level of a covariate
+	 * pyramid: mean, min, and max columns for continuous bars or a
+	 * dictionary plus mode codes for discrete bars.
+	 ******************************************************************/
+	private void writePyramidSection(String name, CovariatePyramid pyramid, CovariatePyramid.Level lvl) throws Exception {
+		buf.clear();
+		buf.putInt(lvl.count);
+		buf.putInt(lvl.interval);
+		if (pyramid.continuous) {
+			for (int i = 0; i < lvl.count; i++) {
+				buf.putFloat(lvl.mean[i]);
+			}
+			for (int i = 0; i < lvl.count; i++) {
+				buf.putFloat(lvl.min[i]);
+			}
+			for (int i = 0; i < lvl.count; i++) {
+				buf.putFloat(lvl.max[i]);
+			}
+			writeSection(name, SECTION_CONTINUOUS_PYRAMID);
+		} else {
+			buf.putInt(pyramid.dictionary.length);
+			for (int i = 0; i < pyramid.dictionary.length; i++) {
+				buf.putString(pyramid.dictionary[i]);
+			}
+			for (int i = 0; i < lvl.count; i++) {
+				buf.putInt(lvl.mode[i]);
+			}
+			writeSection(name, SECTION_DISCRETE_PYRAMID);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: writeSection
+	 *
+	 * This method writes the contents of the section buffer to the file
+	 * and records a section table entry for it.
+	 ******************************************************************/
+	private void writeSection(String name, int type) throws IOException {
+		Section section = new Section();
+		section.name = name;
+		section.type = type;
+		section.offset = channel.position();
+		section.length = buf.position();
+		buf.writeTo(channel);
+		sections.add(section);
+	}
+
+	/*******************************************************************
+	 * METHOD: writeSectionTable
+	 *
+	 * This method writes the section table to the end of the file and
+	 * then writes the file header, which points to the table.
+	 ******************************************************************/
+	private void writeSectionTable() throws IOException {
+		long tableOffset = channel.position();
+		buf.clear();
+		for (int i = 0; i < sections.size(); i++) {
+			Section section = sections.get(i);
+			buf.putString(section.name);
+			buf.putInt(section.type);
+			buf.putLong(section.offset);
+			buf.putLong(section.length);
+		}
+		buf.writeTo(channel);
+		buf.clear();
+		buf.putBytes(MAGIC.getBytes(StandardCharsets.US_ASCII), 0, MAGIC.length());
+		buf.putInt(VERSION);
+		buf.putInt(sections.size());
+		buf.putLong(tableOffset);
+		channel.position(0);
+		buf.writeTo(channel);
+	}
+
+	/*******************************************************************
+	 * METHOD: readSectionTable
+	 *
+	 * This method reads the header and section table of a binary
+	 * mapData file.  It is used by the servlets to locate the sections
+	 * requested by the viewer.
+	 ******************************************************************/
+	public static List<Section> readSectionTable(File binFile) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			FileChannel fc = raf.getChannel();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, header, 0);
+			byte magic[] = new byte[MAGIC.length()];
+			header.get(magic);
+			if (!MAGIC.equals(new String(magic, StandardCharsets.US_ASCII))) {
+				throw new IOException("Invalid binary map data file: " + binFile.getName());
+			}
+			header.getInt(); // version
+			int count = header.getInt();
+			long tableOffset = header.getLong();
+			ByteBuffer table = ByteBuffer.allocate((int)(fc.size() - tableOffset)).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, table, tableOffset);
+			List<Section> sections = new ArrayList<Section>(count);
+			for (int i = 0; i < count; i++) {
+				Section section = new Section();
+				section.name = getString(table);
+				section.type = table.getInt();
+				section.offset = table.getLong();
+				section.length = table.getLong();
+				sections.add(section);
+			}
+			return sections;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getSection
+	 *
+	 * This method returns the named section from a section table or null
+	 * if the section does not exist.
+	 ******************************************************************/
+	public static Section getSection(List<Section> sections, String name) {
+		for (int i = 0; i < sections.size(); i++) {
+			if (sections.get(i).name.equals(name)) {
+				return sections.get(i);
+			}
+		}
+		return null;
+	}
+
+	/*******************************************************************
+	 * CLASS: LabelIndex
+	 *
+	 * Decoded header of a SECTION_LABELS section: the label count, block
+	 * size, and the absolute file offset of each front-coded block.
+	 ******************************************************************/
+	public static class LabelIndex {
+		public int count;
+		public int blockSize;
+		public String dataTypes[];
+		public long blockStarts[];
+		public long dataEnd;
+	}
+
+	/*******************************************************************
+	 * CLASS: ColumnIndex
+	 *
+	 * Decoded header of a covariate section: the value count, the
+	 * dictionary (discrete covariates only), and the absolute file offset
+	 * of the first fixed width (4 byte) value.
+	 ******************************************************************/
+	public static class ColumnIndex {
+		public int type;
+		public int count;
+		public String dictionary[];
+		public long valuesStart;
+	}
+
+	/*******************************************************************
+	 * METHOD: readLabelIndex
+	 *
+	 * This method reads the header and block offset table of a label
+	 * section so that individual blocks of labels can be decoded.
+	 ******************************************************************/
+	public static LabelIndex readLabelIndex(File binFile, Section sect) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			FileChannel fc = raf.getChannel();
+			LabelIndex idx = new LabelIndex();
+			ByteBuffer bb = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, bb, sect.offset);
+			idx.count = bb.getInt();
+			idx.blockSize = bb.getInt();
+			int typeCount = bb.getInt();
+			// Types are short strings; read generously and then the block table.
+			int headLen = (int) Math.min(sect.length - 12, 4096);
+			bb = ByteBuffer.allocate(headLen).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, bb, sect.offset + 12);
+			idx.dataTypes = new String[typeCount];
+			for (int i = 0; i < typeCount; i++) {
+				idx.dataTypes[i] = getString(bb);
+			}
+			int numBlocks = bb.getInt();
+			long tableStart = sect.offset + 12 + bb.position();
+			bb = ByteBuffer.allocate(numBlocks*4).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, bb, tableStart);
+			long dataStart = tableStart + numBlocks*4;
+			idx.blockStarts = new long[numBlocks];
+			for (int i = 0; i < numBlocks; i++) {
+				idx.blockStarts[i] = dataStart + bb.getInt();
+			}
+			idx.dataEnd = sect.offset + sect.length;
+			return idx;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readLabelBlock
+	 *
+	 * This method decodes a single front-coded block of labels.
+	 ******************************************************************/
+	public static String[] readLabelBlock(File binFile, LabelIndex idx, int block) throws IOException {
+		long start = idx.blockStarts[block];
+		long end = (block < idx.blockStarts.length - 1) ? idx.blockStarts[block+1] : idx.dataEnd;
+		int labelCount = Math.min(idx.blockSize, idx.count - block*idx.blockSize);
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			ByteBuffer bb = ByteBuffer.allocate((int)(end - start)).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(raf.getChannel(), bb, start);
+			String labels[] = new String[labelCount];
+			byte prev[] = new byte[0];
+			for (int i = 0; i < labelCount; i++) {
+				int prefix = getVarInt(bb);
+				int suffix = getVarInt(bb);
+				byte curr[] = new byte[prefix + suffix];
+				System.arraycopy(prev, 0, curr, 0, prefix);
+				bb.get(curr, prefix, suffix);
+				labels[i] = new String(curr, StandardCharsets.UTF_8);
+				prev = curr;
+			}
+			return labels;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readColumnIndex
+	 *
+	 * This method reads the header (and dictionary, for discrete
+	 * covariates) of a covariate section.
+	 ******************************************************************/
+	public static ColumnIndex readColumnIndex(File binFile, Section sect) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			FileChannel fc = raf.getChannel();
+			ColumnIndex idx = new ColumnIndex();
+			idx.type = sect.type;
+			ByteBuffer bb = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(fc, bb, sect.offset);
+			idx.count = bb.getInt();
+			if (sect.type == SECTION_CONTINUOUS) {
+				idx.valuesStart = sect.offset + 4;
+			} else {
+				int dictLen = (int)(sect.length - 4 - (long)idx.count*4);
+				bb = ByteBuffer.allocate(dictLen).order(ByteOrder.LITTLE_ENDIAN);
+				readFully(fc, bb, sect.offset + 4);
+				idx.dictionary = new String[bb.getInt()];
+				for (int i = 0; i < idx.dictionary.length; i++) {
+					idx.dictionary[i] = getString(bb);
+				}
+				idx.valuesStart = sect.offset + 4 + dictLen;
+			}
+			return idx;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readColumnValues
+	 *
+	 * This method reads a 0-based range [start, start+len) of covariate
+	 * values, returning them as the strings used in mapData.JSON (NA for
+	 * missing values and the CUT_VALUE for cuts).
+	 ******************************************************************/
+	public static String[] readColumnValues(File binFile, ColumnIndex idx, int start, int len) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			ByteBuffer bb = ByteBuffer.allocate(len*4).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(raf.getChannel(), bb, idx.valuesStart + (long)start*4);
+			String values[] = new String[len];
+			for (int i = 0; i < len; i++) {
+				if (idx.type == SECTION_CONTINUOUS) {
+					values[i] = getValueString(bb.getFloat());
+				} else {
+					values[i] = idx.dictionary[bb.getInt()];
+				}
+			}
+			return values;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readColumnFloats
+	 *
+	 * This method reads a 0-based range [start, start+len) of continuous
+	 * covariate values as they are stored (MAX_VALUES for missing values
+	 * and MIN_VALUES for cuts).
+	 ******************************************************************/
+	public static float[] readColumnFloats(File binFile, ColumnIndex idx, int start, int len) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(binFile, "r");
+		try {
+			ByteBuffer bb = ByteBuffer.allocate(len*4).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(raf.getChannel(), bb, idx.valuesStart + (long)start*4);
+			float values[] = new float[len];
+			bb.asFloatBuffer().get(values);
+			return values;
+		} finally {
+			raf.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getValueString
+	 *
+	 * This method returns the mapData.JSON string of a stored continuous
+	 * covariate value.
+	 ******************************************************************/
+	public static String getValueString(float v) {
+		return (v == MAX_VALUES) ? NA : (v == MIN_VALUES) ? CUT_VALUE : Float.toString(v);
+	}
+
+	private static void readFully(FileChannel fc, ByteBuffer bb, long position) throws IOException {
+		while (bb.hasRemaining()) {
+			int n = fc.read(bb, position + bb.position());
+			if (n < 0) {
+				throw new IOException("Unexpected end of binary map data file");
+			}
+		}
+		bb.flip();
+	}
+
+	/*******************************************************************
+	 * METHOD: getVarInt / getString
+	 *
+	 * Utility methods for decoding varints and strings from a section.
+	 ******************************************************************/
+	public static int getVarInt(ByteBuffer bb) {
+		int val = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = bb.get();
+			val |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return val;
+	}
+
+	public static String getString(ByteBuffer bb) {
+		int len = getVarInt(bb);
+		byte bytes[] = new byte[len];
+		bb.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/*******************************************************************
+	 * CLASS: SectionBuffer
+	 *
+	 * Growable little-endian byte buffer used to assemble a section
+	 * before it is written to the file channel.
+	 ******************************************************************/
+	private static class SectionBuffer {
+		private ByteBuffer bb = ByteBuffer.allocate(65536).order(ByteOrder.LITTLE_ENDIAN);
+
+		void clear() { bb.clear(); }
+		int position() { return bb.position(); }
+
+		void ensure(int needed) {
+			if (bb.remaining() < needed) {
+				int newCap = Math.max(bb.capacity()*2, bb.position()+needed);
+				ByteBuffer nb = ByteBuffer.allocate(newCap).order(ByteOrder.LITTLE_ENDIAN);
+				bb.flip();
+				nb.put(bb);
+				bb = nb;
+			}
+		}
+		void putInt(int v) { ensure(4); bb.putInt(v); }
+		void putIntAt(int pos, int v) { bb.putInt(pos, v); }
+		void putLong(long v) { ensure(8); bb.putLong(v); }
+		void putFloat(float v) { ensure(4); bb.putFloat(v); }
+		void putBytes(byte b[], int off, int len) { ensure(len); bb.put(b, off, len); }
+		void putVarInt(int v) {
+			ensure(5);
+			while ((v & ~0x7F) != 0) {
+				bb.put((byte)((v & 0x7F) | 0x80));
+				v >>>= 7;
+			}
+			bb.put((byte)v);
+		}
+		void putString(String s) {
+			byte b[] = s.getBytes(StandardCharsets.UTF_8);
+			putVarInt(b.length);
+			putBytes(b, 0, b.length);
+		}
+		void writeTo(FileChannel fc) throws IOException {
+			bb.flip();
+			while (bb.hasRemaining()) {
+				fc.write(bb);
+			}
+			bb.clear();
+		}
+	}
+}
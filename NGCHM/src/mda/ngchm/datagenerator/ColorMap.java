@@ -11,6 +11,7 @@ package mda.ngchm.datagenerator;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.List;
 import static mda.ngchm.datagenerator.ImportConstants.*;
 
 public class ColorMap {
@@ -22,6 +23,165 @@ public class ColorMap {
 
 	public ArrayList<Color> contColors = new ArrayList<Color>();
 	public ArrayList<String> contBreaks = new ArrayList<String>();
+	public ArrayList<String> linearEquiv = new ArrayList<String>();
+
+	private ColorLookup lookup = null;
+	private ColorLookup contLookup = null;
+
+	/*******************************************************************
+	 * CLASS: ColorLookup
+	 *
+	 * Maps numeric values to RGB colors for a list of (ascending) breaks
+	 * and their colors.  Breaks are parsed once into a float array and
+	 * colors are blended into a table of COLOR_LUT_SIZE entries evenly
+	 * spaced over the break range, followed by slots for the missing
+	 * (MAX_VALUES) and cut (MIN_VALUES) colors, so coloring a value is
+	 * an index lookup.  Values below/above the range get the first/last
+	 * color.  If two breaks are closer than a table entry the colors are
+	 * blended exactly for every value instead.
+	 ******************************************************************/
+	public static class ColorLookup {
+		public float breakValues[];
+		public int breakRGB[];
+		public int table[];
+		public int missingSlot;
+		public int cutSlot;
+		private float low;
+		private float high;
+		private float scale;
+		private boolean exact;
+
+		public ColorLookup(List<String> breaks, List<Color> colors, Color missingColor) {
+			int numBreaks = breaks.size();
+			breakValues = new float[numBreaks];
+			breakRGB = new int[numBreaks];
+			for (int i = 0; i < numBreaks; i++) {
+				breakValues[i] = Float.parseFloat(breaks.get(i));
+				breakRGB[i] = colors.get(i).getRGB();
+			}
+			low = breakValues[0];
+			high = breakValues[numBreaks-1];
+			scale = COLOR_LUT_SIZE/(high - low);
+			exact = !(high > low);
+			for (int i = 1; i < numBreaks; i++) {
+				if ((breakValues[i] - breakValues[i-1])*scale < 1) {
+					exact = true;
+				}
+			}
+			missingSlot = COLOR_LUT_SIZE;
+			cutSlot = COLOR_LUT_SIZE+1;
+			table = new int[COLOR_LUT_SIZE+2];
+			if (!exact) {
+				for (int k = 0; k < COLOR_LUT_SIZE; k++) {
+					table[k] = getExactRGB(low + (k+0.5f)/scale);
+				}
+			}
+			table[missingSlot] = missingColor == null ? RGB_BLACK : missingColor.getRGB();
+			table[cutSlot] = RGB_WHITE;
+		}
+
+		/*******************************************************************
+		 * METHOD: getRGB
+		 *
+		 * This method returns the RGB color of a matrix value (MIN_VALUES
+		 * for cuts, MAX_VALUES or NaN for missing values).
+		 ******************************************************************/
+		public int getRGB(float value) {
+			if (value == MIN_VALUES) {
+				return table[cutSlot];
+			} else if ((value == MAX_VALUES) || Float.isNaN(value)) {
+				return table[missingSlot];
+			} else if (exact) {
+				return getExactRGB(value);
+			}
+			return table[getIndex(value)];
+		}
+
+		private int getIndex(float value) {
+			if (value <= low) {
+				return 0;
+			} else if (value >= high) {
+				return COLOR_LUT_SIZE-1;
+			}
+			return Math.min((int) ((value - low)*scale), COLOR_LUT_SIZE-1);
+		}
+
+		/*******************************************************************
+		 * METHOD: getExactRGB
+		 *
+		 * This method blends the colors of the breaks on either side of a
+		 * value (located with a binary search of the breaks).
+		 ******************************************************************/
+		public int getExactRGB(float value) {
+			int numBreaks = breakValues.length;
+			if (value < low) {
+				return breakRGB[0];
+			} else if (value > high) {
+				return breakRGB[numBreaks-1];
+			}
+			//find the first break above the value (or the last break)
+			int lo = 0;
+			int hi = numBreaks-1;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (breakValues[mid] <= value) {
+					lo = mid+1;
+				} else {
+					hi = mid;
+				}
+			}
+			if (lo == 0) {
+				return breakRGB[0];
+			}
+			float lowBreak = breakValues[lo-1];
+			float highBreak = breakValues[lo];
+			if (!(highBreak > lowBreak)) {
+				return breakRGB[lo];
+			}
+			float ratio = (highBreak-value)/(highBreak-lowBreak);
+			return ColorMapGenerator.blendRGB(breakRGB[lo], breakRGB[lo-1], ratio);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getLookup
+	 *
+	 * This method returns the color lookup for the breaks and colors of
+	 * the color map (built on first use).
+	 ******************************************************************/
+	public synchronized ColorLookup getLookup() {
+		if (lookup == null) {
+			lookup = new ColorLookup(getValueBreaks(), colors, missingColor);
+		}
+		return lookup;
+	}
+
+	/*******************************************************************
+	 * METHOD: getValueBreaks
+	 *
+	 * This method returns the breaks of the color map as data values.  The
+	 * breaks of a quantile color map are quantiles (0 thru 1); their data
+	 * values are the linear equivalent breaks.
+	 ******************************************************************/
+	public ArrayList<String> getValueBreaks() {
+		if (COLORTYPE_QUANTILE.equals(type) && !linearEquiv.isEmpty()) {
+			return linearEquiv;
+		}
+		return breaks;
+	}
+
+	/*******************************************************************
+	 * METHOD: getContinuousLookup
+	 *
+	 * This method returns the color lookup for the continuous breaks and
+	 * colors of a classification color map (built on first use).
+	 ******************************************************************/
+	public synchronized ColorLookup getContinuousLookup() {
+		if (contLookup == null) {
+			contLookup = new ColorLookup(contBreaks, contColors, missingColor);
+		}
+		return contLookup;
+	}
 
 	/*******************************************************************
 	 * METHOD: asJSON
@@ -51,6 +211,13 @@ public class ColorMap {
 			json.append(COMMA+getBreakString(breaks.get(i), isNumeric));
 		}
 		json.append(BRACKET_CLOSE+COMMA);
+		if (!linearEquiv.isEmpty()) {
+			json.append(LINEAR_EQUIV_LABEL+BRACKET_OPEN+linearEquiv.get(0));
+			for (int i = 1; i < linearEquiv.size(); i++) {
+				json.append(COMMA+linearEquiv.get(i));
+			}
+			json.append(BRACKET_CLOSE+COMMA);
+		}
 		json.append(MISSING_LABEL+QUOTE+HASHTAG+toHex(missingColor)+QUOTE);
 		json.append(BRACE_CLOSE);
 		return json.toString();
@@ -65,7 +232,7 @@ public class ColorMap {
 	 ******************************************************************/
 	private String getBreakString(String breakpt, boolean isNumeric) throws Exception {
 		if (!isNumeric) {
-			breakpt = QUOTE+breakpt+QUOTE;
+			breakpt = QUOTE+JsonStreamWriter.escape(breakpt)+QUOTE;
 		}
 		return breakpt;
 	}
@@ -71,6 +71,12 @@ public class ColorMapGenerator {
         } else {
         	cm.missingColor = Color.decode("#000000");
         }
+        JSONArray linearEquiv = (JSONArray) jocm.get(COLORMAP_LINEAR_EQUIV);
+        if (linearEquiv != null) {
+	        for (int i=0; i < linearEquiv.size();i++) {
+	        	cm.linearEquiv.add(linearEquiv.get(i).toString());
+	        }
+        }
         if (cm.type.equals(COLORTYPE_CONTINUOUS)) {
         	setJsonContinuousBreaksAndColors(cm);
         }
@@ -155,14 +161,14 @@ public class ColorMapGenerator {
 	 * This method returns a default colorMap object for a heat map data
 	 * matrix file.
 	 ******************************************************************/
-    public static ColorMap getDefaultMapColors(InputFile iFile, float[][] clusteredMatrix) throws Exception {
+    public static ColorMap getDefaultMapColors(InputFile iFile, MatrixStatistics stats) throws Exception {
     	ColorMap cm = iFile.map;
         if (!cm.type.equals(COLORTYPE_LINEAR) && !cm.type.equals(COLORTYPE_QUANTILE)) {
            return null;
         }
         cm.missingColor = hex2Rgb(COLOR_MISSING);
         if (cm.type.equals(COLORTYPE_LINEAR)) {
-        	ArrayList<String> range = getDataRangeMeans(iFile, clusteredMatrix);  
+        	ArrayList<String> range = getDataRangeMeans(stats);  
         	cm.breaks.add(range.get(0)); //min
         	cm.breaks.add(range.get(1)); //mid
         	cm.breaks.add(range.get(2)); //max
@@ -304,12 +310,20 @@ public class ColorMapGenerator {
 	 * view and the heat map PDF.
 	 ******************************************************************/
 	public static Color blendColors( Color c1, Color c2, float ratio ) throws Exception {
+	    return new Color(blendRGB(c1.getRGB(), c2.getRGB(), ratio));
+	}
+
+	/*******************************************************************
+	 * METHOD: blendRGB
+	 *
+	 * This method blends two RGB colors according to the ratio (as
+	 * blendColors does) without allocating Color objects.
+	 ******************************************************************/
+	public static int blendRGB( int i1, int i2, float ratio ) {
 	    if ( ratio > 1f ) ratio = 1f;
 	    else if ( ratio < 0f ) ratio = 0f;
 	    float iRatio = 1.0f - ratio;
 
-	    int i1 = c1.getRGB();
-	    int i2 = c2.getRGB();
 	    int r1 = ((i1 & 0xff0000) >> 16);
 	    int g1 = ((i1 & 0xff00) >> 8);
 	    int b1 = (i1 & 0xff);
@@ -320,7 +334,7 @@ public class ColorMapGenerator {
 	    int g = (int)((g1 * iRatio) + (g2 * ratio));
 	    int b = (int)((b1 * iRatio) + (b2 * ratio));
 
-	    return new Color( r << 16 | g << 8 | b );
+	    return 0xff000000 | r << 16 | g << 8 | b;
 	}
 
 	/*******************************************************************
@@ -334,14 +348,22 @@ public class ColorMapGenerator {
 		Double min = Double.MAX_VALUE;
 		Double mid = 0.0;
 		Double max = Double.MIN_VALUE;
-        String[] classItems = iClass.orderedClass;
-        for (int i=0;i<classItems.length;i++) {
-        	Double value = null;
-        	try {value = classItems[i] != null ? Double.parseDouble(classItems[i]) : null;} catch (NumberFormatException nex) {/*ignore*/}
-        	if ((value != null) && (value < min))
-        		min = value;
-        	if ((value != null) && (value > max))
-        		max = value;
+        //Locate the min/max values in the typed column.  Their shortest decimal
+        //text is parsed so that breaks match the input file (e.g. 1.42, not 1.4199999570846558).
+        CovariateColumn column = iClass.column;
+        int minPos = -1;
+        int maxPos = -1;
+        for (int i=1;i<column.length;i++) {
+        	if (column.isValue(i)) {
+        		if ((minPos < 0) || (column.values[i] < column.values[minPos]))
+        			minPos = i;
+        		if ((maxPos < 0) || (column.values[i] > column.values[maxPos]))
+        			maxPos = i;
+        	}
+        }
+        if (minPos >= 0) {
+        	min = Math.min(min, Double.parseDouble(Float.toString(column.values[minPos])));
+        	max = Math.max(max, Double.parseDouble(Float.toString(column.values[maxPos])));
         }
         mid = (min + max) / 2;
 		result.add(min);
@@ -353,45 +375,15 @@ public class ColorMapGenerator {
 	/*******************************************************************
 	 * METHOD: getDataRangeMeans
 	 *
-	 * Get the mean range of data in a data matrix.  Used for linear color maps
-	 * when processing an Input File.
+	 * Get the mean range of data in a data matrix (the means of the column
+	 * minimums and maximums).  Used for linear color maps when processing
+	 * an Input File.
 	 ******************************************************************/
-	private static ArrayList<String> getDataRangeMeans(InputFile iFile, float[][] clusteredMatrix) throws Exception {
+	private static ArrayList<String> getDataRangeMeans(MatrixStatistics stats) throws Exception {
 		ArrayList<String> result = new ArrayList<String>();
-		Double minMeanCalc = new Double(0);
-		Double maxMeanCalc = new Double(0);
-		//Go through the matrix summing up the minimum and maximum values in each column
-		for (int j = 1; j <= iFile.cols; j++) {
-			float minValue = new Float(MAX_VALUES);
-			float maxValue = new Float(MIN_VALUES);
-			for (int i = 1; i < iFile.rows; i++) {
-				float value = 0;
-				try {
-					value = clusteredMatrix[i][j];
-					//ignore cuts
-					if ((value != MAX_VALUES) && (value != MIN_VALUES)) {
-						if (value < minValue) {
-							minValue = value;
-						}
-						if (value > maxValue) {
-							maxValue = value;
-						}
-					}
-				} catch (NumberFormatException nex) {/*ignore*/}
-			}
-			//Ignore Cuts when calculating thresholds
-			if (minValue != MAX_VALUES) {
-				minMeanCalc += minValue;
-			}
-			//Ignore Cuts when calculating thresholds
-			if (maxValue != MIN_VALUES) {
-				maxMeanCalc += maxValue;
-			}
-		}
-		//Calculate the Minimum mean threshold and format as String
-		Double minMean = new Double(minMeanCalc/iFile.cols);
-		Double maxMean = new Double(maxMeanCalc/iFile.cols);
-		Double midMean = new Double ((minMean + maxMean) / 2);
+		double minMean = stats.getMeanColumnMin();
+		double maxMean = stats.getMeanColumnMax();
+		double midMean = (minMean + maxMean) / 2;
 		DecimalFormat df = new DecimalFormat("#.####");
 		result.add(df.format(minMean));
 		result.add(df.format(midMean));
@@ -399,6 +391,19 @@ public class ColorMapGenerator {
 		return result;
 	}
 
+	/*******************************************************************
+	 * METHOD: setQuantileBreaks
+	 *
+	 * This method sets the linear equivalent breaks (data values) of a
+	 * quantile color map from the quantiles of the matrix data.
+	 ******************************************************************/
+	public static void setQuantileBreaks(ColorMap cm, MatrixStatistics stats) throws Exception {
+		DecimalFormat df = new DecimalFormat("#.####");
+		cm.linearEquiv.clear();
+		for (String quantile : cm.breaks) {
+			cm.linearEquiv.add(df.format(stats.getQuantile(Double.parseDouble(quantile))));
+		}
+	}
 
 	/*******************************************************************
 	 * METHOD: getCategories
@@ -409,7 +414,8 @@ public class ColorMapGenerator {
 	 ******************************************************************/
     private static ArrayList<String> getCategories(InputClass iClass) throws Exception {
         ArrayList<String> cats = new ArrayList<>();
-        String[] classItems = iClass.orderedClass;
+        //The typed column dictionary holds the distinct values in order of first occurrence
+        String[] classItems = iClass.column.dictionary;
         for (int i=0;i<classItems.length;i++) {
         	String classValue = classItems[i];
         	if (!cats.contains(classValue)) {
@@ -0,0 +1,112 @@
+/*******************************************************************
+ * CLASS: CompressedDescriptor
+ *
+ * This class contains the utility methods used to produce gzip and
+ * deflate (zlib) encoded copies of the mapData.JSON and mapConfig.JSON
+ * descriptor files.  The builder writes these copies next to each
+ * descriptor (e.g. mapData.json.gz, mapData.json.deflate) so that the
+ * GetDescriptor servlet can return them, with a Content-Encoding
+ * header, without compressing the descriptor on every request.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class CompressedDescriptor {
+
+	/*******************************************************************
+	 * METHOD: writeCompressedCopies
+	 *
+	 * These methods write gzip and deflate encoded copies of the given
+	 * descriptor file to the same directory.  The first method writes the
+	 * copies of a map being generated thru the map's output sink.  The
+	 * second rewrites the copies of a built map that may be being served:
+	 * each copy is written to a temporary file in the directory and then
+	 * moved over the old copy, so a partially written copy is never read.
+	 ******************************************************************/
+	public static void writeCompressedCopies(OutputSink output, String jsonName) throws Exception {
+		byte[] data = Files.readAllBytes(new File(output.outputDir, jsonName).toPath());
+		String encodings[] = {GZIP_ENCODING, DEFLATE_ENCODING};
+		for (String encoding : encodings) {
+			OutputStream os = output.open(getCompressedFile(new File(jsonName), encoding).getPath());
+			try {
+				os.write(compress(data, encoding));
+			} finally {
+				os.close();
+			}
+		}
+	}
+
+	public static void writeCompressedCopies(File jsonFile) throws IOException {
+		byte[] data = Files.readAllBytes(jsonFile.toPath());
+		String encodings[] = {GZIP_ENCODING, DEFLATE_ENCODING};
+		for (String encoding : encodings) {
+			File compressedFile = getCompressedFile(jsonFile, encoding);
+			File tempFile = File.createTempFile(compressedFile.getName(), TMP_FILE, compressedFile.getAbsoluteFile().getParentFile());
+			try {
+				OutputStream os = new FileOutputStream(tempFile);
+				try {
+					os.write(compress(data, encoding));
+				} finally {
+					os.close();
+				}
+				Files.move(tempFile.toPath(), compressedFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				tempFile.delete();
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getCompressedFile
+	 *
+	 * This method returns the location of the encoded copy of a
+	 * descriptor file for a given Content-Encoding (gzip or deflate).
+	 ******************************************************************/
+	public static File getCompressedFile(File jsonFile, String encoding) {
+		String ext = GZIP_ENCODING.equals(encoding) ? GZIP_FILE : DEFLATE_FILE;
+		return new File(jsonFile.getPath() + ext);
+	}
+
+	/*******************************************************************
+	 * METHOD: compress
+	 *
+	 * This method encodes a byte array for a given Content-Encoding.
+	 * The HTTP deflate encoding is a zlib wrapped deflate stream, which
+	 * is what DeflaterOutputStream produces.
+	 ******************************************************************/
+	public static byte[] compress(byte[] data, String encoding) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(data.length / 4, 64));
+		if (GZIP_ENCODING.equals(encoding)) {
+			GZIPOutputStream os = new GZIPOutputStream(bos) {
+				{
+					def.setLevel(Deflater.BEST_COMPRESSION);
+				}
+			};
+			os.write(data);
+			os.close();
+		} else {
+			Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+			try {
+				DeflaterOutputStream os = new DeflaterOutputStream(bos, deflater);
+				os.write(data);
+				os.close();
+			} finally {
+				deflater.end();
+			}
+		}
+		return bos.toByteArray();
+	}
+}
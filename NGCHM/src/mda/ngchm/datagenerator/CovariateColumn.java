@@ -0,0 +1,167 @@
+/*******************************************************************
+ * CLASS: CovariateColumn
+ *
+ * This class instantiates a CovariateColumn object containing the typed
+ * values of a classification (covariate) bar in clustered order.  It is
+ * built once from the re-ordered classification strings so that the
+ * color map, bar image, legend, and mapData generation code does not need
+ * to re-parse strings.  Positions match InputClass.orderedClass (which is
+ * only kept for continuous bars, whose original text is written to
+ * mapData.JSON).  Position 0 (the header position) holds no value: it is
+ * flagged as missing and, for discrete bars, has a code of -1.
+ *
+ * Continuous bars are stored as a float array with a bitset marking
+ * missing (null, N/A, or non-numeric) values.  Discrete bars are stored
+ * as a dictionary of distinct values (in order of first occurrence) and
+ * an int code per position.  Missing (null) discrete values are coded as
+ * NA and flagged in the missing bitset.  For both types, cut positions
+ * are flagged in the cuts bitset.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class CovariateColumn {
+	public boolean continuous;
+	public int length;
+	public float values[];
+	public String dictionary[];
+	public int codes[];
+	public BitSet missing = new BitSet();
+	public BitSet cuts = new BitSet();
+
+	/*******************************************************************
+	 * CONSTRUCTOR: CovariateColumn
+	 *
+	 * This constructor creates a CovariateColumn from re-ordered
+	 * classification strings for a continuous or discrete color map type.
+	 ******************************************************************/
+	public CovariateColumn(String classData[], String type) {
+		continuous = type.equals(COLORTYPE_CONTINUOUS);
+		length = classData.length;
+		if (continuous) {
+			values = new float[length];
+			missing.set(0);
+			for (int i = 1; i < length; i++) {
+				setContinuous(i, classData[i]);
+			}
+		} else {
+			HashMap<String, Integer> dictCodes = new HashMap<String, Integer>();
+			List<String> dict = new ArrayList<String>();
+			codes = new int[length];
+			codes[0] = -1;
+			missing.set(0);
+			for (int i = 1; i < length; i++) {
+				String val = classData[i];
+				if (val == null) {
+					missing.set(i);
+					val = NA;
+				} else if (val.equals(CUT_VALUE)) {
+					cuts.set(i);
+				}
+				Integer code = dictCodes.get(val);
+				if (code == null) {
+					code = dict.size();
+					dictCodes.put(val, code);
+					dict.add(val);
+				}
+				codes[i] = code;
+			}
+			dictionary = dict.toArray(new String[dict.size()]);
+		}
+	}
+
+	private CovariateColumn() {
+	}
+
+	private void setContinuous(int pos, String val) {
+		if (val == null) {
+			missing.set(pos);
+		} else if (val.equals(CUT_VALUE)) {
+			cuts.set(pos);
+		} else if (NA_VALUES.contains(val)) {
+			missing.set(pos);
+		} else {
+			try {
+				values[pos] = Float.parseFloat(val);
+			} catch (NumberFormatException e) {
+				missing.set(pos);
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: toContinuous
+	 *
+	 * This method returns the values of a discrete column as a continuous
+	 * column (e.g. for bar and scatter plots of numeric discrete values),
+	 * parsing each dictionary value once.  Values that are not numeric
+	 * are missing.
+	 ******************************************************************/
+	public CovariateColumn toContinuous() {
+		if (continuous) {
+			return this;
+		}
+		CovariateColumn numeric = new CovariateColumn();
+		numeric.continuous = true;
+		numeric.length = length;
+		numeric.values = new float[length];
+		numeric.missing.set(0);
+		CovariateColumn parsed = new CovariateColumn();
+		parsed.values = new float[dictionary.length];
+		for (int c = 0; c < dictionary.length; c++) {
+			parsed.setContinuous(c, dictionary[c]);
+		}
+		for (int i = 1; i < length; i++) {
+			int code = codes[i];
+			if (missing.get(i) || parsed.missing.get(code)) {
+				numeric.missing.set(i);
+			} else if (parsed.cuts.get(code)) {
+				numeric.cuts.set(i);
+			} else {
+				numeric.values[i] = parsed.values[code];
+			}
+		}
+		return numeric;
+	}
+
+	/*******************************************************************
+	 * METHOD: isValue
+	 *
+	 * This method returns true if a position holds a value (it is
+	 * neither missing nor a cut).
+	 ******************************************************************/
+	public boolean isValue(int pos) {
+		return !missing.get(pos) && !cuts.get(pos);
+	}
+
+	/*******************************************************************
+	 * METHOD: getFloat
+	 *
+	 * This method returns a continuous value using the same missing
+	 * (MAX_VALUES) and cut (MIN_VALUES) conventions as the data tile files.
+	 ******************************************************************/
+	public float getFloat(int pos) {
+		if (missing.get(pos)) {
+			return MAX_VALUES;
+		} else if (cuts.get(pos)) {
+			return MIN_VALUES;
+		}
+		return values[pos];
+	}
+
+	/*******************************************************************
+	 * METHOD: getString
+	 *
+	 * This method returns the dictionary value of a discrete position.
+	 ******************************************************************/
+	public String getString(int pos) {
+		return dictionary[codes[pos]];
+	}
+}
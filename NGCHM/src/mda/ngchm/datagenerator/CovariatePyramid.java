@@ -0,0 +1,216 @@
+/*******************************************************************
+ * CLASS: CovariatePyramid
+ *
+ * This class instantiates a CovariatePyramid object containing the
+ * values of a classification (covariate) bar summarized at each of the
+ * reduced resolution data layers (thumbnail and summary) of a heat map.
+ * A level is produced for every layer whose interval is greater than 1;
+ * the full resolution (detail) level is the classification column
+ * itself.  Each level entry covers the same interval of rows/cols as a
+ * cell in the corresponding data tile layer (e.g. entry 0 of a level
+ * with an interval of 4 summarizes positions 1-4).
+ *
+ * All levels are built in a single pass over the typed classification
+ * values (CovariateColumn).  Continuous bars hold the mean, min, and
+ * max of each interval, ignoring missing values and cuts (an interval
+ * with no values is MAX_VALUES if it contains a missing value,
+ * otherwise MIN_VALUES).  Discrete bars hold
+ * the dictionary code of the most frequent (first encountered on ties)
+ * value of each interval, ignoring cuts unless the interval is all cuts.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class CovariatePyramid {
+	public boolean continuous;
+	public String dictionary[];
+	public List<Level> levels = new ArrayList<Level>();
+
+	/*******************************************************************
+	 * CLASS: Level
+	 *
+	 * One resolution level of the pyramid.  Continuous levels populate
+	 * mean/min/max and discrete levels populate mode.
+	 ******************************************************************/
+	public static class Level {
+		public String layer;
+		public int interval;
+		public int count;
+		public float mean[];
+		public float min[];
+		public float max[];
+		public int mode[];
+	}
+
+	/*******************************************************************
+	 * METHOD: build
+	 *
+	 * This method builds the pyramid for a classification bar using the
+	 * thumbnail and summary layer intervals for the bar's axis.
+	 ******************************************************************/
+	public static CovariatePyramid build(CovariateColumn column, List<ImportLayerData> layers, boolean isRow) throws Exception {
+		CovariatePyramid pyramid = new CovariatePyramid();
+		pyramid.continuous = column.continuous;
+		int numVals = column.length - 1;
+		for (ImportLayerData ilData : layers) {
+			int interval = isRow ? ilData.rowInterval : ilData.colInterval;
+			if ((interval > 1) && (ilData.layer.equals(LAYER_THUMBNAIL) || ilData.layer.equals(LAYER_SUMMARY))) {
+				Level lvl = new Level();
+				lvl.layer = ilData.layer;
+				lvl.interval = interval;
+				lvl.count = (numVals + interval - 1) / interval;
+				pyramid.levels.add(lvl);
+			}
+		}
+		if (pyramid.continuous) {
+			pyramid.buildContinuous(column);
+		} else {
+			pyramid.buildDiscrete(column);
+		}
+		return pyramid;
+	}
+
+	/*******************************************************************
+	 * METHOD: buildContinuous
+	 *
+	 * This method accumulates sum, count, min, and max for the current
+	 * interval of every level as each value is read and stores the
+	 * results when an interval is complete.
+	 ******************************************************************/
+	private void buildContinuous(CovariateColumn column) {
+		int numLevels = levels.size();
+		int numVals = column.length - 1;
+		double sum[] = new double[numLevels];
+		int valCtr[] = new int[numLevels];
+		int naCtr[] = new int[numLevels];
+		float lo[] = new float[numLevels];
+		float hi[] = new float[numLevels];
+		for (Level lvl : levels) {
+			lvl.mean = new float[lvl.count];
+			lvl.min = new float[lvl.count];
+			lvl.max = new float[lvl.count];
+		}
+		for (int pos = 0; pos < numVals; pos++) {
+			float val = column.getFloat(pos+1);
+			for (int l = 0; l < numLevels; l++) {
+				Level lvl = levels.get(l);
+				if (val == MAX_VALUES) {
+					naCtr[l]++;
+				} else if (val != MIN_VALUES) {
+					if (valCtr[l] == 0) {
+						lo[l] = val;
+						hi[l] = val;
+					} else {
+						lo[l] = Math.min(lo[l], val);
+						hi[l] = Math.max(hi[l], val);
+					}
+					sum[l] += val;
+					valCtr[l]++;
+				}
+				if (((pos+1) % lvl.interval == 0) || (pos == numVals-1)) {
+					int idx = pos / lvl.interval;
+					if (valCtr[l] > 0) {
+						lvl.mean[idx] = (float) (sum[l] / valCtr[l]);
+						lvl.min[idx] = lo[l];
+						lvl.max[idx] = hi[l];
+					} else {
+						float empty = (naCtr[l] > 0) ? MAX_VALUES : MIN_VALUES;
+						lvl.mean[idx] = empty;
+						lvl.min[idx] = empty;
+						lvl.max[idx] = empty;
+					}
+					sum[l] = 0;
+					valCtr[l] = 0;
+					naCtr[l] = 0;
+				}
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: buildDiscrete
+	 *
+	 * This method keeps per level occurrence counts of the dictionary
+	 * codes seen in the current interval (in order of first occurrence),
+	 * selecting the most frequent code when an interval is complete.
+	 ******************************************************************/
+	private void buildDiscrete(CovariateColumn column) {
+		int numLevels = levels.size();
+		int numVals = column.length - 1;
+		dictionary = column.dictionary;
+		int counts[][] = new int[numLevels][dictionary.length];
+		int seen[][] = new int[numLevels][];
+		int seenCtr[] = new int[numLevels];
+		for (int l = 0; l < numLevels; l++) {
+			Level lvl = levels.get(l);
+			lvl.mode = new int[lvl.count];
+			seen[l] = new int[lvl.interval];
+		}
+		for (int pos = 0; pos < numVals; pos++) {
+			int code = column.codes[pos+1];
+			for (int l = 0; l < numLevels; l++) {
+				Level lvl = levels.get(l);
+				if (counts[l][code]++ == 0) {
+					seen[l][seenCtr[l]++] = code;
+				}
+				if (((pos+1) % lvl.interval == 0) || (pos == numVals-1)) {
+					int modeCode = -1;
+					int modeCtr = 0;
+					int cutCode = -1;
+					for (int s = 0; s < seenCtr[l]; s++) {
+						int c = seen[l][s];
+						if (dictionary[c].equals(CUT_VALUE)) {
+							cutCode = c;
+						} else if (counts[l][c] > modeCtr) {
+							modeCode = c;
+							modeCtr = counts[l][c];
+						}
+						counts[l][c] = 0;
+					}
+					lvl.mode[pos / lvl.interval] = (modeCode < 0) ? cutCode : modeCode;
+					seenCtr[l] = 0;
+				}
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getLevel
+	 *
+	 * This method returns the pyramid level for a data layer (e.g.
+	 * LAYER_SUMMARY) or null if the layer has no reduced level.
+	 ******************************************************************/
+	public Level getLevel(String layer) {
+		for (Level lvl : levels) {
+			if (lvl.layer.equals(layer)) {
+				return lvl;
+			}
+		}
+		return null;
+	}
+
+	/*******************************************************************
+	 * METHOD: getValue
+	 *
+	 * This method returns the String form of a level entry as written
+	 * to the mapData.JSON file: the mean of a continuous interval (or
+	 * NA/cut) or the most frequent value of a discrete interval.
+	 ******************************************************************/
+	public String getValue(Level lvl, int idx) {
+		if (!continuous) {
+			return dictionary[lvl.mode[idx]];
+		}
+		float val = lvl.mean[idx];
+		if (val == MAX_VALUES) {
+			return NA;
+		} else if (val == MIN_VALUES) {
+			return CUT_VALUE;
+		}
+		return Float.toString(val);
+	}
+}
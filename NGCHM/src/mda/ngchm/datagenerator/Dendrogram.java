@@ -0,0 +1,183 @@
+/*******************************************************************
+ * CLASS: Dendrogram
+ *
+ * This class instantiates a Dendrogram object holding the bars (merges)
+ * of a row or column dendrogram in parallel primitive arrays.  Bars are
+ * stored in the order of the dendrogram file (hclust merge order, so a
+ * bar always follows the bars it joins).  For bar i (0-based):
+ *   left[i], right[i] - the items joined: a negative value -p is the
+ *                       leaf at clustered position p, a positive value
+ *                       b is the bar at (1-based) index b.
+ *   height[i]         - the height of the bar.
+ * Parent and leaf span indexes are built on request.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class Dendrogram {
+	public int count = 0;
+	public int left[] = new int[0];
+	public int right[] = new int[0];
+	public float height[] = new float[0];
+	public int parent[] = null;
+	public int leafStart[] = null;
+	public int leafEnd[] = null;
+
+	/*******************************************************************
+	 * METHOD: read
+	 *
+	 * This method reads a dendrogram file (a header line followed by
+	 * "a TAB b TAB height" lines) converting leaf references from their
+	 * original matrix position to their clustered position using the
+	 * order array provided.
+	 ******************************************************************/
+	public static Dendrogram read(File dendro, int orderArray[]) throws IOException {
+		Dendrogram dendrogram = new Dendrogram();
+		int capacity = Math.max(orderArray.length, 16);
+		dendrogram.left = new int[capacity];
+		dendrogram.right = new int[capacity];
+		dendrogram.height = new float[capacity];
+        BufferedReader br = new BufferedReader(new FileReader(dendro));
+        try {
+	        String line = br.readLine(); // skip the first line since it's just labels
+	        line = br.readLine();
+	        while (line != null) {
+	            String[] tokes = line.split(TAB);
+	            int a = Integer.parseInt(tokes[0]);
+	            int b = Integer.parseInt(tokes[1]);
+	            if (a<0){ // Check if first column is referring to a sample
+	                a = 0-orderArray[0-a];
+	            }
+	            if (b<0){ // Check if second column is referring to a sample
+	                b = 0-orderArray[0-b];
+	            }
+	            dendrogram.add(a, b, Float.parseFloat(tokes[2]));
+	            line = br.readLine();
+	        }
+        } finally {
+        	br.close();
+        }
+        dendrogram.trim();
+        return dendrogram;
+	}
+
+	/*******************************************************************
+	 * METHOD: add
+	 *
+	 * This method appends a bar to the dendrogram.
+	 ******************************************************************/
+	public void add(int a, int b, float h) {
+		if (count == left.length) {
+			int capacity = Math.max(16, count*2);
+			left = Arrays.copyOf(left, capacity);
+			right = Arrays.copyOf(right, capacity);
+			height = Arrays.copyOf(height, capacity);
+		}
+		left[count] = a;
+		right[count] = b;
+		height[count] = h;
+		count++;
+		parent = null;
+		leafStart = null;
+		leafEnd = null;
+	}
+
+	private void trim() {
+		if (left.length != count) {
+			left = Arrays.copyOf(left, count);
+			right = Arrays.copyOf(right, count);
+			height = Arrays.copyOf(height, count);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getMaxHeight
+	 *
+	 * This method returns the height of the tallest bar.
+	 ******************************************************************/
+	public float getMaxHeight() {
+		float maxHeight = 0;
+		for (int i = 0; i < count; i++) {
+			if (height[i] > maxHeight) {
+				maxHeight = height[i];
+			}
+		}
+		return maxHeight;
+	}
+
+	/*******************************************************************
+	 * METHOD: buildParents
+	 *
+	 * This method builds the parent index: parent[i] is the (1-based)
+	 * bar joining bar i+1 to another item, or 0 for the root.
+	 ******************************************************************/
+	public void buildParents() {
+		if (parent != null) {
+			return;
+		}
+		int par[] = new int[count];
+		for (int i = 0; i < count; i++) {
+			if (left[i] > 0) {
+				par[left[i]-1] = i+1;
+			}
+			if (right[i] > 0) {
+				par[right[i]-1] = i+1;
+			}
+		}
+		parent = par;
+	}
+
+	/*******************************************************************
+	 * METHOD: buildLeafSpans
+	 *
+	 * This method builds the leaf span index: bar i covers the clustered
+	 * leaf positions leafStart[i] thru leafEnd[i].  Because a bar follows
+	 * the bars it joins, a single forward pass is sufficient.
+	 ******************************************************************/
+	public void buildLeafSpans() {
+		if (leafStart != null) {
+			return;
+		}
+		int start[] = new int[count];
+		int end[] = new int[count];
+		for (int i = 0; i < count; i++) {
+			int aStart = left[i] < 0 ? -left[i] : start[left[i]-1];
+			int aEnd = left[i] < 0 ? -left[i] : end[left[i]-1];
+			int bStart = right[i] < 0 ? -right[i] : start[right[i]-1];
+			int bEnd = right[i] < 0 ? -right[i] : end[right[i]-1];
+			start[i] = Math.min(aStart, bStart);
+			end[i] = Math.max(aEnd, bEnd);
+		}
+		leafStart = start;
+		leafEnd = end;
+	}
+
+	/*******************************************************************
+	 * METHOD: writeJson
+	 *
+	 * This method streams the dendrogram bars to the mapData.JSON file
+	 * as a comma separated list of "a,b,height" strings.
+	 ******************************************************************/
+	public void writeJson(JsonStreamWriter fw) throws IOException {
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				fw.write(',');
+			}
+			fw.write('"');
+			fw.writeInt(left[i]);
+			fw.write(',');
+			fw.writeInt(right[i]);
+			fw.write(',');
+			fw.write(Float.toString(height[i]));
+			fw.write('"');
+		}
+	}
+}
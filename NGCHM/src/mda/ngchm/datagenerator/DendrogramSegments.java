@@ -0,0 +1,126 @@
+/*******************************************************************
+ * CLASS: DendrogramSegments
+ *
+ * This class instantiates a DendrogramSegments object containing the
+ * axis aligned line segments of a row or column dendrogram.  It replaces
+ * the dense (height x 3 points per leaf) dendrogram matrix: memory is
+ * linear in the number of bars and images are produced by rasterizing
+ * the segments at the resolution of the target image only.
+ *
+ * Segment coordinates are in leaf units subdivided into
+ * DENDRO_POINTS_PER_LEAF points (the leaf at clustered position p is at
+ * point 3p-2) and normalized heights (0 thru DENDRO_NORM_HEIGHT, the
+ * tallest bar).  Each bar contributes a horizontal segment at its height
+ * joining the points of the two items it joins and a vertical segment
+ * from the top of each item up to (but not including) that height.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.awt.image.BufferedImage;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class DendrogramSegments {
+	public int width;
+	public int count = 0;
+	public int x1[];
+	public int y1[];
+	public int x2[];
+	public int y2[];
+
+	/*******************************************************************
+	 * CLASS: Scale
+	 *
+	 * Maps a segment coordinate (point or normalized height) to an image
+	 * pixel coordinate.
+	 ******************************************************************/
+	public static abstract class Scale {
+		public abstract int toPixel(int pos);
+	}
+
+	/*******************************************************************
+	 * METHOD: build
+	 *
+	 * This method builds the segments for a dendrogram of a given number
+	 * of leaves.  Bar positions are kept in arrays indexed by bar, so the
+	 * location of the items joined by a bar is a direct lookup.
+	 ******************************************************************/
+	public static DendrogramSegments build(Dendrogram dendrogram, int length) {
+		int numNodes = dendrogram.count;
+		DendrogramSegments segments = new DendrogramSegments();
+		segments.width = DENDRO_POINTS_PER_LEAF*length;
+		segments.x1 = new int[3*numNodes];
+		segments.y1 = new int[3*numNodes];
+		segments.x2 = new int[3*numNodes];
+		segments.y2 = new int[3*numNodes];
+		float maxHeight = dendrogram.getMaxHeight();
+		int barLoc[] = new int[numNodes];
+		int barHeight[] = new int[numNodes];
+		for (int i = 0; i < numNodes; i++) {
+			int leftIndex = dendrogram.left[i];
+			int rightIndex = dendrogram.right[i];
+			int normHeight = Math.round(DENDRO_NORM_HEIGHT*dendrogram.height[i]/maxHeight);
+			int leftLoc = leftIndex < 0 ? DENDRO_POINTS_PER_LEAF*(-leftIndex)-2 : barLoc[leftIndex-1];
+			int rightLoc = rightIndex < 0 ? DENDRO_POINTS_PER_LEAF*(-rightIndex)-2 : barLoc[rightIndex-1];
+			int leftTop = leftIndex < 0 ? 0 : barHeight[leftIndex-1];
+			int rightTop = rightIndex < 0 ? 0 : barHeight[rightIndex-1];
+			barLoc[i] = (leftLoc + rightLoc + 1)/2; // the middle point of the bar
+			barHeight[i] = normHeight;
+			segments.add(leftLoc, normHeight, rightLoc, normHeight);
+			if (leftTop+1 < normHeight) {
+				segments.add(leftLoc, leftTop+1, leftLoc, normHeight-1);
+			}
+			if (rightTop+1 < normHeight) {
+				segments.add(rightLoc, rightTop+1, rightLoc, normHeight-1);
+			}
+		}
+		return segments;
+	}
+
+	private void add(int xStart, int yStart, int xEnd, int yEnd) {
+		x1[count] = xStart;
+		y1[count] = yStart;
+		x2[count] = xEnd;
+		y2[count] = yEnd;
+		count++;
+	}
+
+	/*******************************************************************
+	 * METHOD: draw
+	 *
+	 * This method draws the segments in black on an image.  Points are
+	 * mapped to the image x axis (column dendrograms) or y axis (row
+	 * dendrograms) with pointScale and heights to the other axis with
+	 * heightScale.  Horizontal segments are drawn as a contiguous span
+	 * between their end pixels, widened by pad pixels at each end.  Pixels
+	 * outside of the image are ignored.
+	 ******************************************************************/
+	public void draw(BufferedImage image, boolean rowDendro, Scale pointScale, Scale heightScale, int pad) {
+		for (int i = 0; i < count; i++) {
+			int p1 = pointScale.toPixel(x1[i]);
+			int p2 = pointScale.toPixel(x2[i]);
+			int h1 = heightScale.toPixel(y1[i]);
+			int h2 = heightScale.toPixel(y2[i]);
+			if (y1[i] == y2[i]) {
+				fill(image, rowDendro, Math.min(p1, p2)-pad, Math.max(p1, p2)+pad, h1, h1);
+			} else {
+				fill(image, rowDendro, p1, p1, Math.min(h1, h2), Math.max(h1, h2));
+			}
+		}
+	}
+
+	private static void fill(BufferedImage image, boolean rowDendro, int pStart, int pEnd, int hStart, int hEnd) {
+		int imgWidth = image.getWidth();
+		int imgHeight = image.getHeight();
+		for (int p = pStart; p <= pEnd; p++) {
+			for (int h = hStart; h <= hEnd; h++) {
+				int x = rowDendro ? h : p;
+				int y = rowDendro ? p : h;
+				if ((x >= 0) && (x < imgWidth) && (y >= 0) && (y < imgHeight)) {
+					image.setRGB(x, y, RGB_BLACK);
+				}
+			}
+		}
+	}
+}
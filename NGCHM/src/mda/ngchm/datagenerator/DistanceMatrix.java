@@ -0,0 +1,682 @@
+/*******************************************************************
+ * CLASS: DistanceMatrix
+ *
+ * This class instantiates a DistanceMatrix object holding the condensed
+ * (upper triangle) matrix of distances between a set of items: the
+ * distance between items i < j is at index getIndex(count, i, j).
+ * Matrices are held in a double array while the heap matrices allocated
+ * (and not yet closed) fit within the distance heap budget (a fraction
+ * of the maximum heap, DISTANCE_HEAP_FRACTION); other matrices are held
+ * in a memory-mapped temporary file.
+ *
+ * Distances are computed in square tiles of items distributed over the
+ * fork-join pool, for either the rows or the columns of a data array
+ * (columns are read in place, without a transposed copy).  Items without
+ * missing values use dedicated loops (for correlation and cosine
+ * distance a dot product of pre-normalized vectors); pairs with missing
+ * values use only the positions present in both items, scaling
+ * euclidean and manhattan distances up as R's dist function
+ * does.  Computed matrices are cached (keyed by the caller) so that
+ * later builds in the same process can cluster them with other
+ * agglomeration methods.  The cache holds DISTANCE_CACHE_ENTRIES
+ * matrices, set with the ngchm.distance.cache.entries system property
+ * (0 disables the cache).  Cached matrices are reference counted: a
+ * matrix returned by getCached or passed to putCached must be released,
+ * and only matrices that are not in use are evicted from the cache.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class DistanceMatrix {
+	public int count;
+	public long size;
+	private double heap[];
+	private MappedByteBuffer chunks[];
+	private File mapFile;
+	private int users = 0;
+	private boolean cached = false;
+	private boolean closed = false;
+
+	private static final int CHUNK_BITS = 27; // doubles per mapped chunk (1GB)
+	private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+	private static final int BLOCK_SIZE = 64;
+	private static final int TILES_PER_TASK = 4;
+
+	private static final int EUCLIDEAN = 0;
+	private static final int MANHATTAN = 1;
+	private static final int MAXIMUM = 2;
+	private static final int CORRELATION = 3;
+	private static final int COSINE = 4;
+
+	//Cached matrices (least recently used first) and the bytes of all open heap matrices, both guarded by the cache.
+	private static final Map<String, DistanceMatrix> cache = new LinkedHashMap<String, DistanceMatrix>(16, 0.75f, true);
+	private static long heapBytes = 0;
+
+	/*******************************************************************
+	 * METHOD: allocate
+	 *
+	 * This method creates an empty distance matrix for a number of items,
+	 * on the heap if it fits within what is left of the distance heap
+	 * budget (after evicting unused cached matrices if needed), otherwise
+	 * in a memory-mapped temporary file.
+	 ******************************************************************/
+	public static DistanceMatrix allocate(int count) throws IOException {
+		DistanceMatrix dm = new DistanceMatrix();
+		dm.count = count;
+		dm.size = (long)count*(count-1)/2;
+		boolean onHeap = false;
+		if (dm.size <= Integer.MAX_VALUE-8) {
+			synchronized (cache) {
+				evictCached(dm.size*8);
+				if (heapBytes + dm.size*8 <= getHeapBudget()) {
+					heapBytes += dm.size*8;
+					onHeap = true;
+				}
+			}
+		}
+		if (onHeap) {
+			try {
+				dm.heap = new double[(int)dm.size];
+			} catch (OutOfMemoryError e) {
+				dm.close();
+				throw e;
+			}
+		} else {
+			dm.mapFile = File.createTempFile("ngchm_distance", BIN_FILE);
+			dm.mapFile.deleteOnExit();
+			RandomAccessFile raf = new RandomAccessFile(dm.mapFile, "rw");
+			try {
+				FileChannel channel = raf.getChannel();
+				int numChunks = (int)((dm.size + CHUNK_MASK) >>> CHUNK_BITS);
+				dm.chunks = new MappedByteBuffer[numChunks];
+				for (int c = 0; c < numChunks; c++) {
+					long start = (long)c << CHUNK_BITS;
+					long len = Math.min(dm.size - start, 1L << CHUNK_BITS);
+					dm.chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, start*8, len*8);
+					dm.chunks[c].order(ByteOrder.nativeOrder());
+				}
+			} finally {
+				raf.close();
+			}
+		}
+		return dm;
+	}
+
+	private static long getHeapBudget() {
+		return (long)(Runtime.getRuntime().maxMemory() * DISTANCE_HEAP_FRACTION);
+	}
+
+	public static long getIndex(int n, int i, int j) {
+		if (i > j) {
+			int tmp = i;
+			i = j;
+			j = tmp;
+		}
+		return (long)i*(2L*n-i-1)/2 + (j-i-1);
+	}
+
+	public double get(long idx) {
+		if (heap != null) {
+			return heap[(int)idx];
+		}
+		return chunks[(int)(idx >>> CHUNK_BITS)].getDouble(((int)idx & CHUNK_MASK) << 3);
+	}
+
+	public void set(long idx, double value) {
+		if (heap != null) {
+			heap[(int)idx] = value;
+		} else {
+			chunks[(int)(idx >>> CHUNK_BITS)].putDouble(((int)idx & CHUNK_MASK) << 3, value);
+		}
+	}
+
+	public double get(int i, int j) {
+		return get(getIndex(count, i, j));
+	}
+
+	public boolean isMapped() {
+		return heap == null;
+	}
+
+	/*******************************************************************
+	 * METHOD: copy
+	 *
+	 * This method returns a working copy of the matrix (clustering
+	 * updates distances in place).
+	 ******************************************************************/
+	public DistanceMatrix copy() throws IOException {
+		DistanceMatrix dm = allocate(count);
+		if ((heap != null) && (dm.heap != null)) {
+			System.arraycopy(heap, 0, dm.heap, 0, heap.length);
+		} else {
+			for (long idx = 0; idx < size; idx++) {
+				dm.set(idx, get(idx));
+			}
+		}
+		return dm;
+	}
+
+	/*******************************************************************
+	 * METHOD: close
+	 *
+	 * This method releases the matrix: the heap array is returned to the
+	 * distance heap budget, or the temporary file of a memory-mapped
+	 * matrix is deleted.  Cached matrices are closed by the cache once
+	 * they are evicted and no longer in use (see release).
+	 ******************************************************************/
+	public void close() {
+		synchronized (cache) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (mapFile == null) {
+				heapBytes -= size*8;
+			}
+		}
+		heap = null;
+		chunks = null;
+		if (mapFile != null) {
+			mapFile.delete();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: compute
+	 *
+	 * This method computes the distance matrix of a set of items (the
+	 * rows of the data array, with NaN marking missing values).
+	 ******************************************************************/
+	public static DistanceMatrix compute(float data[][], String distanceMetric) throws Exception {
+		return compute(data, false, distanceMetric);
+	}
+
+	/*******************************************************************
+	 * METHOD: compute
+	 *
+	 * This method computes the distance matrix of the rows or (without
+	 * transposing the data array) the columns of the data array.
+	 ******************************************************************/
+	public static DistanceMatrix compute(float data[][], boolean columns, String distanceMetric) throws Exception {
+		int metric = getMetric(distanceMetric);
+		int n = columns ? (data.length > 0 ? data[0].length : 0) : data.length;
+		DistanceMatrix dm = allocate(n);
+		TileTask task = new TileTask(dm, data, columns, metric, n);
+		if (columns) {
+			task.setColumnStatistics();
+		} else {
+			for (int i = 0; i < n; i++) {
+				for (float val : data[i]) {
+					if (Float.isNaN(val)) {
+						task.missing[i] = true;
+						break;
+					}
+				}
+				if (!task.missing[i] && ((metric == CORRELATION) || (metric == COSINE))) {
+					task.normalized[i] = normalize(data[i], metric == CORRELATION);
+				}
+			}
+		}
+		ForkJoinPool.commonPool().invoke(task);
+		return dm;
+	}
+
+	private static int getMetric(String distanceMetric) throws Exception {
+		if (DISTANCE_EUCLIDEAN.equalsIgnoreCase(distanceMetric)) {
+			return EUCLIDEAN;
+		} else if (DISTANCE_MANHATTAN.equalsIgnoreCase(distanceMetric)) {
+			return MANHATTAN;
+		} else if (DISTANCE_MAXIMUM.equalsIgnoreCase(distanceMetric)) {
+			return MAXIMUM;
+		} else if (DISTANCE_CORRELATION.equalsIgnoreCase(distanceMetric) || DISTANCE_PEARSON.equalsIgnoreCase(distanceMetric)) {
+			return CORRELATION;
+		} else if (DISTANCE_COSINE.equalsIgnoreCase(distanceMetric)) {
+			return COSINE;
+		}
+		throw new Exception("CLUSTERING ERROR: Unsupported distance metric: " + distanceMetric);
+	}
+
+	/*******************************************************************
+	 * METHOD: normalize
+	 *
+	 * This method returns an item's values (centered for correlation)
+	 * scaled to unit length, or null if the item has no variation.
+	 ******************************************************************/
+	private static double[] normalize(float vals[], boolean center) {
+		double mean = 0;
+		if (center) {
+			for (float val : vals) {
+				mean += val;
+			}
+			mean /= vals.length;
+		}
+		double norm[] = new double[vals.length];
+		double sumSq = 0;
+		for (int k = 0; k < vals.length; k++) {
+			norm[k] = vals[k] - mean;
+			sumSq += norm[k]*norm[k];
+		}
+		if (sumSq == 0) {
+			return null;
+		}
+		double scale = 1/Math.sqrt(sumSq);
+		for (int k = 0; k < vals.length; k++) {
+			norm[k] *= scale;
+		}
+		return norm;
+	}
+
+	/*******************************************************************
+	 * CLASS: TileTask
+	 *
+	 * Computes a range of tiles (numbered row by row over the upper
+	 * triangle of blocks), splitting the range in half until it is small
+	 * enough to compute directly.  Column items are computed a data row at
+	 * a time, accumulating the distances of a whole tile per row, with
+	 * correlation and cosine distances from the column means and scales.
+	 ******************************************************************/
+	private static class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private DistanceMatrix dm;
+		private float data[][];
+		private boolean columns;
+		private boolean missing[];
+		private double normalized[][];
+		private double mean[];
+		private double scale[];
+		private int metric;
+		private int n;
+		private int numBlocks;
+		private long firstTile;
+		private long lastTile;
+
+		TileTask(DistanceMatrix dm, float data[][], boolean columns, int metric, int n) {
+			this.dm = dm;
+			this.data = data;
+			this.columns = columns;
+			this.metric = metric;
+			this.n = n;
+			missing = new boolean[n];
+			if (!columns) {
+				normalized = new double[n][];
+			}
+			numBlocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+			firstTile = 0;
+			lastTile = (long)numBlocks*(numBlocks+1)/2;
+		}
+
+		TileTask(TileTask task, long firstTile, long lastTile) {
+			dm = task.dm;
+			data = task.data;
+			columns = task.columns;
+			missing = task.missing;
+			normalized = task.normalized;
+			mean = task.mean;
+			scale = task.scale;
+			metric = task.metric;
+			n = task.n;
+			numBlocks = task.numBlocks;
+			this.firstTile = firstTile;
+			this.lastTile = lastTile;
+		}
+
+		/*******************************************************************
+		 * METHOD: setColumnStatistics
+		 *
+		 * This method marks the columns with missing values and, for
+		 * correlation and cosine distance, computes the mean (0 for cosine)
+		 * and the scale to unit length (0 for no variation) of each column.
+		 ******************************************************************/
+		void setColumnStatistics() {
+			for (float row[] : data) {
+				for (int j = 0; j < n; j++) {
+					if (Float.isNaN(row[j])) {
+						missing[j] = true;
+					}
+				}
+			}
+			if ((metric != CORRELATION) && (metric != COSINE)) {
+				return;
+			}
+			mean = new double[n];
+			scale = new double[n];
+			if (metric == CORRELATION) {
+				for (float row[] : data) {
+					for (int j = 0; j < n; j++) {
+						mean[j] += row[j];
+					}
+				}
+				for (int j = 0; j < n; j++) {
+					mean[j] /= data.length;
+				}
+			}
+			for (float row[] : data) {
+				for (int j = 0; j < n; j++) {
+					double diff = row[j] - mean[j];
+					scale[j] += diff*diff;
+				}
+			}
+			for (int j = 0; j < n; j++) {
+				scale[j] = scale[j] > 0 ? 1/Math.sqrt(scale[j]) : 0;
+			}
+		}
+
+		protected void compute() {
+			if (lastTile - firstTile > TILES_PER_TASK) {
+				long mid = (firstTile + lastTile) >>> 1;
+				invokeAll(new TileTask(this, firstTile, mid), new TileTask(this, mid, lastTile));
+				return;
+			}
+			//Locate the first tile (block row bi, block column bj >= bi)
+			int bi = 0;
+			long tile = firstTile;
+			while (tile >= numBlocks - bi) {
+				tile -= numBlocks - bi;
+				bi++;
+			}
+			int bj = bi + (int)tile;
+			double acc[] = columns ? new double[BLOCK_SIZE*BLOCK_SIZE] : null;
+			for (long t = firstTile; t < lastTile; t++) {
+				if (columns) {
+					computeColumnTile(bi, bj, acc);
+				} else {
+					int iEnd = Math.min((bi+1)*BLOCK_SIZE, n);
+					int jEnd = Math.min((bj+1)*BLOCK_SIZE, n);
+					for (int i = bi*BLOCK_SIZE; i < iEnd; i++) {
+						int jStart = Math.max(bj*BLOCK_SIZE, i+1);
+						long idx = getIndex(n, i, jStart);
+						for (int j = jStart; j < jEnd; j++) {
+							dm.set(idx++, getTileDistance(i, j));
+						}
+					}
+				}
+				if (++bj == numBlocks) {
+					bi++;
+					bj = bi;
+				}
+			}
+		}
+
+		private double getTileDistance(int i, int j) {
+			if (missing[i] || missing[j]) {
+				return getDistance(data[i], data[j], metric);
+			}
+			float a[] = data[i];
+			float b[] = data[j];
+			int len = a.length;
+			double result = 0;
+			switch (metric) {
+				case EUCLIDEAN:
+					for (int k = 0; k < len; k++) {
+						double diff = a[k] - b[k];
+						result += diff*diff;
+					}
+					return Math.sqrt(result);
+				case MANHATTAN:
+					for (int k = 0; k < len; k++) {
+						result += Math.abs(a[k] - b[k]);
+					}
+					return result;
+				case MAXIMUM:
+					for (int k = 0; k < len; k++) {
+						result = Math.max(result, Math.abs(a[k] - b[k]));
+					}
+					return result;
+				default:
+					double normA[] = normalized[i];
+					double normB[] = normalized[j];
+					if ((normA == null) || (normB == null)) {
+						return 1;
+					}
+					for (int k = 0; k < len; k++) {
+						result += normA[k]*normB[k];
+					}
+					return 1 - result;
+			}
+		}
+
+		/*******************************************************************
+		 * METHOD: computeColumnTile
+		 *
+		 * This method computes a tile of column items.  The distance terms of
+		 * every pair in the tile are accumulated a data row at a time (pairs
+		 * with missing values are accumulated too, but are then recomputed
+		 * from the two columns using only the rows present in both).
+		 ******************************************************************/
+		private void computeColumnTile(int bi, int bj, double acc[]) {
+			int iStart = bi*BLOCK_SIZE;
+			int iEnd = Math.min(iStart+BLOCK_SIZE, n);
+			int jStart = bj*BLOCK_SIZE;
+			int jEnd = Math.min(jStart+BLOCK_SIZE, n);
+			Arrays.fill(acc, 0);
+			for (float row[] : data) {
+				for (int i = iStart; i < iEnd; i++) {
+					int base = (i-iStart)*BLOCK_SIZE - jStart;
+					switch (metric) {
+						case EUCLIDEAN:
+							for (int j = Math.max(jStart, i+1); j < jEnd; j++) {
+								double diff = row[i] - row[j];
+								acc[base+j] += diff*diff;
+							}
+							break;
+						case MANHATTAN:
+							for (int j = Math.max(jStart, i+1); j < jEnd; j++) {
+								acc[base+j] += Math.abs(row[i] - row[j]);
+							}
+							break;
+						case MAXIMUM:
+							for (int j = Math.max(jStart, i+1); j < jEnd; j++) {
+								acc[base+j] = Math.max(acc[base+j], Math.abs(row[i] - row[j]));
+							}
+							break;
+						default:
+							double a = row[i] - mean[i];
+							for (int j = Math.max(jStart, i+1); j < jEnd; j++) {
+								acc[base+j] += a*(row[j] - mean[j]);
+							}
+					}
+				}
+			}
+			float colA[] = null;
+			float colB[] = null;
+			for (int i = iStart; i < iEnd; i++) {
+				int start = Math.max(jStart, i+1);
+				if (start >= jEnd) {
+					continue;
+				}
+				boolean haveA = false;
+				int base = (i-iStart)*BLOCK_SIZE - jStart;
+				long idx = getIndex(n, i, start);
+				for (int j = start; j < jEnd; j++) {
+					double result = acc[base+j];
+					if (missing[i] || missing[j]) {
+						if (!haveA) {
+							colA = getColumn(i, colA);
+							haveA = true;
+						}
+						colB = getColumn(j, colB);
+						result = getDistance(colA, colB, metric);
+					} else if (metric == EUCLIDEAN) {
+						result = Math.sqrt(result);
+					} else if ((metric == CORRELATION) || (metric == COSINE)) {
+						result = ((scale[i] == 0) || (scale[j] == 0)) ? 1 : 1 - result*scale[i]*scale[j];
+					}
+					dm.set(idx++, result);
+				}
+			}
+		}
+
+		private float[] getColumn(int j, float col[]) {
+			if (col == null) {
+				col = new float[data.length];
+			}
+			for (int k = 0; k < data.length; k++) {
+				col[k] = data[k][j];
+			}
+			return col;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getDistance
+	 *
+	 * This method computes the distance between two items using the
+	 * positions where both items have a value.  Items with no values in
+	 * common are given a distance of 0.
+	 ******************************************************************/
+	public static double getDistance(float a[], float b[], String distanceMetric) throws Exception {
+		return getDistance(a, b, getMetric(distanceMetric));
+	}
+
+	private static double getDistance(float a[], float b[], int metric) {
+		int len = a.length;
+		int used = 0;
+		double result = 0;
+		if ((metric == EUCLIDEAN) || (metric == MANHATTAN)) {
+			for (int k = 0; k < len; k++) {
+				if (!Float.isNaN(a[k]) && !Float.isNaN(b[k])) {
+					double diff = a[k] - b[k];
+					result += (metric == EUCLIDEAN) ? diff*diff : Math.abs(diff);
+					used++;
+				}
+			}
+			if (used == 0) {
+				return 0;
+			}
+			if (used != len) {
+				result = result * len / used;
+			}
+			return (metric == EUCLIDEAN) ? Math.sqrt(result) : result;
+		} else if (metric == MAXIMUM) {
+			for (int k = 0; k < len; k++) {
+				if (!Float.isNaN(a[k]) && !Float.isNaN(b[k])) {
+					result = Math.max(result, Math.abs(a[k] - b[k]));
+				}
+			}
+			return result;
+		}
+		double sumA = 0, sumB = 0;
+		if (metric == CORRELATION) {
+			for (int k = 0; k < len; k++) {
+				if (!Float.isNaN(a[k]) && !Float.isNaN(b[k])) {
+					sumA += a[k];
+					sumB += b[k];
+					used++;
+				}
+			}
+			if (used == 0) {
+				return 0;
+			}
+			sumA /= used;
+			sumB /= used;
+		}
+		double sumAB = 0, sumAA = 0, sumBB = 0;
+		for (int k = 0; k < len; k++) {
+			if (!Float.isNaN(a[k]) && !Float.isNaN(b[k])) {
+				double va = a[k] - sumA;
+				double vb = b[k] - sumB;
+				sumAB += va*vb;
+				sumAA += va*va;
+				sumBB += vb*vb;
+			}
+		}
+		if ((sumAA == 0) || (sumBB == 0)) {
+			return 1;
+		}
+		return 1 - sumAB/Math.sqrt(sumAA*sumBB);
+	}
+
+	/*******************************************************************
+	 * METHOD: getCached
+	 *
+	 * This method returns a cached distance matrix, which must be
+	 * released when it is no longer used, or null.
+	 ******************************************************************/
+	public static DistanceMatrix getCached(String key) {
+		synchronized (cache) {
+			DistanceMatrix dm = cache.get(key);
+			if (dm != null) {
+				dm.users++;
+			}
+			return dm;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: putCached
+	 *
+	 * This method caches a distance matrix (which the caller must release
+	 * when it is no longer used).  Least recently used matrices that are
+	 * not in use are evicted to keep at most DISTANCE_CACHE_ENTRIES
+	 * matrices.
+	 ******************************************************************/
+	public static void putCached(String key, DistanceMatrix dm) {
+		synchronized (cache) {
+			dm.users++;
+			dm.cached = true;
+			DistanceMatrix old = cache.put(key, dm);
+			if (old != null) {
+				old.cached = false;
+				if (old.users == 0) {
+					old.close();
+				}
+			}
+			evictCached(0);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: release
+	 *
+	 * This method releases a matrix returned by getCached or passed to
+	 * putCached.  A matrix that is no longer in use is closed if it is no
+	 * longer cached, and is evicted if the cache is over its limit.
+	 ******************************************************************/
+	public void release() {
+		synchronized (cache) {
+			users--;
+			if (users == 0) {
+				if (cached) {
+					evictCached(0);
+				} else {
+					close();
+				}
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: evictCached
+	 *
+	 * This method evicts least recently used cached matrices that are not
+	 * in use while the cache holds more than DISTANCE_CACHE_ENTRIES
+	 * matrices or the heap matrices leave less than a number of bytes of
+	 * the distance heap budget.  The caller synchronizes on the cache.
+	 ******************************************************************/
+	private static void evictCached(long neededBytes) {
+		Iterator<DistanceMatrix> it = cache.values().iterator();
+		while (it.hasNext() && ((cache.size() > DISTANCE_CACHE_ENTRIES) || (heapBytes + neededBytes > getHeapBudget()))) {
+			DistanceMatrix eldest = it.next();
+			if ((eldest.users == 0) && ((cache.size() > DISTANCE_CACHE_ENTRIES) || !eldest.isMapped())) {
+				it.remove();
+				eldest.cached = false;
+				eldest.close();
+			}
+		}
+	}
+}
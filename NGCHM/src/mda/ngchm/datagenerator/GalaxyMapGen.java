@@ -19,17 +19,9 @@
 package mda.ngchm.datagenerator;
 
 import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import static mda.ngchm.datagenerator.ImportConstants.*;
 
 import org.json.simple.JSONObject;
@@ -61,6 +53,7 @@ private static String BUILDER_VERSION = "2.14.0";
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public static void performMapGeneration(JSONObject jsonObject){
 		System.out.println("START Galaxy Interface Heat Map Generation: " + new Date()); 
 		try {
@@ -90,6 +83,8 @@ private static String BUILDER_VERSION = "2.14.0";
 			
 			//Add heatmap output subdirectory and galaxy version number to heatmapProperties JSON
 			jsonObject.put(OUTPUT_LOC,subdir);
+			//Have the generator write every output file to the zip as it is generated
+			jsonObject.put(OUTPUT_ARCHIVE,outputLocation);
 			String buildPlatform = (String) jsonObject.get(BUILD_PLATFORM);
 			jsonObject.put(BUILDER_VER,buildPlatform+SPACE+BUILDER_VERSION);
 			jsonObject.remove(BUILD_PLATFORM);
@@ -116,8 +111,6 @@ private static String BUILDER_VERSION = "2.14.0";
 				System.out.println( "ERROR in GalaxyMapGen e= "+ errMsg);
 				System.exit(1);
 			} else {
-				//Zip results
-				zipDirectory(tDir, outputLocation);
 				System.exit(0);
 			}
 		} catch(Exception e) {
@@ -134,68 +127,4 @@ private static String BUILDER_VERSION = "2.14.0";
 		}
 	}
 
-	public static void zipDirectory(File directoryToZip, String zipFileName) throws IOException {
-
-		List<File> fileList = new ArrayList<File>();
-		getAllFiles(directoryToZip, fileList);
-		writeZipFile(directoryToZip, fileList, zipFileName);
-	}
-
-	public static void getAllFiles(File dir, List<File> fileList) {
-		try {
-			File[] files = dir.listFiles();
-			for (File file : files) {
-				fileList.add(file);
-				if (file.isDirectory()) {
-					getAllFiles(file, fileList);
-				} 
-			}
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-	}
-
-	public static void writeZipFile(File directoryToZip, List<File> fileList, String zipFileName) {
-
-		try {
-			FileOutputStream fos = new FileOutputStream(zipFileName);
-			ZipOutputStream zos = new ZipOutputStream(fos);
-
-			for (File file : fileList) {
-				if (!file.isDirectory()) { // we only zip files, not directories
-					addToZip(directoryToZip, file, zos);
-				}
-			}
-
-			zos.close();
-			fos.close();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-	}
-
-	public static void addToZip(File directoryToZip, File file, ZipOutputStream zos) throws FileNotFoundException,
-	IOException {
-
-		FileInputStream fis = new FileInputStream(file);
-
-		// we want the zipEntry's path to be a relative path that is relative
-		// to the directory being zipped, so chop off the rest of the path
-		String zipFilePath = file.getCanonicalPath().substring(directoryToZip.getCanonicalPath().length() + 1,
-				file.getCanonicalPath().length());
-		ZipEntry zipEntry = new ZipEntry(zipFilePath);
-		zos.putNextEntry(zipEntry);
-
-		byte[] bytes = new byte[1024];
-		int length;
-		while ((length = fis.read(bytes)) >= 0) {
-			zos.write(bytes, 0, length);
-		}
-
-		zos.closeEntry();
-		fis.close();
-	}
-
 }
@@ -30,16 +30,14 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
-import javax.imageio.ImageIO;
 
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
@@ -127,6 +125,7 @@ public class HeatmapDataGenerator {
         	} catch (Exception ex) {
     			errMsg = "BUILD ERROR: Data Layer Input - " + ex.getMessage();
     			System.out.println(errMsg);  
+    	        iData.output.abort();
     	        return errMsg;
         	}
         }
@@ -140,6 +139,7 @@ public class HeatmapDataGenerator {
 			errMsg = "BUILD ERROR: Writing Tile Data - " + ex.getMessage();
 			System.out.println(errMsg);  
 	        ex.printStackTrace();
+	        iData.output.abort();
 	        return errMsg;
 		}
 
@@ -150,6 +150,7 @@ public class HeatmapDataGenerator {
 			errMsg = "BUILD ERROR: Writing mapData.JSON Configuration File: " + ex.toString();
 			System.out.println(errMsg);  
 	        ex.printStackTrace();
+	        iData.output.abort();
 	        return errMsg;
 		}
 		try {
@@ -158,6 +159,19 @@ public class HeatmapDataGenerator {
 			errMsg = "BUILD ERROR: Writing mapConfig.JSON Configuration File: " + ex.toString();
 			System.out.println(errMsg);  
 	        ex.printStackTrace();
+	        iData.output.abort();
+	        return errMsg;
+		}
+		try {
+			if (!iData.output.mode.equals(SINK_ARCHIVE)) {
+				CompressedDescriptor.writeCompressedCopies(iData.output, MAP_DATA_FILE);
+				CompressedDescriptor.writeCompressedCopies(iData.output, MAP_CONFIG_FILE);
+			}
+		} catch (Exception ex) {
+			errMsg = "BUILD ERROR: Writing compressed Configuration Files: " + ex.toString();
+			System.out.println(errMsg);  
+	        ex.printStackTrace();
+	        iData.output.abort();
 	        return errMsg;
 		}
 		
@@ -171,89 +185,16 @@ public class HeatmapDataGenerator {
 		}
 
 		//Generate PDF
-        if ((iData.generatePDF) && (iData.readMatrices.equals(YES))) {
-        	boolean fullPDF = false;
-			try {
-	        	for (int i=0; i < iData.matrixFiles.size();i++) {
-			        iFile = iData.matrixFiles.get(i);
-			        if (iData.pdfMatrices !=null) {
-			        	createSummaryImg(iFile.getMap(), iData, iData.pdfMatrices.get(i));
-			        }
-	        	}
-		        int size = iData.pdfMatrices.get(0).length;
-	        	for (int i=0; i < iData.rowData.classFiles.size();i++) {
-	        		InputClass iClass = iData.rowData.classFiles.get(i);
-	        		iClass.createClassSummaryImg(size);
-	        		iClass.createClassLegendImg();
-	        	}
-        		iData.rowData.createTopItemsImg(iData.rowData.classArray.length - 1);
-				size = iData.pdfMatrices.get(0)[0].length;
-	        	for (int i=0; i < iData.colData.classFiles.size();i++) {
-	        		InputClass iClass = iData.colData.classFiles.get(i);
-	        		iClass.createClassSummaryImg(size);
-	        		iClass.createClassLegendImg();
-	        	}
-        		iData.colData.createTopItemsImg(iData.colData.classArray.length - 1);
-				PdfGenerator pGen = new PdfGenerator();
-				if (iData.rowData.dendroMatrix != null) {
-					iData.rowData.dendroImage = createRowDendroImg(iData, new Float(5.5));
-				}
-				if (iData.colData.dendroMatrix != null) {
-					iData.colData.dendroImage = createColDendroImg(iData, new Float(5.5));
-				}
-				pGen.createHeatmapPDF(iData, fullPDF); 
-			} catch (Exception ex) {
-				System.out.println("Exception in HeatmapDataGenerator.main. Error generating PDF: " + ex.toString());  
-				ex.printStackTrace();
-			}
-        } 
-        if (iData.generateFullPDF) { 
-        	boolean fullPDF = true;
-			try {
-	        	for (int i=0; i < iData.matrixFiles.size();i++) {
-			        iFile = iData.matrixFiles.get(i);
-			        if (iData.pdfMatrices !=null) {
-			        	createDetailImg(iFile.getMap(), iData, iData.pdfMatrices.get(i));
-			        }
-	        	}
-		        int size = iData.pdfMatrices.get(0).length;
-	        	for (int i=0; i < iData.rowData.classFiles.size();i++) {
-	        		InputClass iClass = iData.rowData.classFiles.get(i);
-	        		iClass.createClassSummaryImg(size);
-	        		iClass.createClassLegendImg();
-	        	}
-        		iData.rowData.createTopItemsImg(iData.rowData.classArray.length - 1);
-				size = iData.pdfMatrices.get(0)[0].length;
-	        	for (int i=0; i < iData.colData.classFiles.size();i++) {
-	        		InputClass iClass = iData.colData.classFiles.get(i);
-	        		iClass.createClassSummaryImg(size);
-	        		iClass.createClassLegendImg();
-	        	}
-        		iData.colData.createTopItemsImg(iData.colData.classArray.length - 1);
-				PdfGenerator pGen = new PdfGenerator();
-				if (iData.rowData.dendroMatrix != null) {
-					Float sizeTo = new Float( new Float(iData.rowData.dendroMatrix[0].length*5-1)/ new Float(120));  // mapWidth divided by 120 to get inch width of map. 120 is a bit of a fudge factor to try to figure out how many points per inch on the PDF
-					iData.rowData.dendroImage = createRowDendroImg(iData, sizeTo);
-				}
-				if (iData.colData.dendroMatrix != null) {
-					Float sizeTo = new Float( new Float((iData.colData.dendroMatrix[0].length*5-1))/ new Float(120));  // mapWidth divided by 120 to get inch width of map, x65% to get approximate size on page
-					iData.colData.dendroImage = createColDendroImg(iData, sizeTo);
-				}
-				pGen.createHeatmapPDF(iData, fullPDF); 
-			} catch (Exception ex) {
-				System.out.println("Exception in HeatmapDataGenerator.main. Error generating PDF: " + ex.toString());  
-				ex.printStackTrace();
-			}
-        }
-		//Generate zipped .ngchm file
-        if (iData.generateNGCHM) {
-        	try {
-        		zipDirectory(iData.outputDir, iData.chmName);
-			} catch (Exception ex) {
-				System.out.println("Exception in HeatmapDataGenerator.main. Error generating NGCHM zip file: " + ex.toString());  
-				ex.printStackTrace();
-			}
-        }
+		generatePDFs(iData);
+
+		//Complete zipped .ngchm file (its entries are written as the map's files are generated)
+		try {
+			iData.output.close();
+		} catch (Exception ex) {
+			System.out.println("Exception in HeatmapDataGenerator.main. Error generating NGCHM zip file: " + ex.toString());  
+			ex.printStackTrace();
+			iData.output.abort();
+		}
 
     	//Generate combined .ngchm, js, embedded html file
         if (iData.generateHTML) {
@@ -320,6 +261,71 @@ public class HeatmapDataGenerator {
 	   }
 	}
 	
+	/*******************************************************************
+	 * METHOD: generatePDFs
+	 *
+	 * This method generates the heat map PDF and/or full PDF from the
+	 * PDF matrices, covariate bars, and dendrograms of a map.  It is
+	 * called at the end of a build and by MapPdfGenerator when the PDF
+	 * of an already built map is regenerated.  It returns false if a PDF
+	 * could not be generated.
+	 ******************************************************************/
+	public static boolean generatePDFs(ImportData iData) {
+		boolean success = true;
+        if ((iData.generatePDF) && (iData.readMatrices.equals(YES))) {
+        	boolean fullPDF = false;
+			try {
+		        int size = iData.pdfMatrices.get(0).rows;
+	        	InputClass.createClassSummaryImgs(iData.rowData.classFiles, size);
+	        	for (int i=0; i < iData.rowData.classFiles.size();i++) {
+	        		InputClass iClass = iData.rowData.classFiles.get(i);
+	        		iClass.createClassLegendImg();
+	        	}
+        		iData.rowData.createTopItemsImg(iData.rowData.classArray.length - 1);
+				size = iData.pdfMatrices.get(0).cols;
+	        	InputClass.createClassSummaryImgs(iData.colData.classFiles, size);
+	        	for (int i=0; i < iData.colData.classFiles.size();i++) {
+	        		InputClass iClass = iData.colData.classFiles.get(i);
+	        		iClass.createClassLegendImg();
+	        	}
+        		iData.colData.createTopItemsImg(iData.colData.classArray.length - 1);
+				PdfGenerator pGen = new PdfGenerator();
+				success = pGen.createHeatmapPDF(iData, fullPDF) && success;
+			} catch (Exception ex) {
+				System.out.println("Exception in HeatmapDataGenerator.main. Error generating PDF: " + ex.toString());  
+				ex.printStackTrace();
+				success = false;
+			}
+        } 
+        if (iData.generateFullPDF) { 
+        	boolean fullPDF = true;
+			try {
+				//Full PDF covariate bars have a pixel per row/col (pages draw slices of them)
+		        int size = iData.matrixFiles.get(0).rows;
+	        	InputClass.createClassSummaryImgs(iData.rowData.classFiles, size);
+	        	for (int i=0; i < iData.rowData.classFiles.size();i++) {
+	        		InputClass iClass = iData.rowData.classFiles.get(i);
+	        		iClass.createClassLegendImg();
+	        	}
+        		iData.rowData.createTopItemsImg(iData.rowData.classArray.length - 1);
+				size = iData.matrixFiles.get(0).cols;
+	        	InputClass.createClassSummaryImgs(iData.colData.classFiles, size);
+	        	for (int i=0; i < iData.colData.classFiles.size();i++) {
+	        		InputClass iClass = iData.colData.classFiles.get(i);
+	        		iClass.createClassLegendImg();
+	        	}
+        		iData.colData.createTopItemsImg(iData.colData.classArray.length - 1);
+				PdfGenerator pGen = new PdfGenerator();
+				success = pGen.createHeatmapPDF(iData, fullPDF) && success;
+			} catch (Exception ex) {
+				System.out.println("Exception in HeatmapDataGenerator.main. Error generating PDF: " + ex.toString());  
+				ex.printStackTrace();
+				success = false;
+			}
+        }
+		return success;
+	}
+
 	/*====================================================================
 	 * BEGIN: DATA TILE FILE WRITING METHODS
 	 *
@@ -339,13 +345,17 @@ public class HeatmapDataGenerator {
 		try {
 			// Loop thru ImportData object processing for each ImportDataLayer
 			InputFile iFile = iData.matrixFiles.get(position);
-			float[][] clusteredMatrix = iFile.getReorderedInputMatrix(iData.rowData, iData.colData);
+			MatrixStatistics stats = new MatrixStatistics(iFile.cols);
+			float[][] clusteredMatrix = iFile.getReorderedInputMatrix(iData.rowData, iData.colData, stats);
 
 			if (iFile.map.colors.isEmpty()) {
-				iFile.map = ColorMapGenerator.getDefaultMapColors(iFile, clusteredMatrix);
+				iFile.map = ColorMapGenerator.getDefaultMapColors(iFile, stats);
+			}
+			if (iFile.map.type.equals(COLORTYPE_QUANTILE)) {
+				ColorMapGenerator.setQuantileBreaks(iFile.map, stats);
 			}
 			if (iData.generateFullPDF) {
-				iFile.createDistributionLegendImg(clusteredMatrix);
+				iFile.createDistributionLegendImg(stats);
 			}
 			ArrayList<ImportLayerData> iLayers = iFile.importLayers;
 			for (int i=0; i < iLayers.size(); i++) {
@@ -353,24 +363,15 @@ public class HeatmapDataGenerator {
 				// Create thumbnail float value array for ONLY the first data layer processed.
 				if (ilData.layer.equals(LAYER_THUMBNAIL)) {
 					if (iFile.position.equals("DataLayer1")) {
-						iData.tnMatrix = new Float[ilData.rowsPerTile][ilData.colsPerTile];
+						iData.tnMatrix = new RasterBuffer(ilData.rowsPerTile, ilData.colsPerTile);
 					}
-					if (!iFile.hasSummary) {
-						iData.pdfMatrices.add(new Float[ilData.rowsPerTile][ilData.colsPerTile]);
+					if (!iFile.hasSummary && (iData.generatePDF)) {
+						iData.pdfMatrices.add(new RasterBuffer(ilData.rowsPerTile, ilData.colsPerTile));
 					}
 				}
+				// The full PDF reads the tiles of the full resolution level back from disk (see PdfGenerator)
 				if (ilData.layer.equals(LAYER_SUMMARY) && (iData.generatePDF)) {
-					iData.pdfMatrices.add(new Float[ilData.totalLevelRows][ilData.totalLevelCols]);
-				}
-				else if (iData.generateFullPDF) {
-					// if it has detail tiles, use those, if not revert to summary. if not summary, then thumbnail
-					if (ilData.layer.equals(LAYER_THUMBNAIL) && !iFile.hasSummary) {
-						iData.pdfMatrices.add(new Float[ilData.totalLevelRows][ilData.totalLevelCols]);
-					} else if (ilData.layer.equals(LAYER_SUMMARY) && !iFile.hasDetail) {
-						iData.pdfMatrices.add(new Float[ilData.totalLevelRows][ilData.totalLevelCols]);
-					} else if (ilData.layer.equals(LAYER_DETAIL)) {
-						iData.pdfMatrices.add(new Float[ilData.totalLevelRows][ilData.totalLevelCols]);
-					}
+					iData.pdfMatrices.add(new RasterBuffer(ilData.totalLevelRows, ilData.totalLevelCols));
 				}
 				
 				if (ilData.layer.equals(LAYER_SUMMARY)) {
@@ -397,8 +398,6 @@ public class HeatmapDataGenerator {
 			if (DEBUG) {
 				writeClusteredDebugFile(iData, iFile, clusteredMatrix, (position+1));
 			}
-	    	clusteredMatrix = null;
-	    	System.gc();
 		} catch (Exception ex) {
 	    	System.out.println("Exception writing tile files: "+ ex.toString());
 			throw ex;
@@ -420,11 +419,6 @@ public class HeatmapDataGenerator {
 			InputFile iFile = iData.matrixFiles.get(position);
 			String dlDir = "dl"+(position+1);
 
-			//If tile destination dir does not exist, create directory.
-	    	File dataDir = new File(iData.outputDir+File.separator+dlDir+File.separator+ilData.layer);
-	    	if (!dataDir.exists()) {
-	    		dataDir.mkdirs();
-	    	} 
 //	    	boolean writeTiles = true;
 //			File tileFile = new File(iData.outputDir+File.separator+dlDir+File.separator+itData.fileName);
 //			if (tileFile.exists()) {
@@ -432,7 +426,7 @@ public class HeatmapDataGenerator {
 //			}
 	        
 			if (iData.writeTiles.equals(YES)) {
-				write = new BufferedOutputStream(new FileOutputStream(iData.outputDir+File.separator+dlDir+File.separator+itData.fileName));
+				write = new BufferedOutputStream(iData.output.open(dlDir+File.separator+itData.fileName));
 			}
 			int rowStart = itData.rowStartPos, rowEnd = itData.rowEndPos;
 			int colStart = itData.colStartPos, colEnd = itData.colEndPos; 
@@ -441,7 +435,7 @@ public class HeatmapDataGenerator {
 			int nextRowWrite = getNextRowWrite(ilData, rowStart);
 			int nextCol = getNextColWrite(ilData, colStart);
 			DataOutputStream writeRow=null;
-			if (DEBUG) { writeRow = new DataOutputStream(new FileOutputStream(iData.outputDir+File.separator+dlDir+File.separator+itData.fileName + TXT_FILE));  }//For debugging: writes out file
+			if (DEBUG) { writeRow = new DataOutputStream(iData.output.open(dlDir+File.separator+itData.fileName + TXT_FILE));  }//For debugging: writes out file
 			int rowctr = 0;
 			int colctr = 0;
 			for (int row = rowStart; row < rowEnd; row++) {
@@ -454,34 +448,16 @@ public class HeatmapDataGenerator {
 							float v = getMatrixValue(iData,ilData,iFile,row,col,clusteredMatrix); 
 							if (ilData.layer.equals(LAYER_THUMBNAIL)) {
 								if (iFile.position.equals("DataLayer1")) {
-									iData.tnMatrix[rowctr][colctr] = v;
+									iData.tnMatrix.set(rowctr, colctr, v);
 								}
-								if (!iFile.hasSummary) {
-									iData.pdfMatrices.get(position)[rowctr][colctr] = v;
+								if (!iFile.hasSummary && (iData.generatePDF)) {
+									iData.pdfMatrices.get(position).set(rowctr, colctr, v);
 								}
 							}
 							if (ilData.layer.equals(LAYER_SUMMARY) && (iData.generatePDF)) {
 								int rowPos = itData.rowStartPos == 1 ? rowctr : ilData.rowsPerTile + rowctr;
 								int colPos = itData.colStartPos == 1 ? colctr : ilData.colsPerTile + colctr;
-								iData.pdfMatrices.get(position)[rowPos][colPos] = v;
-							} else if (iData.generateFullPDF) {
-								if (ilData.layer.equals(LAYER_THUMBNAIL) && !iFile.hasSummary) {
-									int rowPos = itData.rowStartPos == 1 ? rowctr : rowStart + rowctr;
-									int colPos = itData.colStartPos == 1 ? colctr : colStart + colctr;
-									iData.pdfMatrices.get(position)[rowPos][colPos] = v;
-								} else if (ilData.layer.equals(LAYER_SUMMARY) && !iFile.hasDetail) {
-									int rowPos = itData.rowStartPos == 1 ? rowctr : ilData.rowsPerTile + rowctr;
-									int colPos = itData.colStartPos == 1 ? colctr : ilData.colsPerTile + colctr;
-									iData.pdfMatrices.get(position)[rowPos][colPos] = v;
-								} else if (ilData.layer.equals(LAYER_DETAIL)) {
-									int rowPos = itData.rowStartPos == 1 ? rowctr : rowStart - 1 + rowctr;
-									int colPos = itData.colStartPos == 1 ? colctr : colStart - 1 + colctr;
-									iData.pdfMatrices.get(position)[rowPos][colPos] = v;
-								} else if ((ilData.layer.equals(LAYER_RIBBONVERT) || ilData.layer.equals(LAYER_RIBBONHORIZ)) && !iFile.hasDetail) {
-									int rowPos = itData.rowStartPos == 1 ? rowctr : rowStart + rowctr;
-									int colPos = itData.colStartPos == 1 ? colctr : colStart + colctr;
-									iData.pdfMatrices.get(position)[rowPos][colPos] = v;
-								}
+								iData.pdfMatrices.get(position).set(rowPos, colPos, v);
 							}
 							byte f[] = ByteBuffer.allocate(4).putFloat(v).array();
 							if (DEBUG) { valprint = valprint + TAB + v; } //For debugging: writes out file
@@ -723,14 +699,15 @@ public class HeatmapDataGenerator {
 	 * rowData and colData JSON subschemas are written to the file. The 
 	 * rowData subschema contains row label data, row dendrogram data, and
 	 * row classification (covariate) data.  The colData subschem contains
-	 * similar data for the heatMap columns.
+	 * similar data for the heatMap columns.  When requested, the binary
+	 * mapData file (an indexed copy of the same data that can be read
+	 * by range) is written as well.
 	 ******************************************************************/
    	private static void writeMapDataFile(ImportData iData, ImportLayerData summaryLayer) throws Exception {
-		DataOutputStream writer = null;
-		OutputStreamWriter fw = null;
+		buildCovariatePyramids(iData);
+		JsonStreamWriter fw = null;
 		try {
-			writer = new DataOutputStream(new FileOutputStream(iData.outputDir+File.separator+MAP_DATA_FILE));
-			fw = new OutputStreamWriter(writer, UTF8);
+			fw = new JsonStreamWriter(iData.output.open(MAP_DATA_FILE));
 			//Write out row_data JSON section
 	        fw.write(BRACE_OPEN+ROWDATA_LABEL+BRACE_OPEN);
 	        writeLabels(fw, iData, true);
@@ -747,11 +724,38 @@ public class HeatmapDataGenerator {
 			System.out.println("Exception Writing mapData.JSON file: " + ex.toString());  
 	        throw ex;
 	    } finally {
-			fw.close();
-			writer.close();
+	    	if (fw != null) {
+	    		fw.close();
+	    	}
 	    }
+		if (iData.writeBinaryData) {
+			try {
+				BinaryMapData.writeMapDataBinary(iData);
+			} catch (Exception ex) {
+				System.out.println("Exception Writing binary mapData file: " + ex.toString());  
+		        throw ex;
+			}
+		}
 	}
 			
+	/*******************************************************************
+	 * METHOD: buildCovariatePyramids
+	 *
+	 * This method builds the reduced resolution (thumbnail and summary)
+	 * levels of every row and column classification bar.  These are used
+	 * to write the svalues subschema of mapData.JSON and the pyramid 
+	 * sections of the binary mapData file.
+	 ******************************************************************/
+	private static void buildCovariatePyramids(ImportData iData) throws Exception {
+		List<ImportLayerData> layers = iData.matrixFiles.get(0).importLayers;
+		for (InputClass iClass : iData.rowData.classFiles) {
+			iClass.pyramid = CovariatePyramid.build(iClass.column, layers, true);
+		}
+		for (InputClass iClass : iData.colData.classFiles) {
+			iClass.pyramid = CovariatePyramid.build(iClass.column, layers, false);
+		}
+	}
+		
 	/*******************************************************************
 	 * METHOD: writeLabels
 	 *
@@ -761,7 +765,7 @@ public class HeatmapDataGenerator {
 	 * stored on the ImportData object is traversed pulling either row or 
 	 * column headers from the matrix in clustered order.
 	 ******************************************************************/
-	private static void writeLabels(OutputStreamWriter w, ImportData iData, boolean isRowFile) throws Exception {	
+	private static void writeLabels(JsonStreamWriter w, ImportData iData, boolean isRowFile) throws Exception {	
 		// Build String constants
 		// Loop thru import layers and write out structure data for each.
 		if (isRowFile) {
@@ -770,14 +774,14 @@ public class HeatmapDataGenerator {
 		    w.write(LABEL_LABEL+BRACE_OPEN+LABEL_TYPE_LABEL+BRACKET_OPEN);
 		    //Write data types - can be more than one.
 		    for (int i = 0; i < iData.rowData.dataTypes.length; i++) { 
-		    	w.write(QUOTE+iData.rowData.dataTypes[i]+QUOTE);
+		    	w.writeString(iData.rowData.dataTypes[i]);
 		    	if (i < iData.rowData.dataTypes.length-1) w.write(COMMA);
 		    }
 		    w.write(BRACKET_CLOSE+COMMA+LABELS_LABEL+BRACKET_OPEN);
 	        for (int row = 1; row < iData.rowData.classArray.length; row++) {
 	        	String initLabel = iData.rowData.classArray[row].equals(CUT_VALUE) ? "" : iData.rowData.classArray[row];
 	        	String label = addExtra(initLabel, extraLabelInfo);
-        	    w.write(QUOTE+label+QUOTE);
+        	    w.writeString(label);
 				if (row < (iData.rowData.classArray.length-1)) {
 					w.write(COMMA);
 				}
@@ -788,14 +792,14 @@ public class HeatmapDataGenerator {
 		    w.write(LABEL_LABEL+BRACE_OPEN+LABEL_TYPE_LABEL+BRACKET_OPEN);
 		    //Write data types - can be more than one.
 		    for (int i = 0; i < iData.colData.dataTypes.length; i++) { 
-		    	w.write(QUOTE+iData.colData.dataTypes[i]+QUOTE);
+		    	w.writeString(iData.colData.dataTypes[i]);
 		    	if (i < iData.colData.dataTypes.length-1) w.write(COMMA);
 		    }
 		    w.write(BRACKET_CLOSE+COMMA+LABELS_LABEL+BRACKET_OPEN);
 	        for (int col = 1; col < iData.colData.classArray.length; col++) {
 	        	String initLabel = iData.colData.classArray[col].equals(CUT_VALUE) ? "" : iData.colData.classArray[col];
 	        	String label = addExtra(initLabel, extraLabelInfo);
-        	    w.write(QUOTE+label+QUOTE);
+        	    w.writeString(label);
 				if (col < (iData.colData.classArray.length-1)) {
 					w.write(COMMA);
 				}
@@ -817,7 +821,7 @@ public class HeatmapDataGenerator {
 	 * label from the matrix and the second column being the string to append
 	 * to the label with the '|' character.
 	 *******************************************************************/
-	private static HashMap<String, String> loadExtraLabel(String extraLabelFile) throws Exception {
+	public static HashMap<String, String> loadExtraLabel(String extraLabelFile) throws Exception {
 		HashMap<String, String> extraLabelInfo = new HashMap<String, String>();
 		if (extraLabelFile != null ) {
 			BufferedReader br = new BufferedReader(new FileReader(extraLabelFile));
@@ -841,7 +845,7 @@ public class HeatmapDataGenerator {
 	 * 
 	 * Helper method to lookup and add extra hidden fields to labels.
 	 ******************************************************************/
-	private static String addExtra(String label, HashMap<String, String> extraLabelInfo) throws Exception {
+	public static String addExtra(String label, HashMap<String, String> extraLabelInfo) throws Exception {
 		// To accommodate tree cuts in data with blank label
 		if (label == null) {
 			label = EMPTY;
@@ -865,15 +869,15 @@ public class HeatmapDataGenerator {
 	 * second method is called that writes out the dendrogram data for
 	 * the row/col to mapData.
 	 ******************************************************************/
-	private static void writeDataDendrogram(OutputStreamWriter fw, ImportData iData, boolean isRowFile) throws Exception {
+	private static void writeDataDendrogram(JsonStreamWriter fw, ImportData iData, boolean isRowFile) throws Exception {
 		if (isRowFile) {
 			if (iData.rowData.dendroFile != null) {
-				populateDendrogramData(iData.rowData.dendroValues, fw, iData);
+				populateDendrogramData(iData.rowData.dendrogram, fw, iData);
 				fw.write(BRACKET_CLOSE);
 	        }
 		} else {
 	        if (iData.colData.dendroFile!= null) {
-				populateDendrogramData(iData.colData.dendroValues, fw, iData);
+				populateDendrogramData(iData.colData.dendrogram, fw, iData);
 				fw.write(BRACKET_CLOSE);
 	        }
 		}
@@ -883,22 +887,12 @@ public class HeatmapDataGenerator {
 	 * METHOD: populateDendrogramData
 	 *
 	 * This method writes out the dendrogram JSON subschema data to the 
-	 * mapData.JSON file. A given row/col dendrogram file is traversed
-	 * and data is written out to an outputStreamWriter for the mapData
-	 * JSON file.
+	 * mapData.JSON file. The bars of a given row/col dendrogram are 
+	 * streamed from its arrays to the mapData JSON file.
 	 ******************************************************************/
-	private static void populateDendrogramData(List<String> dendroValues, OutputStreamWriter fw, ImportData iData) throws Exception {
-        boolean firstTimeThrough = true;
+	private static void populateDendrogramData(Dendrogram dendrogram, JsonStreamWriter fw, ImportData iData) throws Exception {
         fw.write(COMMA+DENDROGRAM_LABEL+BRACKET_OPEN);
-        for (int i=0; i<dendroValues.size();i++) {
-            if (firstTimeThrough){
-                firstTimeThrough = false;
-            } else {
-                fw.write(COMMA);
-            }
-            String dendroLineData = dendroValues.get(i);
-            fw.write(QUOTE+dendroLineData+QUOTE);
-        }
+        dendrogram.writeJson(fw);
 	}
 	/*******************************************************************
 	 * METHOD: writeClassifications
@@ -911,7 +905,7 @@ public class HeatmapDataGenerator {
 	 * data and then a second method is called that writes out the classification 
 	 * data for the row/col to mapData.
 	 ******************************************************************/
-	private static void writeDataClassifications(OutputStreamWriter fw, ImportData iData, ImportLayerData ilData, boolean isRowFile) throws Exception {
+	private static void writeDataClassifications(JsonStreamWriter fw, ImportData iData, ImportLayerData ilData, boolean isRowFile) throws Exception {
 		int rowInterval = (ilData!=null) ? ilData.rowInterval : 1;
 		int colInterval = (ilData!=null) ? ilData.colInterval : 1;
         fw.write(COMMA+CLASSIFICATIONS_LABEL+BRACE_OPEN);
@@ -921,7 +915,7 @@ public class HeatmapDataGenerator {
 			} else {
 		        for (int i=0;i<iData.rowData.classFiles.size();i++) {
 		        	InputClass currInput = iData.rowData.classFiles.get(i);
-		        	populateClassifications(currInput, currInput.orderedClass, fw, rowInterval, isRowFile);
+		        	populateClassifications(currInput, fw, rowInterval, isRowFile);
 	        		fw.write(BRACE_CLOSE);
 		        	if (i != iData.rowData.classFiles.size() - 1) {
 		        		fw.write(COMMA);
@@ -934,7 +928,7 @@ public class HeatmapDataGenerator {
 			} else {
 		        for (int i=0;i<iData.colData.classFiles.size();i++) {
 		        	InputClass currInput = iData.colData.classFiles.get(i);
-		        	populateClassifications(currInput, currInput.orderedClass, fw, colInterval, isRowFile);
+		        	populateClassifications(currInput, fw, colInterval, isRowFile);
 	        		fw.write(BRACE_CLOSE);
 		        	if (i != iData.colData.classFiles.size() - 1) {
 		        		fw.write(COMMA);
@@ -948,61 +942,36 @@ public class HeatmapDataGenerator {
 	 * METHOD: populateClassifications
 	 *
 	 * This method writes out the classification JSON subschema data to the 
-	 * mapData.JSON file. The re-ordered classification data passed into
-	 * this method is traversed and data is written out to an outputStreamWriter 
+	 * mapData.JSON file. The re-ordered classification data (the original
+	 * text of continuous values, the dictionary values of discrete values)
+	 * is traversed and data is written out to an outputStreamWriter 
 	 * for the mapData JSON file.  If more than summary level data exists
 	 * for the heatMap, a second subschema (svalues) that is sampled at
 	 * the summary level using the summary interval, is written to the
-	 * JSON file in addition to the values subschema.
+	 * JSON file in addition to the values subschema.  The svalues are the
+	 * summary level of the classification's CovariatePyramid (the mean of
+	 * each interval for continuous bars, the most frequent value for 
+	 * discrete bars).
 	 ******************************************************************/
-	private static void populateClassifications(InputClass currFile, String classData[], OutputStreamWriter fw, int interval, boolean isRowFile) throws Exception {
-        fw.write(QUOTE+currFile.name+QUOTE+COLON+LINE_FEED+BRACE_OPEN);
+	private static void populateClassifications(InputClass currFile, JsonStreamWriter fw, int interval, boolean isRowFile) throws Exception {
+		CovariateColumn column = currFile.column;
+        fw.writeString(currFile.name);
+        fw.write(COLON+LINE_FEED+BRACE_OPEN);
         fw.write(QUOTE+"values"+QUOTE+COLON+LINE_FEED+TAB+TAB+BRACKET_OPEN);
         boolean isDiscrete = currFile.map.type.equals(COLORTYPE_DISCRETE) ? true : false;
         // Write out a separate "values" node containing values for the classification file
-        for (int row = 1; row < classData.length; row++) {
-        	writeClassValue(classData[row], row, classData.length, fw, 1, isDiscrete);
+        for (int row = 1; row < column.length; row++) {
+        	String val = (currFile.orderedClass != null) ? currFile.orderedClass[row] : column.missing.get(row) ? null : column.getString(row);
+        	writeClassValue(val, row, column.length, fw, 1, isDiscrete);
         }
         // Write out a separate "svalues" node containing values for the classification file
         // this dataset will be sampled at the same level as the summary layer.
-        if (interval > 1) {
-        	int sValen = (classData.length-1)/interval;
-        	float remn = ((float)classData.length-1)/interval%1;
-        	if (remn > 0) {
-        		sValen++;
-        	}
-    		String sValArr[] = new String[sValen+1];
-    		int sValCtr = 0;
+        CovariatePyramid.Level sLevel = currFile.pyramid.getLevel(LAYER_SUMMARY);
+        if ((interval > 1) && (sLevel != null)) {
 	        fw.write(COMMA+QUOTE+"svalues"+QUOTE+COLON+LINE_FEED+BRACKET_OPEN);
-	        float aggrVal = 0;
-	        int cutCtr = 0;
-	        for (int row = 1; row < classData.length; row++) {
-	        	int adjustedPos = row - 1;
-	    		float remainder = ((float)adjustedPos/interval)%1;
-	    		String dataItem = classData[row] == null ? "NA" : classData[row];
-	    		if (currFile.map.type.equals(COLORTYPE_CONTINUOUS)) {
-	    			if (dataItem.equals(CUT_VALUE) || NA_VALUES.contains(dataItem)) {
-	    				cutCtr++;
-	    			} else {
-	    				aggrVal = aggrVal+Float.parseFloat(dataItem);
-	    			}
-	    		}
-	    		if (remainder == 0) {
-		    		if (currFile.map.type.equals(COLORTYPE_CONTINUOUS)) {
-		    			if ((aggrVal == 0) && (dataItem.equals(CUT_VALUE) || NA_VALUES.contains(dataItem))) {
-			    			writeClassValue(dataItem, row, classData.length, fw, interval, isDiscrete);
-		    			} else {
-			    			String avgVal = Float.toString(aggrVal/(interval-cutCtr));
-			    			writeClassValue(avgVal, row, classData.length, fw, interval, isDiscrete);
-		    			}
-		    		} else {
-		    			writeClassValue(dataItem, row, classData.length, fw, interval, isDiscrete);
-		    		}
-		        	sValCtr++;
-		        	sValArr[sValCtr] = classData[row];
-		        	aggrVal = 0;
-		        	cutCtr = 0;
-	    		} 
+	        for (int i = 0; i < sLevel.count; i++) {
+	        	fw.writeString(currFile.pyramid.getValue(sLevel, i));
+	        	fw.write(i < sLevel.count-1 ? COMMA : BRACKET_CLOSE);
 	        }
         } 
     	fw.write(LINE_FEED);
@@ -1015,8 +984,8 @@ public class HeatmapDataGenerator {
 	 * write out string and numeric values to the classifications subschema
 	 * in the mapData.JSON file. 
 	 ******************************************************************/
-	private static void writeClassValue(String val, int row, int len, OutputStreamWriter fw, int interval, boolean discrete) throws Exception {
-		fw.write(QUOTE+val+QUOTE);
+	private static void writeClassValue(String val, int row, int len, JsonStreamWriter fw, int interval, boolean discrete) throws Exception {
+		fw.writeString(val);
     	if (row+interval < len) {
     		fw.write(COMMA);
     	} else {
@@ -1052,11 +1021,9 @@ public class HeatmapDataGenerator {
 	 *                     for the map. 
 	 ******************************************************************/
    	private static void writeMapConfigFile(ImportData iData) throws Exception {
-		DataOutputStream writer = null;
-		OutputStreamWriter fw = null;
+		JsonStreamWriter fw = null;
 		try {
-			writer = new DataOutputStream(new FileOutputStream(iData.outputDir+File.separator+MAP_CONFIG_FILE));
-			fw = new OutputStreamWriter(writer, UTF8);
+			fw = new JsonStreamWriter(iData.output.open(MAP_CONFIG_FILE));
 			//Write out data configuration JSON section
 	        fw.write(BRACE_OPEN+DATA_CONFIG_LABEL+BRACE_OPEN);
 	        writeMapInformation(fw, iData);
@@ -1084,8 +1051,9 @@ public class HeatmapDataGenerator {
 			System.out.println("Exception Writing mapConfig.JSON file: " + ex.toString());  
 	        throw ex;
 	    } finally {
-	    	fw.close();
-	    	writer.close();
+	    	if (fw != null) {
+	    		fw.close();
+	    	}
 	    }
 	}
 				           
@@ -1097,27 +1065,29 @@ public class HeatmapDataGenerator {
 	 * data for the heatmap name, description, and any attributes provided
 	 * to the builder are written out.
 	 ******************************************************************/
-	private static void writeMapInformation(OutputStreamWriter fw, ImportData iData)  throws Exception {
+	private static void writeMapInformation(JsonStreamWriter fw, ImportData iData)  throws Exception {
         fw.write(MAP_INFO_LABEL+BRACE_OPEN);
-        fw.write(NAME_LABEL+QUOTE+iData.chmName+QUOTE+COMMA);
-        fw.write(DESC_LABEL+QUOTE+iData.chmDescription+QUOTE+COMMA);
-        fw.write(BUILDER_VER_LABEL+QUOTE+iData.builderVersion+QUOTE+COMMA);
-        fw.write(READ_ONLY_LABEL+QUOTE+iData.readOnly+QUOTE+COMMA);
-        fw.write(VERSION_LABEL+QUOTE+CURRENT_GENERATOR_VERSION+QUOTE+COMMA);
+        fw.writeProperty(NAME_LABEL, iData.chmName, true);
+        fw.writeProperty(DESC_LABEL, iData.chmDescription, true);
+        fw.writeProperty(BUILDER_VER_LABEL, iData.builderVersion, true);
+        fw.writeProperty(READ_ONLY_LABEL, iData.readOnly, true);
+        fw.writeProperty(VERSION_LABEL, CURRENT_GENERATOR_VERSION, true);
         fw.write(LABEL_LENGTH_LABEL+LABEL_LENGTH_DEFAULT+COMMA);
         fw.write(LABEL_TRUNCATION_LABEL+LABEL_TRUNCATE_DEFAULT+COMMA);
-        fw.write(SUMMARY_WIDTH_LABEL+QUOTE+iData.summaryWidth+QUOTE+COMMA);
-        fw.write(SUMMARY_HEIGHT_LABEL+QUOTE+iData.summaryHeight+QUOTE+COMMA);
-        fw.write(DETAIL_WIDTH_LABEL+QUOTE+iData.detailWidth+QUOTE+COMMA);
-        fw.write(DETAIL_HEIGHT_LABEL+QUOTE+iData.detailHeight+QUOTE+COMMA);
+        fw.writeProperty(SUMMARY_WIDTH_LABEL, iData.summaryWidth, true);
+        fw.writeProperty(SUMMARY_HEIGHT_LABEL, iData.summaryHeight, true);
+        fw.writeProperty(DETAIL_WIDTH_LABEL, iData.detailWidth, true);
+        fw.writeProperty(DETAIL_HEIGHT_LABEL, iData.detailHeight, true);
         int cutRows = iData.rowData.cutLocations.length*iData.rowData.cutWidth;
         int cutCols = iData.colData.cutLocations.length*iData.colData.cutWidth;
-        fw.write(MAP_CUT_ROWS_LABEL+QUOTE+cutRows+QUOTE+COMMA);
-        fw.write(MAP_CUT_COLS_LABEL+QUOTE+cutCols+QUOTE+COMMA);
+        fw.writeProperty(MAP_CUT_ROWS_LABEL, cutRows, true);
+        fw.writeProperty(MAP_CUT_COLS_LABEL, cutCols, true);
         fw.write(ATTRS_LABEL+BRACE_OPEN);
         for (int i=0;i<iData.chmAttributes.size();i++) {
         	AttributeData ad = iData.chmAttributes.get(i);
-	        fw.write(QUOTE+ad.attributeName+QUOTE+COLON+QUOTE+ad.attributeValue+QUOTE);
+	        fw.writeString(ad.attributeName);
+	        fw.write(COLON);
+	        fw.writeString(ad.attributeValue);
         	if (i != (iData.chmAttributes.size() - 1)) {
         		fw.write(COMMA);
         	}
@@ -1134,14 +1104,15 @@ public class HeatmapDataGenerator {
 	 * always be written.  The levels  below will be written to the file if 
 	 * they are generated.
 	 ******************************************************************/
-	private static void writeMapStructure(OutputStreamWriter w, ImportData iData)  throws Exception {	
+	private static void writeMapStructure(JsonStreamWriter w, ImportData iData)  throws Exception {	
 		InputFile iFile = iData.matrixFiles.get(0);
 		w.write(LEVELS_LABEL+BRACE_OPEN);
 		// Loop thru import layers and write out structure data for each.
 		for (int i=0; i < iFile.importLayers.size(); i++) {
 			ImportLayerData ilData = iFile.importLayers.get(i);
 			// Write out the Thumbnail file structure data.
-			w.write(QUOTE+ilData.layer+QUOTE+COLON);
+			w.writeString(ilData.layer);
+			w.write(COLON);
 			w.write(BRACE_OPEN);
 			w.write(TILEROWS_LABEL+ilData.rowTiles);
 			w.write(COMMA+TILECOLS_LABEL+ilData.colTiles);
@@ -1170,17 +1141,18 @@ public class HeatmapDataGenerator {
 	 * a method to write the colormap configuration for the data layer into
 	 * the mapConfig.JSON file.
 	 ******************************************************************/
-	private static void writeDataLayers(OutputStreamWriter fw, ImportData iData)  throws Exception {	
+	private static void writeDataLayers(JsonStreamWriter fw, ImportData iData)  throws Exception {	
         fw.write(DATA_LAYER_LABEL+BRACE_OPEN);
 		// Build String constants
 		for (int i=0; i < iData.matrixFiles.size(); i++) {
 			InputFile iFl = iData.matrixFiles.get(i);
-			fw.write(QUOTE+iFl.id+QUOTE+COLON+BRACE_OPEN);
-			fw.write(NAME_LABEL+QUOTE+iFl.name+QUOTE+COMMA);
-			fw.write(GRID_SHOW_LABEL+QUOTE+iFl.gridShow+QUOTE+COMMA);
-			fw.write(GRID_COLOR_LABEL+QUOTE+iFl.gridColor+QUOTE+COMMA);
-			fw.write(CUTS_COLOR_LABEL+QUOTE+iFl.cutsColor+QUOTE+COMMA);
-			fw.write(SELECTION_COLOR_LABEL+QUOTE+iFl.selectionColor+QUOTE+COMMA);
+			fw.writeString(iFl.id);
+			fw.write(COLON+BRACE_OPEN);
+			fw.writeProperty(NAME_LABEL, iFl.name, true);
+			fw.writeProperty(GRID_SHOW_LABEL, iFl.gridShow, true);
+			fw.writeProperty(GRID_COLOR_LABEL, iFl.gridColor, true);
+			fw.writeProperty(CUTS_COLOR_LABEL, iFl.cutsColor, true);
+			fw.writeProperty(SELECTION_COLOR_LABEL, iFl.selectionColor, true);
 			writeColorMap(fw, iData, i, DATA_LAYER_LABEL);
 			fw.write(BRACE_CLOSE);
 			
@@ -1197,7 +1169,7 @@ public class HeatmapDataGenerator {
 	 * This method writes out the colorMap JSON subschema of the 
 	 * data_layers AND classifications subschemas of the mapConfig.JSON file.	 
 	 ******************************************************************/
-	private static void writeColorMap(OutputStreamWriter fw, ImportData iData, int filePos, String mapType)  throws Exception {
+	private static void writeColorMap(JsonStreamWriter fw, ImportData iData, int filePos, String mapType)  throws Exception {
 		ColorMap cMap = null;
 		if (DATA_LAYER_LABEL.equals(mapType)) {
 	        InputFile iFile = iData.matrixFiles.get(filePos);
@@ -1222,29 +1194,29 @@ public class HeatmapDataGenerator {
 	 * file.  A boolean is used to drive the This subschema contains the row/col organization configuration 
 	 * for the heatmap.
 	 ******************************************************************/
-	private static void writeOrganization(OutputStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
+	private static void writeOrganization(JsonStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
 		// Build String constants
 		fw.write(ORGANIZATION_LABEL+BRACE_OPEN);
 		// Loop thru import layers and write out structure data for each.
 		if (isRowFile) {
 		    String rowOrderMethod = iData.rowData.orderMethod;
-		    fw.write(ORDER_METHOD_LABEL+QUOTE+rowOrderMethod+QUOTE+COMMA);
+		    fw.writeProperty(ORDER_METHOD_LABEL, rowOrderMethod, true);
 		    if (ORDER_HIERARCHICAL.equals(rowOrderMethod)) {
-		    	fw.write(AGGLOMERATION_LABEL+QUOTE+iData.rowData.agglomerationMethod+QUOTE+COMMA);
-		    	fw.write(DISTANCE_METRIC_LABEL+QUOTE+iData.rowData.distanceMetric+QUOTE);
+		    	fw.writeProperty(AGGLOMERATION_LABEL, iData.rowData.agglomerationMethod, true);
+		    	fw.writeProperty(DISTANCE_METRIC_LABEL, iData.rowData.distanceMetric, false);
 		    } else {
-		    	fw.write(AGGLOMERATION_LABEL+QUOTE+NONE+QUOTE+COMMA);
-		    	fw.write(DISTANCE_METRIC_LABEL+QUOTE+NONE+QUOTE);
+		    	fw.writeProperty(AGGLOMERATION_LABEL, NONE, true);
+		    	fw.writeProperty(DISTANCE_METRIC_LABEL, NONE, false);
 		    }
 		} else {
 		    String cowOrderMethod = iData.colData.orderMethod;
-		    fw.write(ORDER_METHOD_LABEL+QUOTE+cowOrderMethod+QUOTE+COMMA);
+		    fw.writeProperty(ORDER_METHOD_LABEL, cowOrderMethod, true);
 		    if (ORDER_HIERARCHICAL.equals(cowOrderMethod)) {
-		    	fw.write(AGGLOMERATION_LABEL+QUOTE+iData.colData.agglomerationMethod+QUOTE+COMMA);
-		    	fw.write(DISTANCE_METRIC_LABEL+QUOTE+iData.colData.distanceMetric+QUOTE);
+		    	fw.writeProperty(AGGLOMERATION_LABEL, iData.colData.agglomerationMethod, true);
+		    	fw.writeProperty(DISTANCE_METRIC_LABEL, iData.colData.distanceMetric, false);
 		    } else {
-		    	fw.write(AGGLOMERATION_LABEL+QUOTE+NONE+QUOTE+COMMA);
-		    	fw.write(DISTANCE_METRIC_LABEL+QUOTE+NONE+QUOTE);
+		    	fw.writeProperty(AGGLOMERATION_LABEL, NONE, true);
+		    	fw.writeProperty(DISTANCE_METRIC_LABEL, NONE, false);
 		    }
 		}
 		fw.write(BRACE_CLOSE+COMMA);
@@ -1257,13 +1229,13 @@ public class HeatmapDataGenerator {
 	 * JSON file. Configuration data written includes the maximum display
 	 * length for a label and the method for abbreviating that label.
 	 ******************************************************************/
-	private static void writeLabelConfig(OutputStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
+	private static void writeLabelConfig(JsonStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
 		RowColData data = iData.rowData;
 		if (!isRowFile) {
 			data = iData.colData;
 		}
-	    fw.write(LABEL_LENGTH_LABEL+QUOTE+data.labelMaxLength+QUOTE+COMMA);
-	    fw.write(LABEL_ABBREV_METHOD_LABEL+QUOTE+data.labelAbbrevMethod+QUOTE+COMMA);
+	    fw.writeProperty(LABEL_LENGTH_LABEL, data.labelMaxLength, true);
+	    fw.writeProperty(LABEL_ABBREV_METHOD_LABEL, data.labelAbbrevMethod, true);
 	}	
 
 	/*******************************************************************
@@ -1274,7 +1246,7 @@ public class HeatmapDataGenerator {
 	 * JSON file and are used to display specific "top" labels on the
 	 * Summary heatmap in the viewer application.
 	 ******************************************************************/
-	private static void writeTopItems(OutputStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
+	private static void writeTopItems(JsonStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {	
 		String[] topItems = iData.rowData.topItems;
 		if (!isRowFile) {
 			topItems = iData.colData.topItems;
@@ -1282,7 +1254,7 @@ public class HeatmapDataGenerator {
 	    fw.write(TOP_ITEMS_LABEL+BRACKET_OPEN);
 		if (topItems != null) {
 			for (int i=0;i<topItems.length;i++) {
-				fw.write(QUOTE+topItems[i]+QUOTE);
+				fw.writeString(topItems[i]);
 				if (i < topItems.length-1) {
 					fw.write(COMMA);
 				}
@@ -1300,23 +1272,23 @@ public class HeatmapDataGenerator {
 	 * processing. This subschema contains the dendrogram configuration 
 	 * for the heatmap.
 	 ******************************************************************/
-	private static void writeConfigDendrogram(OutputStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {
+	private static void writeConfigDendrogram(JsonStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {
         fw.write(DENDROGRAM_LABEL+BRACE_OPEN);
 		if (isRowFile) {
 	        if (iData.rowData != null) {
-		        fw.write(SHOW_LABEL+QUOTE+iData.rowData.showDendro+QUOTE+COMMA); 
-		        fw.write(HEIGHT_LABEL+QUOTE+iData.rowData.heightDendro+QUOTE); 
+		        fw.writeProperty(SHOW_LABEL, iData.rowData.showDendro, true); 
+		        fw.writeProperty(HEIGHT_LABEL, iData.rowData.heightDendro, false); 
 	        } else {
-		        fw.write(SHOW_LABEL+QUOTE+"NA"+QUOTE+COMMA); 
-		        fw.write(HEIGHT_LABEL+QUOTE+"10"+QUOTE); 
+		        fw.writeProperty(SHOW_LABEL, "NA", true); 
+		        fw.writeProperty(HEIGHT_LABEL, "10", false); 
 	        }
 		} else {
 	        if (iData.colData.dendroFile!= null) {
-		        fw.write(SHOW_LABEL+QUOTE+iData.colData.showDendro+QUOTE+COMMA); 
-		        fw.write(HEIGHT_LABEL+QUOTE+iData.colData.heightDendro+QUOTE); 
+		        fw.writeProperty(SHOW_LABEL, iData.colData.showDendro, true); 
+		        fw.writeProperty(HEIGHT_LABEL, iData.colData.heightDendro, false); 
 	        } else {
-		        fw.write(SHOW_LABEL+QUOTE+"NA"+QUOTE+COMMA); 
-		        fw.write(HEIGHT_LABEL+QUOTE+"10"+QUOTE); 
+		        fw.writeProperty(SHOW_LABEL, "NA", true); 
+		        fw.writeProperty(HEIGHT_LABEL, "10", false); 
 	        }
 		}
         fw.write(BRACE_CLOSE+COMMA);
@@ -1331,7 +1303,7 @@ public class HeatmapDataGenerator {
 	 * processing. This subschema contains the classification configuration
 	 * variable and colormap for the heatmap.
 	 ******************************************************************/
-	private static void writeConfigClassifications(OutputStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {
+	private static void writeConfigClassifications(JsonStreamWriter fw, ImportData iData, boolean isRowFile)  throws Exception {
         fw.write(CLASSIFICATIONS_LABEL+BRACE_OPEN);
 		String classOrder = BRACKET_OPEN;
 		if (isRowFile) {
@@ -1340,18 +1312,19 @@ public class HeatmapDataGenerator {
 			} else {
 		        for (int i=0;i<iData.rowData.classFiles.size();i++) {
 		        	InputClass currInput = iData.rowData.classFiles.get(i);
-		        	classOrder += QUOTE+currInput.name+QUOTE;
-					fw.write(QUOTE+currInput.name+QUOTE+COLON+BRACE_OPEN);
-					fw.write(HEIGHT_LABEL+QUOTE+currInput.height+QUOTE+COMMA);
-					fw.write(SHOW_LABEL+QUOTE+currInput.show+QUOTE+COMMA);
-			        fw.write(BAR_TYPE_LABEL+QUOTE+currInput.barType+QUOTE+COMMA);
+		        	classOrder += QUOTE+JsonStreamWriter.escape(currInput.name)+QUOTE;
+					fw.writeString(currInput.name);
+					fw.write(COLON+BRACE_OPEN);
+					fw.writeProperty(HEIGHT_LABEL, currInput.height, true);
+					fw.writeProperty(SHOW_LABEL, currInput.show, true);
+			        fw.writeProperty(BAR_TYPE_LABEL, currInput.barType, true);
 			        if (currInput.dataType != null) {
-				        fw.write(DATA_TYPE_LABEL+QUOTE+currInput.dataType+QUOTE+COMMA);
+				        fw.writeProperty(DATA_TYPE_LABEL, currInput.dataType, true);
 			        }
-			        fw.write(FG_COLOR_LABEL+QUOTE+currInput.fgColor+QUOTE+COMMA);
-			        fw.write(BG_COLOR_LABEL+QUOTE+currInput.bgColor+QUOTE+COMMA);
-			        fw.write(LOW_BOUND_LABEL+QUOTE+currInput.lowBound+QUOTE+COMMA);
-			        fw.write(HIGH_BOUND_LABEL+QUOTE+currInput.highBound+QUOTE+COMMA);
+			        fw.writeProperty(FG_COLOR_LABEL, currInput.fgColor, true);
+			        fw.writeProperty(BG_COLOR_LABEL, currInput.bgColor, true);
+			        fw.writeProperty(LOW_BOUND_LABEL, currInput.lowBound, true);
+			        fw.writeProperty(HIGH_BOUND_LABEL, currInput.highBound, true);
 					writeColorMap(fw, iData, i,ROW_CONFIG_LABEL);
 					if (i < iData.rowData.classFiles.size() - 1) {
 			        	classOrder += COMMA;
@@ -1367,18 +1340,19 @@ public class HeatmapDataGenerator {
 			} else {
 		        for (int i=0;i<iData.colData.classFiles.size();i++) {
 		        	InputClass currInput = iData.colData.classFiles.get(i);
-		        	classOrder += QUOTE+currInput.name+QUOTE;
-					fw.write(QUOTE+currInput.name+QUOTE+COLON+BRACE_OPEN);
-					fw.write(HEIGHT_LABEL+QUOTE+currInput.height+QUOTE+COMMA);
-					fw.write(SHOW_LABEL+QUOTE+currInput.show+QUOTE+COMMA);
-			        fw.write(BAR_TYPE_LABEL+QUOTE+currInput.barType+QUOTE+COMMA);
+		        	classOrder += QUOTE+JsonStreamWriter.escape(currInput.name)+QUOTE;
+					fw.writeString(currInput.name);
+					fw.write(COLON+BRACE_OPEN);
+					fw.writeProperty(HEIGHT_LABEL, currInput.height, true);
+					fw.writeProperty(SHOW_LABEL, currInput.show, true);
+			        fw.writeProperty(BAR_TYPE_LABEL, currInput.barType, true);
 			        if (currInput.dataType != null) {
-				        fw.write(DATA_TYPE_LABEL+QUOTE+currInput.dataType+QUOTE+COMMA);
+				        fw.writeProperty(DATA_TYPE_LABEL, currInput.dataType, true);
 			        }
-			        fw.write(FG_COLOR_LABEL+QUOTE+currInput.fgColor+QUOTE+COMMA);
-			        fw.write(BG_COLOR_LABEL+QUOTE+currInput.bgColor+QUOTE+COMMA);
-			        fw.write(LOW_BOUND_LABEL+QUOTE+currInput.lowBound+QUOTE+COMMA);
-			        fw.write(HIGH_BOUND_LABEL+QUOTE+currInput.highBound+QUOTE+COMMA);
+			        fw.writeProperty(FG_COLOR_LABEL, currInput.fgColor, true);
+			        fw.writeProperty(BG_COLOR_LABEL, currInput.bgColor, true);
+			        fw.writeProperty(LOW_BOUND_LABEL, currInput.lowBound, true);
+			        fw.writeProperty(HIGH_BOUND_LABEL, currInput.highBound, true);
 					writeColorMap(fw, iData, i,COL_CONFIG_LABEL);
 					if (i < iData.colData.classFiles.size() - 1) {
 			        	classOrder += COMMA;
@@ -1411,7 +1385,7 @@ public class HeatmapDataGenerator {
 		OutputStreamWriter w = null;
 		try {
 			String dlDir = "dl"+fileNo;
-			writeRow = new DataOutputStream(new FileOutputStream(iData.outputDir+File.separator+dlDir+File.separator+"clustered.txt"));
+			writeRow = new DataOutputStream(iData.output.open(dlDir+File.separator+"clustered.txt"));
 			w = new OutputStreamWriter(writeRow, UTF8);
 	        for (int row = 0; row < clusteredMatrix.length; row++) {
 		        for (int col = 0; col < clusteredMatrix[0].length; col++) {
@@ -1442,218 +1416,6 @@ public class HeatmapDataGenerator {
 	 * AND THE HEAT MAP PDF.
 	 *==================================================================*/
 	
-	/*******************************************************************
-	 * METHOD: createSummaryImg
-	 *
-	 * This method creates the preview image using the summary level info
-	 * and the color map. It is used in generating the heat map PDF.
-	 ******************************************************************/
-	private static void createSummaryImg(ColorMap cMap, ImportData iData, Float sumMatrix[][]){
-		try {
-			int width = sumMatrix[0].length;
-	        int height = sumMatrix.length;
-	        int numBreaks = cMap.breaks.size();
-	        Color lowExCol = cMap.colors.get(0);
-	        Color hiExCol = cMap.colors.get(numBreaks-1);
-	        Color missingCol = cMap.missingColor;
-	        float lowEx = Float.parseFloat(cMap.breaks.get(0));
-	        float hiEx = Float.parseFloat(cMap.breaks.get(numBreaks-1));
-	        
-	        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-	        
-	        // BUILD HEAT MAP IMAGE
-	        // go through each value in the SUMMARY matrix and determine the color for the pixel
-	        for (int y = 0; y < height; y++) {
-	            for (int x = 0; x < width; x++) {
-	                float val = sumMatrix[y][x];
-	                int rgb;
-	                if (val == MIN_VALUES) {
-	                	rgb = RGB_WHITE;
-	                } else if (val == MAX_VALUES) {
-	                	rgb = missingCol.getRGB();
-	                } else {
-		                if (val > hiEx){
-		                    rgb = hiExCol.getRGB();
-		                } else if (val < lowEx){
-		                    rgb = lowExCol.getRGB();
-		                } else {
-		                    int i = 0;
-		                    // find the breakpoints that this value is between
-		                    while (Float.parseFloat(cMap.breaks.get(i)) <= val && i < numBreaks-1){
-		                    	i++;
-		                    };
-		                    Color lowCol = cMap.colors.get(i-1);
-		                    Color hiCol = cMap.colors.get(i);
-		                    float low = Float.parseFloat(cMap.breaks.get(i-1));
-		                    float hi = Float.parseFloat(cMap.breaks.get(i));
-		                    float ratio = (hi-val)/(hi-low);
-		                    Color blend = ColorMapGenerator.blendColors(hiCol,lowCol,ratio);
-		                    rgb = blend.getRGB();
-		                }
-	                }
-	                image.setRGB(x, y, rgb);
-	            }
-	        }
-			iData.matrixImages.add(image);
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.createSummaryImg: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-	}
-	
-	/*******************************************************************
-	 * METHOD: createDetailImg
-	 *
-	 * This method creates the preview image using the summary level info
-	 * and the color map. It is used in generating the heat map PDF.
-	 ******************************************************************/
-	private static void createDetailImg(ColorMap cMap, ImportData iData, Float detMatrix[][]){
-		try {
-			int width = detMatrix[0].length;
-	        int height = detMatrix.length;
-	        int numBreaks = cMap.breaks.size();
-	        Color lowExCol = cMap.colors.get(0);
-	        Color hiExCol = cMap.colors.get(numBreaks-1);
-	        Color missingCol = cMap.missingColor;
-	        float lowEx = Float.parseFloat(cMap.breaks.get(0));
-	        float hiEx = Float.parseFloat(cMap.breaks.get(numBreaks-1));
-	        
-	        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-	        
-	        // BUILD HEAT MAP IMAGE
-	        // go through each value in the Detail matrix and determine the color for the pixel
-	        for (int y = 0; y < height; y++) {
-	            for (int x = 0; x < width; x++) {
-	                float val = detMatrix[y][x];
-	                int rgb;
-	                if (val == MIN_VALUES) {
-	                	rgb = RGB_WHITE;
-	                } else if (val == MAX_VALUES) {
-	                	rgb = missingCol.getRGB();
-	                } else {
-		                if (val > hiEx){
-		                    rgb = hiExCol.getRGB();
-		                } else if (val < lowEx){
-		                    rgb = lowExCol.getRGB();
-		                } else {
-		                    int i = 0;
-		                    // find the breakpoints that this value is between
-		                    while (Float.parseFloat(cMap.breaks.get(i)) <= val && i < numBreaks-1){
-		                    	i++;
-		                    };
-		                    Color lowCol = cMap.colors.get(i-1);
-		                    Color hiCol = cMap.colors.get(i);
-		                    float low = Float.parseFloat(cMap.breaks.get(i-1));
-		                    float hi = Float.parseFloat(cMap.breaks.get(i));
-		                    float ratio = (hi-val)/(hi-low);
-		                    Color blend = ColorMapGenerator.blendColors(hiCol,lowCol,ratio);
-		                    rgb = blend.getRGB();
-		                }
-	                }
-	                image.setRGB(x, y, rgb);
-	            }
-	        }
-			iData.matrixImages.add(image);
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.createDetailImg: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-	}
-	
-	/*******************************************************************
-	 * METHOD: createColDendroImg
-	 *
-	 * This method creates a PNG image of the column dendrogram for a 
-	 * given heat map. It is used in generating the heat map PDF.
-	 ******************************************************************/
-	private static BufferedImage createColDendroImg(ImportData iData, Float sizeTo) {
-		BufferedImage image = null;
-		try {
-			int dendroWidth = iData.colData.dendroMatrix[0].length;
-			int dendroHeight = iData.colData.dendroMatrix.length;
-			//This factor reduces the dendro size to the number of inches on a BufferedImage divides by 5.5 
-			//to determine how many values to factor to make the dendro approximately 5.5 inches wide
-			Float lowSample = new Float(new Float(dendroWidth)/120)/sizeTo;
-			boolean lowSampInd = false;
-			if (lowSample < .5) {
-				lowSampInd = true;
-			}
-			Float sampleFactor = new Float(Math.round((dendroWidth/120)/sizeTo));
-			sampleFactor = sampleFactor > 0 ? sampleFactor : 1;
-			if (lowSampInd) {
-				sampleFactor = new Float(Math.round(1/lowSample));
-				//Set sampling factor to an even number
-				if ((sampleFactor%2)!=0) sampleFactor--;
-				//Factor up the width of the image
-				dendroWidth *= sampleFactor;
-			} else {
-				//Factor down the width of the image
-				dendroWidth /= sampleFactor;
-				
-			}
-	        image = new BufferedImage(dendroWidth, dendroHeight, BufferedImage.TYPE_INT_RGB);
-	        //Build all white image to draw lines on
-	        fillDendroImage(image, dendroHeight, dendroWidth, RGB_WHITE);
-           	//Draw lines on the image
-	        if (lowSampInd) {
-	        	drawDendroImageLinesUpScale(image, iData.colData.dendroMatrix, dendroHeight, sampleFactor, COL);
-	        } else {
-	        	drawDendroImageLines(image, iData.colData.dendroMatrix, dendroHeight, sampleFactor, COL);
-	        }
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.createColDendroImg: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-		return image;
-	}
-	
-	/*******************************************************************
-	 * METHOD: createRowDendroImg
-	 *
-	 * This method creates a PNG image of the row dendrogram for a 
-	 * given heat map. It is used in generating the heat map PDF.
-	 ******************************************************************/
-	private static BufferedImage createRowDendroImg(ImportData iData, Float sizeTo){
-		BufferedImage image = null;
-		try {
-			int dendroWidth = iData.rowData.dendroMatrix[0].length;
-			int dendroHeight = iData.rowData.dendroMatrix.length;
-			//This factor reduces the dendro size to the number of inches on a BufferedImage divides by 5.5 
-			//to determine how many values to factor to make the dendro approximately 5.5 inches tall
-			Float lowSample = new Float(new Float(dendroWidth)/120)/new Float(sizeTo);
-			boolean lowSampInd = false;
-			if (lowSample < .5) {
-				lowSampInd = true;
-			}
-			Float sampleFactor = new Float(Math.round((dendroWidth/120)/sizeTo)); 
-			sampleFactor = sampleFactor > 0 ? sampleFactor : 1;
-			if (lowSampInd) {
-				sampleFactor = new Float(Math.round(1/lowSample));
-				//Set sampling factor to an even number
-				if ((sampleFactor%2)!=0) sampleFactor--;
-				//Factor up the width of the image
-				dendroWidth *= sampleFactor;
-			} else {
-				//Factor down the width of the image
-				dendroWidth /= sampleFactor;
-			}
-	        image = new BufferedImage(dendroHeight, dendroWidth, BufferedImage.TYPE_INT_RGB);
-	        //Build all white image to draw lines on
-	        fillDendroImage(image, dendroWidth, dendroHeight, RGB_WHITE);
-           	//Draw lines on the image
-	        if (lowSampInd) {
-	        	drawDendroImageLinesUpScale(image, iData.rowData.dendroMatrix, dendroHeight, sampleFactor, ROW);
-	        } else {
-	        	drawDendroImageLines(image, iData.rowData.dendroMatrix, dendroHeight, sampleFactor, ROW);
-	        }
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.createRowDendroImg: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-		return image;
-	}	
-	
-	
 	/*******************************************************************
 	 * METHOD: fillDendroImage
 	 *
@@ -1674,170 +1436,6 @@ public class HeatmapDataGenerator {
 	    }
 	}
 
-	/*******************************************************************
-	 * METHOD: drawDendroImageLines
-	 *
-	 * This method draws dendrogram lines on a BufferedImage and is 
-	 * configurable for drawing both Row and Column lines.  It is utilized
-	 * when the dendro image being created is smaller than the dendro matrix.
-	 * Thus, the image is down-scaled.
-	 ******************************************************************/
-	private static void drawDendroImageLines(BufferedImage image, int[][] dendroMatrix, int dendroHeight, Float sampleFactor, String type) {
-		try {
-	       	//Draw lines on the image
-	       	for (int i = 0; i < dendroHeight; i++) {
-	    		int[] dendroRow = dendroMatrix[i];
-	    		int sample = 0;
-	    		int sampleSum = 0;
-	    		int samplePos = 0;
-	    		int jPos = 0;
-	    		for (int j=0; j < dendroRow.length; j++) {
-	    			if (sample < sampleFactor) {
-	    				sampleSum += dendroRow[samplePos];
-	        			samplePos++;
-	        			sample++;
-	    			} 
-	    			if (sample == sampleFactor) {
-	    				if (sampleSum > 0) {
-	    					if (type.equals(COL)) {
-	    						setDendroImageValue(image, jPos, dendroHeight-(i+1)); //Draw
-	    					} else {
-	    						setDendroImageValue(image, dendroHeight-(i+1), jPos); //Draw
-	    					}
-	    				}
-	    				sample = 0;
-	    				sampleSum = 0;
-	    				jPos++;
-	    			}
-	    		}
-	    	} 
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.drawDendroImageLines: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-	}
-	
-	/*******************************************************************
-	 * METHOD: drawDendroImageLinesUpScale
-	 *
-	 * This method draws dendrogram lines on a BufferedImage and is 
-	 * configurable for drawing both Row and Column lines.  It is utilized
-	 * when the dendro image being created is larger than the dendro matrix.
-	 * Thus, the image is up-scaled.
-	 ******************************************************************/
-	private static void drawDendroImageLinesUpScale(BufferedImage image, int[][] dendroMatrix, int dendroHeight, Float sampleFactor, String type) {
-		try {
-	       	//Draw lines on the image
-			boolean lastWasSelected = false;
-			 for (int i = 0; i < dendroHeight; i++) {
-	    		int[] dendroRow = dendroMatrix[i];
-	    		int jPos = 0;
-	    		for (int j=0; j < dendroRow.length; j++) {
-	    			int sampleVal = dendroRow[j];
-	    			if (sampleVal == 1) {
-	    				if (lastWasSelected) {
-	    					//back up 1/2 a position and draw for 1 full position
-	    					jPos -= sampleFactor/2;
-	    					for (int k = 0; k < sampleFactor; k++) {
-	        					if (type.equals(COL)) {
-	        						setDendroImageValue(image, jPos, dendroHeight-(i+1));
-	        					} else {
-	        						setDendroImageValue(image, dendroHeight-(i+1), jPos);
-	        					}
-	    						jPos++;
-	    					}
-	    					if (type.equals(COL)) {
-	    						setDendroImageValue(image, jPos, dendroHeight-(i+1));
-	    					} else {
-	    						setDendroImageValue(image, dendroHeight-(i+1), jPos);
-	    					}
-	    					jPos += sampleFactor/2;
-	    				} else {
-	    					//draw one dot in the middle of one full position
-		    				jPos += sampleFactor/2;
-	    					if (type.equals(COL)) {
-	    						setDendroImageValue(image, jPos, dendroHeight-(i+1)); //Draw
-	    					} else {
-	    						setDendroImageValue(image, dendroHeight-(i+1), jPos);
-	    					}
-		    				jPos += sampleFactor/2;
-	    				}
-	    				lastWasSelected = true;
-	    			} else {
-	    				//skip one full position
-	    				lastWasSelected = false;
-	    				jPos += sampleFactor;
-	    			}
-	    		}
-	   		} 
-	    } catch (Exception ex) {
-			System.out.println("Exception in HeatmapDataGenerator.drawDendroImageLinesUpScale: " + ex.toString());  
-	        ex.printStackTrace();
-	    }
-	}
-	
-	/*******************************************************************
-	 * METHOD: setDendroImageValue
-	 *
-	 * This method sets a black pixel on the submitted x/y coordinates
-	 * in a BufferedImage containing a row/col dendrogram.
-	 ******************************************************************/
-	private static void setDendroImageValue(BufferedImage image, int x, int y) {
-		try {
-			image.setRGB(x, y, RGB_BLACK);	
-		} catch (Exception e) {
-			// Do nothing - for logging: System.out.println("setImageValue exception x: " + x + " y: " + y);
-		}
-	}
-	
-	/*******************************************************************
-	 * METHOD: setTNDendroImageValue
-	 *
-	 * This method sets a black pixel on the submitted x/y coordinates
-	 * in a BufferedImage containing a row/col dendrogram. This is an advanced
-	 * version of the function that handles widths and line end conditions for
-	 * special processing in the thumbnail image.
-	 ******************************************************************/
-	private static void setTNDendroImageValue(BufferedImage image, int x, int y, boolean columnDendro, int width, LineSegment seg) {
-		try {
-			if (columnDendro) {
-				int start = x;
-				int stop = x + 1;
-				if (width > 1) {
-					if (seg == LineSegment.MIDDLE) {
-						start -= width/2;
-						stop += width/2;
-					} else if (seg == LineSegment.LEFT_END) {
-						stop += width/2;
-					} else if (seg == LineSegment.RIGHT_END) {
-						start -= width/2;
-					}
-				}
-				for (int xPos = start; xPos < stop; xPos++){
-					image.setRGB(xPos, y, RGB_BLACK);
-				}	
-			} else {
-				int start = y;
-				int stop = y + 1;
-				if (width > 1) {
-					if (seg == LineSegment.MIDDLE) {
-						start -= width/2;
-						stop += width/2;
-					} else if (seg == LineSegment.LEFT_END) {
-						start -= width/2;
-					} else if (seg == LineSegment.RIGHT_END) {
-						stop += width/2;
-					}
-				}
-				for (int yPos = start; yPos < stop; yPos++){
-					image.setRGB(x, yPos, RGB_BLACK);
-				}	
-			}
-		} catch (Exception e) {
-			// Do nothing - for logging: System.out.println("setImageValue exception x: " + x + " y: " + y);
-		}
-	}
-
 	/*==========================
 	 * THUMBNAIL SPECIFIC LOGIC
 	 *=========================*/
@@ -1857,7 +1455,7 @@ public class HeatmapDataGenerator {
 				//BufferedImage rDScale = null;
 				BufferedImage rDendImg = null;
 				int rDendHgt = 0;
-				if (iData.rowData.dendroMatrix != null) {
+				if (iData.rowData.dendroSegments != null) {
 			        // Build scaled row dendro image for thumbnail
 					rDendImg = createTnRowDendroImg(iData, TN_WIDTH, TN_HEIGHT);
 					rDendHgt = rDendImg.getHeight();
@@ -1865,7 +1463,7 @@ public class HeatmapDataGenerator {
 				//BufferedImage cDScale = null;
 				BufferedImage cDendImg = null;
 				int cDendWid = 0;
-				if (iData.colData.dendroMatrix != null) {
+				if (iData.colData.dendroSegments != null) {
 			        // Build scaled column dendro image for thumbnail
 					cDendImg = createTnColDendroImg(iData, TN_WIDTH, TN_HEIGHT);
 					cDendWid = cDendImg.getWidth();
@@ -1901,8 +1499,12 @@ public class HeatmapDataGenerator {
 		        g2.drawImage(cDendImg, null, imgWDiff+finalDendH+offset, imgHDiff);
 		        g2.drawImage(hmScale, null, imgWDiff+finalDendH+offset, imgHDiff+finalDendH+offset);
 		        g2.dispose();
-		        File outputFile = new File(iData.outputDir+File.separator + iData.chmName + "_tn.png"); 
-		        ImageIO.write(newImage, "png", outputFile);
+		        OutputStream out = new BufferedOutputStream(iData.output.open(iData.chmName + "_tn.png"));
+		        try {
+		        	PngWriter.write(newImage, out);
+		        } finally {
+		        	out.close();
+		        }
 		    } catch (Exception ex) {
 				System.out.println("Exception in HeatmapDataGenerator.buildTnThumbnail: " + ex.toString());  
 		        ex.printStackTrace();
@@ -1916,57 +1518,17 @@ public class HeatmapDataGenerator {
 		 * and the colormap for the first data layer.  The resulting bufferedImage
 		 * will be used to construct the full thumbnail PNG.
 		 ******************************************************************/
-		private static void createTnHeatmapImg(ColorMap cMap, ImportData iData, Float tnMatrix[][]) {
+		private static void createTnHeatmapImg(ColorMap cMap, ImportData iData, RasterBuffer tnMatrix) {
 			try {
-				if (tnMatrix[0][0] != null) {
-					int width = tnMatrix[0].length;
-			        int height = tnMatrix.length;
-			        int numBreaks = cMap.breaks.size();
-			        Color lowExCol = cMap.colors.get(0);
-			        Color hiExCol = cMap.colors.get(numBreaks-1);
-			        Color missingCol = cMap.missingColor;
-			        float lowEx = Float.parseFloat(cMap.breaks.get(0));
-			        float hiEx = Float.parseFloat(cMap.breaks.get(numBreaks-1));
-			        
-			        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-			        
-			        // BUILD HEAT MAP IMAGE
-			        // go through each value in the TN matrix and determine the color for the pixel
-			        for (int y = 0; y < height; y++) {
-			            for (int x = 0; x < width; x++) {
-			                int rgb;
-			                float val = tnMatrix[y][x];
-			                if (val == MIN_VALUES) {
-			                	rgb = RGB_WHITE;
-			                } else if (val == MAX_VALUES) {
-			                	rgb = missingCol.getRGB();
-			                } else {
-				                if (val > hiEx){
-				                    rgb = hiExCol.getRGB();
-				                } else if (val < lowEx){
-				                    rgb = lowExCol.getRGB();
-				                } else {
-				                    int i = 0;
-				                    // find the breakpoints that this value is between
-				                    while (Float.parseFloat(cMap.breaks.get(i)) <= val && i < numBreaks-1){
-				                    	i++;
-				                    };
-				                    Color lowCol = cMap.colors.get(i-1);
-				                    Color hiCol = cMap.colors.get(i);
-				                    float low = Float.parseFloat(cMap.breaks.get(i-1));
-				                    float hi = Float.parseFloat(cMap.breaks.get(i));
-				                    float ratio = (hi-val)/(hi-low);
-				                    Color blend = ColorMapGenerator.blendColors(hiCol,lowCol,ratio);
-				                    rgb = blend.getRGB();
-				                }
-			                }
-			                image.setRGB(x, y, rgb);
-			            }
-			            
-			        }
+				if ((tnMatrix != null) && (tnMatrix.captured)) {
+			        BufferedImage image = HeatmapRenderer.render(tnMatrix, cMap);
 			        iData.tnImage = image;
-			        File outputFile = new File(iData.outputDir+File.separator + iData.chmName + "_tnMap.png"); 
-			        ImageIO.write(image, "png", outputFile);
+			        OutputStream out = new BufferedOutputStream(iData.output.open(iData.chmName + "_tnMap.png"));
+			        try {
+			        	PngWriter.write(image, out);
+			        } finally {
+			        	out.close();
+			        }
 				}
 		    } catch (Exception ex) {
 				System.out.println("Exception in HeatmapDataGenerator.createTnHeatmapImg: " + ex.toString());  
@@ -1975,60 +1537,34 @@ public class HeatmapDataGenerator {
 		}
 		
 		
-		/*******************************************************************
-		 * METHOD: getSegType
-		 *
-		 * Helper function that figures out from the matrix whether we are
-		 * drawing the left, right, or middle part of a horizontal line. Returns
-		 * none if it is a vertical line element. 
-		 ******************************************************************/
-		private static LineSegment getSegType (int[][] matrix,  int yPos, int xPos){
-			LineSegment seg = LineSegment.NONE;
-			
-			if (xPos > 0 && xPos < matrix[0].length-1 && matrix[yPos][xPos-1]==1 && matrix[yPos][xPos+1]==1)
-				seg = LineSegment.MIDDLE;
-			else if (xPos > 0 && matrix[yPos][xPos-1]==1)
-				seg = LineSegment.RIGHT_END;
-			else if (xPos < matrix[0].length-1 && matrix[yPos][xPos+1]==1)
-				seg = LineSegment.LEFT_END;
-			
-			return seg;
-		}
-		
 		/*******************************************************************
 		 * METHOD: createTnColDendroPng
 		 *
 		 * This method creates a PNG image of the column dendrogram for a 
 		 * given heat map. It is used in generating the thumbnail PNG.
 		 ******************************************************************/
-		private static BufferedImage createTnColDendroImg(ImportData iData, int intendedDendroWidth, int intendedDendroHeight) {
+		private static BufferedImage createTnColDendroImg(ImportData iData, final int intendedDendroWidth, final int intendedDendroHeight) {
 			BufferedImage image = null;
 			try {
-				int[][] matrix = iData.colData.dendroMatrix;
-				int dendroMatrixWidth = matrix[0].length;
-				int dendroMatrixHeight = matrix.length;
+				DendrogramSegments segments = iData.colData.dendroSegments;
 				
 				// Create buffered image with specified dimensions
 				image = new BufferedImage(intendedDendroWidth, intendedDendroHeight, BufferedImage.TYPE_INT_RGB);
 				fillDendroImage(image, intendedDendroHeight, intendedDendroWidth, RGB_WHITE);
 				
-				//Create a scaling factor to map from dendro matrix position to the dendro png image position
-				double heightScale = (double)(intendedDendroHeight-1)/(double)(dendroMatrixHeight-1);
-				double widthScale = (double)(intendedDendroWidth-1)/(double)(dendroMatrixWidth-1);
+				//Create a scaling factor to map from dendrogram position to the dendro png image position
+				final double heightScale = (double)(intendedDendroHeight-1)/(double)(DENDRO_NORM_HEIGHT);
+				final double widthScale = (double)(intendedDendroWidth-1)/(double)(segments.width-1);
 				
-				for (int heightPos = 0; heightPos < dendroMatrixHeight; heightPos++){
-					for (int widthPos = 0; widthPos < dendroMatrixWidth; widthPos++){
-						if (matrix[heightPos][widthPos] > 0) {							
-							int y = (int) Math.min(Math.round((double)heightPos*heightScale), intendedDendroHeight-1);
-							int x = (int) Math.min(Math.round((double)widthPos*widthScale), intendedDendroWidth-1);
-							//If the png is larger than the matrix (happens for small matrices), then for horizontal lines
-							//we need to draw more than 1 pixel.  When the widthScale is > 1, then we know we need to draw
-							//multiple pixels.  The line segment type is also needed to do this properly.
-							LineSegment seg = getSegType(matrix, heightPos, widthPos);
-							setTNDendroImageValue(image, x, intendedDendroHeight-(y+1), true, (int)Math.round(widthScale), seg);
-						}
+				segments.draw(image, false, new DendrogramSegments.Scale() {
+					public int toPixel(int pos) {
+						return (int) Math.min(Math.round((double)pos*widthScale), intendedDendroWidth-1);
 					}
-				}
+				}, new DendrogramSegments.Scale() {
+					public int toPixel(int pos) {
+						return intendedDendroHeight-((int) Math.min(Math.round((double)pos*heightScale), intendedDendroHeight-1)+1);
+					}
+				}, 0);
 				
 		    } catch (Exception ex) {
 				System.out.println("Exception in HeatmapDataGenerator.createTnColDendroImg: " + ex.toString());  
@@ -2043,13 +1579,10 @@ public class HeatmapDataGenerator {
 		 * This method creates a PNG image of the row dendrogram for a 
 		 * given heat map. It is used in generating the thumbnail PNG.
 		 ******************************************************************/
-		private static BufferedImage createTnRowDendroImg(ImportData iData, int intendedDendroHeight, int intendedDendroWidth) {
+		private static BufferedImage createTnRowDendroImg(ImportData iData, final int intendedDendroHeight, final int intendedDendroWidth) {
 			BufferedImage image = null;
 			try {
-				int[][] matrix = iData.rowData.dendroMatrix;
-				int dendroMatrixWidth = matrix.length;
-				int dendroMatrixHeight = matrix[0].length;
-
+				DendrogramSegments segments = iData.rowData.dendroSegments;
 				
 				// Create buffered image with specified dimensions
 				image = new BufferedImage(intendedDendroWidth, intendedDendroHeight, BufferedImage.TYPE_INT_RGB);
@@ -2057,23 +1590,22 @@ public class HeatmapDataGenerator {
 				//Build all white image to draw lines on
 		        fillDendroImage(image, intendedDendroHeight, intendedDendroWidth, RGB_WHITE);
 
-				//Create a scaling factor to map from dendro matrix position to the dendro png image position
-				double heightScale = (double)(intendedDendroHeight-1)/(double)(dendroMatrixHeight-1);
-				double widthScale = (double)(intendedDendroWidth-1)/(double)(dendroMatrixWidth-1);
+				//Create a scaling factor to map from dendrogram position to the dendro png image position
+				final double heightScale = (double)(intendedDendroHeight-1)/(double)(segments.width-1);
+				final double widthScale = (double)(intendedDendroWidth-1)/(double)(DENDRO_NORM_HEIGHT);
 				
-				for (int heightPos = 0; heightPos < dendroMatrixHeight; heightPos++){
-					for (int widthPos = 0; widthPos < dendroMatrixWidth; widthPos++){
-						if (matrix[widthPos][heightPos] > 0) {
-							int y = (int)Math.min(((double)heightPos*heightScale), intendedDendroHeight-1);
-							int x = (int)Math.min(((double)widthPos*widthScale), intendedDendroWidth-1);
-							//If the png is larger than the matrix (happens for small matrices), then for vertical lines
-							//we need to draw more than 1 pixel.  When the heightScale is > 1, then we know we need to draw
-							//multiple pixels.  The line segment type is also needed to do this properly.
-							LineSegment seg = getSegType(matrix, widthPos, heightPos);
-							setTNDendroImageValue(image, intendedDendroWidth-x, y, false, (int)Math.round(heightScale), seg);							
-						}
+				//If the png is larger than the dendrogram (happens for small matrices), then horizontal
+				//lines are widened by half a point at each end.
+				int heightWidth = (int)Math.round(heightScale);
+				segments.draw(image, true, new DendrogramSegments.Scale() {
+					public int toPixel(int pos) {
+						return (int)Math.min(((double)pos*heightScale), intendedDendroHeight-1);
 					}
-				}
+				}, new DendrogramSegments.Scale() {
+					public int toPixel(int pos) {
+						return intendedDendroWidth-(int)Math.min(((double)pos*widthScale), intendedDendroWidth-1);
+					}
+				}, heightWidth > 1 ? heightWidth/2 : 0);
 		        
 		    } catch (Exception ex) {
 				System.out.println("Exception in HeatmapDataGenerator.createTnRowDendroImg: " + ex.toString());  
@@ -2082,87 +1614,6 @@ public class HeatmapDataGenerator {
 			return image;
 		}	
 
-		/*******************************************************************
-		 * METHOD: validateConfigJson
-		 *
-		 * This and following three methods perform a recursive zip of the heatmap directory.  
-		 * that the zip file contain a folder at the top level with folder name = heat map name.
-		 ******************************************************************/
-		private static void zipDirectory(String zipDir, String chmName) throws Exception {
-			File directoryToZip = new File(zipDir);
-			File rootDir = new File(zipDir.substring(0,Math.max(zipDir.lastIndexOf(File.separator), zipDir.lastIndexOf("/"))));
-			String zipFileName = zipDir + FILE_SEP + chmName + ".ngchm";
-			List<File> fileList = new ArrayList<File>();
-			fileList.add(directoryToZip);
-			getAllFiles(directoryToZip, fileList, chmName);
-			writeZipFile(rootDir, fileList, zipFileName);
-		}
-
-		private static void getAllFiles(File dir, List<File> fileList, String chmName) {
-			try {
-				File[] files = dir.listFiles();
-				for (File file : files) {
-					String fileName = file.getName();
-					if (!chmName.equals(EMPTY))  { // there are some build files we don't need in the viewer zip file.  At the top level, just zip the heat map folder not other files.
-						if (NGCHM_FILES.contains(fileName) || fileName.equals(chmName+" HeatMap.pdf")) {
-							fileList.add(file);
-						} 
-					} else {
-						fileList.add(file);
-					}
-					if (file.isDirectory()) {
-						getAllFiles(file, fileList, EMPTY);
-					} 
-				}
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-		}
-
-		private static void writeZipFile(File directoryToZip, List<File> fileList, String zipFileName) {
-
-			try {
-				FileOutputStream fos = new FileOutputStream(zipFileName);
-				ZipOutputStream zos = new ZipOutputStream(fos);
-
-				for (File file : fileList) {
-					if (!file.isDirectory()) { // we only zip files, not directories
-						addToZip(directoryToZip, file, zos);
-					}
-				}
-				zos.close();
-				fos.close();
-			} catch (FileNotFoundException e) {
-				e.printStackTrace();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
-
-		private static void addToZip(File directoryToZip, File file, ZipOutputStream zos) throws FileNotFoundException,
-		IOException {
-
-			FileInputStream fis = new FileInputStream(file);
-
-			// we want the zipEntry's path to be a relative path that is relative
-			// to the directory being zipped, so chop off the rest of the path
-			String zipFilePath = file.getCanonicalPath().substring(directoryToZip.getCanonicalPath().length() + 1,
-					file.getCanonicalPath().length());
-			if (zipFilePath.contains("\\"))
-				zipFilePath = zipFilePath.replace("\\", "/");
-			ZipEntry zipEntry = new ZipEntry(zipFilePath);
-			zos.putNextEntry(zipEntry);
-
-			byte[] bytes = new byte[1024];
-			int length;
-			while ((length = fis.read(bytes)) >= 0) {
-				zos.write(bytes, 0, length);
-			}
-
-			zos.closeEntry();
-			fis.close();
-		}
-		
 	    private static void createHtmlHeatMap(String outputDir, String chmName) {
     		BufferedWriter  bw = null;
     		BufferedReader  br = null;
@@ -0,0 +1,80 @@
+/*******************************************************************
+ * CLASS: HeatmapRenderer
+ *
+ * This class renders heat map images (thumbnail, summary, detail) from
+ * a MatrixSource and the lookup table of a color map.  Pixels are
+ * written directly to the int array backing the image, with bands of
+ * rows colored in parallel on the common fork-join pool.  Each band
+ * reads its rows from the source in one block.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class HeatmapRenderer {
+
+	/*******************************************************************
+	 * METHOD: render
+	 *
+	 * This method returns an image of the matrix source with one pixel
+	 * per matrix value.
+	 ******************************************************************/
+	public static BufferedImage render(MatrixSource source, ColorMap cMap) throws Exception {
+		BufferedImage image = new BufferedImage(source.cols, source.rows, BufferedImage.TYPE_INT_RGB);
+		int pixels[] = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		int bandRows = Math.max(1, RENDER_BAND_PIXELS/Math.max(source.cols, 1));
+		int numBands = (source.rows + bandRows - 1)/bandRows;
+		try {
+			ForkJoinPool.commonPool().invoke(new BandTask(source, cMap.getLookup(), pixels, bandRows, 0, numBands));
+		} catch (RuntimeException ex) {
+			throw (ex.getCause() instanceof Exception) ? (Exception) ex.getCause() : ex;
+		}
+		return image;
+	}
+
+	private static class BandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private MatrixSource source;
+		private ColorMap.ColorLookup lookup;
+		private int pixels[];
+		private int bandRows;
+		private int firstBand;
+		private int lastBand;
+
+		BandTask(MatrixSource source, ColorMap.ColorLookup lookup, int pixels[], int bandRows, int firstBand, int lastBand) {
+			this.source = source;
+			this.lookup = lookup;
+			this.pixels = pixels;
+			this.bandRows = bandRows;
+			this.firstBand = firstBand;
+			this.lastBand = lastBand;
+		}
+
+		protected void compute() {
+			if (lastBand - firstBand > 1) {
+				int mid = (firstBand + lastBand) >>> 1;
+				invokeAll(new BandTask(source, lookup, pixels, bandRows, firstBand, mid),
+						  new BandTask(source, lookup, pixels, bandRows, mid, lastBand));
+				return;
+			}
+			int firstRow = firstBand*bandRows;
+			int numRows = Math.min(bandRows, source.rows - firstRow);
+			float values[] = new float[numRows*source.cols];
+			try {
+				source.getRows(firstRow, numRows, values);
+			} catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+			int offset = firstRow*source.cols;
+			for (int i = 0; i < values.length; i++) {
+				pixels[offset+i] = lookup.getRGB(values[i]) & 0xffffff;
+			}
+		}
+	}
+}
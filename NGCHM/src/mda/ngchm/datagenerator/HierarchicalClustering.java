@@ -0,0 +1,515 @@
+/*******************************************************************
+ * CLASS: HierarchicalClustering
+ *
+ * This class performs agglomerative hierarchical clustering of the rows
+ * or columns of a data matrix in process (replacing the external R
+ * clustering step) and writes the results in the order file and
+ * dendrogram file formats read by RowColData.
+ *
+ * Clustering uses the nearest-neighbor-chain algorithm on a condensed
+ * distance matrix (DistanceMatrix) with Lance-Williams distance updates,
+ * supporting ward.D, ward.D2, complete, average, and single linkage (as
+ * defined by R's hclust).  Merges are reported in hclust format: in
+ * order of increasing height, a negative value -i is the (1-based) matrix
+ * item i, and a positive value k is the merge on line k.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.json.simple.JSONObject;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class HierarchicalClustering {
+	public int count;
+	public int mergeA[];
+	public int mergeB[];
+	public double height[];
+	public int order[];
+
+	private static final int WARD = 0;
+	private static final int WARD2 = 1;
+	private static final int COMPLETE = 2;
+	private static final int AVERAGE = 3;
+	private static final int SINGLE = 4;
+
+	/*******************************************************************
+	 * METHOD: cluster
+	 *
+	 * This method clusters items (the rows of the data array, with NaN
+	 * marking missing values) using a distance metric and linkage method.
+	 ******************************************************************/
+	public static HierarchicalClustering cluster(float data[][], String distanceMetric, String linkage) throws Exception {
+		return cluster(data, false, distanceMetric, linkage);
+	}
+
+	/*******************************************************************
+	 * METHOD: cluster
+	 *
+	 * This method clusters the rows or (without transposing the data
+	 * array) the columns of the data array.
+	 ******************************************************************/
+	public static HierarchicalClustering cluster(float data[][], boolean columns, String distanceMetric, String linkage) throws Exception {
+		int method = getLinkage(linkage);
+		DistanceMatrix dist = DistanceMatrix.compute(data, columns, distanceMetric);
+		try {
+			return cluster(dist, method);
+		} finally {
+			dist.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: cluster
+	 *
+	 * This method clusters items from a (possibly cached) distance matrix
+	 * using a linkage method.  The matrix itself is left unchanged.
+	 ******************************************************************/
+	public static HierarchicalClustering cluster(DistanceMatrix distances, String linkage) throws Exception {
+		int method = getLinkage(linkage);
+		DistanceMatrix dist = distances.copy();
+		try {
+			return cluster(dist, method);
+		} finally {
+			dist.close();
+		}
+	}
+
+	private static HierarchicalClustering cluster(DistanceMatrix dist, int method) {
+		int n = dist.count;
+		if (method == WARD2) {
+			for (long i = 0; i < dist.size; i++) {
+				double d = dist.get(i);
+				dist.set(i, d*d);
+			}
+		}
+		HierarchicalClustering hc = new HierarchicalClustering();
+		hc.count = n;
+		int mergeX[] = new int[Math.max(n-1, 0)];
+		int mergeY[] = new int[Math.max(n-1, 0)];
+		double mergeH[] = new double[Math.max(n-1, 0)];
+		hc.nnChain(dist, n, method, mergeX, mergeY, mergeH);
+		if (method == WARD2) {
+			for (int i = 0; i < mergeH.length; i++) {
+				mergeH[i] = Math.sqrt(mergeH[i]);
+			}
+		}
+		hc.labelMerges(mergeX, mergeY, mergeH);
+		hc.buildOrder();
+		return hc;
+	}
+
+	private static int getLinkage(String linkage) throws Exception {
+		if (LINKAGE_WARD.equalsIgnoreCase(linkage)) {
+			return WARD;
+		} else if (LINKAGE_WARD2.equalsIgnoreCase(linkage)) {
+			return WARD2;
+		} else if (LINKAGE_COMPLETE.equalsIgnoreCase(linkage)) {
+			return COMPLETE;
+		} else if (LINKAGE_AVERAGE.equalsIgnoreCase(linkage)) {
+			return AVERAGE;
+		} else if (LINKAGE_SINGLE.equalsIgnoreCase(linkage)) {
+			return SINGLE;
+		}
+		throw new Exception("CLUSTERING ERROR: Unsupported agglomeration method: " + linkage);
+	}
+
+	/*******************************************************************
+	 * METHOD: nnChain
+	 *
+	 * This method performs the nearest-neighbor-chain algorithm.  A chain
+	 * of nearest neighbors is followed until two clusters are reciprocal
+	 * nearest neighbors; they are merged (the merged cluster replaces the
+	 * second of them in the distance matrix) and the chain continues from
+	 * the remaining items.  Merges are recorded as the matrix items (0-based)
+	 * of the two clusters in the order they are found.
+	 ******************************************************************/
+	private void nnChain(DistanceMatrix dist, int n, int method, int mergeX[], int mergeY[], double mergeH[]) {
+		int size[] = new int[n];
+		int active[] = new int[n];
+		int activePos[] = new int[n];
+		for (int i = 0; i < n; i++) {
+			size[i] = 1;
+			active[i] = i;
+			activePos[i] = i;
+		}
+		int activeCount = n;
+		int chain[] = new int[n];
+		int chainLen = 0;
+		for (int m = 0; m < n-1; m++) {
+			if (chainLen == 0) {
+				chain[chainLen++] = active[0];
+			}
+			int a, b;
+			double minDist;
+			while (true) {
+				a = chain[chainLen-1];
+				b = -1;
+				minDist = Double.MAX_VALUE;
+				if (chainLen > 1) {
+					b = chain[chainLen-2];
+					minDist = dist.get(a, b);
+				}
+				for (int k = 0; k < activeCount; k++) {
+					int c = active[k];
+					if (c != a) {
+						double d = dist.get(a, c);
+						if (d < minDist) {
+							minDist = d;
+							b = c;
+						}
+					}
+				}
+				if ((chainLen > 1) && (b == chain[chainLen-2])) {
+					break;
+				}
+				chain[chainLen++] = b;
+			}
+			chainLen -= 2;
+			mergeX[m] = Math.min(a, b);
+			mergeY[m] = Math.max(a, b);
+			mergeH[m] = minDist;
+
+			//Merge cluster a into cluster b, updating the distances from b to the other clusters.
+			int sizeA = size[a];
+			int sizeB = size[b];
+			for (int k = 0; k < activeCount; k++) {
+				int c = active[k];
+				if ((c != a) && (c != b)) {
+					long idxB = DistanceMatrix.getIndex(n, b, c);
+					double dA = dist.get(a, c);
+					double dB = dist.get(idxB);
+					switch (method) {
+						case WARD:
+						case WARD2:
+							int sizeC = size[c];
+							dist.set(idxB, ((sizeA+sizeC)*dA + (sizeB+sizeC)*dB - sizeC*minDist) / (sizeA+sizeB+sizeC));
+							break;
+						case COMPLETE:
+							dist.set(idxB, Math.max(dA, dB));
+							break;
+						case AVERAGE:
+							dist.set(idxB, (sizeA*dA + sizeB*dB) / (sizeA+sizeB));
+							break;
+						default:
+							dist.set(idxB, Math.min(dA, dB));
+					}
+				}
+			}
+			size[b] = sizeA + sizeB;
+			int last = active[--activeCount];
+			active[activePos[a]] = last;
+			activePos[last] = activePos[a];
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: labelMerges
+	 *
+	 * This method sorts the merges by height and converts the matrix items
+	 * recorded for each merge into hclust merge references using a
+	 * union-find structure over the items.
+	 ******************************************************************/
+	private void labelMerges(int mergeX[], int mergeY[], final double mergeH[]) {
+		int numMerges = mergeH.length;
+		Integer sorted[] = new Integer[numMerges];
+		for (int i = 0; i < numMerges; i++) {
+			sorted[i] = i;
+		}
+		Arrays.sort(sorted, new Comparator<Integer>() {
+			public int compare(Integer m1, Integer m2) {
+				return Double.compare(mergeH[m1], mergeH[m2]);
+			}
+		});
+		int parent[] = new int[count];
+		int label[] = new int[count];
+		for (int i = 0; i < count; i++) {
+			parent[i] = i;
+			label[i] = -(i+1);
+		}
+		mergeA = new int[numMerges];
+		mergeB = new int[numMerges];
+		height = new double[numMerges];
+		for (int k = 0; k < numMerges; k++) {
+			int m = sorted[k];
+			int rootX = find(parent, mergeX[m]);
+			int rootY = find(parent, mergeY[m]);
+			setMerge(k, label[rootX], label[rootY], mergeH[m]);
+			parent[rootX] = rootY;
+			label[rootY] = k+1;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: setMerge
+	 *
+	 * This method records a merge on line k+1 with the references of the
+	 * two items it joins ordered as hclust orders them: items before
+	 * merges, smaller items/merges first.
+	 ******************************************************************/
+	private void setMerge(int k, int a, int b, double mergeHeight) {
+		if (((a > 0) && (b < 0)) || ((a > 0) && (b > 0) && (a > b)) || ((a < 0) && (b < 0) && (a < b))) {
+			int tmp = a;
+			a = b;
+			b = tmp;
+		}
+		mergeA[k] = a;
+		mergeB[k] = b;
+		height[k] = mergeHeight;
+	}
+
+	private static int find(int parent[], int i) {
+		int root = i;
+		while (parent[root] != root) {
+			root = parent[root];
+		}
+		while (parent[i] != root) {
+			int next = parent[i];
+			parent[i] = root;
+			i = next;
+		}
+		return root;
+	}
+
+	/*******************************************************************
+	 * METHOD: buildOrder
+	 *
+	 * This method builds the leaf order of the dendrogram (as hclust does,
+	 * walking the tree from the last merge, left before right).  order[p]
+	 * is the (1-based) matrix item at clustered position p+1.
+	 ******************************************************************/
+	private void buildOrder() {
+		order = new int[count];
+		if (count == 1) {
+			order[0] = 1;
+		}
+		if (count < 2) {
+			return;
+		}
+		int stack[] = new int[count];
+		int top = 0;
+		int pos = 0;
+		stack[top++] = mergeA.length;
+		while (top > 0) {
+			int item = stack[--top];
+			if (item < 0) {
+				order[pos++] = -item;
+			} else {
+				stack[top++] = mergeB[item-1];
+				stack[top++] = mergeA[item-1];
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: writeOrderFile
+	 *
+	 * This method writes the order file: a header line followed by a
+	 * "label TAB clustered position" line for each item in matrix order.
+	 ******************************************************************/
+	public void writeOrderFile(File orderFile, String labels[]) throws Exception {
+		int position[] = new int[count+1];
+		for (int p = 0; p < count; p++) {
+			position[order[p]] = p+1;
+		}
+		BufferedWriter bw = new BufferedWriter(new FileWriter(orderFile));
+		try {
+			bw.write("\"Id\"\t\"Order\"\n");
+			for (int i = 0; i < count; i++) {
+				bw.write(labels[i] + TAB + position[i+1] + "\n");
+			}
+		} finally {
+			bw.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: writeDendroFile
+	 *
+	 * This method writes the dendrogram file: a header line followed by
+	 * an "a TAB b TAB height" line for each merge.
+	 ******************************************************************/
+	public void writeDendroFile(File dendroFile) throws Exception {
+		BufferedWriter bw = new BufferedWriter(new FileWriter(dendroFile));
+		try {
+			bw.write("\"A\"\t\"B\"\t\"Height\"\n");
+			for (int k = 0; k < mergeA.length; k++) {
+				bw.write(mergeA[k] + TAB + mergeB[k] + TAB + height[k] + "\n");
+			}
+		} finally {
+			bw.close();
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: clusterConfiguredAxes
+	 *
+	 * This method clusters each axis of a heat map that is configured for
+	 * hierarchical ordering without an order file and that asks for
+	 * clustering (with cluster set to Y or a distance_metric,
+	 * agglomeration_method, or clustering_mode), writing the order and
+	 * dendrogram files to the output directory and adding them to the
+	 * axis configuration.  Other axes without an order file keep the
+	 * matrix order.  Rows and columns are clustered concurrently.
+	 * An axis with a clustering_mode of "approximate" is clustered with
+	 * ApproximateClustering (for axes too large for exact clustering),
+	 * which streams the matrix file itself; the data matrix is only read
+	 * into memory for axes clustered exactly.
+	 ******************************************************************/
+	@SuppressWarnings("unchecked")
+	public static void clusterConfiguredAxes(InputFile iFile, JSONObject rowConfig, JSONObject colConfig, String outputDir) throws Exception {
+		final boolean clusterRows = isClusteringNeeded(rowConfig);
+		final boolean clusterCols = isClusteringNeeded(colConfig);
+		if (!clusterRows && !clusterCols) {
+			return;
+		}
+		float data[][] = null;
+		if ((clusterRows && !isApproximate(rowConfig)) || (clusterCols && !isApproximate(colConfig))) {
+			data = iFile.getInputData();
+		}
+		//Distance matrices (when cached) are keyed by matrix file, data range, axis, and distance metric
+		File matrixFile = new File(iFile.file);
+		String cacheKey = matrixFile.getPath() + "|" + matrixFile.lastModified() + "|" + matrixFile.length() + "|"
+				+ iFile.rowStart + "|" + iFile.colStart + "|" + iFile.rowEnd + "|" + iFile.rowCovs + "|" + iFile.colCovs + "|"
+				+ iFile.rows + "x" + iFile.cols + "|";
+		File outDir = new File(outputDir);
+		if (!outDir.exists()) {
+			outDir.mkdirs();
+		}
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		if (clusterRows) {
+			tasks.add(getAxisTask(iFile, data, false, iFile.readRowLabels(), rowConfig, cacheKey + ROW, new File(outDir, ROW_ORDER_FILE), new File(outDir, ROW_DENDRO_FILE)));
+		}
+		if (clusterCols) {
+			tasks.add(getAxisTask(iFile, data, true, iFile.readColLabels(), colConfig, cacheKey + COL, new File(outDir, COL_ORDER_FILE), new File(outDir, COL_DENDRO_FILE)));
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+		try {
+			for (Future<Void> result : pool.invokeAll(tasks)) {
+				try {
+					result.get();
+				} catch (java.util.concurrent.ExecutionException ex) {
+					throw (ex.getCause() instanceof Exception) ? (Exception) ex.getCause() : ex;
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static boolean isClusteringNeeded(JSONObject config) {
+		String orderFile = (String) config.get(ORDER_FILE);
+		if (!ORDER_HIERARCHICAL.equals(config.get(ORDER_METHOD)) || ((orderFile != null) && !orderFile.equals(EMPTY))) {
+			return false;
+		}
+		return YES.equalsIgnoreCase((String) config.get(CLUSTER)) || isSet(config, DISTANCE_METRIC) || isSet(config, AGGLOMERATION_METHOD) || isSet(config, CLUSTERING_MODE);
+	}
+
+	private static boolean isApproximate(JSONObject config) {
+		return CLUSTERING_APPROXIMATE.equalsIgnoreCase((String) config.get(CLUSTERING_MODE));
+	}
+
+	private static boolean isSet(JSONObject config, String key) {
+		String value = (String) config.get(key);
+		return (value != null) && !value.equals(EMPTY);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Callable<Void> getAxisTask(final InputFile iFile, final float data[][], final boolean columns, final String labels[], final JSONObject config, final String cacheKey, final File orderFile, final File dendroFile) {
+		if (!isSet(config, DISTANCE_METRIC)) {
+			config.put(DISTANCE_METRIC, DISTANCE_EUCLIDEAN);
+		}
+		if (!isSet(config, AGGLOMERATION_METHOD)) {
+			config.put(AGGLOMERATION_METHOD, LINKAGE_AVERAGE);
+		}
+		config.put(ORDER_FILE, orderFile.getPath());
+		config.put(DENDRO_FILE, dendroFile.getPath());
+		final String distanceMetric = (String) config.get(DISTANCE_METRIC);
+		final String linkage = (String) config.get(AGGLOMERATION_METHOD);
+		final boolean approximate = isApproximate(config);
+		String microClustersStr = (String) config.get(MICRO_CLUSTERS);
+		final int microClusters = ((microClustersStr == null) || microClustersStr.equals(EMPTY)) ? APPROX_MICRO_CLUSTERS : Integer.parseInt(microClustersStr);
+		return new Callable<Void>() {
+			public Void call() throws Exception {
+				HierarchicalClustering hc;
+				if (approximate) {
+					hc = ApproximateClustering.cluster(iFile, columns, distanceMetric, linkage, microClusters);
+				} else if (DISTANCE_CACHE_ENTRIES > 0) {
+					String key = cacheKey + "|" + distanceMetric.toLowerCase();
+					DistanceMatrix dist = DistanceMatrix.getCached(key);
+					if (dist == null) {
+						dist = DistanceMatrix.compute(data, columns, distanceMetric);
+						DistanceMatrix.putCached(key, dist);
+					}
+					try {
+						hc = cluster(dist, linkage);
+					} finally {
+						dist.release();
+					}
+				} else {
+					hc = cluster(data, columns, distanceMetric, linkage);
+				}
+				hc.writeOrderFile(orderFile, labels);
+				hc.writeDendroFile(dendroFile);
+				return null;
+			}
+		};
+	}
+
+	/*******************************************************************
+	 * METHOD: clusterMatrixFile
+	 *
+	 * This method clusters the rows and columns of a tab delimited matrix
+	 * file (a header line of column labels followed by lines of a row label
+	 * and values) writing the row/column order and dendrogram files.
+	 ******************************************************************/
+	public static void clusterMatrixFile(String matrixFile, String rowDistance, String rowLinkage, String colDistance, String colLinkage,
+			String rowOrderFile, String colOrderFile, String rowDendroFile, String colDendroFile) throws Exception {
+		List<String> rowLabels = new ArrayList<String>();
+		List<float[]> rowValues = new ArrayList<float[]>();
+		String colLabels[];
+		BufferedReader br = new BufferedReader(new FileReader(matrixFile));
+		try {
+			String header[] = br.readLine().split(TAB, -1);
+			String line = br.readLine();
+			int cols = line != null ? line.split(TAB, -1).length-1 : 0;
+			colLabels = Arrays.copyOfRange(header, header.length-cols, header.length);
+			while (line != null) {
+				if (line.length() > 0) {
+					String toks[] = line.split(TAB, -1);
+					float vals[] = new float[cols];
+					for (int j = 0; j < cols; j++) {
+						String tok = toks[j+1].trim();
+						vals[j] = NA_VALUES.contains(tok) ? Float.NaN : Float.parseFloat(tok);
+					}
+					rowLabels.add(toks[0]);
+					rowValues.add(vals);
+				}
+				line = br.readLine();
+			}
+		} finally {
+			br.close();
+		}
+		float data[][] = rowValues.toArray(new float[rowValues.size()][]);
+		HierarchicalClustering rowHc = cluster(data, rowDistance, rowLinkage);
+		rowHc.writeOrderFile(new File(rowOrderFile), rowLabels.toArray(new String[data.length]));
+		rowHc.writeDendroFile(new File(rowDendroFile));
+		HierarchicalClustering colHc = cluster(data, true, colDistance, colLinkage);
+		colHc.writeOrderFile(new File(colOrderFile), colLabels);
+		colHc.writeDendroFile(new File(colDendroFile));
+	}
+}
@@ -79,6 +79,7 @@ public final class ImportConstants {
 	public static String COLORS_LABEL = "\"colors\" :";	
 	public static String DATA_TYPE_LABEL = "\"data_type\" :";	
 	public static String THRESHOLDS_LABEL = "\"thresholds\" :";	
+	public static String LINEAR_EQUIV_LABEL = "\"linearEquiv\" :";	
 	public static String MISSING_LABEL = "\"missing\" :";	
 	public static String LABEL_LABEL = "\"label\" :";	
 	public static String LABELS_LABEL = "\"labels\" :";	
@@ -119,14 +120,20 @@ public final class ImportConstants {
 	public static int PDF_MAP_SIZE = 430;
 	public static int PDF_DENDRO_HEIGHT = 80;
 	public static int PDF_CLASS_HEIGHT = 7;
+	public static float PDF_DENDRO_LINE_WIDTH = 0.5f;
 	public static int PDF_ROW_HEIGHT = 12;
 	public static int PDF_ROW_POS = 0;
 	public static int PDF_COL_POS = 1;
 	public static PDFont PDF_FONT = PDType1Font.HELVETICA;
 	public static PDFont PDF_FONT_BOLD = PDType1Font.HELVETICA_BOLD;
+	public static long PDF_MAIN_MEMORY_BYTES = 64L*1024*1024;
+	public static long PDF_IMAGE_MEMORY_BYTES = 512L*1024*1024;
+	public static int PDF_FULL_PAGE_ROWS = 200;
+	public static int PDF_FULL_PAGE_COLS = 200;
 	public static String GENERATE_PDF = "-PDF";
 	public static String GENERATE_FULL_PDF = "-FULLPDF";
 	public static String GENERATE_NGCHM = "-NGCHM";
+	public static String GENERATE_NGCHM_ONLY = "-NGCHMONLY";
 	public static String GENERATE_HTML = "-HTML";
 	
 	//Dendro PNG Generation Constants
@@ -137,7 +144,8 @@ public final class ImportConstants {
 	public static int TN_MAX_WIDTH = 210;
 	public static int TN_MIN_WIDTH = 170;
 	public static int TN_THUMB_WIDTH = TN_MAX_WIDTH + TN_HEIGHT + 1;
-	public enum LineSegment {NONE, LEFT_END, MIDDLE, RIGHT_END}
+	public static int DENDRO_NORM_HEIGHT = 160;
+	public static int DENDRO_POINTS_PER_LEAF = 3;
 			
 	//Data layer constants
 	public static String LAYER_THUMBNAIL = "tn";
@@ -150,9 +158,48 @@ public final class ImportConstants {
 	public static String HEATMAP_PROPERTIES_FILE = "heatmapProperties.json";
 	public static String MAP_DATA_FILE = "mapData.json";
 	public static String MAP_CONFIG_FILE = "mapConfig.json";
+	public static String MAP_DATA_BIN_FILE = "mapData.bin";
 	public static String BIN_FILE = ".bin";
 	public static String TILE_FILE = ".tile";
 	public static String TXT_FILE = ".txt";
+	public static String TMP_FILE = ".tmp";
+	public static int JSON_WRITE_BUFFER = 262144;
+	public static String GZIP_ENCODING = "gzip";
+	public static String DEFLATE_ENCODING = "deflate";
+	public static String GZIP_FILE = ".gz";
+	public static String DEFLATE_FILE = ".deflate";
+	public static String NGCHM_FILE = ".ngchm";
+	public static String ROW_ORDER_FILE = "rowOrder.txt";
+	public static String COL_ORDER_FILE = "colOrder.txt";
+	public static String ROW_DENDRO_FILE = "rowDendro.txt";
+	public static String COL_DENDRO_FILE = "colDendro.txt";
+
+	//Output sink constants
+	public static String SINK_DIRECTORY = "directory";
+	public static String SINK_ARCHIVE = "archive";
+	public static String SINK_BOTH = "both";
+	public static Set<String> STORED_EXTENSIONS = new HashSet<String>(Arrays.asList(".png",".pdf",".gz",".deflate",".ngchm",".zip"));
+
+	//Clustering constants
+	public static String DISTANCE_EUCLIDEAN = "euclidean";
+	public static String DISTANCE_MANHATTAN = "manhattan";
+	public static String DISTANCE_MAXIMUM = "maximum";
+	public static String DISTANCE_CORRELATION = "correlation";
+	public static String DISTANCE_PEARSON = "pearson";
+	public static String DISTANCE_COSINE = "cosine";
+	public static String LINKAGE_WARD = "ward.D";
+	public static String LINKAGE_WARD2 = "ward.D2";
+	public static String LINKAGE_COMPLETE = "complete";
+	public static String LINKAGE_AVERAGE = "average";
+	public static String LINKAGE_SINGLE = "single";
+	public static double DISTANCE_HEAP_FRACTION = 0.25;
+	public static String DISTANCE_CACHE_PROPERTY = "ngchm.distance.cache.entries";
+	public static int DISTANCE_CACHE_ENTRIES = Integer.getInteger(DISTANCE_CACHE_PROPERTY, 2); //0 disables the distance matrix cache
+	public static String CLUSTERING_EXACT = "exact";
+	public static String CLUSTERING_APPROXIMATE = "approximate";
+	public static int APPROX_MICRO_CLUSTERS = 256;
+	public static int APPROX_BATCH_SIZE = 1024;
+	public static int APPROX_ITERATIONS = 100;
 
 	//Configuration constants
 	public static int THUMB_SIZE = 150;
@@ -161,6 +208,8 @@ public final class ImportConstants {
 	public static String DEFAULT_HEIGHT = "15";
 	public static String ROW = "Row";
 	public static String COL = "Column";
+	public static String ROW_AXIS = "row";
+	public static String COL_AXIS = "col";
 	public static String NA = "NA"; 
 	public static String NONE =  "None";
 	public static String UTF8 = "utf-8";
@@ -187,6 +236,7 @@ public final class ImportConstants {
 	public static String READ_ONLY = "read_only";
 	public static String READ_MATRICES = "read_matrices";
 	public static String WRITE_TILES = "write_tiles";
+	public static String WRITE_BINARY_DATA = "write_binary_data";
 	public static String SUMMARY_METHOD = "summary_method";
 	public static String GRID_SHOW = "grid_show";
 	public static String GRID_COLOR = "grid_color";
@@ -197,6 +247,7 @@ public final class ImportConstants {
 	public static String DETAIL_HEIGHT  = "detail_height";
 	public static String SELECTION_COLOR = "selection_color";
 	public static String OUTPUT_LOC = "output_location";
+	public static String OUTPUT_ARCHIVE = "output_archive";
 	public static String BUILD_PLATFORM = "build_platform";
 	public static String METHOD_SAMPLE = "sample";
 	public static String METHOD_AVERAGE = "average";
@@ -225,10 +276,14 @@ public final class ImportConstants {
 	public static String CUT_LOCATIONS =  "cut_locations";
 	public static String CUT_WIDTH =  "cut_width";
 	public static String TREE_CUTS =  "tree_cuts";
+	public static String TREE_CUT_HEIGHT =  "tree_cut_height";
 	public static String LABEL_MAXIMUM_LENGTH = "label_display_length"; 
 	public static String LABEL_ABBREV_METHOD = "label_display_abbreviation";
 	public static String DISTANCE_METRIC =  "distance_metric";
 	public static String AGGLOMERATION_METHOD =  "agglomeration_method";
+	public static String CLUSTER =  "cluster";
+	public static String CLUSTERING_MODE =  "clustering_mode";
+	public static String MICRO_CLUSTERS =  "micro_clusters";
 	public static String DENDRO_FILE =  "dendro_file";
 	public static String EXTRA_FILE = "label_extra_file";
 	public static String ROW_CONFIGURATION =  "row_configuration";
@@ -251,6 +306,7 @@ public final class ImportConstants {
 	public static String COLORMAP_THRESHOLDS = "thresholds"; 
 	public static String COLORMAP_COLORS = "colors"; 
 	public static String COLORMAP_MISSING = "missing"; 
+	public static String COLORMAP_LINEAR_EQUIV = "linearEquiv";
 	public static String DATA_START_ROW = "data_start_row";
 	public static String DATA_START_COL = "data_start_column"; 
 	public static String DATA_END_ROW = "data_end_row"; 
@@ -258,11 +314,16 @@ public final class ImportConstants {
 	public static String COL_COVARIATES = "col_covariates"; 
 	public static String VALUE_ROW = "value_row"; 
 	public static String VALUE_COL = "value_column"; 
-	public static Set<String> NGCHM_FILES = new HashSet<String>(Arrays.asList("mapConfig.json","mapData.json","tn.png","tnPre.png"));
+	public static Set<String> NGCHM_FILES = new HashSet<String>(Arrays.asList("mapConfig.json","mapData.json","mapData.bin","tn.png","tnPre.png"));
 	
 	
 	public static int RGB_BLACK = -16777216;     
 	public static int RGB_WHITE = -1;     
+	public static int COLOR_LUT_SIZE = 4096;
+	public static int RENDER_BAND_PIXELS = 1 << 18;
+	public static int PNG_COMPRESSION_LEVEL = 6;
+	public static int PNG_FILTER = 5; //PngWriter.FILTER_ADAPTIVE
+	public static int PNG_SEGMENT_BYTES = 1 << 18;
 
 	
 	//Mapping constant for colors
@@ -46,20 +46,23 @@ public class ImportData {
 	public boolean generatePDF = false;
 	public boolean generateFullPDF = false;
 	public boolean generateNGCHM = false;
+	public boolean generateNGCHMOnly = false;
 	public boolean generateHTML = false;
+	public boolean writeBinaryData = false;
 	public ArrayList<AttributeData> chmAttributes = new ArrayList<AttributeData>();
 	public String outputDir;
+	public String outputArchive;
+	public OutputSink output;
 	public RowColData rowData;
 	public RowColData colData;
 	public List<InputFile> matrixFiles = new ArrayList<InputFile>();
-	public Float tnMatrix[][];
+	public RasterBuffer tnMatrix;
 	public BufferedImage tnImage;
 	public String summaryWidth = "50";
 	public String detailWidth = "50";
 	public String summaryHeight = "100";
 	public String detailHeight = "100";
-	public List<Float[][]> pdfMatrices = new ArrayList<Float[][]>();
-	public List<BufferedImage> matrixImages = new ArrayList<BufferedImage>();
+	public List<RasterBuffer> pdfMatrices = new ArrayList<RasterBuffer>();
 	
 	/*******************************************************************
 	 * CONSTRUCTOR: ImportData
@@ -69,6 +72,79 @@ public class ImportData {
 	 ******************************************************************/
 	public ImportData(String[] fileInfo) throws Exception
 	{
+		setOptions(fileInfo);
+			
+		// Retrieve heatmap properties
+		setHeatmapProperties(new File(fileInfo[0]));
+		
+		//Get rows/cols values after adding cut rows and columns
+		InputFile iFile = this.matrixFiles.get(0);
+		int rows = iFile.rows;     
+		int cols = iFile.cols; 
+		if (colData.dendroFile != null) {
+			colData.generateDendroSegments(cols);
+		}
+		if (rowData.dendroFile != null) {
+			rowData.generateDendroSegments(rows);
+		}
+		output = createOutputSink();
+	}
+	
+	private ImportData() {
+	}
+
+	/*******************************************************************
+	 * METHOD: readBuiltMap
+	 *
+	 * This method creates an ImportData object for an already built heat
+	 * map from the mapConfig.JSON and mapData.JSON files in its output
+	 * directory (fileInfo[0]).  The matrix data is not read: it is in the
+	 * map's tile files (see MapPdfGenerator).
+	 ******************************************************************/
+	public static ImportData readBuiltMap(String[] fileInfo) throws Exception
+	{
+		ImportData iData = new ImportData();
+		iData.setOptions(fileInfo);
+		iData.setMapProperties(new File(fileInfo[0]));
+		iData.output = new OutputSink(iData.outputDir);
+		return iData;
+	}
+
+	/*******************************************************************
+	 * METHOD: createOutputSink
+	 *
+	 * This method creates the sink that the map's files are written to.
+	 * When heatmapProperties.json contains an output_archive (e.g. from 
+	 * Galaxy) every file of the output directory is also written to that
+	 * archive.  Otherwise -NGCHM writes the .ngchm file along with the 
+	 * output directory and -NGCHMONLY writes the map's tiles and 
+	 * descriptors to the .ngchm file only.  The full PDF reads the tiles
+	 * back from the output directory, so they are written to both when
+	 * it is requested.
+	 ******************************************************************/
+	private OutputSink createOutputSink() throws Exception {
+		if (outputArchive != null) {
+			if (generateNGCHM) {
+				System.out.println("WARNING: The .ngchm file is not generated when an output_archive is configured.");
+				generateNGCHM = false;
+				generateHTML = false;
+			}
+			return new OutputSink(outputDir, SINK_BOTH, outputArchive, true);
+		}
+		if (generateNGCHM) {
+			String mode = (generateNGCHMOnly && !generateFullPDF) ? SINK_ARCHIVE : SINK_BOTH;
+			return new OutputSink(outputDir, mode, outputDir + FILE_SEP + chmName + NGCHM_FILE, false);
+		}
+		return new OutputSink(outputDir);
+	}
+
+	/*******************************************************************
+	 * METHOD: setOptions
+	 *
+	 * This method sets the output options (e.g. -PDF) that follow the
+	 * first (file) argument.
+	 ******************************************************************/
+	private void setOptions(String[] fileInfo) throws Exception {
 		if (fileInfo.length > 1) {
 			for (int i=1;i< fileInfo.length;i++) {
 				String infoItem = fileInfo[i];
@@ -78,28 +154,17 @@ public class ImportData {
 					generateFullPDF = true;
 				} else if (infoItem.equals(GENERATE_NGCHM)) {
 					generateNGCHM = true;
+				} else if (infoItem.equals(GENERATE_NGCHM_ONLY)) {
+					generateNGCHM = true;
+					generateNGCHMOnly = true;
 				} else if (infoItem.equals(GENERATE_HTML)) {
 					generateNGCHM = true;
 					generateHTML = true;
 				}
 			}
 		}
-			
-		// Retrieve heatmap properties
-		setHeatmapProperties(new File(fileInfo[0]));
-		
-		//Get rows/cols values after adding cut rows and columns
-		InputFile iFile = this.matrixFiles.get(0);
-		int rows = iFile.rows;     
-		int cols = iFile.cols; 
-		if (colData.dendroFile != null) {
-			colData.generateDendroMatrix(cols);
-		}
-		if (rowData.dendroFile != null) {
-			rowData.generateDendroMatrix(rows);
-		}
 	}
-	
+
 	/*******************************************************************
 	 * METHOD: getInputFileRowCols
 	 *
@@ -191,6 +256,10 @@ public class ImportData {
           			readMatrices = tileWrite;
        			}
        		}
+       		String binaryWrite = (String)jsonObject.get(WRITE_BINARY_DATA);
+       		if ((binaryWrite != null) && (binaryWrite.equals(YES))) {
+       			writeBinaryData = true;
+       		}
        		String builderV = (String) jsonObject.get(BUILDER_VER);
        		if (builderV != null) {
        			builderVersion = builderV;
@@ -231,15 +300,18 @@ public class ImportData {
 	        	}
             }
             JSONObject rowConfigData = (JSONObject) jsonObject.get(ROW_CONFIGURATION);
+            JSONObject colConfigData = (JSONObject) jsonObject.get(COL_CONFIGURATION);
             InputFile iFile = matrixFiles.get(0);
+            //Cluster any hierarchically ordered axis that was not supplied with an order file
+            HierarchicalClustering.clusterConfiguredAxes(iFile, rowConfigData, colConfigData, (String) jsonObject.get(OUTPUT_LOC));
             rowData = new RowColData(ROW, importRows,rowConfigData, iFile);
-            JSONObject colConfigData = (JSONObject) jsonObject.get(COL_CONFIGURATION);
             colData = new RowColData(COL, importCols, colConfigData, iFile);
             for (int i=0; i < matrixFiles.size();i++) {
            		InputFile ifl = matrixFiles.get(i);
            		ifl.processInputFile(rowData, colData);
         	}
         	outputDir = (String) jsonObject.get(OUTPUT_LOC);
+        	outputArchive = (String) jsonObject.get(OUTPUT_ARCHIVE);
         	JSONArray classfiles = (JSONArray) jsonObject.get(CLASS_FILES);
             int rowCtr = 0;
             int colCtr = 0;
@@ -286,4 +358,82 @@ public class ImportData {
         }
     }
 
+	/*******************************************************************
+	 * METHOD: setMapProperties
+	 *
+	 * This method sets the properties of an already built heat map from
+	 * its mapConfig.JSON and mapData.JSON files: the map information, a
+	 * matrix file (with its color map and levels) for each data layer,
+	 * the row/col labels and dendrograms, and the classification bars in
+	 * the order they are shown.
+	 ******************************************************************/
+	private void setMapProperties(File mapDir) throws Exception {
+		JSONObject mapConfig = readJsonFile(new File(mapDir, MAP_CONFIG_FILE));
+		JSONObject mapData = readJsonFile(new File(mapDir, MAP_DATA_FILE));
+		JSONObject mapInfo = (JSONObject) ((JSONObject) mapConfig.get("data_configuration")).get("map_information");
+		chmName = (String) mapInfo.get(NAME);
+		chmDescription = (String) mapInfo.get("description");
+		builderVersion = mapInfo.get("builder_version") != null ? (String) mapInfo.get("builder_version") : NA;
+		if (mapInfo.get("read_only") != null) {
+			readOnly = (String) mapInfo.get("read_only");
+		}
+		outputDir = mapDir.getPath();
+		//The dimensions of the map (including cuts) are those of its full resolution level
+		JSONObject levels = (JSONObject) mapInfo.get("levels");
+		JSONObject fullLevel = (JSONObject) levels.get(LAYER_DETAIL);
+		if (fullLevel == null) {
+			fullLevel = (JSONObject) levels.get(LAYER_SUMMARY) != null ? (JSONObject) levels.get(LAYER_SUMMARY) : (JSONObject) levels.get(LAYER_THUMBNAIL);
+		}
+		int rows = ((Number) fullLevel.get("total_rows")).intValue();
+		int cols = ((Number) fullLevel.get("total_cols")).intValue();
+		JSONObject dataLayers = (JSONObject) mapInfo.get("data_layer");
+		for (int i=1; dataLayers.get(DATA_LAYER+i) != null; i++) {
+			InputFile iFile = new InputFile((JSONObject) dataLayers.get(DATA_LAYER+i), DATA_LAYER+i, DATA_POSITION+i, rows, cols);
+			iFile.createImportLayers();
+			matrixFiles.add(iFile);
+		}
+		JSONObject rowConfig = (JSONObject) mapConfig.get(ROW_CONFIGURATION);
+		JSONObject colConfig = (JSONObject) mapConfig.get(COL_CONFIGURATION);
+		rowData = new RowColData(ROW, (JSONObject) mapData.get("row_data"), rowConfig);
+		colData = new RowColData(COL, (JSONObject) mapData.get("col_data"), colConfig);
+		importRows = rowData.dataSize;
+		importCols = colData.dataSize;
+		setMapClasses(rowData, "row", (JSONObject) mapData.get("row_data"), rowConfig);
+		setMapClasses(colData, "column", (JSONObject) mapData.get("col_data"), colConfig);
+	}
+
+	/*******************************************************************
+	 * METHOD: setMapClasses
+	 *
+	 * This method creates the classification bars of an axis of a built
+	 * map in the order of the axis' classifications_order.
+	 ******************************************************************/
+	private void setMapClasses(RowColData rcData, String pos, JSONObject axisData, JSONObject axisConfig) throws Exception {
+		JSONObject classConfigs = (JSONObject) axisConfig.get("classifications");
+		JSONObject classData = (JSONObject) axisData.get("classifications");
+		JSONArray order = (JSONArray) axisConfig.get("classifications_order");
+		if ((classConfigs == null) || (order == null)) {
+			return;
+		}
+		for (int i=0; i < order.size(); i++) {
+			String name = (String) order.get(i);
+			JSONArray values = (JSONArray) ((JSONObject) classData.get(name)).get("values");
+			rcData.classFiles.add(new InputClass(name, pos, (JSONObject) classConfigs.get(name), values, i+1));
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readJsonFile
+	 *
+	 * This method parses a JSON file.
+	 ******************************************************************/
+	private static JSONObject readJsonFile(File file) throws Exception {
+		FileReader reader = new FileReader(file);
+		try {
+			return (JSONObject) new JSONParser().parse(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
 }
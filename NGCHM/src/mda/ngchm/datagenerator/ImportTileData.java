@@ -38,7 +38,7 @@ public class ImportTileData {
 	public ImportTileData(ImportLayerData layerData, int tileCol, int tileRow) throws Exception 
 	{
 		try {
-			fileName = File.separator+layerData.layer+File.separator+layerData.layer+"."+(tileRow+1)+"."+(tileCol+1)+TILE_FILE;
+			fileName = getFileName(layerData.layer, tileRow, tileCol);
 			switch (layerData.layer) {
 		        case "tn": setupThumbnailTile(layerData);  
 		                 break;
@@ -57,6 +57,16 @@ public class ImportTileData {
 	    }
 	}
 	
+	/*******************************************************************
+	 * METHOD: getFileName
+	 *
+	 * This method returns the file name (relative to the data layer
+	 * directory) of the tile at a 0-based tile row/col of a level.
+	 ******************************************************************/
+	public static String getFileName(String layer, int tileRow, int tileCol) {
+		return File.separator+layer+File.separator+layer+"."+(tileRow+1)+"."+(tileCol+1)+TILE_FILE;
+	}
+
 	/*******************************************************************
 	 * METHOD: setupThumbnailTile
 	 *
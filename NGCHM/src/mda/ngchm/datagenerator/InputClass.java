@@ -11,17 +11,23 @@
  ******************************************************************/
 package mda.ngchm.datagenerator;
 
+import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
 import static mda.ngchm.datagenerator.ImportConstants.*;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 public class InputClass {
 	public String name;
@@ -37,9 +43,11 @@ public class InputClass {
 	public String show = YES;
 	public ColorMap map;
 	public String[] orderedClass;
+	public CovariateColumn column;
+	private CovariateColumn numericColumn;
+	public CovariatePyramid pyramid;
 	public BufferedImage classImage;
 	public BufferedImage classLegend;
-	public int[][] classMatrix;
 	public int valueCol = 1;
 	public int classPos = 1;
 	private boolean isMatrixClass = false;
@@ -109,10 +117,16 @@ public class InputClass {
 			cMap.type = (String) jocm.get(COLORMAP_TYPE);
 			if (file.equals("treecut")) {
 				String treeCutStr = (String) jo.get(TREE_CUTS);
-				int treeCuts = treeCutStr != null ? Integer.parseInt(treeCutStr) : 0;
-				RowColData rcd = new RowColData();
-				cutLocations = rcd.getTreeCutPositions(treeCuts, rcData.dendroValues);
-				orderedClass = buildTreeCutClassificationFile(classArray);
+				String treeCutHeightStr = (String) jo.get(TREE_CUT_HEIGHT);
+				TreeCut treeCut;
+				if ((treeCutStr == null) && (treeCutHeightStr != null)) {
+					treeCut = TreeCut.cutByHeight(rcData.dendrogram, Float.parseFloat(treeCutHeightStr), classArray.length-1);
+				} else {
+					int treeCuts = treeCutStr != null ? Integer.parseInt(treeCutStr) : 0;
+					treeCut = TreeCut.cutByCount(rcData.dendrogram, treeCuts, classArray.length-1);
+				}
+				cutLocations = treeCut.cutLocations;
+				orderedClass = buildTreeCutClassificationFile(classArray, treeCut);
 			} else {
 				if (isMatrixClass) {
 					origData = extractClassDataFromMatrix(iFile);
@@ -125,6 +139,7 @@ public class InputClass {
 				}
 				orderedClass = reOrderClassificationFile(origData, classArray);
 			}
+			setColumn(cMap.type);
 			if ((jocm != null) && (jocm.get("colors") != null)) {
 				map = ColorMapGenerator.getJsonColors(jocm, cMap);
 			} else {
@@ -148,6 +163,68 @@ public class InputClass {
 		}
 	}
 	
+	/*******************************************************************
+	 * CONSTRUCTOR: InputClass
+	 *
+	 * This constructor creates an InputClass object for a classification
+	 * bar of an already built heat map from its entry in the
+	 * classifications of mapConfig.JSON (bar settings and color map) and
+	 * its values (in clustered order) in mapData.JSON.  It is used to
+	 * regenerate the PDF of a built map.
+	 ******************************************************************/
+	public InputClass(String className, String pos, JSONObject jo, JSONArray values, int classCtr) throws Exception {
+		name = className;
+		position = pos.trim();
+		classPos = classCtr;
+		if ((String) jo.get(CLASS_BAR_TYPE) != null) {
+			barType = (String) jo.get(CLASS_BAR_TYPE);
+		}
+		if ((String) jo.get(CLASS_FG_COLOR) != null) {
+			fgColor = (String) jo.get(CLASS_FG_COLOR);
+		}
+		if ((String) jo.get(CLASS_BG_COLOR) != null) {
+			bgColor = (String) jo.get(CLASS_BG_COLOR);
+		}
+		if ((String) jo.get(CLASS_LOW_BOUND) != null) {
+			lowBound = (String) jo.get(CLASS_LOW_BOUND);
+		}
+		if ((String) jo.get(CLASS_HIGH_BOUND) != null) {
+			highBound = (String) jo.get(CLASS_HIGH_BOUND);
+		}
+		if ((String) jo.get(SHOW) != null) {
+			show = (String) jo.get(SHOW);
+		}
+		height = (String) jo.get(HEIGHT) != null ? (String) jo.get(HEIGHT) : DEFAULT_HEIGHT;
+		dataType = (String) jo.get(DATA_TYPE);
+		JSONObject jocm = (JSONObject) jo.get(COLORMAP);
+		ColorMap cMap = new ColorMap();
+		cMap.id = position.equals(ROW_AXIS) ? ROW_CLASS+classCtr : COL_CLASS+classCtr;
+		cMap.type = (String) jocm.get(COLORMAP_TYPE);
+		map = ColorMapGenerator.getJsonColors(jocm, cMap);
+		//Values are written with missing values as "null" and cuts as CUT_VALUE
+		orderedClass = new String[values.size()+1];
+		for (int i = 0; i < values.size(); i++) {
+			String val = (String) values.get(i);
+			orderedClass[i+1] = val.equals("null") ? null : val.equals(CUT_VALUE) ? CUT_VALUE : val;
+		}
+		setColumn(cMap.type);
+	}
+
+	/*******************************************************************
+	 * METHOD: setColumn
+	 *
+	 * This method builds the typed column of the re-ordered class values.
+	 * The value strings are kept only for continuous bars, whose original
+	 * text is written to mapData.JSON; discrete values are written from
+	 * the column's dictionary.
+	 ******************************************************************/
+	private void setColumn(String type) {
+		column = new CovariateColumn(orderedClass, type);
+		if (!column.continuous) {
+			orderedClass = null;
+		}
+	}
+
 	/*******************************************************************
 	 * METHOD: setClassName
 	 *
@@ -264,7 +341,14 @@ public class InputClass {
 		return reorg;
 	}
 	
-	private String[] buildTreeCutClassificationFile(String[] order) throws Exception {
+	/*******************************************************************
+	 * METHOD: buildTreeCutClassificationFile
+	 *
+	 * This method builds the classification values for a treecut bar,
+	 * the cluster of each clustered row/col position (cut positions are
+	 * carried over as cuts).
+	 ******************************************************************/
+	private String[] buildTreeCutClassificationFile(String[] order, TreeCut treeCut) throws Exception {
 		String reorg[] = new String[order.length];
 		try {
 			for (int i = 0; i < order.length; i++) {
@@ -273,17 +357,7 @@ public class InputClass {
 	        	  if ((orderStr == null) || (orderStr.equals(CUT_VALUE))) {
 	        		  classification = orderStr;
 	        	  } else {
-	        		  boolean found = false;
-	        		  for (int j=0;j<cutLocations.length;j++) {
-	        			  if (i<cutLocations[j]) {
-	        				  classification = "Cluster"+(j+1);
-	        				  found=true;
-	        				  break;
-	        			  }
-	        			  if (!found) {
-	        				  classification = "Cluster"+(j+2);
-	        			  }
-	        		  }
+	        		  classification = treeCut.getClusterName(i);
 	        	  }
 	              reorg[i] = classification;
 	        }
@@ -308,9 +382,10 @@ public class InputClass {
 		try {
 			float lowVal = MAX_VALUES;
 		    float highVal = MIN_VALUES;
-		    for (int row = 1; row < orderedClass.length; row++) {
-	    		if (MatrixValidator.isNumeric(orderedClass[row])) {
-		        	float floatValue = Float.parseFloat(orderedClass[row]);
+			CovariateColumn numeric = getNumericColumn();
+		    for (int row = 1; row < numeric.length; row++) {
+	    		if (numeric.isValue(row)) {
+		        	float floatValue = numeric.values[row];
 		        	if (floatValue > highVal) {
 		        		highVal = floatValue;
 		        	} else if (floatValue < lowVal) {
@@ -330,72 +405,112 @@ public class InputClass {
 	    }
 	}
 	
+	/*******************************************************************
+	 * METHOD: createClassSummaryImgs
+	 *
+	 * This method creates the summary images of a list of classification
+	 * bars in parallel (one task per bar).
+	 ******************************************************************/
+	public static void createClassSummaryImgs(List<InputClass> classFiles, final int size) throws Exception {
+		final Exception errors[] = new Exception[classFiles.size()];
+		List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+		for (int i = 0; i < classFiles.size(); i++) {
+			final InputClass iClass = classFiles.get(i);
+			final int index = i;
+			tasks.add(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				protected void compute() {
+					try {
+						iClass.createClassSummaryImg(size);
+					} catch (Exception ex) {
+						errors[index] = ex;
+					}
+				}
+			});
+		}
+		ForkJoinTask.invokeAll(tasks);
+		for (Exception ex : errors) {
+			if (ex != null) {
+				throw ex;
+			}
+		}
+	}
+
 	/*******************************************************************
 	 * METHOD: createClassSummaryImg
 	 *
 	 * This method creates a bufferedImage of a given classification bar
 	 * using summary level info its color map.  It is used in generating 
-	 * the heat map PDF.
+	 * the heat map PDF.  Pixels are written directly to the image's int
+	 * array from the typed covariate values; each of the size pixels along
+	 * the bar shows the value at getSummaryPosition.
 	 ******************************************************************/
 	public void createClassSummaryImg(int size) throws Exception {
 		BufferedImage image = null;
 		try {
+			boolean rowBar = position.equals(ROW_AXIS);
+			int count = column.length-1;
 			if (!barType.equals(COLOR_PLOT)) {
-				float barHeight = Float.parseFloat(height);
-				generateClassMatrix(size,barHeight);
-		        image = position.equals("row") ? new BufferedImage((int)barHeight, size, BufferedImage.TYPE_INT_RGB) : new BufferedImage(size, (int)barHeight, BufferedImage.TYPE_INT_RGB);
+				int barHeight = (int) Float.parseFloat(height);
+		        image = rowBar ? new BufferedImage(barHeight, size, BufferedImage.TYPE_INT_RGB) : new BufferedImage(size, barHeight, BufferedImage.TYPE_INT_RGB);
+		        int pixels[] = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
 	       		int fgRgb = Color.decode(fgColor).getRGB();
 	       		int bgRgb = Color.decode(bgColor).getRGB();
-		    	for (int h = 0; h < classMatrix.length; h++) { 
-		    		int[] row = classMatrix[h];
-		    		for (int k = 0; k < row.length; k++) { 
-		    			int posVal = row[k];
-		    			//Reverse draw for column class bar
-		    			int colAdj = (classMatrix.length-1)-h;
-		    			if (posVal == 1) {
-				        	if (position.equals("row")) {
-				        		image.setRGB(h, k, fgRgb);
-				        	} else {
-				                image.setRGB(k, colAdj, fgRgb);
-				        	}
-		    			} else if (posVal == 2) {
-				        	if (position.equals("row")) {
-				        		image.setRGB(h, k, RGB_WHITE);
-				        	} else {
-				                image.setRGB(k, colAdj, RGB_WHITE);
-				        	}
-		    			} else {
-				        	if (position.equals("row")) {
-				        		image.setRGB(h, k, bgRgb);
-				        	} else {
-				                image.setRGB(k, colAdj, bgRgb);
-				        	}
-		    			}
-		    		}
-		    	}
+				boolean isBarPlot = !barType.equals(SCATTER_PLOT);
+				float lowVal = Float.parseFloat(lowBound);
+				float highVal = Float.parseFloat(highBound) + 1;
+				float scaleVal = highVal - lowVal;
+				CovariateColumn numeric = getNumericColumn();
+				int bar[] = new int[barHeight];
+				for (int p = 0; p < size; p++) {
+					int valPos = getSummaryPosition(p, size, count);
+					if (!numeric.isValue(valPos)) {
+						//cuts and missing values are drawn white
+						Arrays.fill(bar, RGB_WHITE);
+					} else {
+						//Values outside the range register as the lowest/highest value in the range (Per Bradley Broom)
+						float origVal = Math.max(lowVal, Math.min(numeric.values[valPos], highVal));
+						int valHeight = Math.min(Math.round(barHeight*((origVal-lowVal)/scaleVal)), barHeight-1);
+						Arrays.fill(bar, bgRgb);
+						if (isBarPlot) {
+							Arrays.fill(bar, 0, valHeight+1, fgRgb);
+						} else {
+							bar[valHeight] = fgRgb;
+						}
+					}
+					//Bar height runs left to right for row bars and bottom to top for column bars
+					for (int h = 0; h < barHeight; h++) {
+						if (rowBar) {
+							pixels[p*barHeight + h] = bar[h];
+						} else {
+							pixels[(barHeight-1-h)*size + p] = bar[h];
+						}
+					}
+				}
 			} else {
-		        int sampleFactor = orderedClass.length/size;
-		        image = position.equals("row") ? new BufferedImage(1, size, BufferedImage.TYPE_INT_RGB) : new BufferedImage(size, 1, BufferedImage.TYPE_INT_RGB);
-	 	        for (int i = 1; i < size + 1; i++) {
-		        	int valPos = i*sampleFactor > orderedClass.length-1 ? orderedClass.length-1 :  i*sampleFactor;
-		        	String elemValue = orderedClass[valPos];
-		        	int rgb = 0;
-		        	if (elemValue == null) {
-	                	Color cut = map.missingColor;
-	                	rgb = cut.getRGB();
-		        	} else if (elemValue == CUT_VALUE) {
-	                	rgb = RGB_WHITE;
-		        	} else {
-			        	if (map.type.equals("continuous")) {
-			        		rgb = getContinuousColor(elemValue);
-			        	} else {
-			        		rgb = getDiscreteColor(elemValue);
-			        	}
+		        image = rowBar ? new BufferedImage(1, size, BufferedImage.TYPE_INT_RGB) : new BufferedImage(size, 1, BufferedImage.TYPE_INT_RGB);
+		        int pixels[] = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		        int missingRgb = map.missingColor.getRGB();
+		        ColorMap.ColorLookup contLookup = null;
+		        int discreteRgb[] = null;
+		        if (column.continuous) {
+		        	contLookup = map.getContinuousLookup();
+		        } else {
+		        	discreteRgb = new int[column.dictionary.length];
+		        	for (int c = 0; c < discreteRgb.length; c++) {
+		        		discreteRgb[c] = getDiscreteColor(column.dictionary[c]);
 		        	}
-		        	if (position.equals("row")) {
-		        		image.setRGB(0, i - 1, rgb);
+		        }
+	 	        for (int p = 0; p < size; p++) {
+		        	int valPos = getSummaryPosition(p, size, count);
+		        	if (column.cuts.get(valPos)) {
+	                	pixels[p] = RGB_WHITE;
+		        	} else if (column.missing.get(valPos)) {
+	                	pixels[p] = missingRgb;
+		        	} else if (column.continuous) {
+		        		pixels[p] = contLookup.getRGB(column.values[valPos]);
 		        	} else {
-		                image.setRGB(i - 1, 0, rgb);
+		        		pixels[p] = discreteRgb[column.codes[valPos]];
 		        	}
 		        }
 			}
@@ -405,100 +520,41 @@ public class InputClass {
 			throw ex;
 	    }
 	}
-	
+
 	/*******************************************************************
-	 * METHOD: generateClassMatrix
+	 * METHOD: getSummaryPosition
 	 *
-	 * This method generates a matrix for the classification bar
-	 * This matrix will be used to generate classification bar
-	 * image for the PDF.
+	 * This method returns the (1-based) position of the value shown by a
+	 * (0-based) pixel of a bar of size pixels showing count values: the
+	 * last value of the pixel's interval when values are summarized, the
+	 * value covering the pixel when there are fewer values than pixels.
 	 ******************************************************************/
-	public void generateClassMatrix(int length,float barHeight) throws Exception {
-		int[][] matrix = new int[Integer.parseInt(height)][length];
-		boolean isBarPlot = barType.equals(SCATTER_PLOT) ? false : true;
-		float highVal = Float.parseFloat(highBound);
-		float lowVal = Float.parseFloat(lowBound);
-		highVal += 1;
-		float scaleVal = highVal - lowVal;
-		int normalizedK = 0;
-		for (int k = 1; k <= length; k++) { 
-			boolean isCut = false;
-			String origStr = orderedClass[k];
-			if ((NA_VALUES.contains(orderedClass[k])) || (CUT_VALUE.contains(origStr))) {
-				isCut = true;
-				origStr = "0";
-			}
-			float origVal = Float.parseFloat(origStr);
-			//For when the range is exclusive: Set for values out side range so that lower values register as the lowest value in the range
-			//and higher values register as the highest value in the range. (Per Bradley Broom)
-			if (origVal < lowVal) origVal = lowVal;
-			if (origVal >= highVal) origVal = highVal;
-			float adjVal = origVal-lowVal;
-			float valScale = adjVal/scaleVal;
-			int valHeight = Math.round(barHeight*valScale) == barHeight ? Math.round(barHeight*valScale)-1 : Math.round(barHeight*valScale);
-			if ((origVal >= lowVal) && (origVal <= highVal)) {
-				if (isBarPlot) {
-					//select from the lower bound UP TO the current position in the matrix
-					if (isCut) {
-						for (int l = 0; l <= Integer.parseInt(height)-1; l++) {
-							matrix[l][normalizedK] = 2;
-						}
-					} else {
-						for (int l = 0; l <= valHeight; l++) {
-							matrix[l][normalizedK] = 1;
-						}
-					}
-				} else {
-					if (isCut) {
-						//set all positions on this row to white
-						for (int l = 0; l <= Integer.parseInt(height)-1; l++) {
-							matrix[l][normalizedK] = 2;
-						}
-					} else {
-						//select just the current position in the matrix
-						matrix[valHeight][normalizedK] = 1;
-					}
-				}
-			}
-			normalizedK++;
-		} 
-		classMatrix = matrix;
+	private static int getSummaryPosition(int pixel, int size, int count) {
+		return (int) Math.max(1, ((long) (pixel+1)*count + size-1)/size);
 	}
 
 	/*******************************************************************
-	 * METHOD: getContinuousColor
+	 * METHOD: getContinuousBreaks
 	 *
-	 * This method retrieves the RGB color corresponding to a given 
-	 * element for drawing a continuous classification bar. It is used
-	 * in generating the heat map PDF.
+	 * This method returns the continuous color map breaks as floats.
 	 ******************************************************************/
-	private int getContinuousColor(String elemValue) throws Exception {
-		ArrayList<String> classBreaks = new ArrayList<String>(map.contBreaks);
-		ArrayList<Color> classColors = new ArrayList<Color>(map.contColors);
-    	int rgb = 0;
-    	if (!MatrixValidator.isNumeric(elemValue)) {
-    		Color missingColor = map.missingColor;
-    		rgb = missingColor.getRGB();
-    	} else {
-        	float eVal = Float.parseFloat(elemValue);
-            int i = 0;
-            // find the breakpoints that this value is between
-            while (Float.parseFloat(classBreaks.get(i)) <= eVal && i < classBreaks.size()-1){
-            	i++;
-            };
-            if (i == 0) {
-        		rgb = classColors.get(i).getRGB();
-    	    } else {           
-    	    	Color lowCol = classColors.get(i-1);
-	            Color hiCol = classColors.get(i);
-	            float low = Float.parseFloat(classBreaks.get(i-1));
-	            float hi = Float.parseFloat(classBreaks.get(i));
-	            float ratio = (hi-eVal)/(hi-low);
-	            Color breakColor = ColorMapGenerator.blendColors(hiCol,lowCol,ratio);
-	            rgb = breakColor.getRGB();
-    	    }
-    	}
-    	return rgb;
+	public float[] getContinuousBreaks() {
+		return map.getContinuousLookup().breakValues;
+	}
+
+	/*******************************************************************
+	 * METHOD: getNumericColumn
+	 *
+	 * This method returns the class values as a continuous column.  This
+	 * is the typed column itself for continuous bars; for scatter and bar
+	 * plots of discrete bars with numeric values it is parsed once from
+	 * the column's dictionary and kept.
+	 ******************************************************************/
+	private CovariateColumn getNumericColumn() {
+		if (numericColumn == null) {
+			numericColumn = column.toContinuous();
+		}
+		return numericColumn;
 	}
 
 	/*******************************************************************
@@ -20,6 +20,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
@@ -90,7 +91,6 @@ public class InputFile {
 		if (selColor != null) {
 	        selectionColor = selColor.trim();
 		}
-		file.trim();
 		position = pos.trim();
    		rowStart = jo.get(DATA_START_ROW) != null ? Integer.parseInt((String) jo.get(DATA_START_ROW)) : 1;
    		colStart = jo.get(DATA_START_COL) != null ? Integer.parseInt((String) jo.get(DATA_START_COL)) : 1;
@@ -106,6 +106,7 @@ public class InputFile {
 		ColorMap cMap = new ColorMap();
 		cMap.id = id; 
 		if (jocm != null) {
+			cMap.type = (String) jocm.get(COLORMAP_TYPE);
 			JSONArray breaks = (JSONArray) jocm.get(COLORMAP_THRESHOLDS);
  			if (breaks != null) {
 	        	float preValue = Float.valueOf(breaks.get(0).toString());
@@ -128,6 +129,17 @@ public class InputFile {
 		//update input file rows and columns to account for cuts added to the matrix
 	    cols += colData.cutLocations.length*colData.cutWidth;
 	    rows += rowData.cutLocations.length*rowData.cutWidth;
+	    createImportLayers();
+	}
+
+	/*******************************************************************
+	 * METHOD: createImportLayers
+	 *
+	 * This method creates the ImportLayerData objects for the levels of
+	 * a matrix of rows x cols (including cuts).  Levels are added until
+	 * one is at a 1-to-1 ratio with the matrix.
+	 ******************************************************************/
+	public void createImportLayers() throws Exception {
 		// Create thumbnail level ImportDataLayer
 		ImportLayerData ild = new ImportLayerData(LAYER_THUMBNAIL, rows, cols);
 		importLayers.add(ild);
@@ -181,14 +193,80 @@ public class InputFile {
 	 * clustered order using the row/col clustering tsv files.  
 	 ******************************************************************/
 	public float[][] getReorderedInputMatrix(RowColData rowData, RowColData colData) throws Exception {
+		return getReorderedInputMatrix(rowData, colData, null);
+	}
+
+	/*******************************************************************
+	 * METHOD: getReorderedInputMatrix
+	 *
+	 * This method reads and re-orders the data matrix (as above), adding
+	 * each data value to a statistics accumulator as it is read.
+	 ******************************************************************/
+	public float[][] getReorderedInputMatrix(RowColData rowData, RowColData colData, MatrixStatistics stats) throws Exception {
+		float[][] matrix = new float[rows+1][cols+1];
+		initializeMatrix(matrix);
+		readInputMatrix(matrix, rowData, colData, stats, null);
+		return matrix;
+	}
+
+	/*******************************************************************
+	 * METHOD: getInputData
+	 *
+	 * This method reads the data values of the matrix file in matrix order
+	 * (0-based, without the label row/column) into a rows x cols array
+	 * using NaN for missing values.  The file is validated as it is when
+	 * reading the re-ordered matrix.
+	 ******************************************************************/
+	public float[][] getInputData() throws Exception {
+		final float[][] data = new float[rows][cols];
+		for (int i = 0; i < rows; i++) {
+			Arrays.fill(data[i], Float.NaN);
+		}
+		readInputData(new DataReceiver() {
+			public void receive(int row, int col, float value) {
+				data[row][col] = value;
+			}
+		});
+		return data;
+	}
+
+	/*******************************************************************
+	 * CLASS: DataReceiver
+	 *
+	 * Receives each data value of the matrix file as it is read: the
+	 * (0-based) row and column in matrix order and the value, NaN for
+	 * missing values.
+	 ******************************************************************/
+	public static abstract class DataReceiver {
+		public abstract void receive(int row, int col, float value) throws Exception;
+	}
+
+	/*******************************************************************
+	 * METHOD: readInputData
+	 *
+	 * This method streams the data values of the matrix file, a line at a
+	 * time, to a receiver without holding the matrix in memory.  The file
+	 * is validated as it is when reading the re-ordered matrix.
+	 ******************************************************************/
+	public void readInputData(DataReceiver receiver) throws Exception {
+		readInputMatrix(null, null, null, null, receiver);
+	}
+
+	/*******************************************************************
+	 * METHOD: readInputMatrix
+	 *
+	 * This method reads the data matrix file.  Without a receiver the
+	 * labels and data are placed in the matrix in clustered order (as read
+	 * by getReorderedInputMatrix); with one only the data values are
+	 * passed to it, in matrix order (as read by readInputData).
+	 ******************************************************************/
+	private void readInputMatrix(float matrix[][], RowColData rowData, RowColData colData, MatrixStatistics stats, DataReceiver receiver) throws Exception {
 		String errMsg = null;
         if (!(new File(file).exists())) {
         	throw new Exception("ERROR: Data matrix file cannot be found");
         }
         FileInputStream inputStream = null;
         Scanner sc = null;
-		float[][] matrix = new float[rows+1][cols+1];
-		initializeMatrix(matrix);
 	    try {
 	        inputStream = new FileInputStream(file);
 	        sc = new Scanner(inputStream, "UTF-8");
@@ -230,7 +308,7 @@ public class InputFile {
 		        	int lineLen = (pos == 0 && headerLength < toks.length) ? headerLength : toks.length;
 		    		//new row position based on clustering order file
 	    			int yPos = pos == 0 ? 0 : pos-colCovs;
-	    			int newRow = rowData.orderArray[yPos];
+	    			int newRow = receiver != null ? yPos-1 : rowData.orderArray[yPos];
 		            for (int i = colStart; i < lineLen; i++) {
 	        			float fVal = 0;
 		            	if (pos == 0) {
@@ -263,8 +341,21 @@ public class InputFile {
 		            		}
 		            	}
 			    		int xPos = i == 0 ? 0 : i-rowCovs;
+			    		if (receiver != null) {
+			    			if ((pos > colCovs) && (i >= colDataStart)) {
+			    				receiver.receive(newRow, xPos-1, (fVal == MAX_VALUES) ? Float.NaN : fVal);
+			    			}
+			    			continue;
+			    		}
 			    		int newCol = colData.orderArray[xPos];
 	            		matrix[newRow][newCol] = fVal;
+	            		if ((stats != null) && (pos > colCovs) && (i >= colDataStart)) {
+	            			if (fVal == MAX_VALUES) {
+	            				stats.addMissing();
+	            			} else {
+	            				stats.add(newCol, fVal);
+	            			}
+	            		}
 	 	            }
 		            // If data in matrix file ends before last line (i.e. there is anything after the matrix data including another matrix)
 		            // stop pulling data for this layer
@@ -292,7 +383,6 @@ public class InputFile {
 	            sc.close();
 	        }
 	    }
-	    return matrix;
 	}	
 	
 	/*******************************************************************
@@ -703,18 +793,18 @@ public class InputFile {
 	/*******************************************************************
 	 * METHOD: createDistributionLegendImg
 	 *
-	 * This method creates a bufferedImage for the legend of the  
-	 * classification bar using summary level info its color map. It is
-	 * used in generating the heat map PDF.
+	 * This method creates a bufferedImage for the data distribution
+	 * legend of the matrix from the matrix statistics and its color map.
+	 * It is used in generating the heat map PDF.
 	 ******************************************************************/
-	public void createDistributionLegendImg(float[][] clusteredMatrix) throws Exception {
+	public void createDistributionLegendImg(MatrixStatistics stats) throws Exception {
 		
 		ColorMap cm = getMap();
-        float lowBP = Float.parseFloat(cm.breaks.get(0));
-        float highBP = Float.parseFloat(cm.breaks.get(cm.breaks.size()-1));
+		ColorMap.ColorLookup lookup = cm.getLookup();
+        float lowBP = lookup.breakValues[0];
+        float highBP = lookup.breakValues[lookup.breakValues.length-1];
         float range = highBP - lowBP;
-        int missingNum = 0;
-        int gapCount = 0;
+        int missingNum = (int) stats.missingCount;
         int binNums = 10;
         int threshNums = binNums - 1; 
         int[] countBins = new int[binNums];
@@ -722,31 +812,14 @@ public class InputFile {
         for (int i = 0; i < threshNums; i++) {
      	   thresh[i] = lowBP + i*(range/(threshNums-1));
         }
-        int asdf = 0;
-        asdf = asdf +1;
-        for (int i = 1; i < clusteredMatrix.length; i++) {
-     	   for (int j = 1; j < clusteredMatrix[i].length; j++) {
-     		   float v = clusteredMatrix[i][j];
-     		   boolean gap = v == MIN_VALUES ? true : false;
-     		   if (v == MAX_VALUES) {
-     			  missingNum ++;
-     		   } else if (gap) {
-     			   gapCount ++;
-     		   } else if (v < lowBP) {
-     			   countBins[0]++;
-     		   } else if (highBP <= v) {
-     			   countBins[threshNums]++;
-     		   } else {
-     			   for (int k = 0; k < threshNums; k++) {
-     				   if ( v < thresh[k]) {
-     					   countBins[k]++;
-     					   break;
-     				   }
-     			   }
-     		   }
-     	   }
+        // bin 0 holds values below the low breakpoint, bin k values from
+        // threshold k-1 up to threshold k, and the last bin values at or
+        // above the high breakpoint
+        countBins[0] = (int) stats.countLess(lowBP);
+        for (int k = 1; k < threshNums; k++) {
+        	countBins[k] = (int) (stats.countLess(thresh[k]) - stats.countLess(thresh[k-1]));
         }
-        asdf = asdf + 1;
+        countBins[threshNums] = (int) (stats.count - stats.countLess(highBP));
         int maxCountInt = missingNum;
         for (int a = 0; a < binNums; a++) {
      	   if (countBins[a] > maxCountInt) {
@@ -760,19 +833,7 @@ public class InputFile {
 		Color elemColor;
 		int rgb = 0;
 		for (int b = 0; b < threshNums; b++) {
-			float eVal = thresh[b];
-			int i = 0;
-			// find the breakpoints that this value is between
-			while (Float.parseFloat(cm.breaks.get(i)) <= eVal && i < cm.breaks.size()-1){
-				i++;
-			};
-			Color lowCol = cm.colors.get(i-1);
-			Color hiCol = cm.colors.get(i);
-			float low = Float.parseFloat(cm.breaks.get(i-1));
-			float hi = Float.parseFloat(cm.breaks.get(i));
-			float ratio = (hi-eVal)/(hi-low);
-			Color breakColor = ColorMapGenerator.blendColors(hiCol,lowCol,ratio);
-			rgb = breakColor.getRGB();
+			rgb = lookup.getExactRGB(thresh[b]);
 			float length = Math.max(1,countBins[b]/maxCount-1);
 			for (int c = 0; c < length; c++) {
 				image.setRGB(c, b*10, RGB_BLACK);
@@ -800,7 +861,7 @@ public class InputFile {
 		}
 		elemColor = cm.missingColor;
 		rgb = elemColor.getRGB();
-		length = Math.max(1,missingCount/maxCount-1);
+		length = Math.max(1,missingNum/maxCount-1);
 		for (int e = 0; e < length; e++) {
 			image.setRGB(e, legendHeight-1, RGB_BLACK);
 			image.setRGB(e, legendHeight-10, RGB_BLACK);
@@ -0,0 +1,251 @@
+/*******************************************************************
+ * CLASS: JsonStreamWriter
+ *
+ * This class implements a buffered, streaming writer used to emit the
+ * mapData.JSON and mapConfig.JSON output files.  Characters are
+ * accumulated in a large char buffer and handed to a UTF-8 encoder
+ * only when the buffer fills, so writing hundreds of thousands of
+ * labels and covariate values does not require an intermediate String
+ * per value.  Quoted values are JSON-escaped as they are copied into
+ * the buffer: runs of characters that need no escaping are copied
+ * directly from the source String.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class JsonStreamWriter extends Writer {
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+	private Writer out;
+	private char buffer[];
+	private int pos = 0;
+
+	/*******************************************************************
+	 * CONSTRUCTOR: JsonStreamWriter
+	 *
+	 * This constructor creates a JsonStreamWriter that encodes its
+	 * output as UTF-8 to the OutputStream provided.
+	 ******************************************************************/
+	public JsonStreamWriter(OutputStream os) throws Exception {
+		this(os, JSON_WRITE_BUFFER);
+	}
+
+	public JsonStreamWriter(OutputStream os, int bufferSize) throws Exception {
+		out = new OutputStreamWriter(os, UTF8);
+		buffer = new char[bufferSize];
+	}
+
+	/*******************************************************************
+	 * METHOD: writeString
+	 *
+	 * This method writes out a value as a quoted, escaped, JSON string.
+	 * A null value is written as the string "null" to remain compatible
+	 * with output previously produced by string concatenation.
+	 ******************************************************************/
+	public void writeString(String val) throws IOException {
+		write('"');
+		writeEscaped(val == null ? "null" : val);
+		write('"');
+	}
+
+	/*******************************************************************
+	 * METHOD: writeProperty
+	 *
+	 * This method writes out a JSON property label constant (e.g.
+	 * NAME_LABEL) followed by its quoted, escaped, value and, optionally,
+	 * a trailing comma.
+	 ******************************************************************/
+	public void writeProperty(String label, String val, boolean addComma) throws IOException {
+		write(label);
+		writeString(val);
+		if (addComma) {
+			write(',');
+		}
+	}
+
+	public void writeProperty(String label, int val, boolean addComma) throws IOException {
+		writeProperty(label, Integer.toString(val), addComma);
+	}
+
+	/*******************************************************************
+	 * METHOD: writeInt
+	 *
+	 * This method writes out the decimal digits of an int directly into
+	 * the buffer (used for large numeric arrays such as dendrograms).
+	 ******************************************************************/
+	public void writeInt(int val) throws IOException {
+		if (val == Integer.MIN_VALUE) {
+			write(Integer.toString(val));
+			return;
+		}
+		if (val < 0) {
+			write('-');
+			val = -val;
+		}
+		if (buffer.length - pos < 10) {
+			flushBuffer();
+		}
+		int digits = 1;
+		for (int n = val; n >= 10; n /= 10) {
+			digits++;
+		}
+		for (int i = pos + digits - 1; i >= pos; i--) {
+			buffer[i] = (char) ('0' + (val % 10));
+			val /= 10;
+		}
+		pos += digits;
+	}
+
+	/*******************************************************************
+	 * METHOD: writeEscaped
+	 *
+	 * This method writes out the contents of a JSON string value (without
+	 * surrounding quotes), escaping quotes, backslashes, and control
+	 * characters.  Unescaped runs are copied straight from the source.
+	 ******************************************************************/
+	public void writeEscaped(String val) throws IOException {
+		int len = val.length();
+		int runStart = 0;
+		for (int i = 0; i < len; i++) {
+			char c = val.charAt(i);
+			if ((c >= ' ') && (c != '"') && (c != '\\')) {
+				continue;
+			}
+			if (i > runStart) {
+				write(val, runStart, i - runStart);
+			}
+			runStart = i + 1;
+			switch (c) {
+				case '"':  write('\\'); write('"'); break;
+				case '\\': write('\\'); write('\\'); break;
+				case '\n': write('\\'); write('n'); break;
+				case '\r': write('\\'); write('r'); break;
+				case '\t': write('\\'); write('t'); break;
+				case '\b': write('\\'); write('b'); break;
+				case '\f': write('\\'); write('f'); break;
+				default:
+					write('\\'); write('u'); write('0'); write('0');
+					write(HEX_CHARS[(c >> 4) & 0xF]); write(HEX_CHARS[c & 0xF]);
+			}
+		}
+		if (len > runStart) {
+			write(val, runStart, len - runStart);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: escape
+	 *
+	 * This utility method returns a JSON-escaped copy of a value for
+	 * callers that build small JSON fragments as Strings (e.g. ColorMap).
+	 * The value itself is returned when no escaping is required.
+	 ******************************************************************/
+	public static String escape(String val) {
+		if (val == null) {
+			return val;
+		}
+		int len = val.length();
+		int i = 0;
+		while ((i < len) && (val.charAt(i) >= ' ') && (val.charAt(i) != '"') && (val.charAt(i) != '\\')) {
+			i++;
+		}
+		if (i == len) {
+			return val;
+		}
+		StringBuilder sb = new StringBuilder(len + 16);
+		sb.append(val, 0, i);
+		for (; i < len; i++) {
+			char c = val.charAt(i);
+			switch (c) {
+				case '"':  sb.append("\\\""); break;
+				case '\\': sb.append("\\\\"); break;
+				case '\n': sb.append("\\n"); break;
+				case '\r': sb.append("\\r"); break;
+				case '\t': sb.append("\\t"); break;
+				case '\b': sb.append("\\b"); break;
+				case '\f': sb.append("\\f"); break;
+				default:
+					if (c < ' ') {
+						sb.append("\\u00").append(HEX_CHARS[(c >> 4) & 0xF]).append(HEX_CHARS[c & 0xF]);
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+		return sb.toString();
+	}
+
+	/*******************************************************************
+	 * METHODS: java.io.Writer implementation
+	 *
+	 * Raw (unescaped) output used for JSON structure and label constants.
+	 ******************************************************************/
+	@Override
+	public void write(int c) throws IOException {
+		if (pos == buffer.length) {
+			flushBuffer();
+		}
+		buffer[pos++] = (char) c;
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		while (len > 0) {
+			if (pos == buffer.length) {
+				flushBuffer();
+			}
+			int n = Math.min(len, buffer.length - pos);
+			str.getChars(off, off + n, buffer, pos);
+			pos += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (len >= buffer.length) {
+			flushBuffer();
+			out.write(cbuf, off, len);
+			return;
+		}
+		if (len > buffer.length - pos) {
+			flushBuffer();
+		}
+		System.arraycopy(cbuf, off, buffer, pos, len);
+		pos += len;
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			out.write(buffer, 0, pos);
+			pos = 0;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (out != null) {
+			flushBuffer();
+			out.close();
+			out = null;
+		}
+	}
+}
@@ -4,8 +4,6 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -117,41 +115,13 @@ public class LegacyMapGen {
 		return label;
 	}
 	
-	public static void execRClustering(String dataloc) {
-	   ArrayList<String> commandLine = new ArrayList<String>();
-
-	   commandLine.add("R");
-       commandLine.add("--slave");
-       commandLine.add("--vanilla");
-       commandLine.add("--file="+HOME_DIR+"\\galaxy\\CHM.R");
-       commandLine.add("--args");
-       commandLine.add(dataloc+File.separator+"data1.data.tsv");
-       commandLine.add("Hierarchical");
-       commandLine.add("euclidean");
-       commandLine.add("ward.D");
-       commandLine.add("Hierarchical");
-       commandLine.add("euclidean");
-       commandLine.add("ward.D");
-       commandLine.add(dataloc+File.separator+"ROfile.txt");
-       commandLine.add(dataloc+File.separator+"COfile.txt");
-       commandLine.add(dataloc+File.separator+"RDfile.txt");
-       commandLine.add(dataloc+File.separator+"CDfile.txt");
-
+	public static void execClustering(String dataloc) {
        try {
-	       ProcessBuilder pb = new ProcessBuilder(commandLine);
-	       pb.redirectErrorStream(true);
-	       Process process = pb.start();
-	       InputStream stdout = process.getInputStream();
-	       BufferedReader br = new BufferedReader(new InputStreamReader(stdout));
-	        String line = null;
-	        while ((line = br.readLine()) != null) {
-	        	System.out.println(line);
-	        }
-	       int exitCode = process.waitFor();
-	       if (exitCode == 0)
-	    	   System.out.println("STATUS: COMPLETE");
-	       else
-	    	   System.out.println("STATUS: ERROR");
+    	   HierarchicalClustering.clusterMatrixFile(dataloc+File.separator+"data1.data.tsv",
+    			   DISTANCE_EUCLIDEAN, LINKAGE_WARD, DISTANCE_EUCLIDEAN, LINKAGE_WARD,
+    			   dataloc+File.separator+"ROfile.txt", dataloc+File.separator+"COfile.txt",
+    			   dataloc+File.separator+"RDfile.txt", dataloc+File.separator+"CDfile.txt");
+    	   System.out.println("STATUS: COMPLETE");
        } catch (Exception e) {
     	   System.out.println("Clustering step failed: "+e.toString());
        }
@@ -200,7 +170,7 @@ public class LegacyMapGen {
 		    		rowClassesExist = true;
 		    	}
 	    	}
-	    	execRClustering(dataLoc);
+	    	execClustering(dataLoc);
 	    	
 			//Read thru legacy chm.properties file, adding to an pair of properties/values string arrays.
 			int datalayers = 0;
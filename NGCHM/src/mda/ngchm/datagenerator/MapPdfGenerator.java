@@ -0,0 +1,139 @@
+/*******************************************************************
+ * CLASS: MapPdfGenerator
+ *
+ * This class generates the PDF and/or full PDF of an already built heat
+ * map from its output directory alone, without the source matrices.  The
+ * map's configuration (color maps, covariate bar settings, top items) is
+ * read from mapConfig.JSON, so a PDF regenerated after the map has been
+ * edited in the viewer (e.g. new colors) reflects those edits.  Labels,
+ * dendrograms, and covariate values are read from mapData.JSON, and the
+ * heat map values from the map's tile files: the summary (or thumbnail)
+ * level for the PDF and the full resolution level for the full PDF and
+ * its data distribution.  The PDFs are then generated exactly as they are
+ * at the end of a build (see HeatmapDataGenerator.generatePDFs).
+ *
+ * Usage: MapPdfGenerator <map directory> [-PDF] [-FULLPDF]
+ *        (the PDF is generated when neither option is given)
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+import java.io.File;
+import java.util.Date;
+
+public class MapPdfGenerator {
+
+	/*******************************************************************
+	 * METHOD: main
+	 *
+	 * This method is the entry point for regenerating the PDF of a built
+	 * heat map from the command line.
+	 ******************************************************************/
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.out.println("Usage: MapPdfGenerator <map directory> [" + GENERATE_PDF + "] [" + GENERATE_FULL_PDF + "]");
+			System.exit(1);
+		}
+		String errMsg = processMap(args);
+		if (errMsg != EMPTY) {
+			System.out.println("ERROR in MapPdfGenerator e= " + errMsg);
+			System.exit(1);
+		} else {
+			System.exit(0);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: processMap
+	 *
+	 * This method reads a built heat map and generates its PDFs.  It
+	 * returns an error message, or EMPTY if the PDFs were generated.
+	 ******************************************************************/
+	public static String processMap(String[] args) {
+		System.out.println("START Map PDF Generation: " + new Date());
+		//Used to keep pdfBox warning messages out of the log
+		java.util.logging.Logger.getLogger("org.apache.pdfbox").setLevel(java.util.logging.Level.SEVERE);
+		ImportData iData = null;
+		try {
+			iData = readMap(args);
+		} catch (Exception ex) {
+			System.out.println("FATAL ERROR: Reading built heat map. " + ex.toString());
+			ex.printStackTrace();
+			return "PDF ERROR: Reading built heat map " + args[0] + ". " + ex.toString();
+		}
+		if (!HeatmapDataGenerator.generatePDFs(iData)) {
+			return "PDF ERROR: Generating PDF for heat map " + args[0] + ".";
+		}
+		System.out.println("END Map PDF Generation: " + new Date());
+		return EMPTY;
+	}
+
+	/*******************************************************************
+	 * METHOD: readMap
+	 *
+	 * This method creates the ImportData object of a built map and reads
+	 * the level values needed by the PDFs requested from its tile files.
+	 ******************************************************************/
+	public static ImportData readMap(String[] args) throws Exception {
+		ImportData iData = ImportData.readBuiltMap(args);
+		if (!iData.generatePDF && !iData.generateFullPDF) {
+			iData.generatePDF = true;
+		}
+		for (int i = 0; i < iData.matrixFiles.size(); i++) {
+			InputFile iFile = iData.matrixFiles.get(i);
+			String layerDir = iData.outputDir + File.separator + DATA_LAYER + (i+1);
+			if (iData.generatePDF) {
+				ImportLayerData pdfLevel = getLevel(iFile, iFile.hasSummary ? LAYER_SUMMARY : LAYER_THUMBNAIL);
+				iData.pdfMatrices.add(RasterBuffer.read(new TileMatrixSource(layerDir, pdfLevel)));
+			}
+			if (iData.generateFullPDF) {
+				ImportLayerData fullLevel = getLevel(iFile, iFile.hasDetail ? LAYER_DETAIL : iFile.hasSummary ? LAYER_SUMMARY : LAYER_THUMBNAIL);
+				iFile.createDistributionLegendImg(readStatistics(new TileMatrixSource(layerDir, fullLevel)));
+			}
+		}
+		return iData;
+	}
+
+	/*******************************************************************
+	 * METHOD: getLevel
+	 *
+	 * This method returns the ImportLayerData of a level of a matrix.
+	 ******************************************************************/
+	private static ImportLayerData getLevel(InputFile iFile, String layer) throws Exception {
+		for (ImportLayerData ilData : iFile.importLayers) {
+			if (ilData.layer.equals(layer)) {
+				return ilData;
+			}
+		}
+		throw new Exception("Level " + layer + " not found for data layer " + iFile.id);
+	}
+
+	/*******************************************************************
+	 * METHOD: readStatistics
+	 *
+	 * This method accumulates the statistics of the full resolution level
+	 * of a matrix (as they were accumulated from the matrix file during the
+	 * build) reading a block of rows at a time.  Cut cells (MIN_VALUES) are
+	 * skipped and missing cells (MAX_VALUES) are counted as missing.
+	 ******************************************************************/
+	private static MatrixStatistics readStatistics(MatrixSource source) throws Exception {
+		MatrixStatistics stats = new MatrixStatistics(source.cols);
+		int blockRows = Math.max(1, Math.min(source.rows, (1 << 20)/Math.max(1, source.cols)));
+		float values[] = new float[blockRows*source.cols];
+		for (int row = 0; row < source.rows; row += blockRows) {
+			int numRows = Math.min(blockRows, source.rows - row);
+			source.getRows(row, numRows, values);
+			for (int i = 0; i < numRows*source.cols; i++) {
+				float v = values[i];
+				if (v == MAX_VALUES) {
+					stats.addMissing();
+				} else if (v != MIN_VALUES) {
+					stats.add(i % source.cols + 1, v);
+				}
+			}
+		}
+		return stats;
+	}
+}
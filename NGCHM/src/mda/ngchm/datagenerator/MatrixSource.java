@@ -0,0 +1,24 @@
+/*******************************************************************
+ * CLASS: MatrixSource
+ *
+ * This class is the base of the sources of matrix values that heat map
+ * images are rendered from (see HeatmapRenderer): a RasterBuffer of
+ * captured tile level values or the tile files of a level read back
+ * from disk (TileMatrixSource).  Values are read in blocks of whole
+ * rows so that a source can read them in bulk.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+public abstract class MatrixSource {
+	public int rows;
+	public int cols;
+
+	/*******************************************************************
+	 * METHOD: getRows
+	 *
+	 * This method reads numRows rows starting at a 0-based row into a
+	 * row-major array of numRows*cols values.
+	 ******************************************************************/
+	public abstract void getRows(int firstRow, int numRows, float values[]) throws Exception;
+}
@@ -0,0 +1,192 @@
+/*******************************************************************
+ * CLASS: MatrixStatistics
+ *
+ * This class accumulates statistics of a data matrix as its values are
+ * read (see InputFile.getReorderedInputMatrix) so that default color
+ * map breaks, quantile breaks, and the data distribution legend do not
+ * need further passes over the matrix.  The statistics are:
+ *   colMin/colMax - the minimum and maximum value of each (clustered)
+ *                   matrix column.
+ *   count/missingCount - the number of values and missing values.
+ *   a histogram   - value counts in 2^HISTOGRAM_BITS buckets spanning
+ *                   the whole float range (each bucket holds floats
+ *                   sharing their leading bits, a relative width of
+ *                   about 0.2%), with the smallest and largest value of
+ *                   each bucket.
+ *
+ * The histogram is a mergeable quantile sketch: counts below a value and
+ * quantiles are exact to within the values of a single bucket (which are
+ * interpolated).  Buckets are aligned so that values with few significant
+ * bits (e.g. -2, 0.5, 8) start a bucket, making counts below such values
+ * exact.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.util.Arrays;
+
+public class MatrixStatistics {
+	private static final int HISTOGRAM_BITS = 18;
+	private static final int HISTOGRAM_SHIFT = 32 - HISTOGRAM_BITS;
+	private static final int HISTOGRAM_OFFSET = 1 << (HISTOGRAM_BITS-1);
+
+	public float colMin[];
+	public float colMax[];
+	public long count = 0;
+	public long missingCount = 0;
+	public float min = Float.POSITIVE_INFINITY;
+	public float max = Float.NEGATIVE_INFINITY;
+	private long histogram[] = new long[1 << HISTOGRAM_BITS];
+	private float bucketMin[] = new float[1 << HISTOGRAM_BITS];
+	private float bucketMax[] = new float[1 << HISTOGRAM_BITS];
+
+	public MatrixStatistics(int cols) {
+		colMin = new float[cols+1];
+		colMax = new float[cols+1];
+		Arrays.fill(colMin, Float.POSITIVE_INFINITY);
+		Arrays.fill(colMax, Float.NEGATIVE_INFINITY);
+	}
+
+	/*******************************************************************
+	 * METHOD: add
+	 *
+	 * This method adds a (non-missing) value of a matrix column.
+	 ******************************************************************/
+	public void add(int col, float value) {
+		if (Float.isNaN(value)) {
+			addMissing();
+			return;
+		}
+		if (value < colMin[col]) {
+			colMin[col] = value;
+		}
+		if (value > colMax[col]) {
+			colMax[col] = value;
+		}
+		int bucket = getBucket(value);
+		if ((histogram[bucket] == 0) || (value < bucketMin[bucket])) {
+			bucketMin[bucket] = value;
+		}
+		if ((histogram[bucket] == 0) || (value > bucketMax[bucket])) {
+			bucketMax[bucket] = value;
+		}
+		histogram[bucket]++;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		count++;
+	}
+
+	public void addMissing() {
+		missingCount++;
+	}
+
+	/*******************************************************************
+	 * METHOD: merge
+	 *
+	 * This method adds the statistics of another part of the same matrix
+	 * (e.g. accumulated by another thread) to these statistics.
+	 ******************************************************************/
+	public void merge(MatrixStatistics other) {
+		for (int col = 0; col < colMin.length; col++) {
+			colMin[col] = Math.min(colMin[col], other.colMin[col]);
+			colMax[col] = Math.max(colMax[col], other.colMax[col]);
+		}
+		for (int b = 0; b < histogram.length; b++) {
+			if (other.histogram[b] > 0) {
+				bucketMin[b] = histogram[b] == 0 ? other.bucketMin[b] : Math.min(bucketMin[b], other.bucketMin[b]);
+				bucketMax[b] = histogram[b] == 0 ? other.bucketMax[b] : Math.max(bucketMax[b], other.bucketMax[b]);
+				histogram[b] += other.histogram[b];
+			}
+		}
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		count += other.count;
+		missingCount += other.missingCount;
+	}
+
+	/*******************************************************************
+	 * METHOD: getBucket
+	 *
+	 * This method returns the histogram bucket of a value: the leading
+	 * bits of a key that orders floats as integers (the magnitude bits,
+	 * negated for negative values).
+	 ******************************************************************/
+	private static int getBucket(float value) {
+		int bits = Float.floatToIntBits(value);
+		int key = bits < 0 ? -(bits & 0x7fffffff) : bits;
+		return (key >> HISTOGRAM_SHIFT) + HISTOGRAM_OFFSET;
+	}
+
+	/*******************************************************************
+	 * METHOD: getMeanColumnMin/getMeanColumnMax
+	 *
+	 * These methods return the mean of the column minimums/maximums over
+	 * the columns containing values.
+	 ******************************************************************/
+	public double getMeanColumnMin() {
+		return getMeanColumnValue(colMin);
+	}
+
+	public double getMeanColumnMax() {
+		return getMeanColumnValue(colMax);
+	}
+
+	private double getMeanColumnValue(float values[]) {
+		double sum = 0;
+		int cols = 0;
+		for (int col = 0; col < values.length; col++) {
+			if (colMin[col] <= colMax[col]) {
+				sum += values[col];
+				cols++;
+			}
+		}
+		return cols > 0 ? sum/cols : 0;
+	}
+
+	/*******************************************************************
+	 * METHOD: countLess
+	 *
+	 * This method returns the number of values less than a given value.
+	 ******************************************************************/
+	public long countLess(float value) {
+		int bucket = getBucket(value);
+		long less = 0;
+		for (int b = 0; b < bucket; b++) {
+			less += histogram[b];
+		}
+		long inBucket = histogram[bucket];
+		if ((inBucket == 0) || (bucketMin[bucket] >= value)) {
+			return less;
+		} else if (bucketMax[bucket] < value) {
+			return less + inBucket;
+		}
+		double fraction = (value - bucketMin[bucket])/(bucketMax[bucket] - bucketMin[bucket]);
+		return less + Math.round(inBucket*fraction);
+	}
+
+	/*******************************************************************
+	 * METHOD: getQuantile
+	 *
+	 * This method returns a quantile (0 thru 1) of the values, the value
+	 * at rank q*(count-1) of the sorted values (R's default quantile type).
+	 ******************************************************************/
+	public float getQuantile(double q) {
+		if (count == 0) {
+			return 0;
+		}
+		double rank = Math.max(0, Math.min(1, q))*(count-1);
+		long below = 0;
+		for (int b = 0; b < histogram.length; b++) {
+			long inBucket = histogram[b];
+			if (below + inBucket > rank) {
+				if (inBucket == 1) {
+					return bucketMin[b];
+				}
+				double fraction = (rank - below)/(inBucket - 1);
+				return (float) (bucketMin[b] + fraction*(bucketMax[b] - bucketMin[b]));
+			}
+			below += inBucket;
+		}
+		return max;
+	}
+}
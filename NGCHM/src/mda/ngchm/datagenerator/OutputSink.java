@@ -0,0 +1,380 @@
+/*******************************************************************
+ * CLASS: OutputSink
+ *
+ * This class receives the files produced by the HeatmapDataGenerator
+ * (tiles, descriptors, images, and PDFs) as they are generated and
+ * writes them to the map's output directory (directory mode), to an
+ * archive (archive mode), or to both (both mode).  File paths are
+ * relative to the output directory.  Archive entries are named with the
+ * output directory's name followed by the file's path.
+ *
+ * An archive holds either the files of an .ngchm file (the map's tiles
+ * and the NGCHM_FILES at the top of the output directory) or, when
+ * archiveAll is set, every file of the output directory.  Files that
+ * are not archived are always written to the output directory.
+ *
+ * Entries that are already compressed (STORED_EXTENSIONS) are STORED,
+ * others are DEFLATED.  One entry is streamed to the archive at a time,
+ * as its file is written.  STORED entries (whose size and CRC must
+ * precede their data) and entries opened while another is being
+ * streamed are written to their file in the output directory (both
+ * mode) or to a temporary file (archive mode), updating their CRC and
+ * size as they are written, and are copied from that file to the
+ * archive once they are closed and no entry is being streamed.  No
+ * entry is held in memory.  Files written without the sink (e.g. tiles
+ * left from an earlier build when tiles are not rewritten) are added
+ * from the output directory when the sink is closed.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class OutputSink {
+	public String mode;
+	public String outputDir;
+	public String archiveFile;
+	private boolean archiveAll;
+	private String entryPrefix;
+	private ZipOutputStream zos;
+	private EntryStream streamedEntry;
+	private List<EntryStream> pendingEntries = new ArrayList<EntryStream>();
+	private Set<String> archivedPaths = new HashSet<String>();
+	private boolean closed = false;
+
+	/*******************************************************************
+	 * CONSTRUCTOR: OutputSink
+	 *
+	 * This constructor creates a sink writing files to the output
+	 * directory only (directory mode).
+	 ******************************************************************/
+	public OutputSink(String outputDir) {
+		this.mode = SINK_DIRECTORY;
+		this.outputDir = outputDir;
+	}
+
+	/*******************************************************************
+	 * CONSTRUCTOR: OutputSink
+	 *
+	 * This constructor creates a sink writing the archived files to an
+	 * archive only (archive mode) or to both the archive and the output
+	 * directory (both mode).
+	 ******************************************************************/
+	public OutputSink(String outputDir, String mode, String archiveFile, boolean archiveAll) throws Exception {
+		this.mode = mode;
+		this.outputDir = outputDir;
+		this.archiveFile = archiveFile;
+		this.archiveAll = archiveAll;
+		File dir = new File(outputDir);
+		dir.mkdirs();
+		entryPrefix = dir.getName() + "/";
+		zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile), 65536));
+	}
+
+	/*******************************************************************
+	 * METHOD: open
+	 *
+	 * This method returns a stream writing a file of the map.  The file
+	 * is complete (and its archive entry written) when the stream is
+	 * closed.
+	 ******************************************************************/
+	public OutputStream open(String path) throws Exception {
+		path = getPath(path);
+		if (isArchived(path)) {
+			return new EntryStream(path);
+		}
+		File file = new File(outputDir, path);
+		file.getParentFile().mkdirs();
+		return new FileOutputStream(file);
+	}
+
+	/*******************************************************************
+	 * METHOD: getFile
+	 *
+	 * This method returns the file to write for writers that need random
+	 * access to their file (e.g. BinaryMapData).  The file is in the
+	 * output directory, or a temporary file when it is only archived, and
+	 * must be passed to addFile once it is written.
+	 ******************************************************************/
+	public File getFile(String path) throws Exception {
+		path = getPath(path);
+		if (isArchived(path) && mode.equals(SINK_ARCHIVE)) {
+			return File.createTempFile("ngchm", null);
+		}
+		File file = new File(outputDir, path);
+		file.getParentFile().mkdirs();
+		return file;
+	}
+
+	/*******************************************************************
+	 * METHOD: addFile
+	 *
+	 * This method adds a file written to the file returned by getFile to
+	 * the archive (deleting it once it is archived if it was a temporary
+	 * file).
+	 ******************************************************************/
+	public void addFile(String path, File file) throws Exception {
+		path = getPath(path);
+		if (isArchived(path)) {
+			copyToArchive(path, file, mode.equals(SINK_ARCHIVE));
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: close
+	 *
+	 * This method completes the archive: files in the output directory
+	 * that were not written thru the sink are added and the archive is
+	 * closed.  Files written after the sink is closed are written to the
+	 * output directory only.
+	 ******************************************************************/
+	public void close() throws Exception {
+		if ((zos == null) || closed) {
+			return;
+		}
+		addDirectoryFiles(new File(outputDir), EMPTY);
+		synchronized (this) {
+			writePendingEntries();
+			zos.close();
+			closed = true;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: abort
+	 *
+	 * This method closes and deletes an incomplete archive (e.g. when
+	 * the build fails) and the temporary files of entries not yet
+	 * archived.  It does nothing once the sink is closed.
+	 ******************************************************************/
+	public synchronized void abort() {
+		if ((zos == null) || closed) {
+			return;
+		}
+		closed = true;
+		try {
+			zos.close();
+		} catch (Exception ex) {
+			//The archive is deleted anyway
+		}
+		new File(archiveFile).delete();
+		for (EntryStream entry : pendingEntries) {
+			if (entry.deleteFile) {
+				entry.file.delete();
+			}
+		}
+		pendingEntries.clear();
+	}
+
+	/*******************************************************************
+	 * METHOD: isArchived
+	 *
+	 * This method returns true if a file is written to the archive: any
+	 * file when archiveAll is set, else the files in the subdirectories
+	 * of the output directory (tiles) and the NGCHM_FILES at its top.
+	 ******************************************************************/
+	private boolean isArchived(String path) {
+		if ((zos == null) || closed) {
+			return false;
+		}
+		return archiveAll || (path.indexOf('/') > 0) || NGCHM_FILES.contains(path);
+	}
+
+	private static String getPath(String path) {
+		path = path.replace('\\', '/');
+		while (path.contains("//")) {
+			path = path.replace("//", "/");
+		}
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+
+	private static boolean isStored(String path) {
+		int extIdx = path.lastIndexOf('.');
+		return (extIdx > 0) && STORED_EXTENSIONS.contains(path.substring(extIdx).toLowerCase());
+	}
+
+	/*******************************************************************
+	 * METHOD: addDirectoryFiles
+	 *
+	 * This method adds the archived files of a directory (and its sub
+	 * directories) that have not been written thru the sink.
+	 ******************************************************************/
+	private void addDirectoryFiles(File dir, String dirPath) throws Exception {
+		File files[] = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		File archive = new File(archiveFile).getCanonicalFile();
+		for (File file : files) {
+			String path = dirPath + file.getName();
+			if (file.isDirectory()) {
+				addDirectoryFiles(file, path + "/");
+			} else if (isArchived(path) && !archivedPaths.contains(path) && !file.getCanonicalFile().equals(archive)) {
+				copyToArchive(path, file, false);
+			}
+		}
+	}
+
+	private synchronized void copyToArchive(String path, File file, boolean deleteFile) throws IOException {
+		archivedPaths.add(path);
+		writeFileEntry(new EntryStream(path, file, deleteFile));
+	}
+
+	/*******************************************************************
+	 * METHOD: writeFileEntry
+	 *
+	 * This method copies an entry from its file to the archive, or queues
+	 * it while another entry is being streamed.  The CRC of a STORED entry
+	 * is computed from its file if it was not computed as it was written.
+	 ******************************************************************/
+	private void writeFileEntry(EntryStream entry) throws IOException {
+		if (streamedEntry != null) {
+			pendingEntries.add(entry);
+			return;
+		}
+		ZipEntry zipEntry = new ZipEntry(entryPrefix + entry.path);
+		byte bytes[] = new byte[65536];
+		int length;
+		if (isStored(entry.path)) {
+			if (entry.crc == null) {
+				entry.crc = new CRC32();
+				InputStream in = new FileInputStream(entry.file);
+				try {
+					while ((length = in.read(bytes)) >= 0) {
+						entry.crc.update(bytes, 0, length);
+						entry.size += length;
+					}
+				} finally {
+					in.close();
+				}
+			}
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(entry.size);
+			zipEntry.setCompressedSize(entry.size);
+			zipEntry.setCrc(entry.crc.getValue());
+		}
+		zos.putNextEntry(zipEntry);
+		InputStream in = new FileInputStream(entry.file);
+		try {
+			while ((length = in.read(bytes)) >= 0) {
+				zos.write(bytes, 0, length);
+			}
+		} finally {
+			in.close();
+		}
+		zos.closeEntry();
+		if (entry.deleteFile) {
+			entry.file.delete();
+		}
+	}
+
+	private void writePendingEntries() throws IOException {
+		while ((streamedEntry == null) && !pendingEntries.isEmpty()) {
+			writeFileEntry(pendingEntries.remove(0));
+		}
+	}
+
+	/*******************************************************************
+	 * CLASS: EntryStream
+	 *
+	 * The stream of an archived file.  Data is written to the file in the
+	 * output directory (both mode) and either streamed to the archive
+	 * entry or, when the entry cannot be streamed, written to a temporary
+	 * file (archive mode) and copied to the archive once the stream is
+	 * closed.  Entries of files added from disk are created closed.
+	 ******************************************************************/
+	private class EntryStream extends OutputStream {
+		String path;
+		File file;
+		boolean deleteFile = false;
+		OutputStream fileOut;
+		CRC32 crc;
+		long size = 0;
+		boolean streamed = false;
+		boolean entryClosed = false;
+
+		EntryStream(String path) throws IOException {
+			this.path = path;
+			synchronized (OutputSink.this) {
+				archivedPaths.add(path);
+				if (!isStored(path) && (streamedEntry == null)) {
+					zos.putNextEntry(new ZipEntry(entryPrefix + path));
+					streamedEntry = this;
+					streamed = true;
+				}
+			}
+			if (!mode.equals(SINK_ARCHIVE)) {
+				file = new File(outputDir, path);
+				file.getParentFile().mkdirs();
+			} else if (!streamed) {
+				file = File.createTempFile("ngchm", null);
+				deleteFile = true;
+			}
+			if (file != null) {
+				fileOut = new FileOutputStream(file);
+			}
+			if (!streamed) {
+				crc = new CRC32();
+			}
+		}
+
+		EntryStream(String path, File file, boolean deleteFile) {
+			this.path = path;
+			this.file = file;
+			this.deleteFile = deleteFile;
+			entryClosed = true;
+		}
+
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		public void write(byte b[], int off, int len) throws IOException {
+			if (fileOut != null) {
+				fileOut.write(b, off, len);
+			}
+			if (streamed) {
+				synchronized (OutputSink.this) {
+					zos.write(b, off, len);
+				}
+			} else {
+				crc.update(b, off, len);
+				size += len;
+			}
+		}
+
+		public void close() throws IOException {
+			if (entryClosed) {
+				return;
+			}
+			entryClosed = true;
+			if (fileOut != null) {
+				fileOut.close();
+			}
+			synchronized (OutputSink.this) {
+				if (streamed) {
+					zos.closeEntry();
+					streamedEntry = null;
+					writePendingEntries();
+				} else {
+					writeFileEntry(this);
+				}
+			}
+		}
+	}
+}
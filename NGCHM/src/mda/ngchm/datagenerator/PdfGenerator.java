@@ -11,20 +11,28 @@
 
 package mda.ngchm.datagenerator;
 
+import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDFont;
-import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.util.Matrix;
 
 import javax.imageio.ImageIO;
 
@@ -32,37 +40,73 @@ import static mda.ngchm.datagenerator.ImportConstants.*;
 
 public class PdfGenerator { 
 	private int rowClassAdjustment = 0;
+	private PdfImages images;
+	private BufferedImage headerLogo;
+	private BufferedImage headerBar;
 
 	/*******************************************************************
 	 * METHOD: createHeatmapPDF
 	 *
 	 * This method is the main driver for generating a heat map PDF 
 	 * document using the PdfBox library.  A page is created for each 
-	 * data layer and a legend page is created at the end of the PDF.
+	 * data layer (pages for each data layer in the full PDF, see 
+	 * createFullPDFHeatmapPages) and a legend page is created at the end 
+	 * of the PDF. The document holds page content in memory up to 
+	 * PDF_MAIN_MEMORY_BYTES and in a temp file beyond that.  The images 
+	 * shared by the pages (covariate bars, top items, legends) are 
+	 * encoded in parallel, then the heat map images of the data layers are 
+	 * rendered and encoded in parallel, as many layers at a time as fit in
+	 * PDF_IMAGE_MEMORY_BYTES.
 	 ******************************************************************/
-	public void createHeatmapPDF(ImportData iData, boolean fullPDF) {
+	public boolean createHeatmapPDF(ImportData iData, boolean fullPDF) {
 		PDDocument doc = null;
-		BufferedImage image;
+		boolean success = true;
 		try {
-		    doc = new PDDocument();
-		    String full = "";
-			for (int i=0; i < iData.matrixImages.size(); i++) {
-				image = iData.matrixImages.get(i); 
-				if (fullPDF) {
-					createFullPDFHeatmapPage(doc,image,iData);
-					full = "_exp";
-				} else {
-					createPDFHeatmapPage(doc, image, iData);
+		    doc = new PDDocument(MemoryUsageSetting.setupMixed(PDF_MAIN_MEMORY_BYTES));
+		    images = new PdfImages(doc);
+		    String full = fullPDF ? "_exp" : "";
+		    images.prepare(getSharedImages(iData, fullPDF));
+		    if (fullPDF) {
+		    	createFullPDFHeatmapPages(doc, iData);
+		    } else {
+			    int numLayers = Math.min(iData.matrixFiles.size(), iData.pdfMatrices.size());
+			    int layer = 0;
+			    while (layer < numLayers) {
+			    	int endLayer = layer+1;
+			    	long batchBytes = getHeatmapImageBytes(iData.pdfMatrices.get(layer));
+			    	while ((endLayer < numLayers) && (batchBytes + getHeatmapImageBytes(iData.pdfMatrices.get(endLayer)) <= PDF_IMAGE_MEMORY_BYTES)) {
+			    		batchBytes += getHeatmapImageBytes(iData.pdfMatrices.get(endLayer));
+			    		endLayer++;
+			    	}
+			    	MatrixSource sources[] = new MatrixSource[endLayer-layer];
+			    	ColorMap maps[] = new ColorMap[endLayer-layer];
+			    	for (int i = layer; i < endLayer; i++) {
+			    		sources[i-layer] = iData.pdfMatrices.get(i);
+			    		maps[i-layer] = iData.matrixFiles.get(i).getMap();
+			    	}
+			    	PdfImages.EncodedImage encoded[] = encodeHeatmapImages(sources, maps);
+			    	for (int i = layer; i < endLayer; i++) {
+			    		PDImageXObject heatMap = images.create(encoded[i-layer]);
+			    		encoded[i-layer] = null;
+						createPDFHeatmapPage(doc, heatMap, iData);
+			    	}
+			    	layer = endLayer;
 				}
-			}
+		    }
 			if ((iData.rowData.getVisibleClasses().size() > 0) || (iData.colData.getVisibleClasses().size() > 0)) {
 				createPDFLegendPage(doc, iData);
 			}
-		    doc.save(iData.outputDir+File.separator+iData.chmName+full+".pdf");
+		    OutputStream out = new BufferedOutputStream(iData.output.open(iData.chmName+full+".pdf"));
+		    try {
+		    	doc.save(out);
+		    } finally {
+		    	out.close();
+		    }
 		    doc.close();
 		} catch (Exception ex) {
 			System.out.println("Exception in PdfGenerator.createHeatmapPDF: " + ex.toString());
 	        ex.printStackTrace();
+	        success = false;
 		} finally {
 		    if( doc != null ) {
 		    	try {
@@ -72,7 +116,82 @@ public class PdfGenerator {
 		    	}
 		    }
 		}
+		return success;
 	}	
+
+	/*******************************************************************
+	 * METHOD: getSharedImages
+	 *
+	 * This method returns the images drawn on the heat map and legend
+	 * pages other than the heat maps themselves.  The pages of the full
+	 * PDF draw slices of the covariate bar images instead (see 
+	 * getFullPDFPages).  Dendrograms are drawn as vector paths.
+	 ******************************************************************/
+	private List<BufferedImage> getSharedImages(ImportData iData, boolean fullPDF) throws Exception {
+		List<BufferedImage> shared = new ArrayList<BufferedImage>();
+		RowColData axes[] = {iData.rowData, iData.colData};
+		for (RowColData axis : axes) {
+			if (!fullPDF && (axis.topItems != null)) {
+				shared.add(axis.topItemImage);
+			}
+			for (InputClass ic : axis.getVisibleClasses()) {
+				if (!fullPDF) {
+					shared.add(ic.classImage);
+				}
+				if (ic.barType.equals(COLOR_PLOT)) {
+					shared.add(ic.classLegend);
+				}
+			}
+		}
+		if (fullPDF) {
+			shared.add(iData.matrixFiles.get(0).distributionLegend);
+		}
+		return shared;
+	}
+
+	/*******************************************************************
+	 * METHOD: getHeatmapImageBytes
+	 *
+	 * This method returns the memory needed to render and encode a heat
+	 * map image: the image plus its filtered samples.
+	 ******************************************************************/
+	private long getHeatmapImageBytes(MatrixSource matrix) {
+		return (long) matrix.rows*matrix.cols*8;
+	}
+
+	/*******************************************************************
+	 * METHOD: encodeHeatmapImages
+	 *
+	 * This method renders and encodes heat map images, each from a matrix
+	 * source with a color map, in parallel (one task per image).  Each 
+	 * image is released as soon as it is encoded.
+	 ******************************************************************/
+	private PdfImages.EncodedImage[] encodeHeatmapImages(final MatrixSource sources[], final ColorMap maps[]) throws Exception {
+		final PdfImages.EncodedImage encoded[] = new PdfImages.EncodedImage[sources.length];
+		final Exception errors[] = new Exception[sources.length];
+		List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+		for (int i = 0; i < sources.length; i++) {
+			final int index = i;
+			tasks.add(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				protected void compute() {
+					try {
+						BufferedImage image = HeatmapRenderer.render(sources[index], maps[index]);
+						encoded[index] = PdfImages.encode(image);
+					} catch (Exception ex) {
+						errors[index] = ex;
+					}
+				}
+			});
+		}
+		ForkJoinTask.invokeAll(tasks);
+		for (Exception ex : errors) {
+			if (ex != null) {
+				throw ex;
+			}
+		}
+		return encoded;
+	}
 	
 	public PDPageContentStream getPdfPage(PDDocument doc, ImportData iData) throws Exception {
         PDPage page = new PDPage();
@@ -95,26 +214,25 @@ public class PdfGenerator {
 		return contentStream;
 	}
    
-	public void createPDFHeatmapPage(PDDocument doc, BufferedImage image, ImportData iData) {
+	public void createPDFHeatmapPage(PDDocument doc, PDImageXObject heatMap, ImportData iData) {
 		try {
             PDPageContentStream contentStream = getPdfPage(doc, iData);
             int[] rowColPos = getStartingPositions(iData,US_LETTER_HEIGHT);
             //Draw row dendrogram on PDF
-            if (iData.colData.dendroMatrix != null) {
+            if (iData.colData.dendroSegments != null) {
 	            rowColPos = drawColumnDendrogram(doc, contentStream, iData, rowColPos, PDF_MAP_SIZE);
             }
             //Draw column covariates on PDF
             rowColPos = drawColumnCovariates(doc, contentStream, iData, rowColPos, PDF_MAP_SIZE);
             //Draw row dendrogram on PDF
             rowColPos[PDF_ROW_POS] -= PDF_MAP_SIZE;
-            if (iData.rowData.dendroMatrix != null) {
+            if (iData.rowData.dendroSegments != null) {
                 rowColPos = drawRowDendrogram(doc, contentStream, iData, rowColPos, PDF_MAP_SIZE);
             }
             //Draw row covariates on PDF
             rowColPos = drawRowCovariates(doc, contentStream, iData, rowColPos, PDF_MAP_SIZE);
             //Draw heat map on PDF
-            PDImageXObject  pdImageXObject = LosslessFactory.createFromImage(doc, image);
-            contentStream.drawImage(pdImageXObject, rowColPos[PDF_COL_POS], rowColPos[PDF_ROW_POS], PDF_MAP_SIZE, PDF_MAP_SIZE);
+            contentStream.drawImage(heatMap, rowColPos[PDF_COL_POS], rowColPos[PDF_ROW_POS], PDF_MAP_SIZE, PDF_MAP_SIZE);
             if (iData.rowData.topItems != null) {
                 rowColPos = drawRowTopItems(doc, contentStream, iData, rowColPos);
             }
@@ -129,36 +247,190 @@ public class PdfGenerator {
 	}	
 	
 
-	public void createFullPDFHeatmapPage(PDDocument doc, BufferedImage image, ImportData iData) {
+	/*******************************************************************
+	 * CLASS: FullPDFPage
+	 *
+	 * A page of the full PDF: the region of the full resolution level
+	 * (0-based first row/col and number of rows/cols) drawn on the page,
+	 * the slices of the covariate bar images covering that region, and
+	 * (when the map takes more than one page) a description of the region.
+	 * Pages in the same row (or column) of the page grid share their row
+	 * (or column) slices.
+	 ******************************************************************/
+	private static class FullPDFPage {
+		int firstRow, numRows, firstCol, numCols;
+		List<BufferedImage> rowClasses, colClasses;
+		String region;
+	}
+
+	/*******************************************************************
+	 * METHOD: createFullPDFHeatmapPages
+	 *
+	 * This method creates the heat map pages of the full PDF.  The full
+	 * resolution level of the map is split into pages of at most 
+	 * PDF_FULL_PAGE_ROWS x PDF_FULL_PAGE_COLS cells, each with its own
+	 * dendrograms, covariate bars, and labels.  The heat map image of each
+	 * page is rendered from the tile files of the level (so memory used 
+	 * does not grow with the size of the map), in parallel, as many pages 
+	 * at a time as fit in PDF_IMAGE_MEMORY_BYTES.  A data distribution 
+	 * page follows the pages of each data layer.
+	 ******************************************************************/
+	public void createFullPDFHeatmapPages(PDDocument doc, ImportData iData) throws Exception {
+		ImportLayerData fullLevel = getFullResolutionLevel(iData.matrixFiles.get(0));
+		List<FullPDFPage> pages = getFullPDFPages(iData, fullLevel.totalLevelRows, fullLevel.totalLevelCols);
+		for (int layer = 0; layer < iData.matrixFiles.size(); layer++) {
+			InputFile iFile = iData.matrixFiles.get(layer);
+			String layerDir = iData.outputDir+File.separator+"dl"+(layer+1);
+			ImportLayerData ilData = getFullResolutionLevel(iFile);
+			int page = 0;
+			while (page < pages.size()) {
+				int endPage = page;
+				long batchBytes = 0;
+				List<MatrixSource> sources = new ArrayList<MatrixSource>();
+				do {
+					FullPDFPage fullPage = pages.get(endPage);
+					TileMatrixSource source = new TileMatrixSource(layerDir, ilData);
+					source.setRegion(fullPage.firstRow, fullPage.firstCol, fullPage.numRows, fullPage.numCols);
+					sources.add(source);
+					batchBytes += getHeatmapImageBytes(source);
+					endPage++;
+				} while ((endPage < pages.size()) && (batchBytes + (long) PDF_FULL_PAGE_ROWS*PDF_FULL_PAGE_COLS*8 <= PDF_IMAGE_MEMORY_BYTES));
+				ColorMap maps[] = new ColorMap[sources.size()];
+				Arrays.fill(maps, iFile.getMap());
+				PdfImages.EncodedImage encoded[] = encodeHeatmapImages(sources.toArray(new MatrixSource[sources.size()]), maps);
+				for (int i = page; i < endPage; i++) {
+					PDImageXObject heatMap = images.create(encoded[i-page]);
+					encoded[i-page] = null;
+					createFullPDFHeatmapPage(doc, heatMap, iData, pages.get(i));
+				}
+				page = endPage;
+			}
+			createPDFDataDistributionPlot(doc, iData);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getFullResolutionLevel
+	 *
+	 * This method returns the level of a data layer holding one value per
+	 * row and column of the matrix: detail if the layer has it, else
+	 * summary if the layer has it, else thumbnail.
+	 ******************************************************************/
+	private ImportLayerData getFullResolutionLevel(InputFile iFile) throws Exception {
+		String level = iFile.hasDetail ? LAYER_DETAIL : (iFile.hasSummary ? LAYER_SUMMARY : LAYER_THUMBNAIL);
+		for (ImportLayerData ilData : iFile.importLayers) {
+			if (ilData.layer.equals(level)) {
+				return ilData;
+			}
+		}
+		throw new Exception("No " + level + " level for data layer " + iFile.name);
+	}
+
+	/*******************************************************************
+	 * METHOD: getFullPDFPages
+	 *
+	 * This method splits a map of rows x cols cells into the pages of the
+	 * full PDF, in row order, and slices the covariate bar images (created
+	 * at one pixel per row/col) for each row and column of pages.
+	 ******************************************************************/
+	private List<FullPDFPage> getFullPDFPages(ImportData iData, int rows, int cols) throws Exception {
+		List<FullPDFPage> pages = new ArrayList<FullPDFPage>();
+		int pageCols = (cols + PDF_FULL_PAGE_COLS - 1)/PDF_FULL_PAGE_COLS;
+		List<List<BufferedImage>> colClasses = new ArrayList<List<BufferedImage>>();
+		for (int c = 0; c < pageCols; c++) {
+			int firstCol = c*PDF_FULL_PAGE_COLS;
+			int numCols = Math.min(PDF_FULL_PAGE_COLS, cols - firstCol);
+			colClasses.add(sliceClassImages(iData.colData, false, firstCol, numCols, cols));
+		}
+		boolean multiPage = (rows > PDF_FULL_PAGE_ROWS) || (cols > PDF_FULL_PAGE_COLS);
+		for (int firstRow = 0; firstRow < rows; firstRow += PDF_FULL_PAGE_ROWS) {
+			int numRows = Math.min(PDF_FULL_PAGE_ROWS, rows - firstRow);
+			List<BufferedImage> rowClasses = sliceClassImages(iData.rowData, true, firstRow, numRows, rows);
+			for (int c = 0; c < pageCols; c++) {
+				FullPDFPage page = new FullPDFPage();
+				page.firstRow = firstRow;
+				page.numRows = numRows;
+				page.firstCol = c*PDF_FULL_PAGE_COLS;
+				page.numCols = Math.min(PDF_FULL_PAGE_COLS, cols - page.firstCol);
+				page.rowClasses = rowClasses;
+				page.colClasses = colClasses.get(c);
+				if (multiPage) {
+					page.region = "Rows " + (page.firstRow+1) + "-" + (page.firstRow+page.numRows) + " of " + rows + 
+							", Columns " + (page.firstCol+1) + "-" + (page.firstCol+page.numCols) + " of " + cols;
+				}
+				pages.add(page);
+			}
+		}
+		return pages;
+	}
+
+	/*******************************************************************
+	 * METHOD: sliceClassImages
+	 *
+	 * This method returns the slices of the visible covariate bar images
+	 * of an axis covering a range of the axis's rows/cols.
+	 ******************************************************************/
+	private List<BufferedImage> sliceClassImages(RowColData axis, boolean rowAxis, int first, int count, int total) throws Exception {
+		List<BufferedImage> slices = new ArrayList<BufferedImage>();
+		for (InputClass ic : axis.getVisibleClasses()) {
+			slices.add(sliceImage(ic.classImage, rowAxis, first, count, total));
+		}
+		return slices;
+	}
+
+	/*******************************************************************
+	 * METHOD: sliceImage
+	 *
+	 * This method returns the part of an image, drawn along an axis of
+	 * total rows (top to bottom) or cols (left to right), covering a range 
+	 * of the axis.  The slice shares the image's pixels.
+	 ******************************************************************/
+	private BufferedImage sliceImage(BufferedImage image, boolean rowAxis, int first, int count, int total) {
+		if (image == null) {
+			return null;
+		}
+		int extent = rowAxis ? image.getHeight() : image.getWidth();
+		int start = (int) ((long) first*extent/total);
+		int end = Math.max(start+1, (int) ((long) (first+count)*extent/total));
+		if (rowAxis) {
+			return image.getSubimage(0, start, image.getWidth(), end-start);
+		} else {
+			return image.getSubimage(start, 0, end-start, image.getHeight());
+		}
+	}
+
+	private void createFullPDFHeatmapPage(PDDocument doc, PDImageXObject heatMap, ImportData iData, FullPDFPage page) {
 		try {
-			int mapWidth = iData.colData.classArray.length*5-5;
-			int mapHeight = iData.rowData.classArray.length*5-5;
+			int mapWidth = page.numCols*5;
+			int mapHeight = page.numRows*5;
+			int pageHeight = PDF_CONTENT_START + PDF_DENDRO_HEIGHT + mapHeight + 300;
             PDPageContentStream contentStream = getPdfPageCustomSize(doc, iData, mapWidth, mapHeight);
-            int[] rowColPos = getStartingPositions(iData,PDF_CONTENT_START + PDF_DENDRO_HEIGHT + mapHeight + 300);
-            //Draw row dendrogram on PDF
-            if (iData.colData.dendroMatrix != null) {
-	            rowColPos = drawColumnDendrogram(doc, contentStream, iData, rowColPos, mapWidth);
+            if (page.region != null) {
+            	writePDFText(contentStream, page.region, 6, PDF_FONT_BOLD, 10, pageHeight - 65, false);
+            }
+            int[] rowColPos = getStartingPositions(iData,pageHeight);
+            //Draw column dendrogram on PDF
+            if (iData.colData.dendroSegments != null) {
+	            rowColPos = drawColumnDendrogram(doc, contentStream, iData.colData.dendroSegments, page.firstCol, page.numCols, rowColPos, mapWidth);
             }
             //Draw column covariates on PDF
-            rowColPos = drawColumnCovariates(doc, contentStream, iData, rowColPos, mapWidth);
+            rowColPos = drawColumnCovariates(doc, contentStream, iData, page.colClasses, rowColPos, mapWidth);
             //Draw row dendrogram on PDF
             rowColPos[PDF_ROW_POS] -= mapHeight;
-            if (iData.rowData.dendroMatrix != null) {
-                rowColPos = drawRowDendrogram(doc, contentStream, iData, rowColPos, mapHeight);
+            if (iData.rowData.dendroSegments != null) {
+                rowColPos = drawRowDendrogram(doc, contentStream, iData.rowData.dendroSegments, page.firstRow, page.numRows, rowColPos, mapHeight);
             }
             //Draw row covariates on PDF
-            rowColPos = drawRowCovariates(doc, contentStream, iData, rowColPos, mapHeight);
-            //Draw all the col labels
-            rowColPos = drawAllColLabels(doc, contentStream, iData, rowColPos);
-            //Draw all the row labels
-            rowColPos = drawAllRowLabels(doc, contentStream, iData, rowColPos, mapWidth, mapHeight);
+            rowColPos = drawRowCovariates(doc, contentStream, iData, page.rowClasses, rowColPos, mapHeight);
+            //Draw the col labels of the page
+            rowColPos = drawAllColLabels(doc, contentStream, iData, rowColPos, page.firstCol, page.numCols);
+            //Draw the row labels of the page
+            rowColPos = drawAllRowLabels(doc, contentStream, iData, rowColPos, mapWidth, mapHeight, page.firstRow, page.numRows);
             //Draw heat map on PDF
-            PDImageXObject  pdImageXObject = LosslessFactory.createFromImage(doc, image);
-            contentStream.drawImage(pdImageXObject, rowColPos[PDF_COL_POS], rowColPos[PDF_ROW_POS], mapWidth, mapHeight);
-            createPDFDataDistributionPlot(doc, iData);
+            contentStream.drawImage(heatMap, rowColPos[PDF_COL_POS], rowColPos[PDF_ROW_POS], mapWidth, mapHeight);
             contentStream.close();
 		} catch (Exception ex) {
-			System.out.println("Exception in PdfGenerator.createPDFHeatmapPage: " + ex.toString());
+			System.out.println("Exception in PdfGenerator.createFullPDFHeatmapPage: " + ex.toString());
 	        ex.printStackTrace();
 		} 
 	}	
@@ -179,7 +451,7 @@ public class PdfGenerator {
 	        }
 	        rowClassAdjustment = classAdj;
 	        rowColPos[PDF_COL_POS] = 10 + classAdj+ 2;
-	        if (iData.rowData.dendroMatrix != null) {
+	        if (iData.rowData.dendroSegments != null) {
 	        	 rowColPos[PDF_COL_POS] += PDF_DENDRO_HEIGHT;
 	        }
 		} catch (Exception ex) {
@@ -206,12 +478,12 @@ public class PdfGenerator {
 	           int histStartY = 712;
 	           writePDFText(contentStream, "Data Distribution", 12, PDF_FONT_BOLD, 10, histStartY, false);
 	           histStartY -= 15;
-	           PDImageXObject  pdMatrixDistributionLegend = LosslessFactory.createFromImage(doc, iData.matrixFiles.get(0).distributionLegend);
+	           PDImageXObject  pdMatrixDistributionLegend = images.get(iData.matrixFiles.get(0).distributionLegend);
 	           contentStream.drawImage(pdMatrixDistributionLegend, 50, histStartY-110, 110, 111);
 	           BufferedImage breakTick = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
 	           breakTick.setRGB(0, 0, RGB_BLACK);
 	           breakTick.setRGB(1,0,RGB_BLACK);
-	           PDImageXObject pdImageBreakTick = LosslessFactory.createFromImage(doc, breakTick);
+	           PDImageXObject pdImageBreakTick = images.get(breakTick);
 	           contentStream.drawImage(pdImageBreakTick, 48, histStartY, 2, 1);
 	           contentStream.drawImage(pdImageBreakTick, 48, histStartY-100, 2, 1);
 	           contentStream.drawImage(pdImageBreakTick, 48, histStartY-110, 2, 1);
@@ -243,7 +515,7 @@ public class PdfGenerator {
            List<InputClass> ccFiles = iData.colData.getVisibleClasses(); 
            BufferedImage borderBox = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
            borderBox.setRGB(0, 0, RGB_BLACK);
-           PDImageXObject pdImageBorderBox = LosslessFactory.createFromImage(doc, borderBox);
+           PDImageXObject pdImageBorderBox = images.get(borderBox);
            int rowCovStartY = 712;
    		   if (rcFiles.size() > 0)  {
    			  writePDFText(contentStream, "Target Covariate Bar Legends", 12, PDF_FONT_BOLD, 10, rowCovStartY, false);
@@ -305,9 +577,7 @@ public class PdfGenerator {
 		try {
 			int currRow = rowCovStartY;
 			InputClass iFile = classFiles.get(legend1);
-			String[]rowValues;
 			int colStart = 0;
-	        rowValues = iFile.orderedClass;
 			int breakSize = iFile.map.breaks.size()+1;
 	      	if (iFile.map.type.equals("continuous")) {
 	      		breakSize = iFile.map.contBreaks.size()+1;
@@ -316,14 +586,14 @@ public class PdfGenerator {
 			currRow -= (breakSize*10)+5;
 			//Write legend class totals to the PDF
 			if (iFile.map.type.equals("continuous")) {
-	  	        writeContinuousCovariateClassTotals(contentStream, iFile, rowValues, currRow, colStart);
+	  	        writeContinuousCovariateClassTotals(contentStream, iFile, currRow, colStart);
 			} else {
-	  	        writeDiscreteClassTotals(contentStream, iFile, rowValues, currRow, colStart);
+	  	        writeDiscreteClassTotals(contentStream, iFile, currRow, colStart);
 			}
 	        //Draw covariate legend on the PDF 
 			PDImageXObject  pdImageClassXObjectC = null;
 			if (iFile.barType.equals(COLOR_PLOT)) {
-		        pdImageClassXObjectC = LosslessFactory.createFromImage(doc, iFile.classLegend);
+		        pdImageClassXObjectC = images.get(iFile.classLegend);
 		        contentStream.drawImage(pdImageBorderBox, colStart+17, currRow-1, 12, (breakSize*10)+2);
 		        contentStream.drawImage(pdImageClassXObjectC, colStart+18, currRow, 10, breakSize*10);
 			}
@@ -332,7 +602,6 @@ public class PdfGenerator {
 	        if (legend2 > 0) {
 	        	colStart = 300;
 	        	iFile = (InputClass) classFiles.get(legend2);
-		        rowValues = iFile.orderedClass;
 				breakSize = iFile.map.breaks.size()+1;
 		      	if (iFile.map.type.equals("continuous")) {
 		      		breakSize = iFile.map.contBreaks.size()+1;
@@ -341,13 +610,13 @@ public class PdfGenerator {
 				currRow -= (breakSize*10)+5;
 				//Write legend class totals to the PDF
 				if (iFile.map.type.equals("continuous")) {
-		  	        writeContinuousCovariateClassTotals(contentStream, iFile, rowValues, currRow, colStart);
+		  	        writeContinuousCovariateClassTotals(contentStream, iFile, currRow, colStart);
 				} else {
-					writeDiscreteClassTotals(contentStream, iFile, rowValues, currRow, colStart);
+					writeDiscreteClassTotals(contentStream, iFile, currRow, colStart);
 				}
 		        //Draw covariate legend on the PDF 
 				if (iFile.barType.equals(COLOR_PLOT)) {
-			        pdImageClassXObjectC = LosslessFactory.createFromImage(doc, iFile.classLegend);
+			        pdImageClassXObjectC = images.get(iFile.classLegend);
 			        contentStream.drawImage(pdImageBorderBox, colStart+16, currRow-1, 12, (breakSize*10)+2);
 			        contentStream.drawImage(pdImageClassXObjectC, colStart+17, currRow, 10, breakSize*10);
 				}
@@ -396,19 +665,25 @@ public class PdfGenerator {
 		return itFits;
 	}	
 		
-   public void writeDiscreteClassTotals(PDPageContentStream contentStream, InputClass iFile, String[] covValues, int rowCovStartY, int colStart) {
+   public void writeDiscreteClassTotals(PDPageContentStream contentStream, InputClass iFile, int rowCovStartY, int colStart) {
 	   try {
 	   		int[] covTotals = new int[iFile.map.breaks.size()+1];
-	        for (int j = 1; j < covValues.length; j++) {
-	        	String elemValue = covValues[j];
-	        	if ((elemValue == null) || (NA_VALUES.contains(elemValue)) ){
-	        		covTotals[covTotals.length-1]++;
+	   		CovariateColumn column = iFile.column;
+	   		//Count each distinct value once and then total the counts by break
+	   		int[] codeTotals = new int[column.dictionary.length];
+	        for (int j = 1; j < column.length; j++) {
+	        	codeTotals[column.codes[j]]++;
+	        }
+	        for (int c = 0; c < codeTotals.length; c++) {
+	        	String elemValue = column.dictionary[c];
+	        	if (NA_VALUES.contains(elemValue)) {
+	        		covTotals[covTotals.length-1] += codeTotals[c];
 	        	} else if (elemValue.equals(CUT_VALUE)) {
 	        		// Do nothing (no need to count the cut row/col)
 	        	} else {
 		        	for (int k = 0; k < iFile.map.breaks.size(); k++) {
 		        		if (elemValue.equals(iFile.map.breaks.get(k))) {
-		        			covTotals[k]++;
+		        			covTotals[k] += codeTotals[c];
 		        		}
 		        	}
 	        	}
@@ -434,22 +709,24 @@ public class PdfGenerator {
 		} 
    }
    
-   public void writeContinuousCovariateClassTotals(PDPageContentStream contentStream, InputClass iFile, String[] covValues, int rowCovStartY, int colStart) throws Exception {
+   public void writeContinuousCovariateClassTotals(PDPageContentStream contentStream, InputClass iFile, int rowCovStartY, int colStart) throws Exception {
 	   try {
 		   int[] covTotals = new int[iFile.map.contBreaks.size()+1];
-	       for (int j = 1; j < covValues.length; j++) {
-		       	String elemValue = covValues[j];
-	        	if ((elemValue == null) || (NA_VALUES.contains(elemValue)) ){
-		       		covTotals[iFile.map.contBreaks.size()]++;
-		       	} else if (elemValue.equals(CUT_VALUE)) {
+		   CovariateColumn column = iFile.column;
+		   float[] contBreaks = iFile.getContinuousBreaks();
+	       for (int j = 1; j < column.length; j++) {
+	        	if (column.missing.get(j)) {
+		       		covTotals[contBreaks.length]++;
+		       	} else if (column.cuts.get(j)) {
 		       		//Do nothing (no need to count the cut row/col)
 		       	} else {
-			       	for (int k = 0; k < iFile.map.contBreaks.size(); k++) {
-						if (k == 0 && Float.valueOf(elemValue) < Float.valueOf(iFile.map.contBreaks.get(k))){
+		       		float elemValue = column.values[j];
+			       	for (int k = 0; k < contBreaks.length; k++) {
+						if (k == 0 && elemValue < contBreaks[k]){
 							covTotals[k]++;
-						} else if (k == iFile.map.contBreaks.size() - 1 && Float.valueOf(elemValue) > Float.valueOf(iFile.map.contBreaks.get(k))){
+						} else if (k == contBreaks.length - 1 && elemValue > contBreaks[k]){
 							covTotals[k]++;
-						} else if (Float.valueOf(elemValue) <= Float.valueOf(iFile.map.contBreaks.get(k))){
+						} else if (elemValue <= contBreaks[k]){
 							covTotals[k]++;
 							break;
 						}
@@ -488,17 +765,21 @@ public class PdfGenerator {
 	        	mapName = mapName.substring(0,mapName.length()-5) + "...";
 	        	strWidth = font.getStringWidth(mapName)/1000 * fontSize;
 	        }
-			//Draw MDA logo on header
-        	byte[] decodedBytes = Base64.getDecoder().decode("iVBORw0KGgoAAAANSUhEUgAAAQYAAABsCAYAAACILRy0AAAD9GlDQ1BJQ0MgUHJvZmlsZQAAeNqNlM9vFGUYxz+7886sCTgHUwGLwYk/gJBCtmCQBkF3u8u2UMtm22LbmJjt7NvdsdPZ8Z3Z8iM9cdEbqH+Aihw8mHgywV8RLsBBAwlBQ2xITDiU+CNEEi6G1MNMdwdoxff0zPN+n+/3+zzvk4HM51Xfd9MWzHqhqpTy1vjEpJW5QZpnWEM3a6p24OfK5SGAqu+7PHLu/UwK4Nr2le//86ypycCG1BNAsxbYs5A6Brpr+yoE4xaw52joh5B5FuhS4xOTkMkCXfUoLgBdU1E8DnSp0Uo/ZFzAtBvVGmTmgZ6pRL6eiCMPAHSVpCeVY1uVUt4qq+a048qE3cdc/88z67aW9TYBa4OZkUPAVkgda6iBShx/YleLI8CLkLrsh/kKsBlSf7RmxnLANkg/Na0OjEX49KsnGqNvAusgXXPCwdE4f8KbGj4c1abPzDQPVWLMZTvonwSeh/TNhhwcivxo1GShCPSAtqnRGoj5tYPB3EhxmedEo3844tHUO9WDZaAbtPdVs3I48qydkW6pEvFrF/2wHHvQFj13eCjiFKYMiiPL+bAxOhDVit2hGo1rxeS0c2Awxs/7bnko8ibOqlZlLMZcrapiKeIRf0tvLObUN9SqhUPADtD3cyRVRdJkComNx30sKpTIY+GjaDKNg0sJiYdE4aSeZAZnFVwZiYrjDqKOxGMRhYO9CiZSuB1jmmK9yIpdIiv2iiGxT+wRfVjiNfG62C8KIiv6xN52bTmhb1HndpvnXVpILCocIX+6u7W1o3dSve3YV07deaC6+YhnuewnOQECZtrI7cn+L81/t6HDcV2ce+va2kvzHH7cfPVb+qJ+Xb+l39AXOgj9V31BX9BvkMPFpY5kFomDhyRIOEj2cAGXkCouv+HRTOAeUJz2Tnd3buwrp+7I94bvDXOyp5PN/pL9M3s9+2n2bPb3h6a84pS0j7SvtO+1r7VvtB+xtPPaBe0H7aL2pfZt4q1W34/225NLdCvxVpy1xDXz5kbzBbNgPme+ZA51+Mz1Zq85YG4xC+bG9rsl9ZK9OEzgtqe6slaEG8PD4SgSRUAVF4/jD+1/XC02iV4x+NDW7hF7RdulUTQKRg7L2Gb0Gb3GQSPX8WdsMQpGn7HFKD6wdfYqHcgEKtnndqaQBMygcJhD4hIgQ3ksBOhv+seVU2+E1s5s9hUr5/uutAY9e0ePVXVdSzn1RhhYSgZSzcnaDsYnJq3oF323QgpIrbvSyYVvwL6/QLvayU224IsA1r/cyW3thqc/hnO77Zaai//5qdRPEEzv2hl9rc2DfnNp6e5myHwI9z9YWvrnzNLS/c9AW4Dz7r9ZAHF41VQqcQAAAAlwSFlzAAALEwAACxMBAJqcGAAAAAd0SU1FB+AEDxIOLiqEUOsAACAASURBVHja7V13nF1F9f/O3Fd2sy2bttlGQhJDJxIQC71IUwQkIKAiKtK7DfEngiKKSAdFQVEgihQhgBGUEqRKSSiJQEgIpDfSNtn23r3z+2PO4Z43e+8rWxIS33w+7/PavXNnTj9nzpwBopum9zMA/B3A3QAeA3AXfT+S/q8CcBWAeue+iwHsJvrbAcC/APwVwF8APATgkphne/S+O4AfOv3W0PNqxPUXA/gZfU7R+8cBXOrcey2AT9DnifSdW4LeDwNwvvj9GgCPAPgzweB+mgu3gwA8Jf6fAuALTp8NAP4G4D8AngVwM4BK0cdWAH4n5n0xwedeAfOHARxC/98G4LP0uYLe9wdwOX1WDjzl98sAvAjg3/R+hriGn/99AE8AuBPAfQD+BGCYgCXD8xsAphJOH6P3qQCOF8/7hYDfPTSnsfRfM8Gz2Rnv7wBs49ACqO+jHdhyuwTAdABPA3hU0J5GuQ1IGwpgJAH6WQDjATQBqBOC4SmB3DS93wfgYNHPoUTsQwFsDWAM9RvVJJPe5RBIPRF1vbj+NwAMMTu3/QA84BDHAwD2oc+DiFEn0Pckvd8B4FjBLI8COBzAcBrz1sSMPJ6zAdxK8NiKGHSWIzz+QszO7VYh8ADgY8RYPM6RBKeDATwDoJH6Hkz/HwVgphCCSQDTAHwmgpnk9+tJqFfT91YAMwCc4+DuLwBOozmNo2cnIvA0hGhhB6KNnWmsEjd/I5iMIPiNpnErITgeFNf/DMANAm/83M/SnO+IoJOvkNJhmpxEeEOMoCy3IlqiwP8f0Hs3gOUA5gAInGvaAKygz130vjriuvnU3wcO0kzMszMA2p3fDID1zj1rAfwKwP8BOAFAJz3bvbcLQJY+txPxTALwGj2rmYj6fvGsNgAv0/xWiL6SAHx6zts0hrU0x/cBbEcCQhFD/FzcezoxPrdAwA0AltL7PIL5Egdf9wP4HFkzZ1Lf0wA8R/9nHcvPJy19IAn4dmLOBQBOBDCZtHQn3dNBAoPnFNUUgFX0eRWNcy6ADRG08RK9L3fGZQBcSIrlBACzAewFYG8HNgBwEoCvE+wOAPC4mOsOhCMe670Anhf/mzKb979g8IiwKomYBhFj8u8+WQ3HEwFXEOGNJWaTTD4GwK7URwLAYmKqOOGgIkxBNnmlFhgG4I9kDfyItHEi4l73+98A/JJ+D8iqeYPGyvNLERPOIE2bJZO1SwjMAwHsS//vTHB4RAiX28jNuIx+X0nMz4SrnPkkaQyVwipgRmJGOZ/6+g5ZMWzl+BFzDkggzCTccP+a5rsKwLYAXhX3fZGeP5yE/JNO30b0PUjQxgYBO7ZCvkB4ria4vUJw4/l/lVyNbgCnCLrj+W5POH6J3MsvkWBgWPyBrA5NsH4LwKKypTCwgsGId0mYRkj0CjK3VxKBZAC0EKKlth5Lkt+jGMHjBQRDoTFBMMMQMkNfJFN0dYRJLc3KBDFCB2mpp8jkvcm5PgngCAA7EeF3kmbrEAJve7I8PAB7kAZm4RlQTGEugG+R6/ECgO85VgIitKRx4KzoPUka+CfkGuxKMHCtBdlq6R7ZP79vEAKIn7szCZGhxGTTIiw8OTaXNvi6JMFmPgmG1QD+S7ThE4zmkwCpIab2xHwCimfdTX3fQkJgBFkgCQDvUKzn2/T/WlIOrwnhVW79LBiQJ5DFjLOG/LxO8fttZElwq6bYwNkR/QUFrBUepy8YxBUUHMy7mvzW6woQhEdM9Bhp/Nepj2cdzdtJwbjZEXDL0hzvIGuAGfAJCtgtFWP9l/CD/0iuz9m9xBmPbTqAfxADIEYoMPMupiAoWxFKMOZQAOsc2Pyc8FVIKBcS3h0kBBdHXJMkAXERwayehN3FJKi6aZzHkgIZR2OeSFbcbQK+CwCcR5/PIhjvRQK6VMVTbiVEbQ0hxUT8HojAWFIQV+Bc110kofFvSyjYKWMXWxMzrhZEEYi+7yJi/LYTE4Azfh7bwxQQ+yYF+uQcmNk68whIX6wMpIjBVggmHAbgSice8nMnUGoiXIB8v0M8T4mgocpjfTxNjLUzWTnse0+i97eEheWLQF46xvKKE1ZuywrrKkooTKBg6oXkHh1HvzE+DyFL9D6yLN4kq+AoYbH9ALkrYDfSmEeXg48DbzFoIpaopbDBEYRYG2Ge7k5m+SDqr500Xqcj1X36/iqAhbDLYJeTZruKTHNJXDWCOUBm5AKh8XjMdYLpAyKeeSR0foRwJUEKtOEU9HqVxp0kAfIu/V9Jv7tCbgxp8hXkQt1MqwIjSVD80dHQg2NwU1fAehtcQBsa6n8dWTV/BvBjEgSfoRjFyY6FVusICb8IK7IuhgGHU9zgbRFbep7M/xrYFaWLaJwb6PMdAD5N388g6+8hp9+nSWg8QnO7CcAFZCGcS/ifWaKVU24OURbrQnQRsfsRrsAMYfoxImaJyHUXRf23pfjDGNKmz4r7ojTyg8RYRwHYBcDvAdwunsP+7JvkcyaJoN4gDTNdXKvIZVjjMM4y2NWWf0aYnSnYFYZRsMt725BbsUCMcyHFENifbad5v0/X3EdM+AWKR9xJ85Bz5pUAOONd7wQF3dZF9xUSDppw9xaZ5nsT/L9NEX3ptinC3coCjKUcy+BVEXBWwuLYBXbJs5WslncJNrtQ/OJeQYf/JeHRQRZjHewqDMcceDVoMY1rLgUlu2BXWCZS/98hutJlwfDRacr5rPqhn3z9u591xG9x9+ginhc3BlXEcwrNQZU4996MtZAS8IqAbX/iz4W7LvH57r2qH2FUbiVaDHytKfJ3z9E2CuESohYINUUQV0IQgRcRVNTOs9h8diPSXoQGNHn65Xs8Z9xytSBqHp7zG8/BiP4CZ45RMFR5YF4IJ/ncCi1cFRXhKni9MMHz0YYLP4ggchTcEwLGXp55yMB1IgJmZUuh3Mqt3MptoMz+ciu3/qQrmaCWLYOkLBjKLX+T5vSWREfSrfJjrimb91tgjKHc+kcoBE78YUsQCjIzluc2DDYr8/uweR0zUFpMpNw2YUsUifh8zQwA85gBJGL5ksRsNpJQGAe7AerPsDsZPRTOFfioC4U62KXorWG3vO8Omxcygq77RdlC/d9zM7YUrRe18WogrLM/ETM95girzbFxwti3hXCVr256v7gERVRuH2GLgbXYwQg3JXXCBpFkhtyvYDMT+0Prsfa5GsCesJt+5C7HQQ7jZmGTmQJhZcglrBRyl+c6YZOb1sAmKC2ATWyaBbuvIStg4vezBcHbn5sQFnLZCzbh6b+bsdXAMLuP4DkYdtPToQgzWIFywZQtLvawJ2xm2ZwYjTBLXKv64Xkfj3mOQbhp6AHYDUmz81zLrzWwmYnLYTMSo65ZDpv1eAZyi4z0Z/yFBfA59MwOev/hFqBJo/A+nebXSe+XlC2GLdeV2IEEgYFNQe2iz0f3A9L53lsE43QJk7sx5r4DYTcmGXH9MhrTCNgNVwnYjU61sKnN+8Du+Hs6QkgsRrhLr78IWcLxP85YX9pCXDIt4AzYwi9SAJYFwxYoHLTQnl8lRGfoZRDu1e8tcbOZOZZcA7mT0yAsWZZEmEknXYTbHSL8QwnP3gO2LoRBuOPQwFZDauknYmbY7S36l/P75ABYKJva0vxNWTBs3q2Q78dRe2b4dwWCeelpH4S1FL0+jOFMiiOsEb+1Iyx1FiDc7ecLIpsnxgqEJb54W7J8sWbje5+FLRX2HTH2Ltjdfc/DbvzJ9hPTfpPel9E4eMPRMVuAxVCMe1FuW5BggMN0HGxaTp8DwdTyulKen4XdnnsG7K7IfxZJZHG5AJ4QJK6rENDzuKQa7xe4CrYWAGB3BHaSxXA/wmBkb60hH3ZN/8uwZc0uc645nEzwbB8ZSucRYFIg9tfqi4roN9GPdCn79HoBmzh4yL5Vgfl5EfPTvcRTVH9eH3Ch8sDFfVbJ8NMlDAIIqzLdS/4xWw1HUQzCL1G7ylLkadi994sdxi9V2JSyqSgr3JS/whb94O/dsAk6l5cIq6j5HUVwuY9cnQ6EW4jHw1a1LtXikozpCYvKFZLaEYgs0HUf5pSIELRZhAV1epvVyczq9suuV6IX8FAOs8i+DaLriiaEy5eNgJ0pAXY6T3++wIVXonCRLqkqMHa+zisFEaU0LkoyGzby/BkihgqyGs7ohbUwiAJ+nRQv+PVGNktlCu8vSIN/RhD3BcTMsh5hsYzLgudb9P4QuUf/gl225MKzx8GuuJgSiCOL3FqLrQB2hK1+zbUh2V3ZGrZ6UxW5Wq8jrClR7Jy0wFkg4kKjYVdzNMWInu8FXbl7Klph62AMpt/m0JizgrlNxLgkPMbR2B4TwpErZu9Owvlx2GVxjdxlbx7HeNgaHJX0/wbYIjNzhIttCvAXw8uj/sZSfz65ybMR1r6IS5eXzC5xdSBs3ZHZAt9Z+vxp2BooAYD3SJH76Oc6mIzoL9MAzyIik0uAa2ELchSrXTk55iS6nw+AmewEA3eK0aZ8/0/oOh7Ldb0Ueglh2jOBcYLOVb3ok8c7MSJIeyJyE4CWISwpr0vw3VtgV2B+S4T+ivP/KNhzLNY4LtU62GIxg4u0VOS8R8MmLP0X0cu/q+jFQepCwUf57H2FgJSvLtiKXJ91YOHCoxW2YvkddN8/nP8vdWj2LdhzPSQ9AbYS9Qsx82uDreK1cx58ybENgU0LnxXT30LYLNh9Y2Ai51gJe2jSRSSA5aqgpK3pEc95HWFJPNXfguFMesjp9N1dEfhpkQwkB/Y63bs9fb/DEQw7byTBoES/Mx3GnY2wVJ0qEWbXUh/fFP+NpDiNfMbxBcathRb7EwVOVzvIlwVczxF9y9UQ+dubyC0Sm28eVbBl6fj+5bA1Nm8k1/L9CGIsJBhk338Q9/0DthTefeiZf+K6dnvS81+IEID3imfdLgR+BuGS8f3imjQ9k++/mRTFJGd8+ehMwvFkhNWmDMHrNKKFa2GrVMk+b0N4IJDs90yKvb0VAePP0TXbwFY7jxKqMt52eh8WCmKJ4/+o868KpEhfZwl6HleXr7+j6L7J4r/rHMEwcSMJBnnPLx2mNQiPtysGoFpoi1WwJdpGOOO+wxGqUwrAjZ+7j7iH4cSJRI/Rc/4ttPfDxCDPCjxlxD0P59HADI9PwNZtZJic5mhYwNZwPE0wp19AMPDnRtiycCyodnD6HS+0d8ZRQGzFboiBB59G9qsIhmEYzhB93Sv+/3oEDg4RwvipCKUi4fcb0dcc2FJ2bqsla0HO7U2yfCSt3BchcPn6Q0ip8H8v0jymwpbOkwKCP3+qv4QDd3ANdXyE+O9J5Ga5nRlhmsVZC0zAe4rfrnYAte8mEAyTnACOIZen2H4Tjstwp5gD//dFRwC2Icyd0AVgl6A4yNtOH4sQJod9C7knXgG2mvJscQ8Lir0iYMzj3F8IyHUI80r4ejeyvhvsaWNSsLqCQQtLgWtWzhcMkXBgNYz8camE9nDmtgsxlWSCW2GXo7n/K2EPGpJMxgHnY8VvLzl0lhAW45cQJsMNc+bD7zeKvtYLdzgpVgokfzDjbxAuTo3T53AAVyB341+W4gds+Uxw+KuaVsFc4XBfHwLqkYKBNwAd4Ehs+dA3kL+moSQ4A5uBGCV8WDDsvREFQ1RqdqkbgVSE0Py8E3VnbbHIecbpJT7jFAErZpipyK06rZwViG0QHvPHOLvSeS7DYTtHG39dmNxRJ31xte6bEZ/gJC2Te0TfXxF9y8bZlBc5eJYWFo/3u868niQrdroDk69QEFEuHT8gxvK7GF+fvz9K1+0WIfBPcRTlRTHzkjRcL2iB53eHmJ+kqbkOf6wlRRYVKOZ2i0NnKxFmE/dJOPDNDyI3W48DIvOcB38pD4ErEaE3CI9Xq3AEA/d1aExfAykYWkiDSyK7vsh+uY9d6b55CA/EUc41tzoM9GSRcQye+2EOkbziXOMWWmWtd5Pz3EcdIcL3zxDM8nwRK0XFZD4y/I53goC86U1q1YRgqE872nKdCHanBcO7lt4ihGX4UzFjr3L894cjBLnE/cF03ZGiX8BukpNxjuXChYxjwJRY/WJc8hz3dywokEso+WOSwJebr8B0sq2gEe47b1JiMdJC7lispfcNAiEd5CdBLKWc5Sw/ScIxpJE/T2btA869chkRyD0yfqAbP7MbPQ+aKaXUPkQw8UGCUVqY3oywKQ4C9ySzs9CaM+PDPbh3nRhrBj0P/eHvzzhzGi6W3vi38wlPncJa5LGaImEQ9TvTxIXi9zsRHlvHS25ubsRC+o/7qCHrRz5vg5irEvNYi/B0KznvhHhPi3sPI1clKxhO0vM0gs2/HLo5hYRQh3CVlyO+2LDs8x4afwLhMvPZAt9+TDyjXYzB3RXMfc8hwQfRd0M+XJWqVescBAQi4vtd0voBEfiBFAyLOlPxTKFZ+IDTIIa4NkXFn6gDdduKtKyy5NsdL8xqIPesSl9YTXNg19y7iDi/6LhjxQgyF58+otfY+fuiCN9YCY1VK4R7Bf32bwfnpYwLjsA6gFabOCGuijRYHcGPz7L0ER70s48QoAnhQ0fRDOdxvEoMJxnCCPgwHtZSDGM0XZcin/1I2H0zEkZ8Ovlr4nfORznGETwvFmEBMqwWkMW3t7h+P7KK5qNn/oEpwe3Mwi6J7yjuSxcTJCvUsSFg1TlSnBMm3ibtN4kYvQL2RKDHBPA5kWYsLdesJIHCiFQxAKvbyAIBRIxVzm9LixQMAS1xNRHTb01BtagMu/Ww+0/GiedMgj2gN4u+H/gb19ZFEKw8wfoQGnOGGGw+wgN0+iM55ghnvBc6FkShOXYQY/7HGZObLfuOsILiLFJWXA+KaH1AVtSz5O5dC5uH4Prvkm53opiMFAzzipwPj+FlIRgCov2JMYKhVJz7pdxXisWQogDOekf78YBvIaJmn+nzFCme4fg+p9DnW2GX0xgoXszAN0WRj0YhUUtBMiOOVzDGwZ5IXUxjE31HMmOfQpjhOFAuU5QCYE3FxJQkId7eD8/luezu0M5r5Jt3k9Bqo/d1CIvrrBbvayka77q6cTEPUwTOroNdRdqW6Jv9+pMp6Ho/xZmeFrwjXZbtkHtYMBCexFasQnrbGZcmGtrorRTBUE2v5cJXk+nE/6Lo70TySytgU6S/RYDqJr/mFLr+tiIl3sbcqssIGi8IOUGEMqsIM9knxuYlsjkovDlKkQmbFhr6aOSukw/UPOMExnbOdW3IPd6+L4KhDrnLsqspwLysl/Poq6vJ6crtpMyeIPPdCPcjSUpvEuxS37nkjkll1hxBH9kiaZz/X+EITKDnkvNGaboEIhpMAHItBiOk5y2OpD6BiJ4FycnUz50UeMyXp2+cgOfGDD7u6ZhfrxOTF2NKn0DzepwEzMdh15d3jnjtQhrq987zjyRXJjtAFpPJg+ekIEblBEf7I95T78QGKhGu2cvTyqJ2Nsq8if4sR89afi4ptjup/6QIBvIqx9GwmbH7OtZBfQR8a4qIMUTFsVQvXIVNJhjqRRDNjzHH/kpSj3cnDgJwqrj/NPr82wgAKBEIwiYADJuB1cjN0wDChJBEHqbyiRCOE1FmDnp1I8xWky+O+E8W7ppP/v1nN5ErFRV4HYrSU8KRx7KSPnoF7J4OSUschXd3NvImoqCf6UIJy+ED2MzeA8h6YAGhhRUxmCzkXYSS7Izgh+H9MLZVH1XBwG0Iva+PEQwJMgvvdhia9wgcTibkNITLZX4ePxQiELgxGkv+g8nK4eh4G8LMxaCIe7eme/4p/lMxL4b/8wij3Dz/YzaRxpBLtTy+rWD3d/SHYFiHcDnPjTlsqgIvci8JWytPkHDYDzbPgy2ZBMKVtF+IPhZHuDdjSxxHlRgPw+L9j7pgGJmHmSUBs1mcpmuHwxY9PZl+v6kI7RslGAaSQeT6+rcdor1S+JNBHlMUFLwCCb/3RL9xxWoDAYd7nfkfSn6rv5GsBgnf+c7cahGmQvdlLKyRlzi/HylgvimOLUgK94atFU5umga7SnMywmVOuW+FcylmiTkyLCcW6X66ypetl05yYze6gigFyS0FBshLNzOEtuRrfwybjz8LYVJPsXUNgl4weamNzeQzYDPsOsjE/Q/CtNl81oKhWMFB9NuDjiVRDEPeT89IEYPUIyw1rwdAEOajhxci/vtaCQQa1z/nq8xwtOvuCLM4k0XQrHK0am9xz9f/AbmVw6RA57jH74X1y89Pi6DjqxQ3k/1+ghRqUCQOxzhK6RWEKxXBR1UwNBdB4J5jNbibS24hHy2Rh8Dc30sNPgYlEkaK/MQJsHUXAgqIraJ4gUH+o9V4bscRoaxBeJhMUMJ4ZyFMpmGheaz4roqAleojjLi/R5xgIO/iO4zGki4AC1OAEf8uBCeP5SqyDrsRnbqshGAxESZ3qVpV3jeCFELUTt6suP5PJAC0wFFWxBj+KsYRwG6yOrQIJcEw2NX5/c4C1vUmFQy+8DMLEaYvNObbyM0KW4bchKZCvj63ihKRXlcEk7CvyD71LrA1ACrovxXkW76HsOZjXD8Z8g15K/qzwo0oNksw4QQ5GS/7Itxz4cWYwHH4yAevSuca4wj31xDWKciK/28jrdaF6HqPmQICh2Mrkj6YbraF3QDGwoHH4gnBzEx4tbA8jWORlOI68fPn0vt38jCujnAZOmBTtbndSK5SUoz1XJpzJobfeGmyEeGO0QrYQji/z8MvxWbG9qpEoi7wHyfdpEQgpUIgIekQLBN5J8I8BWaqP1Fw0k1/lnXsgJ7rto3ieZ4TBIqySvYURJpC7jbXBHJrIHIBlafFc6bBLjG+juh0bilYmDHPFmbgv0SMpdSamlNh0815VQcIz7lQAgZJx5qS+0okM0VpXCBcRpOCIuFc8yMaQ1IE5kZQoPQL6FmXkYO1Fwi3I+EEF3lTVTdsNSXJoD757DNgA9VcE1NWBT8QdqPZ+SKAqfPAo0qMI6oILsOdcyiOh60RkhX4c3enyj0GzyG3cvpyGhtEkHICwh2WCScYLcd+Ko2feeN0hHktSlznbhWQ+z6iCiMnBT1G8X4CfYjXnIDcPd0TixA2rRSB5nu2ibAIogb0EnJ3j60q4MbwbjO59fiqAvOpIQKYJub1AexBNIW0jzvmvRBusTUore5llLU0Dz3PuTgm5vofIXcH6AfIXU+PG/P3HRhvQO7SGuPoZOQWB5Fjeoy04bGwmZ7XIyxiskaY0xzMm0LPPRPh8uQfHdxlkHvK2e2EyzsQFnOR9QTcdqMDjwVCkcXFPDh+Ik8v2z3m+k86uN7TgRfT/k+RWzhG7jiOanshTCKTNOTSYD1Zs3KOPyzCkhiMsGIY3/eL3sZnmsmc/iXCPflMSPOJifaDTdn0YtwBLod1R4SFIitP70w+7N3ILSLCz5sOm5U2jgi4CXYv/GSHsGT13xk09gtIo38PNuf9ceSWC5tJwG3K4864bWvSmteIvhjgy2ErXR2I4tJZPZr/MWS+y/lnBNyvJFNzZ7JoTkNubUW+9mF69niHsOoJZt8VjJsV902l+7ZBbgr7eQ6RdzkMLF9v0diuRc+qQfJ1lCD82yP670b8Ss51jhJqJbj8RFgkcl6PE1PujrAQjIvnic4zNpDml0L2IKJ7tzaFq+gYbj9AzxWoKxyXnKteMQ21wdY3kf3Wkjs5CWF9D4nvlbBl/HZzrG0Ptp7lISTEXeG+Gnaj3ESEBWdUMe7FNBQ+G5KB6BZ94El9GjbvIaqUVCLCGinm1ZmHMIt5fUCA+hERlFtuLN+WYVUibGYivmiNNE2zfZhP3KuLBBi3S0u4zz2Faz9EFxg1QjOfLJ4l6yOuhM0JuIIYdMeI4OJZQqPlg+XnI+D3UgkweT3CJOd2IcLjDmX5tzcojsC/vYKw4lWhQrB7CWZ2BehMRwDeJRSJdAHOK2F+1zgu+Poi77va5c98EuIAWmrpiGAYNg85U+9hus5NU1UkxVbGANDAJhPtLaRmIiYAqkRMQ1oJXp6gKWtb3pSzHLl7PdxltGJXNPYlC6ND+IAyzpIlE/YDhEVQ4uZfAVvQ00PuCVtuEMmPCMRFHX6SFfP5BxEHhKWxPkYAyvv+TvhQwv9XxNhfhC3cW0VB1imk9VeJOf0Idr/FZGKkpXmUEBPncNh0Y7ZaqkkJzKRn3ENCy0NubYmD6N6OmHn5As6rEJbXd/EAwumRRI9jibmSRDPPwG6Tf1Tgws+DW7lysQ/heAL1W0dzmUNKagoJIIi4Fo9rG3JhNiA3h8Klt2qC1XQRNzpM9Jco4r6Caea9PWlnY9zTX6sxxZxG9FEac19aX3GTiDDBqyKEa5x1pBB/KpJCdKXl6ohVl4HcUOfFrN6k8sQmCrUo+krQyktUaTxvE/KUKraTUo61yuZ5EK8C5Fvb3hgHurrmU1+JqNjlIr9IAhqIlnUIT/cRn16EZRVnbWmB+0LLbUZc71Yhivu9N3RaCB/5xszP8XtBP56zQufCNN+4SsFbFG56c1+/aT+F3Iw0E0MoyrmmP5i03DatBVKotoNL3FH0oWJoyGAjZ/zl4Q3Tj31K+GyR9O/1UdsrbJpCLOW2cRirrwfo9vYA2XLbBL4nmyjSpKqigNQusCWuxsAus1TRdWthA3HzKeAyE/YMgFUxGqbcNm+acitPDYNdjfg4vbfCLtXxMYdrYZOM3ofdb/AGbDbi+jJ9bB7NDZDsBbtbcj6ijyfLtx69ELZK0eGi73Lb/C1I+flI2P0Da2LoI27Z2YdN9JqCsJqU3kJ4ZotG+j6wqb8SmVNg04t3gV3mGUGvsbBLnxcj+uy9+yP6L7fNr8lA19cQnknKpzH9ATZJZzvY3I0R9D4etjjs9QjPcpRnLZ4X0f/myDN9sdA/sk3mot/mMPadCE8MLtRSCDPCOKnnmS0ZcP9jQmEschN6srAZicVWMhoi6IuzGK/ZTAUDj3c47D6h0VuaZZwUSJ+N3Ay5Ex2Tyd3oJDc8ScR+RfQzD+GaH1pjGwAAIABJREFUeNmd2HyFwueQe5zdAvQ85zKKPrwI+rjKsUQ3N9pgS6EGNsHLIDys19uSkD5emHnsFx4uril2snI3GSN/HcJNNWV3YvOkj0mOFbkIYTp2sgS8SuHAruqL4v7NwaLUwjr+t3CltttSaJwnMBJhrjibd6eJyfcWcINh6+TJszDLgmHzEwp7IjfnIIvwsNdUH/rdDeGp0oM3I8HAY5Qb4jKwq3abPY1LBPDJvmwm3i8YXPWRqH6O3G3FiQJjkmanh96njMblX7jP6Os6vBSGbr+9Gb+O6EP3cv66wNwLFboB7DKkqzQu6oNQcPufRn3m07a6H3Cm88xZl4A3/j2N8FRqtrJ3EDQuCwIPNL6Rh96LxXcPxj0JudutfdjNOH0NBsndl/II9LjTsfMN3CuBGdx+VJH99IaJi03w8fqA2GLH5xbDcRlQF6EgosbsHnf/LsLivX0RqDzOc0nj7hwBK91HmOgYN1iV0H/cbx5sLoYUDKUsuxbCd6IIfOsI+lMOPcQJ5MjOOZmkEjYRiUt5pQH8BeGBKj763lKwuy+XITr11a2gtDUFtBRs6Ss+pj1uPGzVuP9NgF0u+1fENR8nQkzB5mdMR7g7NO78wELjHg5bumxr2F1+S2CXbt8p0K+bLDQENoFsNH1/D/a8ww2CoPwIQnXnvy/d8xLFADLCLdiRxvW4Qw9wnrEzckveJ2BLo12F+MpXpbZqEjTL88C3mvA5hn5fQDBZkwcm7t6dGtjS/0/BFkKRJ2OPhC3q2gRbw2AWcsu7+TGM/bpwH7KEt7cQnawli9tKfNcTnEcRjbwHG8xsi3l+HL3vQLT3sENr2xLO1yLcUVtQWn9NSDsG5GH9YC0Ua1FIyT0JtvyamwPxBuIrKUuhlyTEnEnAMSTkXGZ5Aj1rI6yCrciDIiS+u1Pwc7Bl4VdHjL0bdmlvz5h+pau2LexZnx0R/bxP5rtbC0POvxK22Mf3iPgNcg+RbYCtkiz7vQfRtQt4fr9GbjEWGUTuD/dL5dGEgC14ci2ik6eWkJtamUe7NxF+bqBgKVf6hhDC15BScPduPE70BMe8P5do8jnkFgPi8zmfg63A/RwJr8cQFkmRNP8x2HqPUYVu5hO+PWdurmUwHjav6D6EBWtkuxK5+SKz0LOQTSRC/u4gfoWYRH8uHWnEb/GdBJs6bUiqLUDPklkGYZEQF0j70TxejwAyH6c3SJjExuk/4zBKPqKVMNkdtjaim83nEhj/vkceJJ8lrn0ZwK+IKWc7/U1DWAiXYXgqCbu3Ip7PiUMtZH2xsJJVfr7l9KeFlp7v0McTAxAglIJA9vtlhKXQZhIDX4/cpCoDWw6uRdxfQcLkebJS3YJDzBhHIrpwjKShDnKFuR2N6HND8hVI6UbPHI+zBN29RBbYzQhP7ubX0yIoywJ8H1J805G7dCxjgwDwN0F7GTGvyYWCPo2wextkfEGalgMVHdZCQ/5DTOo4Is5K2BWMFxzf1sBmXLr+2UmOAOFTlgxpip0R1tB7C8CfYRO2XnHuYRj8IEYDSUa+SNx7K2zhkW1JwxwJW+YuEMJO1t9zfcffCavtmAir6noHDs8it4bBVcit4pMR155F17wRIcCYqC51BAO/7+/AxwD42QBakxImPxPPPjXiWq5U1SnwyiXaBju4leUD1xI9/Ja+t5NSuY1oca1QGNz3HIQH1WwDm8G5P2zJ+PccJXMybAGYQ4gmDhOxE243ieuPjXC7f+XM7TnH0jhO0DPjm699iK75bYSAYuvm34XciIOFxGPpddMAL7do4cJITX1sxLWVCNOrmdD/lMeUPkgAjDXnIuGO7B9B0Icht6aiga1EVO+MVz7nFmFW75VnrruQ9uc57hNhlv5a/H9kRJSa233OqtHPIxj0cCEgmBFOgq2JaYgBfozcrMVux1yWfX4fPQvwnjCAgoGff4kY37ccupXPvcGByW0OrkYit74o5xq0CQUwwhnDSHILXYFyesyY3eBja4G5XSeuP9pxTeXc7nLm9lPHamBXZJZj5fwBttYmW1k/IXdaCoiTCgmGM9Bzo8sPBhrxiVxNxMktMkLM5iAQZk8ygmYjLJEdZdFcJ64PHC3nRrqZOb8IwCggUCEBfSHGvL5GjPswIeXlKc0SyYPIjzzZjU944WqQISsGERFmXg7c1TFbVwmilkL8IQdej9D75Q4MLie4HxRhDblFfuUmuQMGiD64v0PFs54UY9MR126F3KrLvlgVSAqrNOsIh+nIrZMZtbQ9w9HaD4lnJwWN/tcRDCxk04IOmF5PLAHfEx18r0R4fKRcSfmOIxiep1jXE44Q+TLN6byCDKpDc+1DwaBt4M6VTP2N/DOrlDK1Sm9IAaYa+ocAcDaQNoA2gPckXXtQZWVrg/ZW1WltKpQyVUqt+0RFxRhYVZAygGcA7+qWlkoAaND6wqHaM7VadwxSylRrfadA/od1Gw2g7ga839I8vbDYaKcS5bovAVJ3E7LGeKkvD9eeGa490+R5fwGA2zC64kkgwWPmzwbwrse4nBr/BtB3hwgd7vi3bHlUOMKFT2CuZCJUQLfqqb0Ztr+JiJ3cEUF4+QKATKhTIwTDHgNgUcq8gNkRVqQLE3nWx1OORXm+6IstgA8cC2mMuMaNo/F9X3fm/rb4T57VMMsRDNvHxJFGOub/XhECRAqdSnqmZPqvOsJJLh5IfL8rxpr/3BMDKAMkXsauyakhwd4YYTH0EAx0rzb0APru8W/GMkPCYF968XfLIHwtM8WXMaSWzdlqpbP1duksX3vFCQyNznPtKQ6h/JaWIhJivD0A1agT143QnhmhdUed1qbV837jXDKYXAyW4hP6wgmjE4nLGz3PNGjPNHjeC0Xe9rxjXl4uCIWF/fUOMUnLIhER7PPyMOrjjos1UIKBx3WOeM67Rd77oAOT3zv02yBcRXYlxuQJrvO8dnICucsiLLRiBAPP7Qpx3X+KnNt0JzZwhejbTVPPivEeEaEEdMSqCBLqw5tf+fDKUZ6n1hsutGeQgEKtVtVzsllcj3H6bMzxpgFKmNcwgKfCU4O40XrptKJmOxmr1l3Z0PD5p9e2fenBzvbpAGbOrR9TV5MIKjPJ7qTxVbP2zOI0YDJ+YsKv2tfWPNPdhRe6OlHteeYnNTWjzq+t1e9ns3UVvs4CwHrtp8am0x98dcWKum4DzM5m1Tt+FhrQbb6PaUDWVYtLGxqq1mm91cdqalao2bPfk/+tpTX/6Y2No3apqmr/xtKl57b7pkEDqNBq5XdqqpsadaqmA2aIMsaDUkZyShCY1cqoD5RBR6dSxviqI+t1+mO3226VmjYt/V42+2UHficAqGzyPFMJBCmtq7LGDAqsFVfZaczo9cbspqGQVDa5KAEMXej7OIZQeE8uU/Ma9u1kmcg8BiPW0/1eMnF/Wgu8nv9V8Xs7wSQh5lNJQUD+3ETLz+yyQcSG8p1Bmm+1je9bQcKmRlgt6RJXZDTNbRByD6LhIHOVYGaeG1e6HivcEl6OrckjxAPC8csID1vOODTWA9+JeaNHV6S7MqcBepsMgudGLVl0x/u+P999yvLAHtF9DuZ0nSN+X9DS0ly1IbVerX53rcGuyYUNyyYGaT27skOnfS87UWlVB5hBJkAzgA6j1GAF06qMygTKpBTUegMzRSucFRj1gQa2/9aQoYOVGfrQBoPzlOo+1AeUMjqR0Ko+MFjXDdOd8syw71fX4jQTmLbAKE8hNUTph5dlgsoKeJ7RhtbVEljWlQ0ur6lvVwpoNybVZQzSSn2xDnpfA7wJjU4EqFCAMdo0GKMaqoGmVes71k8ZOuKZKV0dqFc6+WBnB45IV46/tLbu4jUmOG/Zhs70xdV1lWmlqA66Gp4ApgbGoFIBUKpnjXalkFUGBmhPwRhodKSR8pe/PWfdnJEt3a9nulvn+Vks9n2zzPc/PdvPfHp2NovFPuHNj+TXDGk/rpR1M+z6avclQOIeAM2ep7oBBMag21LmnNVBUIgJooiN/WtJWFosu/XXihUXgN1FrDgFsMk6k4vso5ssxHWwp14VGl8xVaJMP80tgD1vZZSY2x7C8ip2bkuRe5huXK1KXl6OSqbrMadEuit7aqOXvCZjDDqMOq2zeXT1bzesa5iRzaAaSi8NfAzXHj6ZSh56RHpQol2Z9cpglTYYC6Umwjc7d1V0dywZ2XLbUiz7RK3W+3dkgkV+IqioVnqoXdtU0B5gjDUzeOwaGl3GYL3BN2qgUkqxbWrgKXV+DX0PaNiUXleroNBtjAGgapVW9fYsYBUA1cGH0MnJfNaDFKqzAIYopbSC0QpDFNQQDxjnURDFYscybsYAvsGQvdLpL+yaSpkklHd6VbWpVfpgT6mDK4yCD6BKKfgwH2IkC2NdCgNPQyGw341AilJQ0MAgStmsUgrwoBoqlcIB6QoEtj/VZYzpNMasMQZrgsCsCHxvke+3KYNZSY3VQ5SnfASzF2SDF8YmEsHWXnLYyIRe3OAlUiuD7m2T3d2Lhq9c2QYAC3y/M0rDX93Skjh/4cKAg6xF+vzvRxDV2AFaotwNYTZggmINrxNxryftvYaYfy0F2NbSf6vptYqEZ28soYFsnxCCPUmrBf8Vrs16mstamuMa+twmvq8UWj/IY/UkShFsCQ3V0BYE2GCCNgCVGvj18ZVVOAbG11CeD4M0lEkptVNaqZ2MCaAUUKk1Oo1B1gBaoSat1PczADqMQUqp5sAA6w2pJIMArFSDcGAKyhhltAeVajNB1oQcrawY6SHhVdbKjQAKnvWBDLrNh86xD6MCWOtdKaOyRhkNQHeH90MBShlaaTBG29CIUQqK3CJjxZeC6jTQHpTyYVCjtApggtVBYInMGO0rJNJQdl3XGJNUSlUo5bUHQTZQaIMVZF5SAd3G+ABgjDG+ggcoZQwyxhgFKGMQKB9IKPVhOFxVKY0aBYz2PK1s/KmGVyIUkAqAAwzMCYFBpadsXYt1vg8FrzubrFy8uLF1Tlrh/We7uya+0t2Nd7NZ/Y6fxbzAx7JMBhcsXNhxAQH3SSCxL8VKVHz1ZxDxSgsCsKnk/aVRowQOH8bzOxQ+mzSflv4o7dAc57h3P6PlyN7OrRh4FlU/M6GM6azxPCBAjQGwwRgkAFQr7VmKVWqNCVQllFkfqGxaIdkFY7qMH3hQXhbGRwDTBfOhmu4OYIz6MJBlkkolsgYZA6OgQl/UwAQW4ybQgIalRh0mjSv+LzCW0X2jTLJCK91lmcyzkRSrmRNQ3iCtvLWWvYNarZIdsAypqN9Ky8TGAHqQUqn2nLUfgyTJpZRS6LTK3rDVkwCMgdIJpdIJAIFSyMKYRb6vKpUKGrWn1wZmbbsxGwKtj1XGfLLRS161xM92dRuzdLDWo3wDeBpoCwx8GL9W62SWpKYPBd8YEwAqoPgOSTp0Bca3wsDAWBgqZeAbhUQCalhgBaRk6GRKqdEpqNEAsE+qAp9Opk0WJrneGGjgwmqtx/nGPKEDLOpK69mj5s9fjfxCgt//IwJWvtB+gxCeYNVfAmKE8+wRIoAWFMEIm7oMfVTjsQyJyJXgFQN/U84tobOd1yzRFXOUwVdg0AyFpkCprnf8TLYCelSbCcwb2Yz6YrpSGYVkxpg5gBpllOnMwCz1oD6WCF2AIAmljQpHW6mUajfB+0qpR6qVPnWDMTAwPgBdoZQm5kdgLY8PTfJuA3QYY+q11tr+hZRW3geBbzqNebVG6V06jDEGUGtMYGqVVl3Am90mmKGgjq5WOr3OBJMNsHe99lrXmwAJwEzPZLAi8NU+qfTKdQZTFcwxgPJSSqV8A2SAeYCpyhjztF07V4M2mAAGMEt8Xw3VesNQrd9JQc99Lds1bkkQTLhxQ1uwazKl901VdI/W+vhdTN0zauXbbUsbRi1ehuxQrfCij2D66gC7Q6EegfaMUnMD37St8YKxMKo2rUzmzo72C3ZPprevVzpIKOhqpQGYwACZWq3T8my+jDHwNLwEFLIwMFYma5BAVYB10xCYtFLKt1aV0lCoVTBJpRoqlTozC3VmpzZIZ4JFixtb7lVGTW5cuuCl/cQmKBFYZgJ8GTaBZydBoGNpqe1R9KwS3R8uBbfxwvze3CtHa4fRtxXWUXZTDixBPuifObHizWHN47cdWrVkxNtv7zqxouLJ/VJpfC5daWb7WVWvdKZC4S8VCica4GVl8MZQT1+yIgjmAWZEhVJVHcYs0kZVBwqBArDBBO8loM7zYS5tM+Y5BYwfrPWw9sAgYzBzfuA/1hEEk0YlPJMwat2T3V3j6pRKVyplpmcz6vB0xYIapedmYRaSKTEzrTF1tR98anJ7+zfbEXxyZiZjhmit9kqmv/e11SsfXjiy+dE2KL9pycLJc5ubxw9R2Onxjs5DXsp0n/xQV0f3YKVTjye7Hvvd+nVfW9w06jov62e7PNWodZBNGTM7m/VSDcsXvGdGbbPV1WuWXzalq/OEbmMyL3R1pnZMpf46s7v7mwS/YynwEzzb2amvxzrfmtlL2+7GDqmRy2bNQ+4x5QsicCCXqPYEsP3oZDIz2kukt/MS875fVzMpHSS62mAO1jDbA2qQMWYHpdTorDGru4AFCqbaAEMMoJVRGipYBYMNUBgHYFC3MU+uC8xn1phgcIP2zGCtVYcJTJehHYTGeAmlmmuVOnctgnOWNLY+A2Me1jp4ZsSgQa+oOXO6KDzEZ4tmYbPmdhKJNglK1HkU/Xs4y3KHiSZSlH49Nt+y8mz6r3LmyjGH7CafmwHUy9g1aSJ8r0rPe+riunpzcEVl90/r6s29Q0d0/XHI0Ee7W7Y65c2RI0cvGdn6iSUjW65f3Ni695KmlkuXNLY8uaip6TMLm5tbloxs2WdxY+tF80e0jrVLgM2fenfE1g2LmrbaY2lT63FzRjbvJ9dxr6sbtutXKmr2+tA00ppTkPPt+JKVqjvcPAYnL+HEqDyGIpbfTuL7quz7h3kM2ycSew3V2tQobYZonWnUnmnRiYvZlBew9XLzOsKEp5eB5CVNTYMAYFwicamXmzwTiPVvuRJUuaipqXVV/Zg6/j63fkzdgpaWIYubmoaZHXZIAcCKYaMa5zS07ggAE9Lp30Brc/ygquyDw0aY90e2mPamrUxn8yjT2TzKtDVtZT5oajXrmrYyHc1bmfVNW5kljS1mSWPL/KVNrccJeGph0q9CbuZgFrkFSfrDSnghYj3+825OTQn96Zg8hnYRz9B5tHsDBTr5vrWCRhN58hi2i8g1+CF6JortViL8VAzdHuPkrTyQZ26FhYQB9CWUADECiT14wPukKzK7p9MGdnNIyrnPK9Bv3GAmjPA8U6UUR7kvq9fa1CrdAcBUKfUgAFxCyUd3A97dgHcJ9dfoeU8O156p0zoYpnXnTqnUtrAcn+QMybNpjXlcMnnGCO2ZKqU6apQ2Ddq7la91E64MoE8homvV+ozBWptarTuTUKZOaylQBqNnLcxlCHehFkKuC7dD00qZKqX9Oq0zw7VnGj3vHguD0RV30/h6yWzXiaVG882qmitM6+gjFjS2XLe4sfWaJU0t31vc2Pr0kqaW15c0ti5d3miFxIamrczSxpY7HTzyvM5H7q5MA7u7jwmwt4E+ZvhTHcHDz5A7OYspUCMZaGMLBj4ZfkKEYDgQPfck3SX6KKYYiysc+l8wRBHtSJ24crj2+AEZAKZe68kAQEyaiBIu9FLMxETU6uWQEXWt8p4DYCqhfwUAdVr/NQmYFFRHpVImZTf3YN/cZ0hkP+YAVkpl5RCZm/l4awFAJRzidC2NFN18O60QdGsgQ+b2faKfFHJLeTFCWbgOSoYmZA3CXXlZYaZPglXFqWNIMLKQuATQxwhBfagt8d9DyA/W+oZKpcwwrduHW2vs9Djts3z46JHLmrY6cHFj86kLm5s/XkBL/VMQIGv0s5y5l+Te0nsjwjoWcocsP+Nsgd9EBIwlYw3ayBZDUggGHvt+EbQ5KAbfxwv4eTFz41bt4MTNfGTB0G/VtiVCp9YqbWq07korlU2KPQOwa2dJIsRiatjxwH5JDGUSVnICwM3K/tal7fsKEbmVuePcnnI0yaciTEy+/jyHwW8pUjCc69x3sxQMCMvT8YnBWUfwII92GwqbFpqFzdYjA+lDLcxM0O7ZTUSF+jsXdteoTO1lIXqDpnl4gGnW+nwAuLulpZLS1b3eKA7YxKb3kLuxSG42K+UkJolb3nb/FuwOQhYKssbBiUXA5ARyST/p0EYDcvdKbBDLh4UEw1px3xrYTVsSJhrh7kpmTBbEvL+jIgLfgbjnsCLmdgbh+2PiuQkxb4mT+2Ncjz5FTZMIC7fITRnXOtfKgpVSO3qSWXW484u3gHJKqawaxQwWleVWhXBrbRAznmqEm06kP+du004jur4C3/dj577bBIJ5Tjc4RMAM/TqZdG7KagNspW12Q65w5vZOhHAw5A64h/tUkjbi3ZOvgqwGGh/D9nYWMipXsFcyzli484Y1sa9FFWDk0bB7GFzhcLojSFz6kOeOSGF+l+iD4f2KgHHg/L+jQ/ApEtiTEW6xbxZ4AwliyeCdQqC6lo4ScGxFbnWmNmExyI1Jjzs08WIMDKsRFo6Nwvc2zvUVsDtZH6BrZiAs2JIQdOtayI86Flaf97R4EX6q1NIvwRagKKbVICxGwQR0sfi/FmFJeSlBXwLwDdi6BFcg3BizGD2rI00mP3euo4GmOs99o8gxP+nc90qMAH1KEIJb/WkBBUqnwBbDkNWDfh7hW38Kubv+3GIzL5Eg+AfCnXaGAnW1MX7nW848HisikFWKlh+CsGyexMldwsUr1EaJgDITNGvOHRBupe5yYBIQgzxMeJaBv3cQVnGS7Sih6Nwt9YUsEDcYelAEDH8eIcgeIMtlF9g9Eq+Q4tgGuZsBXXy/CLvP4REH3y8KN8ll9NsdfC8VeRL91uRDDyWt5FaB+Tsx73awJcZ4c8lg2Eo130NuSW0j1r+laX6sA5SoundzSLrLmgwuA00hQfI1+hxVWuth6mN3x3ycQL8/GHPf3eQHTnCE3uMOY3TGjJ+J+ZwI64wZ7RDklufqRnTNR7mPX27/TZMl8Q2EZdjd11TSLEeIFZ2+CAeQJbQUPSsE3U742JpglSbtNoyWaa8WMQVmpDcd2HwKPSsUdaBn2Tp+PULuGs9rW6KvnzluhBGK5juwtSCHOi7f4bDVoVZF3PcegAtgCxxxeb0dHWbPoGe5t26EW8gPcywRxndcebi7EJ7glhBLuSeQNRxVYm4mze9ourZfmhvhPZY0VlSh0w/ItHzPCdRI82s2gO/GRIxPjLmvnXwyGY2d6lzzCknl5jwE477eESaYtBIKvR6LiGlcgPCshbjXQwIxUVqJ4TwGYYWmuNd/HV+bBew4xJ8mHfW6vI/LjFKw1lNw8DnHtTBCe71LllRnDP28RgzK8PCEG/Yn9CzaK1/vigCohMndJcDjcHH/ESXct5u47/SYa5bAFj6qjsDZ/chfK/It2OIqUUL5pTz3uX3+J5+l2FvtILOyWsmfm0DWwhhC3mCSeCuIAN4mBnyHNMG7YgzGIbCAGPsbsOXi62giN5G1wMDsJqY8h7TRQxTUZF99OyEcogg+SwTXRQzGmX3jySTP5rkvST7qbGfcbD0cSi7WOPq+nszdKbD1ExiWPqITWSScJ1B/E8k3Dui5U8mqyQoBEwhfdPtwsSjSp+Rnp0mYLULfEmvc8uegMXwSNhlqe6KXBsLPOtgEpnlEF++SG/A2MY8LV5mCvS1p2V2pT0X9PEIwjiqpP4YslK6Y5UAOICdpPGvEsvR4ojcv5j6G8Zv0bB737rDFXXak5z5Cgek1zvwkvneiubn4/ifNrTsC3yB6r8pDt3J+bSRkyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyi23HYnwsNpy61srw3DLh73ZFBOTmYmPIzfH3QzQ4OfCJjF9lBFsthDiPAw2nb0LNlHspC2IyTY13sxHkLf6fWI1sLvvXt4Iz/Xx0arcuzlr3XxjnwCbZXgkbCruWIQ7F7dUwYCPkGDoL94ym3pi1bApzVH/p2G3OC+l17UIN/C41xrYjTXvUX/PIzx6zs3nLrbv88n9CMRv/we7b2MJ7C65H8Dm3M9H7u7P8bCnFn8Am9L8N4QVl6LG484nAXtS8Pv0vG+L/w6APT6sg+Z7ch545xtHIbgBNiX8Jrp/Key+k3xEczf1F9eKgXuxMDawm+aW0f83IrfqVz7tHoeDvuKtmPnlg3cx+NrYvFXo2jRsKUKmke/R/fWwWxXk+JOkOEYUkmoXAng65v+fwG6PbaHXE7A7z+IEw/2wu/eqYLdZP5MHaMX0/QDCwib8202w+xu+Cbsv4QbxXUrn12B3HVbC7sG4AWHRlmJM0h/CbrIaSwC+Rvy3GHbnWhq2eMeteYilmHHkg9slBKdmAad8xDkP+etnFgP3YmFsxNia6fOPS4Cx6SW88vVZzPzywbs3zx9o3ip07U9h99M00UsW6r0BwEXi2oMQluWL9YPYF5oYM6C5yC1SuiPCzU1RSJb7wPnsgTiAFtP3qIixy0pP7vfOPEirRW715kIE9g7iD9udD7ursLUXFlvUOPLBbU4EnPIRZ6ejTdALuBcLY+P0tUMe+ihWMPQVb8XMLx+8e/P8geatQtfORViSHnQt3z+GrF7eGfwbAMcVkmqVsNuHp8X834GwEg7oc0cJSM73fzF9qwKmWr7vu1HwR+6rz5YwXnd8sk0krbMSdjfcoXmIpb/HUVGExdCS5/9ScFrouymxr2JoZiDgVcqYevP8geatQtd2OMrApZF7YOuKKNidlpXF+EFVeTR7qRZDKURQSt+9Ido5sPULhsBukx3i/B8U6H92HouBm4KtJbAkzzWFxlFonnMitHKhGMMpfbQYShEM2zuaao5DsLJA68gicNBXvPWVrnqDr4Hmrb7QwLv3AAABeElEQVRYDIDdDv8C7KrgbcVKtXMpkBb1/2WOb/M4+TP9IRhK6bs3RLuEIvNpMqfudf5fjp6lyOT/F1GMYUxEjOEvBPwUCYZFeYil0DiK8Zkfdfz4QqsSS2GLjvCqxB/6APdCgkGO7VHH932GfPgq2IpOU4rAQV/x1le66g2+Bpq3Cl17mRNjeCRinE+T9bJ/MX5QOyFvQsyAKgBcL6Kh1zsmTV8EQyl994ZoDyOzqZt8rLOd/y9AWJUq6v4kbGmwBWRWni/+O4767iDE75eHWAqNo9A8OeK8iqL/hVYl+Jmcx/AObNm73sK9kGDgVYlVAH7tmLQ7UtSfV29OLwIHfcVbX+mqN/gaaN4qdG0F7HEHTCM/ovHLdgTRcp/LypdbuRVq5QzMj2bbGWHlNG6nIbdKebmVW1kw/A+0ayiGMwq2RunV4r862DJ6zWUwlVtZMPxvtXPJVVgG4HcIg75cyfyMMojKrdzKrdzKrdzKrdzKrdzKrZ/a/wMMeUd1GfLBxAAAAABJRU5ErkJggg==");
-        	InputStream in = new ByteArrayInputStream(decodedBytes);
-        	BufferedImage buffImg = ImageIO.read(in);
-	        PDImageXObject  imgObj = LosslessFactory.createFromImage(doc, buffImg);
+			//Draw MDA logo on header (the header images are decoded once per document)
+			if (headerLogo == null) {
+	        	byte[] decodedBytes = Base64.getDecoder().decode("iVBORw0KGgoAAAANSUhEUgAAAQYAAABsCAYAAACILRy0AAAD9GlDQ1BJQ0MgUHJvZmlsZQAAeNqNlM9vFGUYxz+7886sCTgHUwGLwYk/gJBCtmCQBkF3u8u2UMtm22LbmJjt7NvdsdPZ8Z3Z8iM9cdEbqH+Aihw8mHgywV8RLsBBAwlBQ2xITDiU+CNEEi6G1MNMdwdoxff0zPN+n+/3+zzvk4HM51Xfd9MWzHqhqpTy1vjEpJW5QZpnWEM3a6p24OfK5SGAqu+7PHLu/UwK4Nr2le//86ypycCG1BNAsxbYs5A6Brpr+yoE4xaw52joh5B5FuhS4xOTkMkCXfUoLgBdU1E8DnSp0Uo/ZFzAtBvVGmTmgZ6pRL6eiCMPAHSVpCeVY1uVUt4qq+a048qE3cdc/88z67aW9TYBa4OZkUPAVkgda6iBShx/YleLI8CLkLrsh/kKsBlSf7RmxnLANkg/Na0OjEX49KsnGqNvAusgXXPCwdE4f8KbGj4c1abPzDQPVWLMZTvonwSeh/TNhhwcivxo1GShCPSAtqnRGoj5tYPB3EhxmedEo3844tHUO9WDZaAbtPdVs3I48qydkW6pEvFrF/2wHHvQFj13eCjiFKYMiiPL+bAxOhDVit2hGo1rxeS0c2Awxs/7bnko8ibOqlZlLMZcrapiKeIRf0tvLObUN9SqhUPADtD3cyRVRdJkComNx30sKpTIY+GjaDKNg0sJiYdE4aSeZAZnFVwZiYrjDqKOxGMRhYO9CiZSuB1jmmK9yIpdIiv2iiGxT+wRfVjiNfG62C8KIiv6xN52bTmhb1HndpvnXVpILCocIX+6u7W1o3dSve3YV07deaC6+YhnuewnOQECZtrI7cn+L81/t6HDcV2ce+va2kvzHH7cfPVb+qJ+Xb+l39AXOgj9V31BX9BvkMPFpY5kFomDhyRIOEj2cAGXkCouv+HRTOAeUJz2Tnd3buwrp+7I94bvDXOyp5PN/pL9M3s9+2n2bPb3h6a84pS0j7SvtO+1r7VvtB+xtPPaBe0H7aL2pfZt4q1W34/225NLdCvxVpy1xDXz5kbzBbNgPme+ZA51+Mz1Zq85YG4xC+bG9rsl9ZK9OEzgtqe6slaEG8PD4SgSRUAVF4/jD+1/XC02iV4x+NDW7hF7RdulUTQKRg7L2Gb0Gb3GQSPX8WdsMQpGn7HFKD6wdfYqHcgEKtnndqaQBMygcJhD4hIgQ3ksBOhv+seVU2+E1s5s9hUr5/uutAY9e0ePVXVdSzn1RhhYSgZSzcnaDsYnJq3oF323QgpIrbvSyYVvwL6/QLvayU224IsA1r/cyW3thqc/hnO77Zaai//5qdRPEEzv2hl9rc2DfnNp6e5myHwI9z9YWvrnzNLS/c9AW4Dz7r9ZAHF41VQqcQAAAAlwSFlzAAALEwAACxMBAJqcGAAAAAd0SU1FB+AEDxIOLiqEUOsAACAASURBVHja7V13nF1F9f/O3Fd2sy2bttlGQhJDJxIQC71IUwQkIKAiKtK7DfEngiKKSAdFQVEgihQhgBGUEqRKSSiJQEgIpDfSNtn23r3z+2PO4Z43e+8rWxIS33w+7/PavXNnTj9nzpwBopum9zMA/B3A3QAeA3AXfT+S/q8CcBWAeue+iwHsJvrbAcC/APwVwF8APATgkphne/S+O4AfOv3W0PNqxPUXA/gZfU7R+8cBXOrcey2AT9DnifSdW4LeDwNwvvj9GgCPAPgzweB+mgu3gwA8Jf6fAuALTp8NAP4G4D8AngVwM4BK0cdWAH4n5n0xwedeAfOHARxC/98G4LP0uYLe9wdwOX1WDjzl98sAvAjg3/R+hriGn/99AE8AuBPAfQD+BGCYgCXD8xsAphJOH6P3qQCOF8/7hYDfPTSnsfRfM8Gz2Rnv7wBs49ACqO+jHdhyuwTAdABPA3hU0J5GuQ1IGwpgJAH6WQDjATQBqBOC4SmB3DS93wfgYNHPoUTsQwFsDWAM9RvVJJPe5RBIPRF1vbj+NwAMMTu3/QA84BDHAwD2oc+DiFEn0Pckvd8B4FjBLI8COBzAcBrz1sSMPJ6zAdxK8NiKGHSWIzz+QszO7VYh8ADgY8RYPM6RBKeDATwDoJH6Hkz/HwVgphCCSQDTAHwmgpnk9+tJqFfT91YAMwCc4+DuLwBOozmNo2cnIvA0hGhhB6KNnWmsEjd/I5iMIPiNpnErITgeFNf/DMANAm/83M/SnO+IoJOvkNJhmpxEeEOMoCy3IlqiwP8f0Hs3gOUA5gAInGvaAKygz130vjriuvnU3wcO0kzMszMA2p3fDID1zj1rAfwKwP8BOAFAJz3bvbcLQJY+txPxTALwGj2rmYj6fvGsNgAv0/xWiL6SAHx6zts0hrU0x/cBbEcCQhFD/FzcezoxPrdAwA0AltL7PIL5Egdf9wP4HFkzZ1Lf0wA8R/9nHcvPJy19IAn4dmLOBQBOBDCZtHQn3dNBAoPnFNUUgFX0eRWNcy6ADRG08RK9L3fGZQBcSIrlBACzAewFYG8HNgBwEoCvE+wOAPC4mOsOhCMe670Anhf/mzKb979g8IiwKomYBhFj8u8+WQ3HEwFXEOGNJWaTTD4GwK7URwLAYmKqOOGgIkxBNnmlFhgG4I9kDfyItHEi4l73+98A/JJ+D8iqeYPGyvNLERPOIE2bJZO1SwjMAwHsS//vTHB4RAiX28jNuIx+X0nMz4SrnPkkaQyVwipgRmJGOZ/6+g5ZMWzl+BFzDkggzCTccP+a5rsKwLYAXhX3fZGeP5yE/JNO30b0PUjQxgYBO7ZCvkB4ria4vUJw4/l/lVyNbgCnCLrj+W5POH6J3MsvkWBgWPyBrA5NsH4LwKKypTCwgsGId0mYRkj0CjK3VxKBZAC0EKKlth5Lkt+jGMHjBQRDoTFBMMMQMkNfJFN0dYRJLc3KBDFCB2mpp8jkvcm5PgngCAA7EeF3kmbrEAJve7I8PAB7kAZm4RlQTGEugG+R6/ECgO85VgIitKRx4KzoPUka+CfkGuxKMHCtBdlq6R7ZP79vEAKIn7szCZGhxGTTIiw8OTaXNvi6JMFmPgmG1QD+S7ThE4zmkwCpIab2xHwCimfdTX3fQkJgBFkgCQDvUKzn2/T/WlIOrwnhVW79LBiQJ5DFjLOG/LxO8fttZElwq6bYwNkR/QUFrBUepy8YxBUUHMy7mvzW6woQhEdM9Bhp/Nepj2cdzdtJwbjZEXDL0hzvIGuAGfAJCtgtFWP9l/CD/0iuz9m9xBmPbTqAfxADIEYoMPMupiAoWxFKMOZQAOsc2Pyc8FVIKBcS3h0kBBdHXJMkAXERwayehN3FJKi6aZzHkgIZR2OeSFbcbQK+CwCcR5/PIhjvRQK6VMVTbiVEbQ0hxUT8HojAWFIQV+Bc110kofFvSyjYKWMXWxMzrhZEEYi+7yJi/LYTE4Azfh7bwxQQ+yYF+uQcmNk68whIX6wMpIjBVggmHAbgSice8nMnUGoiXIB8v0M8T4mgocpjfTxNjLUzWTnse0+i97eEheWLQF46xvKKE1ZuywrrKkooTKBg6oXkHh1HvzE+DyFL9D6yLN4kq+AoYbH9ALkrYDfSmEeXg48DbzFoIpaopbDBEYRYG2Ge7k5m+SDqr500Xqcj1X36/iqAhbDLYJeTZruKTHNJXDWCOUBm5AKh8XjMdYLpAyKeeSR0foRwJUEKtOEU9HqVxp0kAfIu/V9Jv7tCbgxp8hXkQt1MqwIjSVD80dHQg2NwU1fAehtcQBsa6n8dWTV/BvBjEgSfoRjFyY6FVusICb8IK7IuhgGHU9zgbRFbep7M/xrYFaWLaJwb6PMdAD5N388g6+8hp9+nSWg8QnO7CcAFZCGcS/ifWaKVU24OURbrQnQRsfsRrsAMYfoxImaJyHUXRf23pfjDGNKmz4r7ojTyg8RYRwHYBcDvAdwunsP+7JvkcyaJoN4gDTNdXKvIZVjjMM4y2NWWf0aYnSnYFYZRsMt725BbsUCMcyHFENifbad5v0/X3EdM+AWKR9xJ85Bz5pUAOONd7wQF3dZF9xUSDppw9xaZ5nsT/L9NEX3ptinC3coCjKUcy+BVEXBWwuLYBXbJs5WslncJNrtQ/OJeQYf/JeHRQRZjHewqDMcceDVoMY1rLgUlu2BXWCZS/98hutJlwfDRacr5rPqhn3z9u591xG9x9+ginhc3BlXEcwrNQZU4996MtZAS8IqAbX/iz4W7LvH57r2qH2FUbiVaDHytKfJ3z9E2CuESohYINUUQV0IQgRcRVNTOs9h8diPSXoQGNHn65Xs8Z9xytSBqHp7zG8/BiP4CZ45RMFR5YF4IJ/ncCi1cFRXhKni9MMHz0YYLP4ggchTcEwLGXp55yMB1IgJmZUuh3Mqt3MptoMz+ciu3/qQrmaCWLYOkLBjKLX+T5vSWREfSrfJjrimb91tgjKHc+kcoBE78YUsQCjIzluc2DDYr8/uweR0zUFpMpNw2YUsUifh8zQwA85gBJGL5ksRsNpJQGAe7AerPsDsZPRTOFfioC4U62KXorWG3vO8Omxcygq77RdlC/d9zM7YUrRe18WogrLM/ETM95girzbFxwti3hXCVr256v7gERVRuH2GLgbXYwQg3JXXCBpFkhtyvYDMT+0Prsfa5GsCesJt+5C7HQQ7jZmGTmQJhZcglrBRyl+c6YZOb1sAmKC2ATWyaBbuvIStg4vezBcHbn5sQFnLZCzbh6b+bsdXAMLuP4DkYdtPToQgzWIFywZQtLvawJ2xm2ZwYjTBLXKv64Xkfj3mOQbhp6AHYDUmz81zLrzWwmYnLYTMSo65ZDpv1eAZyi4z0Z/yFBfA59MwOev/hFqBJo/A+nebXSe+XlC2GLdeV2IEEgYFNQe2iz0f3A9L53lsE43QJk7sx5r4DYTcmGXH9MhrTCNgNVwnYjU61sKnN+8Du+Hs6QkgsRrhLr78IWcLxP85YX9pCXDIt4AzYwi9SAJYFwxYoHLTQnl8lRGfoZRDu1e8tcbOZOZZcA7mT0yAsWZZEmEknXYTbHSL8QwnP3gO2LoRBuOPQwFZDauknYmbY7S36l/P75ABYKJva0vxNWTBs3q2Q78dRe2b4dwWCeelpH4S1FL0+jOFMiiOsEb+1Iyx1FiDc7ecLIpsnxgqEJb54W7J8sWbje5+FLRX2HTH2Ltjdfc/DbvzJ9hPTfpPel9E4eMPRMVuAxVCMe1FuW5BggMN0HGxaTp8DwdTyulKen4XdnnsG7K7IfxZJZHG5AJ4QJK6rENDzuKQa7xe4CrYWAGB3BHaSxXA/wmBkb60hH3ZN/8uwZc0uc645nEzwbB8ZSucRYFIg9tfqi4roN9GPdCn79HoBmzh4yL5Vgfl5EfPTvcRTVH9eH3Ch8sDFfVbJ8NMlDAIIqzLdS/4xWw1HUQzCL1G7ylLkadi994sdxi9V2JSyqSgr3JS/whb94O/dsAk6l5cIq6j5HUVwuY9cnQ6EW4jHw1a1LtXikozpCYvKFZLaEYgs0HUf5pSIELRZhAV1epvVyczq9suuV6IX8FAOs8i+DaLriiaEy5eNgJ0pAXY6T3++wIVXonCRLqkqMHa+zisFEaU0LkoyGzby/BkihgqyGs7ohbUwiAJ+nRQv+PVGNktlCu8vSIN/RhD3BcTMsh5hsYzLgudb9P4QuUf/gl225MKzx8GuuJgSiCOL3FqLrQB2hK1+zbUh2V3ZGrZ6UxW5Wq8jrClR7Jy0wFkg4kKjYVdzNMWInu8FXbl7Klph62AMpt/m0JizgrlNxLgkPMbR2B4TwpErZu9Owvlx2GVxjdxlbx7HeNgaHJX0/wbYIjNzhIttCvAXw8uj/sZSfz65ybMR1r6IS5eXzC5xdSBs3ZHZAt9Z+vxp2BooAYD3SJH76Oc6mIzoL9MAzyIik0uAa2ELchSrXTk55iS6nw+AmewEA3eK0aZ8/0/oOh7Ldb0Ueglh2jOBcYLOVb3ok8c7MSJIeyJyE4CWISwpr0vw3VtgV2B+S4T+ivP/KNhzLNY4LtU62GIxg4u0VOS8R8MmLP0X0cu/q+jFQepCwUf57H2FgJSvLtiKXJ91YOHCoxW2YvkddN8/nP8vdWj2LdhzPSQ9AbYS9Qsx82uDreK1cx58ybENgU0LnxXT30LYLNh9Y2Ai51gJe2jSRSSA5aqgpK3pEc95HWFJPNXfguFMesjp9N1dEfhpkQwkB/Y63bs9fb/DEQw7byTBoES/Mx3GnY2wVJ0qEWbXUh/fFP+NpDiNfMbxBcathRb7EwVOVzvIlwVczxF9y9UQ+dubyC0Sm28eVbBl6fj+5bA1Nm8k1/L9CGIsJBhk338Q9/0DthTefeiZf+K6dnvS81+IEID3imfdLgR+BuGS8f3imjQ9k++/mRTFJGd8+ehMwvFkhNWmDMHrNKKFa2GrVMk+b0N4IJDs90yKvb0VAePP0TXbwFY7jxKqMt52eh8WCmKJ4/+o868KpEhfZwl6HleXr7+j6L7J4r/rHMEwcSMJBnnPLx2mNQiPtysGoFpoi1WwJdpGOOO+wxGqUwrAjZ+7j7iH4cSJRI/Rc/4ttPfDxCDPCjxlxD0P59HADI9PwNZtZJic5mhYwNZwPE0wp19AMPDnRtiycCyodnD6HS+0d8ZRQGzFboiBB59G9qsIhmEYzhB93Sv+/3oEDg4RwvipCKUi4fcb0dcc2FJ2bqsla0HO7U2yfCSt3BchcPn6Q0ip8H8v0jymwpbOkwKCP3+qv4QDd3ANdXyE+O9J5Ga5nRlhmsVZC0zAe4rfrnYAte8mEAyTnACOIZen2H4Tjstwp5gD//dFRwC2Icyd0AVgl6A4yNtOH4sQJod9C7knXgG2mvJscQ8Lir0iYMzj3F8IyHUI80r4ejeyvhvsaWNSsLqCQQtLgWtWzhcMkXBgNYz8camE9nDmtgsxlWSCW2GXo7n/K2EPGpJMxgHnY8VvLzl0lhAW45cQJsMNc+bD7zeKvtYLdzgpVgokfzDjbxAuTo3T53AAVyB341+W4gds+Uxw+KuaVsFc4XBfHwLqkYKBNwAd4Ehs+dA3kL+moSQ4A5uBGCV8WDDsvREFQ1RqdqkbgVSE0Py8E3VnbbHIecbpJT7jFAErZpipyK06rZwViG0QHvPHOLvSeS7DYTtHG39dmNxRJ31xte6bEZ/gJC2Te0TfXxF9y8bZlBc5eJYWFo/3u868niQrdroDk69QEFEuHT8gxvK7GF+fvz9K1+0WIfBPcRTlRTHzkjRcL2iB53eHmJ+kqbkOf6wlRRYVKOZ2i0NnKxFmE/dJOPDNDyI3W48DIvOcB38pD4ErEaE3CI9Xq3AEA/d1aExfAykYWkiDSyK7vsh+uY9d6b55CA/EUc41tzoM9GSRcQye+2EOkbziXOMWWmWtd5Pz3EcdIcL3zxDM8nwRK0XFZD4y/I53goC86U1q1YRgqE872nKdCHanBcO7lt4ihGX4UzFjr3L894cjBLnE/cF03ZGiX8BukpNxjuXChYxjwJRY/WJc8hz3dywokEso+WOSwJebr8B0sq2gEe47b1JiMdJC7lispfcNAiEd5CdBLKWc5Sw/ScIxpJE/T2btA869chkRyD0yfqAbP7MbPQ+aKaXUPkQw8UGCUVqY3oywKQ4C9ySzs9CaM+PDPbh3nRhrBj0P/eHvzzhzGi6W3vi38wlPncJa5LGaImEQ9TvTxIXi9zsRHlvHS25ubsRC+o/7qCHrRz5vg5irEvNYi/B0KznvhHhPi3sPI1clKxhO0vM0gs2/HLo5hYRQh3CVlyO+2LDs8x4afwLhMvPZAt9+TDyjXYzB3RXMfc8hwQfRd0M+XJWqVescBAQi4vtd0voBEfiBFAyLOlPxTKFZ+IDTIIa4NkXFn6gDdduKtKyy5NsdL8xqIPesSl9YTXNg19y7iDi/6LhjxQgyF58+otfY+fuiCN9YCY1VK4R7Bf32bwfnpYwLjsA6gFabOCGuijRYHcGPz7L0ER70s48QoAnhQ0fRDOdxvEoMJxnCCPgwHtZSDGM0XZcin/1I2H0zEkZ8Ovlr4nfORznGETwvFmEBMqwWkMW3t7h+P7KK5qNn/oEpwe3Mwi6J7yjuSxcTJCvUsSFg1TlSnBMm3ibtN4kYvQL2RKDHBPA5kWYsLdesJIHCiFQxAKvbyAIBRIxVzm9LixQMAS1xNRHTb01BtagMu/Ww+0/GiedMgj2gN4u+H/gb19ZFEKw8wfoQGnOGGGw+wgN0+iM55ghnvBc6FkShOXYQY/7HGZObLfuOsILiLFJWXA+KaH1AVtSz5O5dC5uH4Prvkm53opiMFAzzipwPj+FlIRgCov2JMYKhVJz7pdxXisWQogDOekf78YBvIaJmn+nzFCme4fg+p9DnW2GX0xgoXszAN0WRj0YhUUtBMiOOVzDGwZ5IXUxjE31HMmOfQpjhOFAuU5QCYE3FxJQkId7eD8/luezu0M5r5Jt3k9Bqo/d1CIvrrBbvayka77q6cTEPUwTOroNdRdqW6Jv9+pMp6Ho/xZmeFrwjXZbtkHtYMBCexFasQnrbGZcmGtrorRTBUE2v5cJXk+nE/6Lo70TySytgU6S/RYDqJr/mFLr+tiIl3sbcqssIGi8IOUGEMqsIM9knxuYlsjkovDlKkQmbFhr6aOSukw/UPOMExnbOdW3IPd6+L4KhDrnLsqspwLysl/Poq6vJ6crtpMyeIPPdCPcjSUpvEuxS37nkjkll1hxBH9kiaZz/X+EITKDnkvNGaboEIhpMAHItBiOk5y2OpD6BiJ4FycnUz50UeMyXp2+cgOfGDD7u6ZhfrxOTF2NKn0DzepwEzMdh15d3jnjtQhrq987zjyRXJjtAFpPJg+ekIEblBEf7I95T78QGKhGu2cvTyqJ2Nsq8if4sR89afi4ptjup/6QIBvIqx9GwmbH7OtZBfQR8a4qIMUTFsVQvXIVNJhjqRRDNjzHH/kpSj3cnDgJwqrj/NPr82wgAKBEIwiYADJuB1cjN0wDChJBEHqbyiRCOE1FmDnp1I8xWky+O+E8W7ppP/v1nN5ErFRV4HYrSU8KRx7KSPnoF7J4OSUschXd3NvImoqCf6UIJy+ED2MzeA8h6YAGhhRUxmCzkXYSS7Izgh+H9MLZVH1XBwG0Iva+PEQwJMgvvdhia9wgcTibkNITLZX4ePxQiELgxGkv+g8nK4eh4G8LMxaCIe7eme/4p/lMxL4b/8wij3Dz/YzaRxpBLtTy+rWD3d/SHYFiHcDnPjTlsqgIvci8JWytPkHDYDzbPgy2ZBMKVtF+IPhZHuDdjSxxHlRgPw+L9j7pgGJmHmSUBs1mcpmuHwxY9PZl+v6kI7RslGAaSQeT6+rcdor1S+JNBHlMUFLwCCb/3RL9xxWoDAYd7nfkfSn6rv5GsBgnf+c7cahGmQvdlLKyRlzi/HylgvimOLUgK94atFU5umga7SnMywmVOuW+FcylmiTkyLCcW6X66ypetl05yYze6gigFyS0FBshLNzOEtuRrfwybjz8LYVJPsXUNgl4weamNzeQzYDPsOsjE/Q/CtNl81oKhWMFB9NuDjiVRDEPeT89IEYPUIyw1rwdAEOajhxci/vtaCQQa1z/nq8xwtOvuCLM4k0XQrHK0am9xz9f/AbmVw6RA57jH74X1y89Pi6DjqxQ3k/1+ghRqUCQOxzhK6RWEKxXBR1UwNBdB4J5jNbibS24hHy2Rh8Dc30sNPgYlEkaK/MQJsHUXAgqIraJ4gUH+o9V4bscRoaxBeJhMUMJ4ZyFMpmGheaz4roqAleojjLi/R5xgIO/iO4zGki4AC1OAEf8uBCeP5SqyDrsRnbqshGAxESZ3qVpV3jeCFELUTt6suP5PJAC0wFFWxBj+KsYRwG6yOrQIJcEw2NX5/c4C1vUmFQy+8DMLEaYvNObbyM0KW4bchKZCvj63ihKRXlcEk7CvyD71LrA1ACrovxXkW76HsOZjXD8Z8g15K/qzwo0oNksw4QQ5GS/7Itxz4cWYwHH4yAevSuca4wj31xDWKciK/28jrdaF6HqPmQICh2Mrkj6YbraF3QDGwoHH4gnBzEx4tbA8jWORlOI68fPn0vt38jCujnAZOmBTtbndSK5SUoz1XJpzJobfeGmyEeGO0QrYQji/z8MvxWbG9qpEoi7wHyfdpEQgpUIgIekQLBN5J8I8BWaqP1Fw0k1/lnXsgJ7rto3ieZ4TBIqySvYURJpC7jbXBHJrIHIBlafFc6bBLjG+juh0bilYmDHPFmbgv0SMpdSamlNh0815VQcIz7lQAgZJx5qS+0okM0VpXCBcRpOCIuFc8yMaQ1IE5kZQoPQL6FmXkYO1Fwi3I+EEF3lTVTdsNSXJoD757DNgA9VcE1NWBT8QdqPZ+SKAqfPAo0qMI6oILsOdcyiOh60RkhX4c3enyj0GzyG3cvpyGhtEkHICwh2WCScYLcd+Ko2feeN0hHktSlznbhWQ+z6iCiMnBT1G8X4CfYjXnIDcPd0TixA2rRSB5nu2ibAIogb0EnJ3j60q4MbwbjO59fiqAvOpIQKYJub1AexBNIW0jzvmvRBusTUore5llLU0Dz3PuTgm5vofIXcH6AfIXU+PG/P3HRhvQO7SGuPoZOQWB5Fjeoy04bGwmZ7XIyxiskaY0xzMm0LPPRPh8uQfHdxlkHvK2e2EyzsQFnOR9QTcdqMDjwVCkcXFPDh+Ik8v2z3m+k86uN7TgRfT/k+RWzhG7jiOanshTCKTNOTSYD1Zs3KOPyzCkhiMsGIY3/eL3sZnmsmc/iXCPflMSPOJifaDTdn0YtwBLod1R4SFIitP70w+7N3ILSLCz5sOm5U2jgi4CXYv/GSHsGT13xk09gtIo38PNuf9ceSWC5tJwG3K4864bWvSmteIvhjgy2ErXR2I4tJZPZr/MWS+y/lnBNyvJFNzZ7JoTkNubUW+9mF69niHsOoJZt8VjJsV902l+7ZBbgr7eQ6RdzkMLF9v0diuRc+qQfJ1lCD82yP670b8Ss51jhJqJbj8RFgkcl6PE1PujrAQjIvnic4zNpDml0L2IKJ7tzaFq+gYbj9AzxWoKxyXnKteMQ21wdY3kf3Wkjs5CWF9D4nvlbBl/HZzrG0Ptp7lISTEXeG+Gnaj3ESEBWdUMe7FNBQ+G5KB6BZ94El9GjbvIaqUVCLCGinm1ZmHMIt5fUCA+hERlFtuLN+WYVUibGYivmiNNE2zfZhP3KuLBBi3S0u4zz2Faz9EFxg1QjOfLJ4l6yOuhM0JuIIYdMeI4OJZQqPlg+XnI+D3UgkweT3CJOd2IcLjDmX5tzcojsC/vYKw4lWhQrB7CWZ2BehMRwDeJRSJdAHOK2F+1zgu+Poi77va5c98EuIAWmrpiGAYNg85U+9hus5NU1UkxVbGANDAJhPtLaRmIiYAqkRMQ1oJXp6gKWtb3pSzHLl7PdxltGJXNPYlC6ND+IAyzpIlE/YDhEVQ4uZfAVvQ00PuCVtuEMmPCMRFHX6SFfP5BxEHhKWxPkYAyvv+TvhQwv9XxNhfhC3cW0VB1imk9VeJOf0Idr/FZGKkpXmUEBPncNh0Y7ZaqkkJzKRn3ENCy0NubYmD6N6OmHn5As6rEJbXd/EAwumRRI9jibmSRDPPwG6Tf1Tgws+DW7lysQ/heAL1W0dzmUNKagoJIIi4Fo9rG3JhNiA3h8Klt2qC1XQRNzpM9Jco4r6Caea9PWlnY9zTX6sxxZxG9FEac19aX3GTiDDBqyKEa5x1pBB/KpJCdKXl6ohVl4HcUOfFrN6k8sQmCrUo+krQyktUaTxvE/KUKraTUo61yuZ5EK8C5Fvb3hgHurrmU1+JqNjlIr9IAhqIlnUIT/cRn16EZRVnbWmB+0LLbUZc71Yhivu9N3RaCB/5xszP8XtBP56zQufCNN+4SsFbFG56c1+/aT+F3Iw0E0MoyrmmP5i03DatBVKotoNL3FH0oWJoyGAjZ/zl4Q3Tj31K+GyR9O/1UdsrbJpCLOW2cRirrwfo9vYA2XLbBL4nmyjSpKqigNQusCWuxsAus1TRdWthA3HzKeAyE/YMgFUxGqbcNm+acitPDYNdjfg4vbfCLtXxMYdrYZOM3ofdb/AGbDbi+jJ9bB7NDZDsBbtbcj6ijyfLtx69ELZK0eGi73Lb/C1I+flI2P0Da2LoI27Z2YdN9JqCsJqU3kJ4ZotG+j6wqb8SmVNg04t3gV3mGUGvsbBLnxcj+uy9+yP6L7fNr8lA19cQnknKpzH9ATZJZzvY3I0R9D4etjjs9QjPcpRnLZ4X0f/myDN9sdA/sk3mot/mMPadCE8MLtRSCDPCOKnnmS0ZcP9jQmEschN6srAZicVWMhoi6IuzGK/ZTAUDj3c47D6h0VuaZZwUSJ+N3Ay5Ex2Tyd3oJDc8ScR+RfQzD+GaH1pjGwAAIABJREFUeNmd2HyFwueQe5zdAvQ85zKKPrwI+rjKsUQ3N9pgS6EGNsHLIDys19uSkD5emHnsFx4uril2snI3GSN/HcJNNWV3YvOkj0mOFbkIYTp2sgS8SuHAruqL4v7NwaLUwjr+t3CltttSaJwnMBJhrjibd6eJyfcWcINh6+TJszDLgmHzEwp7IjfnIIvwsNdUH/rdDeGp0oM3I8HAY5Qb4jKwq3abPY1LBPDJvmwm3i8YXPWRqH6O3G3FiQJjkmanh96njMblX7jP6Os6vBSGbr+9Gb+O6EP3cv66wNwLFboB7DKkqzQu6oNQcPufRn3m07a6H3Cm88xZl4A3/j2N8FRqtrJ3EDQuCwIPNL6Rh96LxXcPxj0JudutfdjNOH0NBsndl/II9LjTsfMN3CuBGdx+VJH99IaJi03w8fqA2GLH5xbDcRlQF6EgosbsHnf/LsLivX0RqDzOc0nj7hwBK91HmOgYN1iV0H/cbx5sLoYUDKUsuxbCd6IIfOsI+lMOPcQJ5MjOOZmkEjYRiUt5pQH8BeGBKj763lKwuy+XITr11a2gtDUFtBRs6Ss+pj1uPGzVuP9NgF0u+1fENR8nQkzB5mdMR7g7NO78wELjHg5bumxr2F1+S2CXbt8p0K+bLDQENoFsNH1/D/a8ww2CoPwIQnXnvy/d8xLFADLCLdiRxvW4Qw9wnrEzckveJ2BLo12F+MpXpbZqEjTL88C3mvA5hn5fQDBZkwcm7t6dGtjS/0/BFkKRJ2OPhC3q2gRbw2AWcsu7+TGM/bpwH7KEt7cQnawli9tKfNcTnEcRjbwHG8xsi3l+HL3vQLT3sENr2xLO1yLcUVtQWn9NSDsG5GH9YC0Ua1FIyT0JtvyamwPxBuIrKUuhlyTEnEnAMSTkXGZ5Aj1rI6yCrciDIiS+u1Pwc7Bl4VdHjL0bdmlvz5h+pau2LexZnx0R/bxP5rtbC0POvxK22Mf3iPgNcg+RbYCtkiz7vQfRtQt4fr9GbjEWGUTuD/dL5dGEgC14ci2ik6eWkJtamUe7NxF+bqBgKVf6hhDC15BScPduPE70BMe8P5do8jnkFgPi8zmfg63A/RwJr8cQFkmRNP8x2HqPUYVu5hO+PWdurmUwHjav6D6EBWtkuxK5+SKz0LOQTSRC/u4gfoWYRH8uHWnEb/GdBJs6bUiqLUDPklkGYZEQF0j70TxejwAyH6c3SJjExuk/4zBKPqKVMNkdtjaim83nEhj/vkceJJ8lrn0ZwK+IKWc7/U1DWAiXYXgqCbu3Ip7PiUMtZH2xsJJVfr7l9KeFlp7v0McTAxAglIJA9vtlhKXQZhIDX4/cpCoDWw6uRdxfQcLkebJS3YJDzBhHIrpwjKShDnKFuR2N6HND8hVI6UbPHI+zBN29RBbYzQhP7ubX0yIoywJ8H1J805G7dCxjgwDwN0F7GTGvyYWCPo2wextkfEGalgMVHdZCQ/5DTOo4Is5K2BWMFxzf1sBmXLr+2UmOAOFTlgxpip0R1tB7C8CfYRO2XnHuYRj8IEYDSUa+SNx7K2zhkW1JwxwJW+YuEMJO1t9zfcffCavtmAir6noHDs8it4bBVcit4pMR155F17wRIcCYqC51BAO/7+/AxwD42QBakxImPxPPPjXiWq5U1SnwyiXaBju4leUD1xI9/Ja+t5NSuY1oca1QGNz3HIQH1WwDm8G5P2zJ+PccJXMybAGYQ4gmDhOxE243ieuPjXC7f+XM7TnH0jhO0DPjm699iK75bYSAYuvm34XciIOFxGPpddMAL7do4cJITX1sxLWVCNOrmdD/lMeUPkgAjDXnIuGO7B9B0Icht6aiga1EVO+MVz7nFmFW75VnrruQ9uc57hNhlv5a/H9kRJSa233OqtHPIxj0cCEgmBFOgq2JaYgBfozcrMVux1yWfX4fPQvwnjCAgoGff4kY37ccupXPvcGByW0OrkYit74o5xq0CQUwwhnDSHILXYFyesyY3eBja4G5XSeuP9pxTeXc7nLm9lPHamBXZJZj5fwBttYmW1k/IXdaCoiTCgmGM9Bzo8sPBhrxiVxNxMktMkLM5iAQZk8ygmYjLJEdZdFcJ64PHC3nRrqZOb8IwCggUCEBfSHGvL5GjPswIeXlKc0SyYPIjzzZjU944WqQISsGERFmXg7c1TFbVwmilkL8IQdej9D75Q4MLie4HxRhDblFfuUmuQMGiD64v0PFs54UY9MR126F3KrLvlgVSAqrNOsIh+nIrZMZtbQ9w9HaD4lnJwWN/tcRDCxk04IOmF5PLAHfEx18r0R4fKRcSfmOIxiep1jXE44Q+TLN6byCDKpDc+1DwaBt4M6VTP2N/DOrlDK1Sm9IAaYa+ocAcDaQNoA2gPckXXtQZWVrg/ZW1WltKpQyVUqt+0RFxRhYVZAygGcA7+qWlkoAaND6wqHaM7VadwxSylRrfadA/od1Gw2g7ga839I8vbDYaKcS5bovAVJ3E7LGeKkvD9eeGa490+R5fwGA2zC64kkgwWPmzwbwrse4nBr/BtB3hwgd7vi3bHlUOMKFT2CuZCJUQLfqqb0Ztr+JiJ3cEUF4+QKATKhTIwTDHgNgUcq8gNkRVqQLE3nWx1OORXm+6IstgA8cC2mMuMaNo/F9X3fm/rb4T57VMMsRDNvHxJFGOub/XhECRAqdSnqmZPqvOsJJLh5IfL8rxpr/3BMDKAMkXsauyakhwd4YYTH0EAx0rzb0APru8W/GMkPCYF968XfLIHwtM8WXMaSWzdlqpbP1duksX3vFCQyNznPtKQ6h/JaWIhJivD0A1agT143QnhmhdUed1qbV837jXDKYXAyW4hP6wgmjE4nLGz3PNGjPNHjeC0Xe9rxjXl4uCIWF/fUOMUnLIhER7PPyMOrjjos1UIKBx3WOeM67Rd77oAOT3zv02yBcRXYlxuQJrvO8dnICucsiLLRiBAPP7Qpx3X+KnNt0JzZwhejbTVPPivEeEaEEdMSqCBLqw5tf+fDKUZ6n1hsutGeQgEKtVtVzsllcj3H6bMzxpgFKmNcwgKfCU4O40XrptKJmOxmr1l3Z0PD5p9e2fenBzvbpAGbOrR9TV5MIKjPJ7qTxVbP2zOI0YDJ+YsKv2tfWPNPdhRe6OlHteeYnNTWjzq+t1e9ns3UVvs4CwHrtp8am0x98dcWKum4DzM5m1Tt+FhrQbb6PaUDWVYtLGxqq1mm91cdqalao2bPfk/+tpTX/6Y2No3apqmr/xtKl57b7pkEDqNBq5XdqqpsadaqmA2aIMsaDUkZyShCY1cqoD5RBR6dSxviqI+t1+mO3226VmjYt/V42+2UHficAqGzyPFMJBCmtq7LGDAqsFVfZaczo9cbspqGQVDa5KAEMXej7OIZQeE8uU/Ma9u1kmcg8BiPW0/1eMnF/Wgu8nv9V8Xs7wSQh5lNJQUD+3ETLz+yyQcSG8p1Bmm+1je9bQcKmRlgt6RJXZDTNbRByD6LhIHOVYGaeG1e6HivcEl6OrckjxAPC8csID1vOODTWA9+JeaNHV6S7MqcBepsMgudGLVl0x/u+P999yvLAHtF9DuZ0nSN+X9DS0ly1IbVerX53rcGuyYUNyyYGaT27skOnfS87UWlVB5hBJkAzgA6j1GAF06qMygTKpBTUegMzRSucFRj1gQa2/9aQoYOVGfrQBoPzlOo+1AeUMjqR0Ko+MFjXDdOd8syw71fX4jQTmLbAKE8hNUTph5dlgsoKeJ7RhtbVEljWlQ0ur6lvVwpoNybVZQzSSn2xDnpfA7wJjU4EqFCAMdo0GKMaqoGmVes71k8ZOuKZKV0dqFc6+WBnB45IV46/tLbu4jUmOG/Zhs70xdV1lWmlqA66Gp4ApgbGoFIBUKpnjXalkFUGBmhPwRhodKSR8pe/PWfdnJEt3a9nulvn+Vks9n2zzPc/PdvPfHp2NovFPuHNj+TXDGk/rpR1M+z6avclQOIeAM2ep7oBBMag21LmnNVBUIgJooiN/WtJWFosu/XXihUXgN1FrDgFsMk6k4vso5ssxHWwp14VGl8xVaJMP80tgD1vZZSY2x7C8ip2bkuRe5huXK1KXl6OSqbrMadEuit7aqOXvCZjDDqMOq2zeXT1bzesa5iRzaAaSi8NfAzXHj6ZSh56RHpQol2Z9cpglTYYC6Umwjc7d1V0dywZ2XLbUiz7RK3W+3dkgkV+IqioVnqoXdtU0B5gjDUzeOwaGl3GYL3BN2qgUkqxbWrgKXV+DX0PaNiUXleroNBtjAGgapVW9fYsYBUA1cGH0MnJfNaDFKqzAIYopbSC0QpDFNQQDxjnURDFYscybsYAvsGQvdLpL+yaSpkklHd6VbWpVfpgT6mDK4yCD6BKKfgwH2IkC2NdCgNPQyGw341AilJQ0MAgStmsUgrwoBoqlcIB6QoEtj/VZYzpNMasMQZrgsCsCHxvke+3KYNZSY3VQ5SnfASzF2SDF8YmEsHWXnLYyIRe3OAlUiuD7m2T3d2Lhq9c2QYAC3y/M0rDX93Skjh/4cKAg6xF+vzvRxDV2AFaotwNYTZggmINrxNxryftvYaYfy0F2NbSf6vptYqEZ28soYFsnxCCPUmrBf8Vrs16mstamuMa+twmvq8UWj/IY/UkShFsCQ3V0BYE2GCCNgCVGvj18ZVVOAbG11CeD4M0lEkptVNaqZ2MCaAUUKk1Oo1B1gBaoSat1PczADqMQUqp5sAA6w2pJIMArFSDcGAKyhhltAeVajNB1oQcrawY6SHhVdbKjQAKnvWBDLrNh86xD6MCWOtdKaOyRhkNQHeH90MBShlaaTBG29CIUQqK3CJjxZeC6jTQHpTyYVCjtApggtVBYInMGO0rJNJQdl3XGJNUSlUo5bUHQTZQaIMVZF5SAd3G+ABgjDG+ggcoZQwyxhgFKGMQKB9IKPVhOFxVKY0aBYz2PK1s/KmGVyIUkAqAAwzMCYFBpadsXYt1vg8FrzubrFy8uLF1Tlrh/We7uya+0t2Nd7NZ/Y6fxbzAx7JMBhcsXNhxAQH3SSCxL8VKVHz1ZxDxSgsCsKnk/aVRowQOH8bzOxQ+mzSflv4o7dAc57h3P6PlyN7OrRh4FlU/M6GM6azxPCBAjQGwwRgkAFQr7VmKVWqNCVQllFkfqGxaIdkFY7qMH3hQXhbGRwDTBfOhmu4OYIz6MJBlkkolsgYZA6OgQl/UwAQW4ybQgIalRh0mjSv+LzCW0X2jTLJCK91lmcyzkRSrmRNQ3iCtvLWWvYNarZIdsAypqN9Ky8TGAHqQUqn2nLUfgyTJpZRS6LTK3rDVkwCMgdIJpdIJAIFSyMKYRb6vKpUKGrWn1wZmbbsxGwKtj1XGfLLRS161xM92dRuzdLDWo3wDeBpoCwx8GL9W62SWpKYPBd8YEwAqoPgOSTp0Bca3wsDAWBgqZeAbhUQCalhgBaRk6GRKqdEpqNEAsE+qAp9Opk0WJrneGGjgwmqtx/nGPKEDLOpK69mj5s9fjfxCgt//IwJWvtB+gxCeYNVfAmKE8+wRIoAWFMEIm7oMfVTjsQyJyJXgFQN/U84tobOd1yzRFXOUwVdg0AyFpkCprnf8TLYCelSbCcwb2Yz6YrpSGYVkxpg5gBpllOnMwCz1oD6WCF2AIAmljQpHW6mUajfB+0qpR6qVPnWDMTAwPgBdoZQm5kdgLY8PTfJuA3QYY+q11tr+hZRW3geBbzqNebVG6V06jDEGUGtMYGqVVl3Am90mmKGgjq5WOr3OBJMNsHe99lrXmwAJwEzPZLAi8NU+qfTKdQZTFcwxgPJSSqV8A2SAeYCpyhjztF07V4M2mAAGMEt8Xw3VesNQrd9JQc99Lds1bkkQTLhxQ1uwazKl901VdI/W+vhdTN0zauXbbUsbRi1ehuxQrfCij2D66gC7Q6EegfaMUnMD37St8YKxMKo2rUzmzo72C3ZPprevVzpIKOhqpQGYwACZWq3T8my+jDHwNLwEFLIwMFYma5BAVYB10xCYtFLKt1aV0lCoVTBJpRoqlTozC3VmpzZIZ4JFixtb7lVGTW5cuuCl/cQmKBFYZgJ8GTaBZydBoGNpqe1R9KwS3R8uBbfxwvze3CtHa4fRtxXWUXZTDixBPuifObHizWHN47cdWrVkxNtv7zqxouLJ/VJpfC5daWb7WVWvdKZC4S8VCica4GVl8MZQT1+yIgjmAWZEhVJVHcYs0kZVBwqBArDBBO8loM7zYS5tM+Y5BYwfrPWw9sAgYzBzfuA/1hEEk0YlPJMwat2T3V3j6pRKVyplpmcz6vB0xYIapedmYRaSKTEzrTF1tR98anJ7+zfbEXxyZiZjhmit9kqmv/e11SsfXjiy+dE2KL9pycLJc5ubxw9R2Onxjs5DXsp0n/xQV0f3YKVTjye7Hvvd+nVfW9w06jov62e7PNWodZBNGTM7m/VSDcsXvGdGbbPV1WuWXzalq/OEbmMyL3R1pnZMpf46s7v7mwS/YynwEzzb2amvxzrfmtlL2+7GDqmRy2bNQ+4x5QsicCCXqPYEsP3oZDIz2kukt/MS875fVzMpHSS62mAO1jDbA2qQMWYHpdTorDGru4AFCqbaAEMMoJVRGipYBYMNUBgHYFC3MU+uC8xn1phgcIP2zGCtVYcJTJehHYTGeAmlmmuVOnctgnOWNLY+A2Me1jp4ZsSgQa+oOXO6KDzEZ4tmYbPmdhKJNglK1HkU/Xs4y3KHiSZSlH49Nt+y8mz6r3LmyjGH7CafmwHUy9g1aSJ8r0rPe+riunpzcEVl90/r6s29Q0d0/XHI0Ee7W7Y65c2RI0cvGdn6iSUjW65f3Ni695KmlkuXNLY8uaip6TMLm5tbloxs2WdxY+tF80e0jrVLgM2fenfE1g2LmrbaY2lT63FzRjbvJ9dxr6sbtutXKmr2+tA00ppTkPPt+JKVqjvcPAYnL+HEqDyGIpbfTuL7quz7h3kM2ycSew3V2tQobYZonWnUnmnRiYvZlBew9XLzOsKEp5eB5CVNTYMAYFwicamXmzwTiPVvuRJUuaipqXVV/Zg6/j63fkzdgpaWIYubmoaZHXZIAcCKYaMa5zS07ggAE9Lp30Brc/ygquyDw0aY90e2mPamrUxn8yjT2TzKtDVtZT5oajXrmrYyHc1bmfVNW5kljS1mSWPL/KVNrccJeGph0q9CbuZgFrkFSfrDSnghYj3+825OTQn96Zg8hnYRz9B5tHsDBTr5vrWCRhN58hi2i8g1+CF6JortViL8VAzdHuPkrTyQZ26FhYQB9CWUADECiT14wPukKzK7p9MGdnNIyrnPK9Bv3GAmjPA8U6UUR7kvq9fa1CrdAcBUKfUgAFxCyUd3A97dgHcJ9dfoeU8O156p0zoYpnXnTqnUtrAcn+QMybNpjXlcMnnGCO2ZKqU6apQ2Ddq7la91E64MoE8homvV+ozBWptarTuTUKZOaylQBqNnLcxlCHehFkKuC7dD00qZKqX9Oq0zw7VnGj3vHguD0RV30/h6yWzXiaVG882qmitM6+gjFjS2XLe4sfWaJU0t31vc2Pr0kqaW15c0ti5d3miFxIamrczSxpY7HTzyvM5H7q5MA7u7jwmwt4E+ZvhTHcHDz5A7OYspUCMZaGMLBj4ZfkKEYDgQPfck3SX6KKYYiysc+l8wRBHtSJ24crj2+AEZAKZe68kAQEyaiBIu9FLMxETU6uWQEXWt8p4DYCqhfwUAdVr/NQmYFFRHpVImZTf3YN/cZ0hkP+YAVkpl5RCZm/l4awFAJRzidC2NFN18O60QdGsgQ+b2faKfFHJLeTFCWbgOSoYmZA3CXXlZYaZPglXFqWNIMLKQuATQxwhBfagt8d9DyA/W+oZKpcwwrduHW2vs9Djts3z46JHLmrY6cHFj86kLm5s/XkBL/VMQIGv0s5y5l+Te0nsjwjoWcocsP+Nsgd9EBIwlYw3ayBZDUggGHvt+EbQ5KAbfxwv4eTFz41bt4MTNfGTB0G/VtiVCp9YqbWq07korlU2KPQOwa2dJIsRiatjxwH5JDGUSVnICwM3K/tal7fsKEbmVuePcnnI0yaciTEy+/jyHwW8pUjCc69x3sxQMCMvT8YnBWUfwII92GwqbFpqFzdYjA+lDLcxM0O7ZTUSF+jsXdteoTO1lIXqDpnl4gGnW+nwAuLulpZLS1b3eKA7YxKb3kLuxSG42K+UkJolb3nb/FuwOQhYKssbBiUXA5ARyST/p0EYDcvdKbBDLh4UEw1px3xrYTVsSJhrh7kpmTBbEvL+jIgLfgbjnsCLmdgbh+2PiuQkxb4mT+2Ncjz5FTZMIC7fITRnXOtfKgpVSO3qSWXW484u3gHJKqawaxQwWleVWhXBrbRAznmqEm06kP+du004jur4C3/dj577bBIJ5Tjc4RMAM/TqZdG7KagNspW12Q65w5vZOhHAw5A64h/tUkjbi3ZOvgqwGGh/D9nYWMipXsFcyzli484Y1sa9FFWDk0bB7GFzhcLojSFz6kOeOSGF+l+iD4f2KgHHg/L+jQ/ApEtiTEW6xbxZ4AwliyeCdQqC6lo4ScGxFbnWmNmExyI1Jjzs08WIMDKsRFo6Nwvc2zvUVsDtZH6BrZiAs2JIQdOtayI86Flaf97R4EX6q1NIvwRagKKbVICxGwQR0sfi/FmFJeSlBXwLwDdi6BFcg3BizGD2rI00mP3euo4GmOs99o8gxP+nc90qMAH1KEIJb/WkBBUqnwBbDkNWDfh7hW38Kubv+3GIzL5Eg+AfCnXaGAnW1MX7nW848HisikFWKlh+CsGyexMldwsUr1EaJgDITNGvOHRBupe5yYBIQgzxMeJaBv3cQVnGS7Sih6Nwt9YUsEDcYelAEDH8eIcgeIMtlF9g9Eq+Q4tgGuZsBXXy/CLvP4REH3y8KN8ll9NsdfC8VeRL91uRDDyWt5FaB+Tsx73awJcZ4c8lg2Eo130NuSW0j1r+laX6sA5SoundzSLrLmgwuA00hQfI1+hxVWuth6mN3x3ycQL8/GHPf3eQHTnCE3uMOY3TGjJ+J+ZwI64wZ7RDklufqRnTNR7mPX27/TZMl8Q2EZdjd11TSLEeIFZ2+CAeQJbQUPSsE3U742JpglSbtNoyWaa8WMQVmpDcd2HwKPSsUdaBn2Tp+PULuGs9rW6KvnzluhBGK5juwtSCHOi7f4bDVoVZF3PcegAtgCxxxeb0dHWbPoGe5t26EW8gPcywRxndcebi7EJ7glhBLuSeQNRxVYm4mze9ourZfmhvhPZY0VlSh0w/ItHzPCdRI82s2gO/GRIxPjLmvnXwyGY2d6lzzCknl5jwE477eESaYtBIKvR6LiGlcgPCshbjXQwIxUVqJ4TwGYYWmuNd/HV+bBew4xJ8mHfW6vI/LjFKw1lNw8DnHtTBCe71LllRnDP28RgzK8PCEG/Yn9CzaK1/vigCohMndJcDjcHH/ESXct5u47/SYa5bAFj6qjsDZ/chfK/It2OIqUUL5pTz3uX3+J5+l2FvtILOyWsmfm0DWwhhC3mCSeCuIAN4mBnyHNMG7YgzGIbCAGPsbsOXi62giN5G1wMDsJqY8h7TRQxTUZF99OyEcogg+SwTXRQzGmX3jySTP5rkvST7qbGfcbD0cSi7WOPq+nszdKbD1ExiWPqITWSScJ1B/E8k3Dui5U8mqyQoBEwhfdPtwsSjSp+Rnp0mYLULfEmvc8uegMXwSNhlqe6KXBsLPOtgEpnlEF++SG/A2MY8LV5mCvS1p2V2pT0X9PEIwjiqpP4YslK6Y5UAOICdpPGvEsvR4ojcv5j6G8Zv0bB737rDFXXak5z5Cgek1zvwkvneiubn4/ifNrTsC3yB6r8pDt3J+bSRkyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyq3cyi23HYnwsNpy61srw3DLh73ZFBOTmYmPIzfH3QzQ4OfCJjF9lBFsthDiPAw2nb0LNlHspC2IyTY13sxHkLf6fWI1sLvvXt4Iz/Xx0arcuzlr3XxjnwCbZXgkbCruWIQ7F7dUwYCPkGDoL94ym3pi1bApzVH/p2G3OC+l17UIN/C41xrYjTXvUX/PIzx6zs3nLrbv88n9CMRv/we7b2MJ7C65H8Dm3M9H7u7P8bCnFn8Am9L8N4QVl6LG484nAXtS8Pv0vG+L/w6APT6sg+Z7ch545xtHIbgBNiX8Jrp/Key+k3xEczf1F9eKgXuxMDawm+aW0f83IrfqVz7tHoeDvuKtmPnlg3cx+NrYvFXo2jRsKUKmke/R/fWwWxXk+JOkOEYUkmoXAng65v+fwG6PbaHXE7A7z+IEw/2wu/eqYLdZP5MHaMX0/QDCwib8202w+xu+Cbsv4QbxXUrn12B3HVbC7sG4AWHRlmJM0h/CbrIaSwC+Rvy3GHbnWhq2eMeteYilmHHkg9slBKdmAad8xDkP+etnFgP3YmFsxNia6fOPS4Cx6SW88vVZzPzywbs3zx9o3ip07U9h99M00UsW6r0BwEXi2oMQluWL9YPYF5oYM6C5yC1SuiPCzU1RSJb7wPnsgTiAFtP3qIixy0pP7vfOPEirRW715kIE9g7iD9udD7ursLUXFlvUOPLBbU4EnPIRZ6ejTdALuBcLY+P0tUMe+ihWMPQVb8XMLx+8e/P8geatQtfORViSHnQt3z+GrF7eGfwbAMcVkmqVsNuHp8X834GwEg7oc0cJSM73fzF9qwKmWr7vu1HwR+6rz5YwXnd8sk0krbMSdjfcoXmIpb/HUVGExdCS5/9ScFrouymxr2JoZiDgVcqYevP8geatQtd2OMrApZF7YOuKKNidlpXF+EFVeTR7qRZDKURQSt+9Ido5sPULhsBukx3i/B8U6H92HouBm4KtJbAkzzWFxlFonnMitHKhGMMpfbQYShEM2zuaao5DsLJA68gicNBXvPWVrnqDr4Hmrb7QwLv3AAABeElEQVRYDIDdDv8C7KrgbcVKtXMpkBb1/2WOb/M4+TP9IRhK6bs3RLuEIvNpMqfudf5fjp6lyOT/F1GMYUxEjOEvBPwUCYZFeYil0DiK8Zkfdfz4QqsSS2GLjvCqxB/6APdCgkGO7VHH932GfPgq2IpOU4rAQV/x1le66g2+Bpq3Cl17mRNjeCRinE+T9bJ/MX5QOyFvQsyAKgBcL6Kh1zsmTV8EQyl994ZoDyOzqZt8rLOd/y9AWJUq6v4kbGmwBWRWni/+O4767iDE75eHWAqNo9A8OeK8iqL/hVYl+Jmcx/AObNm73sK9kGDgVYlVAH7tmLQ7UtSfV29OLwIHfcVbX+mqN/gaaN4qdG0F7HEHTCM/ovHLdgTRcp/LypdbuRVq5QzMj2bbGWHlNG6nIbdKebmVW1kw/A+0ayiGMwq2RunV4r862DJ6zWUwlVtZMPxvtXPJVVgG4HcIg75cyfyMMojKrdzKrdzKrdzKrdzKrdzKrZ/a/wMMeUd1GfLBxAAAAABJRU5ErkJggg==");
+	        	InputStream in = new ByteArrayInputStream(decodedBytes);
+	        	headerLogo = ImageIO.read(in);
+			}
+	        PDImageXObject  imgObj = images.get(headerLogo);
 	        contentStream.drawImage(imgObj, 10, pageHeight - 52, 100, 40);
 	        //Draw red bar on header
-        	decodedBytes = Base64.getDecoder().decode("iVBORw0KGgoAAAANSUhEUgAABJwAAAHCEAYAAAD6Ag+/AAAACXBIWXMAAA7EAAAOxAGVKw4bAAAKT2lDQ1BQaG90b3Nob3AgSUNDIHByb2ZpbGUAAHjanVNnVFPpFj333vRCS4iAlEtvUhUIIFJCi4AUkSYqIQkQSoghodkVUcERRUUEG8igiAOOjoCMFVEsDIoK2AfkIaKOg6OIisr74Xuja9a89+bN/rXXPues852zzwfACAyWSDNRNYAMqUIeEeCDx8TG4eQuQIEKJHAAEAizZCFz/SMBAPh+PDwrIsAHvgABeNMLCADATZvAMByH/w/qQplcAYCEAcB0kThLCIAUAEB6jkKmAEBGAYCdmCZTAKAEAGDLY2LjAFAtAGAnf+bTAICd+Jl7AQBblCEVAaCRACATZYhEAGg7AKzPVopFAFgwABRmS8Q5ANgtADBJV2ZIALC3AMDOEAuyAAgMADBRiIUpAAR7AGDIIyN4AISZABRG8lc88SuuEOcqAAB4mbI8uSQ5RYFbCC1xB1dXLh4ozkkXKxQ2YQJhmkAuwnmZGTKBNA/g88wAAKCRFRHgg/P9eM4Ors7ONo62Dl8t6r8G/yJiYuP+5c+rcEAAAOF0ftH+LC+zGoA7BoBt/qIl7gRoXgugdfeLZrIPQLUAoOnaV/Nw+H48PEWhkLnZ2eXk5NhKxEJbYcpXff5nwl/AV/1s+X48/Pf14L7iJIEyXYFHBPjgwsz0TKUcz5IJhGLc5o9H/LcL//wd0yLESWK5WCoU41EScY5EmozzMqUiiUKSKcUl0v9k4t8s+wM+3zUAsGo+AXuRLahdYwP2SycQWHTA4vcAAPK7b8HUKAgDgGiD4c93/+8//UegJQCAZkmScQAAXkQkLlTKsz/HCAAARKCBKrBBG/TBGCzABhzBBdzBC/xgNoRCJMTCQhBCCmSAHHJgKayCQiiGzbAdKmAv1EAdNMBRaIaTcA4uwlW4Dj1wD/phCJ7BKLyBCQRByAgTYSHaiAFiilgjjggXmYX4IcFIBBKLJCDJiBRRIkuRNUgxUopUIFVIHfI9cgI5h1xGupE7yAAygvyGvEcxlIGyUT3UDLVDuag3GoRGogvQZHQxmo8WoJvQcrQaPYw2oefQq2gP2o8+Q8cwwOgYBzPEbDAuxsNCsTgsCZNjy7EirAyrxhqwVqwDu4n1Y8+xdwQSgUXACTYEd0IgYR5BSFhMWE7YSKggHCQ0EdoJNwkDhFHCJyKTqEu0JroR+cQYYjIxh1hILCPWEo8TLxB7iEPENyQSiUMyJ7mQAkmxpFTSEtJG0m5SI+ksqZs0SBojk8naZGuyBzmULCAryIXkneTD5DPkG+Qh8lsKnWJAcaT4U+IoUspqShnlEOU05QZlmDJBVaOaUt2ooVQRNY9aQq2htlKvUYeoEzR1mjnNgxZJS6WtopXTGmgXaPdpr+h0uhHdlR5Ol9BX0svpR+iX6AP0dwwNhhWDx4hnKBmbGAcYZxl3GK+YTKYZ04sZx1QwNzHrmOeZD5lvVVgqtip8FZHKCpVKlSaVGyovVKmqpqreqgtV81XLVI+pXlN9rkZVM1PjqQnUlqtVqp1Q61MbU2epO6iHqmeob1Q/pH5Z/YkGWcNMw09DpFGgsV/jvMYgC2MZs3gsIWsNq4Z1gTXEJrHN2Xx2KruY/R27iz2qqaE5QzNKM1ezUvOUZj8H45hx+Jx0TgnnKKeX836K3hTvKeIpG6Y0TLkxZVxrqpaXllirSKtRq0frvTau7aedpr1Fu1n7gQ5Bx0onXCdHZ4/OBZ3nU9lT3acKpxZNPTr1ri6qa6UbobtEd79up+6Ynr5egJ5Mb6feeb3n+hx9L/1U/W36p/VHDFgGswwkBtsMzhg8xTVxbzwdL8fb8VFDXcNAQ6VhlWGX4YSRudE8o9VGjUYPjGnGXOMk423GbcajJgYmISZLTepN7ppSTbmmKaY7TDtMx83MzaLN1pk1mz0x1zLnm+eb15vft2BaeFostqi2uGVJsuRaplnutrxuhVo5WaVYVVpds0atna0l1rutu6cRp7lOk06rntZnw7Dxtsm2qbcZsOXYBtuutm22fWFnYhdnt8Wuw+6TvZN9un2N/T0HDYfZDqsdWh1+c7RyFDpWOt6azpzuP33F9JbpL2dYzxDP2DPjthPLKcRpnVOb00dnF2e5c4PziIuJS4LLLpc+Lpsbxt3IveRKdPVxXeF60vWdm7Obwu2o26/uNu5p7ofcn8w0nymeWTNz0MPIQ+BR5dE/C5+VMGvfrH5PQ0+BZ7XnIy9jL5FXrdewt6V3qvdh7xc+9j5yn+M+4zw33jLeWV/MN8C3yLfLT8Nvnl+F30N/I/9k/3r/0QCngCUBZwOJgUGBWwL7+Hp8Ib+OPzrbZfay2e1BjKC5QRVBj4KtguXBrSFoyOyQrSH355jOkc5pDoVQfujW0Adh5mGLw34MJ4WHhVeGP45wiFga0TGXNXfR3ENz30T6RJZE3ptnMU85ry1KNSo+qi5qPNo3ujS6P8YuZlnM1VidWElsSxw5LiquNm5svt/87fOH4p3iC+N7F5gvyF1weaHOwvSFpxapLhIsOpZATIhOOJTwQRAqqBaMJfITdyWOCnnCHcJnIi/RNtGI2ENcKh5O8kgqTXqS7JG8NXkkxTOlLOW5hCepkLxMDUzdmzqeFpp2IG0yPTq9MYOSkZBxQqohTZO2Z+pn5mZ2y6xlhbL+xW6Lty8elQfJa7OQrAVZLQq2QqboVFoo1yoHsmdlV2a/zYnKOZarnivN7cyzytuQN5zvn//tEsIS4ZK2pYZLVy0dWOa9rGo5sjxxedsK4xUFK4ZWBqw8uIq2Km3VT6vtV5eufr0mek1rgV7ByoLBtQFr6wtVCuWFfevc1+1dT1gvWd+1YfqGnRs+FYmKrhTbF5cVf9go3HjlG4dvyr+Z3JS0qavEuWTPZtJm6ebeLZ5bDpaql+aXDm4N2dq0Dd9WtO319kXbL5fNKNu7g7ZDuaO/PLi8ZafJzs07P1SkVPRU+lQ27tLdtWHX+G7R7ht7vPY07NXbW7z3/T7JvttVAVVN1WbVZftJ+7P3P66Jqun4lvttXa1ObXHtxwPSA/0HIw6217nU1R3SPVRSj9Yr60cOxx++/p3vdy0NNg1VjZzG4iNwRHnk6fcJ3/ceDTradox7rOEH0x92HWcdL2pCmvKaRptTmvtbYlu6T8w+0dbq3nr8R9sfD5w0PFl5SvNUyWna6YLTk2fyz4ydlZ19fi753GDborZ752PO32oPb++6EHTh0kX/i+c7vDvOXPK4dPKy2+UTV7hXmq86X23qdOo8/pPTT8e7nLuarrlca7nuer21e2b36RueN87d9L158Rb/1tWeOT3dvfN6b/fF9/XfFt1+cif9zsu72Xcn7q28T7xf9EDtQdlD3YfVP1v+3Njv3H9qwHeg89HcR/cGhYPP/pH1jw9DBY+Zj8uGDYbrnjg+OTniP3L96fynQ89kzyaeF/6i/suuFxYvfvjV69fO0ZjRoZfyl5O/bXyl/erA6xmv28bCxh6+yXgzMV70VvvtwXfcdx3vo98PT+R8IH8o/2j5sfVT0Kf7kxmTk/8EA5jz/GMzLdsAAEJqaVRYdFhNTDpjb20uYWRvYmUueG1wAAAAAAA8P3hwYWNrZXQgYmVnaW49Iu+7vyIgaWQ9Ilc1TTBNcENlaGlIenJlU3pOVGN6a2M5ZCI/Pgo8eDp4bXBtZXRhIHhtbG5zOng9ImFkb2JlOm5zOm1ldGEvIiB4OnhtcHRrPSJBZG9iZSBYTVAgQ29yZSA1LjYtYzExMSA3OS4xNTgzMjUsIDIwMTUvMDkvMTAtMDE6MTA6MjAgICAgICAgICI+CiAgIDxyZGY6UkRGIHhtbG5zOnJkZj0iaHR0cDovL3d3dy53My5vcmcvMTk5OS8wMi8yMi1yZGYtc3ludGF4LW5zIyI+CiAgICAgIDxyZGY6RGVzY3JpcHRpb24gcmRmOmFib3V0PSIiCiAgICAgICAgICAgIHhtbG5zOnhtcD0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wLyIKICAgICAgICAgICAgeG1sbnM6ZGM9Imh0dHA6Ly9wdXJsLm9yZy9kYy9lbGVtZW50cy8xLjEvIgogICAgICAgICAgICB4bWxuczp4bXBNTT0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wL21tLyIKICAgICAgICAgICAgeG1sbnM6c3RFdnQ9Imh0dHA6Ly9ucy5hZG9iZS5jb20veGFwLzEuMC9zVHlwZS9SZXNvdXJjZUV2ZW50IyIKICAgICAgICAgICAgeG1sbnM6c3RSZWY9Imh0dHA6Ly9ucy5hZG9iZS5jb20veGFwLzEuMC9zVHlwZS9SZXNvdXJjZVJlZiMiCiAgICAgICAgICAgIHhtbG5zOnBob3Rvc2hvcD0iaHR0cDovL25zLmFkb2JlLmNvbS9waG90b3Nob3AvMS4wLyIKICAgICAgICAgICAgeG1sbnM6dGlmZj0iaHR0cDovL25zLmFkb2JlLmNvbS90aWZmLzEuMC8iCiAgICAgICAgICAgIHhtbG5zOmV4aWY9Imh0dHA6Ly9ucy5hZG9iZS5jb20vZXhpZi8xLjAvIj4KICAgICAgICAgPHhtcDpDcmVhdG9yVG9vbD5BZG9iZSBQaG90b3Nob3AgQ0MgMjAxNSAoV2luZG93cyk8L3htcDpDcmVhdG9yVG9vbD4KICAgICAgICAgPHhtcDpDcmVhdGVEYXRlPjIwMTUtMTItMThUMjA6MTc6MjAtMDU6MDA8L3htcDpDcmVhdGVEYXRlPgogICAgICAgICA8eG1wOk1ldGFkYXRhRGF0ZT4yMDE1LTEyLTE5VDIwOjIyOjM1LTA1OjAwPC94bXA6TWV0YWRhdGFEYXRlPgogICAgICAgICA8eG1wOk1vZGlmeURhdGU+MjAxNS0xMi0xOVQyMDoyMjozNS0wNTowMDwveG1wOk1vZGlmeURhdGU+CiAgICAgICAgIDxkYzpmb3JtYXQ+aW1hZ2UvcG5nPC9kYzpmb3JtYXQ+CiAgICAgICAgIDx4bXBNTTpJbnN0YW5jZUlEPnhtcC5paWQ6NWVkMTU4NGQtOWFlZC0xZTQzLWFjNGEtMDE1ZTNmZjAxN2ZiPC94bXBNTTpJbnN0YW5jZUlEPgogICAgICAgICA8eG1wTU06RG9jdW1lbnRJRD5hZG9iZTpkb2NpZDpwaG90b3Nob3A6MTcxY2Y1NzctYTZiOC0xMWU1LWJhZGItYWFlZWUyOWFiNDU4PC94bXBNTTpEb2N1bWVudElEPgogICAgICAgICA8eG1wTU06T3JpZ2luYWxEb2N1bWVudElEPnhtcC5kaWQ6YjlkOThkNWItZGZmNi05NTRlLWI1YmUtNTg2ZGIzOTQ4YzAwPC94bXBNTTpPcmlnaW5hbERvY3VtZW50SUQ+CiAgICAgICAgIDx4bXBNTTpIaXN0b3J5PgogICAgICAgICAgICA8cmRmOlNlcT4KICAgICAgICAgICAgICAgPHJkZjpsaSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDphY3Rpb24+Y3JlYXRlZDwvc3RFdnQ6YWN0aW9uPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6aW5zdGFuY2VJRD54bXAuaWlkOmI5ZDk4ZDViLWRmZjYtOTU0ZS1iNWJlLTU4NmRiMzk0OGMwMDwvc3RFdnQ6aW5zdGFuY2VJRD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OndoZW4+MjAxNS0xMi0xOFQyMDoxNzoyMC0wNTowMDwvc3RFdnQ6d2hlbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnNvZnR3YXJlQWdlbnQ+QWRvYmUgUGhvdG9zaG9wIENDIDIwMTUgKFdpbmRvd3MpPC9zdEV2dDpzb2Z0d2FyZUFnZW50PgogICAgICAgICAgICAgICA8L3JkZjpsaT4KICAgICAgICAgICAgICAgPHJkZjpsaSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDphY3Rpb24+c2F2ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0Omluc3RhbmNlSUQ+eG1wLmlpZDoyNjU0MTc0NC02NTc3LTk1NDEtODQ3Ni1iMjYxYTdiMGZlMTM8L3N0RXZ0Omluc3RhbmNlSUQ+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDp3aGVuPjIwMTUtMTItMTlUMTA6NDA6MTItMDU6MDA8L3N0RXZ0OndoZW4+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDpzb2Z0d2FyZUFnZW50PkFkb2JlIFBob3Rvc2hvcCBDQyAyMDE1IChXaW5kb3dzKTwvc3RFdnQ6c29mdHdhcmVBZ2VudD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmNoYW5nZWQ+Lzwvc3RFdnQ6Y2hhbmdlZD4KICAgICAgICAgICAgICAgPC9yZGY6bGk+CiAgICAgICAgICAgICAgIDxyZGY6bGkgcmRmOnBhcnNlVHlwZT0iUmVzb3VyY2UiPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6YWN0aW9uPnNhdmVkPC9zdEV2dDphY3Rpb24+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDppbnN0YW5jZUlEPnhtcC5paWQ6ODJkZGMwZTItY2JlNy01YzQyLTkyMTQtMjc0OTM4ZjQ1NTExPC9zdEV2dDppbnN0YW5jZUlEPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6d2hlbj4yMDE1LTEyLTE5VDIwOjIyOjM1LTA1OjAwPC9zdEV2dDp3aGVuPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6c29mdHdhcmVBZ2VudD5BZG9iZSBQaG90b3Nob3AgQ0MgMjAxNSAoV2luZG93cyk8L3N0RXZ0OnNvZnR3YXJlQWdlbnQ+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDpjaGFuZ2VkPi88L3N0RXZ0OmNoYW5nZWQ+CiAgICAgICAgICAgICAgIDwvcmRmOmxpPgogICAgICAgICAgICAgICA8cmRmOmxpIHJkZjpwYXJzZVR5cGU9IlJlc291cmNlIj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmFjdGlvbj5jb252ZXJ0ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnBhcmFtZXRlcnM+ZnJvbSBhcHBsaWNhdGlvbi92bmQuYWRvYmUucGhvdG9zaG9wIHRvIGltYWdlL3BuZzwvc3RFdnQ6cGFyYW1ldGVycz4KICAgICAgICAgICAgICAgPC9yZGY6bGk+CiAgICAgICAgICAgICAgIDxyZGY6bGkgcmRmOnBhcnNlVHlwZT0iUmVzb3VyY2UiPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6YWN0aW9uPmRlcml2ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnBhcmFtZXRlcnM+Y29udmVydGVkIGZyb20gYXBwbGljYXRpb24vdm5kLmFkb2JlLnBob3Rvc2hvcCB0byBpbWFnZS9wbmc8L3N0RXZ0OnBhcmFtZXRlcnM+CiAgICAgICAgICAgICAgIDwvcmRmOmxpPgogICAgICAgICAgICAgICA8cmRmOmxpIHJkZjpwYXJzZVR5cGU9IlJlc291cmNlIj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmFjdGlvbj5zYXZlZDwvc3RFdnQ6YWN0aW9uPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6aW5zdGFuY2VJRD54bXAuaWlkOjVlZDE1ODRkLTlhZWQtMWU0My1hYzRhLTAxNWUzZmYwMTdmYjwvc3RFdnQ6aW5zdGFuY2VJRD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OndoZW4+MjAxNS0xMi0xOVQyMDoyMjozNS0wNTowMDwvc3RFdnQ6d2hlbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnNvZnR3YXJlQWdlbnQ+QWRvYmUgUGhvdG9zaG9wIENDIDIwMTUgKFdpbmRvd3MpPC9zdEV2dDpzb2Z0d2FyZUFnZW50PgogICAgICAgICAgICAgICAgICA8c3RFdnQ6Y2hhbmdlZD4vPC9zdEV2dDpjaGFuZ2VkPgogICAgICAgICAgICAgICA8L3JkZjpsaT4KICAgICAgICAgICAgPC9yZGY6U2VxPgogICAgICAgICA8L3htcE1NOkhpc3Rvcnk+CiAgICAgICAgIDx4bXBNTTpEZXJpdmVkRnJvbSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgIDxzdFJlZjppbnN0YW5jZUlEPnhtcC5paWQ6ODJkZGMwZTItY2JlNy01YzQyLTkyMTQtMjc0OTM4ZjQ1NTExPC9zdFJlZjppbnN0YW5jZUlEPgogICAgICAgICAgICA8c3RSZWY6ZG9jdW1lbnRJRD5hZG9iZTpkb2NpZDpwaG90b3Nob3A6YzQ1ZmVkNmYtYTY2Ni0xMWU1LTlhNzEtZjgxOGZiZGY0NjgwPC9zdFJlZjpkb2N1bWVudElEPgogICAgICAgICAgICA8c3RSZWY6b3JpZ2luYWxEb2N1bWVudElEPnhtcC5kaWQ6YjlkOThkNWItZGZmNi05NTRlLWI1YmUtNTg2ZGIzOTQ4YzAwPC9zdFJlZjpvcmlnaW5hbERvY3VtZW50SUQ+CiAgICAgICAgIDwveG1wTU06RGVyaXZlZEZyb20+CiAgICAgICAgIDxwaG90b3Nob3A6Q29sb3JNb2RlPjM8L3Bob3Rvc2hvcDpDb2xvck1vZGU+CiAgICAgICAgIDxwaG90b3Nob3A6SUNDUHJvZmlsZT5zUkdCIElFQzYxOTY2LTIuMTwvcGhvdG9zaG9wOklDQ1Byb2ZpbGU+CiAgICAgICAgIDxwaG90b3Nob3A6RG9jdW1lbnRBbmNlc3RvcnM+CiAgICAgICAgICAgIDxyZGY6QmFnPgogICAgICAgICAgICAgICA8cmRmOmxpPnhtcC5kaWQ6QTg4MjA4QkQ4RkREMTFFMkJCMkREMjUxRUUzNTVGRDk8L3JkZjpsaT4KICAgICAgICAgICAgICAgPHJkZjpsaT54bXAuZGlkOkNBQjc4RUY3MDVCMDExRTM5QjgzRTNEMkVDMUJCOEU4PC9yZGY6bGk+CiAgICAgICAgICAgIDwvcmRmOkJhZz4KICAgICAgICAgPC9waG90b3Nob3A6RG9jdW1lbnRBbmNlc3RvcnM+CiAgICAgICAgIDx0aWZmOk9yaWVudGF0aW9uPjE8L3RpZmY6T3JpZW50YXRpb24+CiAgICAgICAgIDx0aWZmOlhSZXNvbHV0aW9uPjk2MDAwMC8xMDAwMDwvdGlmZjpYUmVzb2x1dGlvbj4KICAgICAgICAgPHRpZmY6WVJlc29sdXRpb24+OTYwMDAwLzEwMDAwPC90aWZmOllSZXNvbHV0aW9uPgogICAgICAgICA8dGlmZjpSZXNvbHV0aW9uVW5pdD4yPC90aWZmOlJlc29sdXRpb25Vbml0PgogICAgICAgICA8ZXhpZjpDb2xvclNwYWNlPjE8L2V4aWY6Q29sb3JTcGFjZT4KICAgICAgICAgPGV4aWY6UGl4ZWxYRGltZW5zaW9uPjExODA8L2V4aWY6UGl4ZWxYRGltZW5zaW9uPgogICAgICAgICA8ZXhpZjpQaXhlbFlEaW1lbnNpb24+NDUwPC9leGlmOlBpeGVsWURpbWVuc2lvbj4KICAgICAgPC9yZGY6RGVzY3JpcHRpb24+CiAgIDwvcmRmOlJERj4KPC94OnhtcG1ldGE+CiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgCjw/eHBhY2tldCBlbmQ9InciPz7ApqnrAAAAIGNIUk0AAHolAACAgwAA+f8AAIDpAAB1MAAA6mAAADqYAAAXb5JfxUYAABUhSURBVHja7NyxToMAGEZRMLz/E6O/Q010K6i0N3rO0C6UNFDyLTddZ2ZmFgAAAAAAAAAAgJwXlwAAAAAAAAAAAKgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACArPXtdVmWZebwB7bb++w/O+7oea4+/ux5l/3j9fa57eE37Oz3fbSj1+fkdfz1+3n2Ph48/tvf89759y+vn0ds977nn79uT/o9/rvn/tnP60XHX/67u/e82lf7al/tq321r/bVvtpX+2pf7at9ta/21b7aV/tqX+2rfbWv9tW+2lf7al/tq309xD84AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAga52ZmXEhAAAAAAAAAACAHv/gBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIOsdAAD//wMA6rV5fn+/LZwAAAAASUVORK5CYII=");
-        	in = new ByteArrayInputStream(decodedBytes);
-        	buffImg = ImageIO.read(in);
-	        imgObj = LosslessFactory.createFromImage(doc, buffImg);
+			if (headerBar == null) {
+	        	byte[] decodedBytes = Base64.getDecoder().decode("iVBORw0KGgoAAAANSUhEUgAABJwAAAHCEAYAAAD6Ag+/AAAACXBIWXMAAA7EAAAOxAGVKw4bAAAKT2lDQ1BQaG90b3Nob3AgSUNDIHByb2ZpbGUAAHjanVNnVFPpFj333vRCS4iAlEtvUhUIIFJCi4AUkSYqIQkQSoghodkVUcERRUUEG8igiAOOjoCMFVEsDIoK2AfkIaKOg6OIisr74Xuja9a89+bN/rXXPues852zzwfACAyWSDNRNYAMqUIeEeCDx8TG4eQuQIEKJHAAEAizZCFz/SMBAPh+PDwrIsAHvgABeNMLCADATZvAMByH/w/qQplcAYCEAcB0kThLCIAUAEB6jkKmAEBGAYCdmCZTAKAEAGDLY2LjAFAtAGAnf+bTAICd+Jl7AQBblCEVAaCRACATZYhEAGg7AKzPVopFAFgwABRmS8Q5ANgtADBJV2ZIALC3AMDOEAuyAAgMADBRiIUpAAR7AGDIIyN4AISZABRG8lc88SuuEOcqAAB4mbI8uSQ5RYFbCC1xB1dXLh4ozkkXKxQ2YQJhmkAuwnmZGTKBNA/g88wAAKCRFRHgg/P9eM4Ors7ONo62Dl8t6r8G/yJiYuP+5c+rcEAAAOF0ftH+LC+zGoA7BoBt/qIl7gRoXgugdfeLZrIPQLUAoOnaV/Nw+H48PEWhkLnZ2eXk5NhKxEJbYcpXff5nwl/AV/1s+X48/Pf14L7iJIEyXYFHBPjgwsz0TKUcz5IJhGLc5o9H/LcL//wd0yLESWK5WCoU41EScY5EmozzMqUiiUKSKcUl0v9k4t8s+wM+3zUAsGo+AXuRLahdYwP2SycQWHTA4vcAAPK7b8HUKAgDgGiD4c93/+8//UegJQCAZkmScQAAXkQkLlTKsz/HCAAARKCBKrBBG/TBGCzABhzBBdzBC/xgNoRCJMTCQhBCCmSAHHJgKayCQiiGzbAdKmAv1EAdNMBRaIaTcA4uwlW4Dj1wD/phCJ7BKLyBCQRByAgTYSHaiAFiilgjjggXmYX4IcFIBBKLJCDJiBRRIkuRNUgxUopUIFVIHfI9cgI5h1xGupE7yAAygvyGvEcxlIGyUT3UDLVDuag3GoRGogvQZHQxmo8WoJvQcrQaPYw2oefQq2gP2o8+Q8cwwOgYBzPEbDAuxsNCsTgsCZNjy7EirAyrxhqwVqwDu4n1Y8+xdwQSgUXACTYEd0IgYR5BSFhMWE7YSKggHCQ0EdoJNwkDhFHCJyKTqEu0JroR+cQYYjIxh1hILCPWEo8TLxB7iEPENyQSiUMyJ7mQAkmxpFTSEtJG0m5SI+ksqZs0SBojk8naZGuyBzmULCAryIXkneTD5DPkG+Qh8lsKnWJAcaT4U+IoUspqShnlEOU05QZlmDJBVaOaUt2ooVQRNY9aQq2htlKvUYeoEzR1mjnNgxZJS6WtopXTGmgXaPdpr+h0uhHdlR5Ol9BX0svpR+iX6AP0dwwNhhWDx4hnKBmbGAcYZxl3GK+YTKYZ04sZx1QwNzHrmOeZD5lvVVgqtip8FZHKCpVKlSaVGyovVKmqpqreqgtV81XLVI+pXlN9rkZVM1PjqQnUlqtVqp1Q61MbU2epO6iHqmeob1Q/pH5Z/YkGWcNMw09DpFGgsV/jvMYgC2MZs3gsIWsNq4Z1gTXEJrHN2Xx2KruY/R27iz2qqaE5QzNKM1ezUvOUZj8H45hx+Jx0TgnnKKeX836K3hTvKeIpG6Y0TLkxZVxrqpaXllirSKtRq0frvTau7aedpr1Fu1n7gQ5Bx0onXCdHZ4/OBZ3nU9lT3acKpxZNPTr1ri6qa6UbobtEd79up+6Ynr5egJ5Mb6feeb3n+hx9L/1U/W36p/VHDFgGswwkBtsMzhg8xTVxbzwdL8fb8VFDXcNAQ6VhlWGX4YSRudE8o9VGjUYPjGnGXOMk423GbcajJgYmISZLTepN7ppSTbmmKaY7TDtMx83MzaLN1pk1mz0x1zLnm+eb15vft2BaeFostqi2uGVJsuRaplnutrxuhVo5WaVYVVpds0atna0l1rutu6cRp7lOk06rntZnw7Dxtsm2qbcZsOXYBtuutm22fWFnYhdnt8Wuw+6TvZN9un2N/T0HDYfZDqsdWh1+c7RyFDpWOt6azpzuP33F9JbpL2dYzxDP2DPjthPLKcRpnVOb00dnF2e5c4PziIuJS4LLLpc+Lpsbxt3IveRKdPVxXeF60vWdm7Obwu2o26/uNu5p7ofcn8w0nymeWTNz0MPIQ+BR5dE/C5+VMGvfrH5PQ0+BZ7XnIy9jL5FXrdewt6V3qvdh7xc+9j5yn+M+4zw33jLeWV/MN8C3yLfLT8Nvnl+F30N/I/9k/3r/0QCngCUBZwOJgUGBWwL7+Hp8Ib+OPzrbZfay2e1BjKC5QRVBj4KtguXBrSFoyOyQrSH355jOkc5pDoVQfujW0Adh5mGLw34MJ4WHhVeGP45wiFga0TGXNXfR3ENz30T6RJZE3ptnMU85ry1KNSo+qi5qPNo3ujS6P8YuZlnM1VidWElsSxw5LiquNm5svt/87fOH4p3iC+N7F5gvyF1weaHOwvSFpxapLhIsOpZATIhOOJTwQRAqqBaMJfITdyWOCnnCHcJnIi/RNtGI2ENcKh5O8kgqTXqS7JG8NXkkxTOlLOW5hCepkLxMDUzdmzqeFpp2IG0yPTq9MYOSkZBxQqohTZO2Z+pn5mZ2y6xlhbL+xW6Lty8elQfJa7OQrAVZLQq2QqboVFoo1yoHsmdlV2a/zYnKOZarnivN7cyzytuQN5zvn//tEsIS4ZK2pYZLVy0dWOa9rGo5sjxxedsK4xUFK4ZWBqw8uIq2Km3VT6vtV5eufr0mek1rgV7ByoLBtQFr6wtVCuWFfevc1+1dT1gvWd+1YfqGnRs+FYmKrhTbF5cVf9go3HjlG4dvyr+Z3JS0qavEuWTPZtJm6ebeLZ5bDpaql+aXDm4N2dq0Dd9WtO319kXbL5fNKNu7g7ZDuaO/PLi8ZafJzs07P1SkVPRU+lQ27tLdtWHX+G7R7ht7vPY07NXbW7z3/T7JvttVAVVN1WbVZftJ+7P3P66Jqun4lvttXa1ObXHtxwPSA/0HIw6217nU1R3SPVRSj9Yr60cOxx++/p3vdy0NNg1VjZzG4iNwRHnk6fcJ3/ceDTradox7rOEH0x92HWcdL2pCmvKaRptTmvtbYlu6T8w+0dbq3nr8R9sfD5w0PFl5SvNUyWna6YLTk2fyz4ydlZ19fi753GDborZ752PO32oPb++6EHTh0kX/i+c7vDvOXPK4dPKy2+UTV7hXmq86X23qdOo8/pPTT8e7nLuarrlca7nuer21e2b36RueN87d9L158Rb/1tWeOT3dvfN6b/fF9/XfFt1+cif9zsu72Xcn7q28T7xf9EDtQdlD3YfVP1v+3Njv3H9qwHeg89HcR/cGhYPP/pH1jw9DBY+Zj8uGDYbrnjg+OTniP3L96fynQ89kzyaeF/6i/suuFxYvfvjV69fO0ZjRoZfyl5O/bXyl/erA6xmv28bCxh6+yXgzMV70VvvtwXfcdx3vo98PT+R8IH8o/2j5sfVT0Kf7kxmTk/8EA5jz/GMzLdsAAEJqaVRYdFhNTDpjb20uYWRvYmUueG1wAAAAAAA8P3hwYWNrZXQgYmVnaW49Iu+7vyIgaWQ9Ilc1TTBNcENlaGlIenJlU3pOVGN6a2M5ZCI/Pgo8eDp4bXBtZXRhIHhtbG5zOng9ImFkb2JlOm5zOm1ldGEvIiB4OnhtcHRrPSJBZG9iZSBYTVAgQ29yZSA1LjYtYzExMSA3OS4xNTgzMjUsIDIwMTUvMDkvMTAtMDE6MTA6MjAgICAgICAgICI+CiAgIDxyZGY6UkRGIHhtbG5zOnJkZj0iaHR0cDovL3d3dy53My5vcmcvMTk5OS8wMi8yMi1yZGYtc3ludGF4LW5zIyI+CiAgICAgIDxyZGY6RGVzY3JpcHRpb24gcmRmOmFib3V0PSIiCiAgICAgICAgICAgIHhtbG5zOnhtcD0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wLyIKICAgICAgICAgICAgeG1sbnM6ZGM9Imh0dHA6Ly9wdXJsLm9yZy9kYy9lbGVtZW50cy8xLjEvIgogICAgICAgICAgICB4bWxuczp4bXBNTT0iaHR0cDovL25zLmFkb2JlLmNvbS94YXAvMS4wL21tLyIKICAgICAgICAgICAgeG1sbnM6c3RFdnQ9Imh0dHA6Ly9ucy5hZG9iZS5jb20veGFwLzEuMC9zVHlwZS9SZXNvdXJjZUV2ZW50IyIKICAgICAgICAgICAgeG1sbnM6c3RSZWY9Imh0dHA6Ly9ucy5hZG9iZS5jb20veGFwLzEuMC9zVHlwZS9SZXNvdXJjZVJlZiMiCiAgICAgICAgICAgIHhtbG5zOnBob3Rvc2hvcD0iaHR0cDovL25zLmFkb2JlLmNvbS9waG90b3Nob3AvMS4wLyIKICAgICAgICAgICAgeG1sbnM6dGlmZj0iaHR0cDovL25zLmFkb2JlLmNvbS90aWZmLzEuMC8iCiAgICAgICAgICAgIHhtbG5zOmV4aWY9Imh0dHA6Ly9ucy5hZG9iZS5jb20vZXhpZi8xLjAvIj4KICAgICAgICAgPHhtcDpDcmVhdG9yVG9vbD5BZG9iZSBQaG90b3Nob3AgQ0MgMjAxNSAoV2luZG93cyk8L3htcDpDcmVhdG9yVG9vbD4KICAgICAgICAgPHhtcDpDcmVhdGVEYXRlPjIwMTUtMTItMThUMjA6MTc6MjAtMDU6MDA8L3htcDpDcmVhdGVEYXRlPgogICAgICAgICA8eG1wOk1ldGFkYXRhRGF0ZT4yMDE1LTEyLTE5VDIwOjIyOjM1LTA1OjAwPC94bXA6TWV0YWRhdGFEYXRlPgogICAgICAgICA8eG1wOk1vZGlmeURhdGU+MjAxNS0xMi0xOVQyMDoyMjozNS0wNTowMDwveG1wOk1vZGlmeURhdGU+CiAgICAgICAgIDxkYzpmb3JtYXQ+aW1hZ2UvcG5nPC9kYzpmb3JtYXQ+CiAgICAgICAgIDx4bXBNTTpJbnN0YW5jZUlEPnhtcC5paWQ6NWVkMTU4NGQtOWFlZC0xZTQzLWFjNGEtMDE1ZTNmZjAxN2ZiPC94bXBNTTpJbnN0YW5jZUlEPgogICAgICAgICA8eG1wTU06RG9jdW1lbnRJRD5hZG9iZTpkb2NpZDpwaG90b3Nob3A6MTcxY2Y1NzctYTZiOC0xMWU1LWJhZGItYWFlZWUyOWFiNDU4PC94bXBNTTpEb2N1bWVudElEPgogICAgICAgICA8eG1wTU06T3JpZ2luYWxEb2N1bWVudElEPnhtcC5kaWQ6YjlkOThkNWItZGZmNi05NTRlLWI1YmUtNTg2ZGIzOTQ4YzAwPC94bXBNTTpPcmlnaW5hbERvY3VtZW50SUQ+CiAgICAgICAgIDx4bXBNTTpIaXN0b3J5PgogICAgICAgICAgICA8cmRmOlNlcT4KICAgICAgICAgICAgICAgPHJkZjpsaSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDphY3Rpb24+Y3JlYXRlZDwvc3RFdnQ6YWN0aW9uPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6aW5zdGFuY2VJRD54bXAuaWlkOmI5ZDk4ZDViLWRmZjYtOTU0ZS1iNWJlLTU4NmRiMzk0OGMwMDwvc3RFdnQ6aW5zdGFuY2VJRD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OndoZW4+MjAxNS0xMi0xOFQyMDoxNzoyMC0wNTowMDwvc3RFdnQ6d2hlbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnNvZnR3YXJlQWdlbnQ+QWRvYmUgUGhvdG9zaG9wIENDIDIwMTUgKFdpbmRvd3MpPC9zdEV2dDpzb2Z0d2FyZUFnZW50PgogICAgICAgICAgICAgICA8L3JkZjpsaT4KICAgICAgICAgICAgICAgPHJkZjpsaSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDphY3Rpb24+c2F2ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0Omluc3RhbmNlSUQ+eG1wLmlpZDoyNjU0MTc0NC02NTc3LTk1NDEtODQ3Ni1iMjYxYTdiMGZlMTM8L3N0RXZ0Omluc3RhbmNlSUQ+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDp3aGVuPjIwMTUtMTItMTlUMTA6NDA6MTItMDU6MDA8L3N0RXZ0OndoZW4+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDpzb2Z0d2FyZUFnZW50PkFkb2JlIFBob3Rvc2hvcCBDQyAyMDE1IChXaW5kb3dzKTwvc3RFdnQ6c29mdHdhcmVBZ2VudD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmNoYW5nZWQ+Lzwvc3RFdnQ6Y2hhbmdlZD4KICAgICAgICAgICAgICAgPC9yZGY6bGk+CiAgICAgICAgICAgICAgIDxyZGY6bGkgcmRmOnBhcnNlVHlwZT0iUmVzb3VyY2UiPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6YWN0aW9uPnNhdmVkPC9zdEV2dDphY3Rpb24+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDppbnN0YW5jZUlEPnhtcC5paWQ6ODJkZGMwZTItY2JlNy01YzQyLTkyMTQtMjc0OTM4ZjQ1NTExPC9zdEV2dDppbnN0YW5jZUlEPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6d2hlbj4yMDE1LTEyLTE5VDIwOjIyOjM1LTA1OjAwPC9zdEV2dDp3aGVuPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6c29mdHdhcmVBZ2VudD5BZG9iZSBQaG90b3Nob3AgQ0MgMjAxNSAoV2luZG93cyk8L3N0RXZ0OnNvZnR3YXJlQWdlbnQ+CiAgICAgICAgICAgICAgICAgIDxzdEV2dDpjaGFuZ2VkPi88L3N0RXZ0OmNoYW5nZWQ+CiAgICAgICAgICAgICAgIDwvcmRmOmxpPgogICAgICAgICAgICAgICA8cmRmOmxpIHJkZjpwYXJzZVR5cGU9IlJlc291cmNlIj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmFjdGlvbj5jb252ZXJ0ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnBhcmFtZXRlcnM+ZnJvbSBhcHBsaWNhdGlvbi92bmQuYWRvYmUucGhvdG9zaG9wIHRvIGltYWdlL3BuZzwvc3RFdnQ6cGFyYW1ldGVycz4KICAgICAgICAgICAgICAgPC9yZGY6bGk+CiAgICAgICAgICAgICAgIDxyZGY6bGkgcmRmOnBhcnNlVHlwZT0iUmVzb3VyY2UiPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6YWN0aW9uPmRlcml2ZWQ8L3N0RXZ0OmFjdGlvbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnBhcmFtZXRlcnM+Y29udmVydGVkIGZyb20gYXBwbGljYXRpb24vdm5kLmFkb2JlLnBob3Rvc2hvcCB0byBpbWFnZS9wbmc8L3N0RXZ0OnBhcmFtZXRlcnM+CiAgICAgICAgICAgICAgIDwvcmRmOmxpPgogICAgICAgICAgICAgICA8cmRmOmxpIHJkZjpwYXJzZVR5cGU9IlJlc291cmNlIj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OmFjdGlvbj5zYXZlZDwvc3RFdnQ6YWN0aW9uPgogICAgICAgICAgICAgICAgICA8c3RFdnQ6aW5zdGFuY2VJRD54bXAuaWlkOjVlZDE1ODRkLTlhZWQtMWU0My1hYzRhLTAxNWUzZmYwMTdmYjwvc3RFdnQ6aW5zdGFuY2VJRD4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OndoZW4+MjAxNS0xMi0xOVQyMDoyMjozNS0wNTowMDwvc3RFdnQ6d2hlbj4KICAgICAgICAgICAgICAgICAgPHN0RXZ0OnNvZnR3YXJlQWdlbnQ+QWRvYmUgUGhvdG9zaG9wIENDIDIwMTUgKFdpbmRvd3MpPC9zdEV2dDpzb2Z0d2FyZUFnZW50PgogICAgICAgICAgICAgICAgICA8c3RFdnQ6Y2hhbmdlZD4vPC9zdEV2dDpjaGFuZ2VkPgogICAgICAgICAgICAgICA8L3JkZjpsaT4KICAgICAgICAgICAgPC9yZGY6U2VxPgogICAgICAgICA8L3htcE1NOkhpc3Rvcnk+CiAgICAgICAgIDx4bXBNTTpEZXJpdmVkRnJvbSByZGY6cGFyc2VUeXBlPSJSZXNvdXJjZSI+CiAgICAgICAgICAgIDxzdFJlZjppbnN0YW5jZUlEPnhtcC5paWQ6ODJkZGMwZTItY2JlNy01YzQyLTkyMTQtMjc0OTM4ZjQ1NTExPC9zdFJlZjppbnN0YW5jZUlEPgogICAgICAgICAgICA8c3RSZWY6ZG9jdW1lbnRJRD5hZG9iZTpkb2NpZDpwaG90b3Nob3A6YzQ1ZmVkNmYtYTY2Ni0xMWU1LTlhNzEtZjgxOGZiZGY0NjgwPC9zdFJlZjpkb2N1bWVudElEPgogICAgICAgICAgICA8c3RSZWY6b3JpZ2luYWxEb2N1bWVudElEPnhtcC5kaWQ6YjlkOThkNWItZGZmNi05NTRlLWI1YmUtNTg2ZGIzOTQ4YzAwPC9zdFJlZjpvcmlnaW5hbERvY3VtZW50SUQ+CiAgICAgICAgIDwveG1wTU06RGVyaXZlZEZyb20+CiAgICAgICAgIDxwaG90b3Nob3A6Q29sb3JNb2RlPjM8L3Bob3Rvc2hvcDpDb2xvck1vZGU+CiAgICAgICAgIDxwaG90b3Nob3A6SUNDUHJvZmlsZT5zUkdCIElFQzYxOTY2LTIuMTwvcGhvdG9zaG9wOklDQ1Byb2ZpbGU+CiAgICAgICAgIDxwaG90b3Nob3A6RG9jdW1lbnRBbmNlc3RvcnM+CiAgICAgICAgICAgIDxyZGY6QmFnPgogICAgICAgICAgICAgICA8cmRmOmxpPnhtcC5kaWQ6QTg4MjA4QkQ4RkREMTFFMkJCMkREMjUxRUUzNTVGRDk8L3JkZjpsaT4KICAgICAgICAgICAgICAgPHJkZjpsaT54bXAuZGlkOkNBQjc4RUY3MDVCMDExRTM5QjgzRTNEMkVDMUJCOEU4PC9yZGY6bGk+CiAgICAgICAgICAgIDwvcmRmOkJhZz4KICAgICAgICAgPC9waG90b3Nob3A6RG9jdW1lbnRBbmNlc3RvcnM+CiAgICAgICAgIDx0aWZmOk9yaWVudGF0aW9uPjE8L3RpZmY6T3JpZW50YXRpb24+CiAgICAgICAgIDx0aWZmOlhSZXNvbHV0aW9uPjk2MDAwMC8xMDAwMDwvdGlmZjpYUmVzb2x1dGlvbj4KICAgICAgICAgPHRpZmY6WVJlc29sdXRpb24+OTYwMDAwLzEwMDAwPC90aWZmOllSZXNvbHV0aW9uPgogICAgICAgICA8dGlmZjpSZXNvbHV0aW9uVW5pdD4yPC90aWZmOlJlc29sdXRpb25Vbml0PgogICAgICAgICA8ZXhpZjpDb2xvclNwYWNlPjE8L2V4aWY6Q29sb3JTcGFjZT4KICAgICAgICAgPGV4aWY6UGl4ZWxYRGltZW5zaW9uPjExODA8L2V4aWY6UGl4ZWxYRGltZW5zaW9uPgogICAgICAgICA8ZXhpZjpQaXhlbFlEaW1lbnNpb24+NDUwPC9leGlmOlBpeGVsWURpbWVuc2lvbj4KICAgICAgPC9yZGY6RGVzY3JpcHRpb24+CiAgIDwvcmRmOlJERj4KPC94OnhtcG1ldGE+CiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgCiAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAKICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgICAgIAogICAgICAgICAgICAgICAgICAgICAgICAgICAgCjw/eHBhY2tldCBlbmQ9InciPz7ApqnrAAAAIGNIUk0AAHolAACAgwAA+f8AAIDpAAB1MAAA6mAAADqYAAAXb5JfxUYAABUhSURBVHja7NyxToMAGEZRMLz/E6O/Q010K6i0N3rO0C6UNFDyLTddZ2ZmFgAAAAAAAAAAgJwXlwAAAAAAAAAAAKgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACArPXtdVmWZebwB7bb++w/O+7oea4+/ux5l/3j9fa57eE37Oz3fbSj1+fkdfz1+3n2Ph48/tvf89759y+vn0ds977nn79uT/o9/rvn/tnP60XHX/67u/e82lf7al/tq321r/bVvtpX+2pf7at9ta/21b7aV/tqX+2rfbWv9tW+2lf7al/tq309xD84AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAgS+AEAAAAAAAAAABkCZwAAAAAAAAAAIAsgRMAAAAAAAAAAJAlcAIAAAAAAAAAALIETgAAAAAAAAAAQJbACQAAAAAAAAAAyBI4AQAAAAAAAAAAWQInAAAAAAAAAAAga52ZmXEhAAAAAAAAAACAHv/gBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIEvgBAAAAAAAAAAAZAmcAAAAAAAAAACALIETAAAAAAAAAACQJXACAAAAAAAAAACyBE4AAAAAAAAAAECWwAkAAAAAAAAAAMgSOAEAAAAAAAAAAFkCJwAAAAAAAAAAIOsdAAD//wMA6rV5fn+/LZwAAAAASUVORK5CYII=");
+	        	InputStream in = new ByteArrayInputStream(decodedBytes);
+	        	headerBar = ImageIO.read(in);
+			}
+	        imgObj = images.get(headerBar);
 	        contentStream.drawImage(imgObj, 10, pageHeight - 57, pageWidth - 22, 12);
 		} catch (Exception ex) {
 			System.out.println("Exception in PdfGenerator.drawHeaderFooter: " + ex.toString());
@@ -507,10 +788,14 @@ public class PdfGenerator {
 	}
 
 	public int[] drawColumnDendrogram(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapWidth) {
+		DendrogramSegments segments = iData.colData.dendroSegments;
+		return drawColumnDendrogram(doc, contentStream, segments, 0, segments.width/DENDRO_POINTS_PER_LEAF, posArray, mapWidth);
+	}
+
+	public int[] drawColumnDendrogram(PDDocument doc, PDPageContentStream contentStream, DendrogramSegments segments, int firstCol, int numCols, int[] posArray, int mapWidth) {
 		posArray[PDF_ROW_POS] -= PDF_DENDRO_HEIGHT;
         try {
-            PDImageXObject  pdColDendroImageXObject = LosslessFactory.createFromImage(doc, iData.colData.dendroImage);
-            contentStream.drawImage(pdColDendroImageXObject, posArray[PDF_COL_POS], posArray[PDF_ROW_POS], mapWidth, PDF_DENDRO_HEIGHT);
+            drawDendrogramPath(contentStream, segments, false, firstCol, numCols, posArray[PDF_COL_POS], posArray[PDF_ROW_POS], mapWidth, PDF_DENDRO_HEIGHT);
 		} catch (Exception ex) {
 			System.out.println("Exception in PdfGenerator.drawColumnDendrogram: " + ex.toString());
 	        ex.printStackTrace();
@@ -518,7 +803,15 @@ public class PdfGenerator {
         return posArray;
 	}
 	
-	public int[] drawColumnCovariates(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapWidth) {
+	public int[] drawColumnCovariates(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapWidth) throws Exception {
+		List<BufferedImage> classImages = new ArrayList<BufferedImage>();
+		for (InputClass ic : iData.colData.getVisibleClasses()) {
+			classImages.add(ic.classImage);
+		}
+		return drawColumnCovariates(doc, contentStream, iData, classImages, posArray, mapWidth);
+	}
+
+	public int[] drawColumnCovariates(PDDocument doc, PDPageContentStream contentStream, ImportData iData, List<BufferedImage> classImages, int[] posArray, int mapWidth) {
         try {
         	List<InputClass> icList = iData.colData.getVisibleClasses();
         	posArray[PDF_ROW_POS] -= 2;
@@ -531,7 +824,7 @@ public class PdfGenerator {
             }
             for (int i = 0; i <  icList.size(); i++) {
             	InputClass ic = (InputClass) icList.get(i);
-	            PDImageXObject  pdImageClassXObjectC = LosslessFactory.createFromImage(doc, ic.classImage);
+	            PDImageXObject  pdImageClassXObjectC = images.get(classImages.get(i));
 	            int classHeight = PDF_CLASS_HEIGHT;
 	            int horizPos = posArray[PDF_COL_POS]+mapWidth+2;
 	            int midPos = posArray[PDF_ROW_POS]-3;
@@ -570,17 +863,85 @@ public class PdfGenerator {
 	}
 	
 	public int[] drawRowDendrogram(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapHeight) {
+		DendrogramSegments segments = iData.rowData.dendroSegments;
+		return drawRowDendrogram(doc, contentStream, segments, 0, segments.width/DENDRO_POINTS_PER_LEAF, posArray, mapHeight);
+	}
+
+	public int[] drawRowDendrogram(PDDocument doc, PDPageContentStream contentStream, DendrogramSegments segments, int firstRow, int numRows, int[] posArray, int mapHeight) {
         try {
-        	PDImageXObject  pdRowDendroImageXObject = LosslessFactory.createFromImage(doc, iData.rowData.dendroImage);
-            contentStream.drawImage(pdRowDendroImageXObject, 10, posArray[PDF_ROW_POS], PDF_DENDRO_HEIGHT, mapHeight);
+            drawDendrogramPath(contentStream, segments, true, firstRow, numRows, 10, posArray[PDF_ROW_POS], PDF_DENDRO_HEIGHT, mapHeight);
 		} catch (Exception ex) {
 			System.out.println("Exception in PdfGenerator.drawRowDendrogram: " + ex.toString());
 	        ex.printStackTrace();
 		} 
         return posArray;
 	}
+
+	/*******************************************************************
+	 * METHOD: drawDendrogramPath
+	 *
+	 * This method draws the segments of a dendrogram as a single vector
+	 * path in the box (x, y, width, height) of the page.  Only the
+	 * segments over the leaves first thru first+count-1 are drawn (the
+	 * part of the dendrogram over a page of the full PDF), clipped to the
+	 * box.  Column dendrograms are drawn with leaves left to right and
+	 * heights bottom to top, row dendrograms with leaves top to bottom and
+	 * heights right to left.  Leaves are placed at the middle of their
+	 * row/col and heights at the middle of the DENDRO_NORM_HEIGHT+1 steps
+	 * of the box, as they were on the dendrogram images drawn before.
+	 ******************************************************************/
+	private void drawDendrogramPath(PDPageContentStream contentStream, DendrogramSegments segments, boolean rowDendro, int first, int count, float x, float y, float width, float height) throws Exception {
+		int firstPoint = DENDRO_POINTS_PER_LEAF*first;
+		int lastPoint = DENDRO_POINTS_PER_LEAF*(first+count) - 1;
+		float pointSize = (rowDendro ? height : width)/(lastPoint-firstPoint+1);
+		float heightSize = (rowDendro ? width : height)/(DENDRO_NORM_HEIGHT+1);
+		contentStream.saveGraphicsState();
+		contentStream.addRect(x, y, width, height);
+		contentStream.clip();
+		contentStream.setStrokingColor(Color.BLACK);
+		contentStream.setLineWidth(PDF_DENDRO_LINE_WIDTH);
+		boolean drawn = false;
+		for (int i = 0; i < segments.count; i++) {
+			int p1 = Math.min(segments.x1[i], segments.x2[i]);
+			int p2 = Math.max(segments.x1[i], segments.x2[i]);
+			if ((p2 < firstPoint) || (p1 > lastPoint)) {
+				continue;
+			}
+			int h1 = Math.min(segments.y1[i], segments.y2[i]);
+			int h2 = Math.max(segments.y1[i], segments.y2[i]);
+			if (h1 != h2) {
+				//Vertical segments are stored one step short of the bars they join
+				h1--;
+				h2++;
+			}
+			float pStart = (p1-firstPoint+0.5f)*pointSize;
+			float pEnd = (p2-firstPoint+0.5f)*pointSize;
+			float hStart = (h1+0.5f)*heightSize;
+			float hEnd = (h2+0.5f)*heightSize;
+			if (rowDendro) {
+				contentStream.moveTo(x+width-hStart, y+height-pStart);
+				contentStream.lineTo(x+width-hEnd, y+height-pEnd);
+			} else {
+				contentStream.moveTo(x+pStart, y+hStart);
+				contentStream.lineTo(x+pEnd, y+hEnd);
+			}
+			drawn = true;
+		}
+		if (drawn) {
+			contentStream.stroke();
+		}
+		contentStream.restoreGraphicsState();
+	}
 	
 	public int[] drawRowCovariates(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapHeight) throws Exception {
+		List<BufferedImage> classImages = new ArrayList<BufferedImage>();
+		for (InputClass ic : iData.rowData.getVisibleClasses()) {
+			classImages.add(ic.classImage);
+		}
+		return drawRowCovariates(doc, contentStream, iData, classImages, posArray, mapHeight);
+	}
+
+	public int[] drawRowCovariates(PDDocument doc, PDPageContentStream contentStream, ImportData iData, List<BufferedImage> classImages, int[] posArray, int mapHeight) throws Exception {
     	List<InputClass> icList = iData.rowData.getVisibleClasses();
         int colStartPos = posArray[PDF_COL_POS] - (rowClassAdjustment+1);
         try {
@@ -618,7 +979,7 @@ public class PdfGenerator {
 	            } else {
 	            	if (containsBar) vertPos -= 11;
 	            }
-	            PDImageXObject  pdImageClassXObjectR = LosslessFactory.createFromImage(doc, ic.classImage);
+	            PDImageXObject  pdImageClassXObjectR = images.get(classImages.get(i));
 	            contentStream.drawImage(pdImageClassXObjectR, colStartPos, posArray[PDF_ROW_POS], classHeight - 1, mapHeight);
             	String covName = ic.name;
     			covName = covName.length() > 20 ? covName.substring(0, 20)+"..." : covName;
@@ -637,7 +998,7 @@ public class PdfGenerator {
 	       int colStartPos = posArray[PDF_COL_POS] + PDF_MAP_SIZE + 1;
 	        BufferedImage bI = iData.rowData.topItemImage;
 	        int matrixLen = iData.matrixFiles.get(0).rows;  
-	        PDImageXObject  pdImageClassXObjectR = LosslessFactory.createFromImage(doc, bI);
+	        PDImageXObject  pdImageClassXObjectR = images.get(bI);
 	        contentStream.drawImage(pdImageClassXObjectR, colStartPos, posArray[PDF_ROW_POS], PDF_CLASS_HEIGHT*2, PDF_MAP_SIZE);
 	        Float increment = new Float(PDF_MAP_SIZE) / new Float(matrixLen-1);
 	        int startRowPosition = posArray[PDF_ROW_POS] + PDF_MAP_SIZE;
@@ -655,25 +1016,22 @@ public class PdfGenerator {
         return posArray;
 	}
 	
-	public int[] drawAllRowLabels(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapWidth, int mapHeight) {
+	public int[] drawAllRowLabels(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int mapWidth, int mapHeight, int firstRow, int numRows) {
         try {
 	       int colStartPos = posArray[PDF_COL_POS] + mapWidth + 1;
 	        int startRowPosition = posArray[PDF_ROW_POS] + mapHeight;
-	        for (int i = 0; i < iData.rowData.classArray.length; i++) {
-		        String itemVal = iData.rowData.classArray[i];
-		        if (itemVal != null) {
-		    		int pipeIdx = itemVal.indexOf(PIPE);
-		    		if (pipeIdx > 0) {
-				        itemVal = itemVal.substring(0,itemVal.indexOf(PIPE));
-		    		}
-		        }
-		        int textLoc = i*5 - 1;
-		        if (itemVal != null && itemVal != CUT_VALUE) {
-			        writePDFText(contentStream, itemVal, 5, PDF_FONT_BOLD, colStartPos, startRowPosition - textLoc, false);
+	        contentStream.beginText();
+	        try {
+		        contentStream.setFont(PDF_FONT, 5);
+		        for (int i = firstRow+1; i <= firstRow+numRows; i++) {
+			        int textLoc = (i-firstRow)*5 - 1;
+			        writePDFLabel(contentStream, iData.rowData.classArray[i], colStartPos, startRowPosition - textLoc, false);
 		        }
+	        } finally {
+		        contentStream.endText();
 	        }
 		} catch (Exception ex) {
-			System.out.println("Exception in PdfGenerator.drawRowTopItems: " + ex.toString());
+			System.out.println("Exception in PdfGenerator.drawAllRowLabels: " + ex.toString());
 	        ex.printStackTrace();
 		} 
         return posArray;
@@ -685,7 +1043,7 @@ public class PdfGenerator {
 	        int rowStartPos = (posArray[PDF_ROW_POS] - PDF_CLASS_HEIGHT*3) - 1;
 	        int matrixLen = iData.matrixFiles.get(0).cols;  
 	        BufferedImage bI = iData.colData.topItemImage;
-	        PDImageXObject  pdImageClassXObjectR = LosslessFactory.createFromImage(doc, bI);
+	        PDImageXObject  pdImageClassXObjectR = images.get(bI);
 	        contentStream.drawImage(pdImageClassXObjectR, colStartPos, rowStartPos, PDF_MAP_SIZE, PDF_CLASS_HEIGHT*3);
 	        Float increment = new Float(PDF_MAP_SIZE) / new Float(matrixLen-1);
 	        int startColPosition = posArray[PDF_COL_POS];
@@ -703,30 +1061,59 @@ public class PdfGenerator {
         return posArray;
 	}
 	
-	public int[] drawAllColLabels(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray) {
+	public int[] drawAllColLabels(PDDocument doc, PDPageContentStream contentStream, ImportData iData, int[] posArray, int firstCol, int numCols) {
         try {
 	        int rowStartPos = (posArray[PDF_ROW_POS]) - 1;
 	        int startColPosition = posArray[PDF_COL_POS];
-	        for (int i = 0; i < iData.colData.classArray.length; i++) {
-		        String itemVal = (String) iData.colData.classArray[i];
-		        if (itemVal != null) {
-		    		int pipeIdx = itemVal.indexOf(PIPE);
-		    		if (pipeIdx > 0) {
-				        itemVal = itemVal.substring(0,itemVal.indexOf(PIPE));
-		    		}
+	        contentStream.beginText();
+	        try {
+		        contentStream.setFont(PDF_FONT, 5);
+		        for (int i = firstCol+1; i <= firstCol+numCols; i++) {
+			        int textLoc = Math.round((int)(i-firstCol)*5)-5;
+			        writePDFLabel(contentStream, iData.colData.classArray[i], startColPosition+textLoc, rowStartPos, true);
 		        }
-		        int textLoc = Math.round((int)i*5)-5;
-		        if (itemVal != null && itemVal != CUT_VALUE) {
-			        writePDFText(contentStream, itemVal, 5, PDF_FONT_BOLD, startColPosition+textLoc, rowStartPos, true);
-		        } 
+	        } finally {
+		        contentStream.endText();
 	        }
 		} catch (Exception ex) {
-			System.out.println("Exception in PdfGenerator.drawColTopItems: " + ex.toString());
+			System.out.println("Exception in PdfGenerator.drawAllColLabels: " + ex.toString());
 	        ex.printStackTrace();
 		} 
         return posArray;
 	}
 	
+	/*******************************************************************
+	 * METHOD: writePDFLabel
+	 *
+	 * This is a helper method that writes a row/col label (less any
+	 * hidden, pipe delimited, portion) at a given location within the
+	 * text object of a page's labels.  All the labels of a page share one
+	 * text object and font setting, each label only sets its position.
+	 * The callers open the text object and close it in a finally block, so
+	 * an IOException writing a label does not leave it open.  Cut rows/cols
+	 * have no label.
+	 ******************************************************************/
+	private void writePDFLabel(PDPageContentStream contentStream, String label, int startX, int startY, boolean rotate) throws Exception {
+		if ((label == null) || (label == CUT_VALUE)) {
+			return;
+		}
+		int pipeIdx = label.indexOf(PIPE);
+		if (pipeIdx > 0) {
+			label = label.substring(0, pipeIdx);
+		}
+		if (rotate) {
+			contentStream.setTextMatrix(Matrix.getRotateInstance(-20.42, startX, startY));
+		} else {
+			contentStream.setTextMatrix(Matrix.getTranslateInstance(startX, startY));
+		}
+		try {
+			contentStream.showText(getPrintableText(label));
+		} catch (IllegalArgumentException ex) {
+			//The label can not be encoded in the font, the text object remains open for the next label
+			System.out.println("Exception in PdfGenerator.writePDFLabel: " + ex.toString());
+		}
+	}
+
 	/*******************************************************************
 	 * METHOD: writePDFText
 	 *
@@ -742,18 +1129,7 @@ public class PdfGenerator {
 				contentStream.setTextRotation(-20.42, startX, startY);
 			}
 			
-		   StringBuilder sb = new StringBuilder();
-		   for (int i=0; i<text.length(); i++) {
-				Character c = text.charAt(i);
-				if (Character.UnicodeBlock.of(c) != Character.UnicodeBlock.BASIC_LATIN) {
-					System.out.println(" PDFBox: Unprintable character found in text: " + text + ". Converting to ??.");
-					sb.append("??");
-				} else {
-					sb.append(c);
-				}
-			}
-		    String textStr = sb.toString();
-			contentStream.showText(textStr);
+			contentStream.showText(getPrintableText(text));
 			contentStream.endText();
 		} catch (Exception ex) {
 			try {
@@ -765,4 +1141,27 @@ public class PdfGenerator {
 	        ex.printStackTrace();
 		} 
 	}
+
+	/*******************************************************************
+	 * METHOD: getPrintableText
+	 *
+	 * This is a helper method that replaces characters of text that
+	 * can not be written with the PDF font with "??".
+	 ******************************************************************/
+	private static String getPrintableText(String text) {
+		StringBuilder sb = null;
+		for (int i=0; i<text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.UnicodeBlock.of(c) != Character.UnicodeBlock.BASIC_LATIN) {
+				if (sb == null) {
+					System.out.println(" PDFBox: Unprintable character found in text: " + text + ". Converting to ??.");
+					sb = new StringBuilder(text.substring(0, i));
+				}
+				sb.append("??");
+			} else if (sb != null) {
+				sb.append(c);
+			}
+		}
+		return sb == null ? text : sb.toString();
+	}
 }
@@ -0,0 +1,254 @@
+/*******************************************************************
+ * CLASS: PdfImages
+ *
+ * This class converts the images drawn on the pages of a heat map PDF
+ * to PDF image XObjects.  Converting an image takes two steps:
+ *   encode - the image's samples are filtered and flate compressed as
+ *            PNG scanlines (see PngWriter), which is CPU bound and does
+ *            not touch the document, so images are encoded in parallel
+ *            on worker threads.  Images of at most 256 colors (covariate
+ *            bars, dendrograms, legends, and heat maps with few colors)
+ *            are encoded as 1, 2, 4, or 8 bit indexes into a palette,
+ *            other images as RGB samples.  Images that are not opaque
+ *            also have their alpha samples encoded.
+ *   create - the encoded samples are copied into the document (which
+ *            holds them in memory up to its limit, then in a temp file)
+ *            as an image XObject with a PNG predictor.  The document is
+ *            not thread safe, so this is done on the calling thread.
+ * The XObject of an image is created once and reused on every page the
+ * image is drawn on (while the image is referenced).  Images converted
+ * with prepare or get that encode to the same samples (e.g. the header
+ * images and legend boxes redrawn for each page) also share one XObject:
+ * XObjects are looked up by a digest of the encoded samples, so only the
+ * digests (not the samples) are kept once the XObjects are created.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.color.PDIndexed;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+public class PdfImages {
+	private PDDocument doc;
+	//BufferedImage keeps Object's identity equality, so weak keys release images no longer drawn.
+	private Map<BufferedImage, PDImageXObject> xObjects = new WeakHashMap<BufferedImage, PDImageXObject>();
+	private Map<String, PDImageXObject> contents = new HashMap<String, PDImageXObject>();
+
+	/*******************************************************************
+	 * CLASS: EncodedImage
+	 *
+	 * The compressed samples of an image: RGB samples or, for an image
+	 * with a palette, the palette's RGB bytes and the pixels' indexes
+	 * (bitDepth bits each) into it; and, for images that are not opaque,
+	 * the compressed alpha samples (used as a soft mask).  The digest
+	 * identifies encoded images with the same samples.
+	 ******************************************************************/
+	public static class EncodedImage {
+		public int width;
+		public int height;
+		public int bitDepth = 8;
+		public byte palette[];
+		public byte rgb[];
+		public byte alpha[];
+		public String digest;
+	}
+
+	public PdfImages(PDDocument doc) {
+		this.doc = doc;
+	}
+
+	/*******************************************************************
+	 * METHOD: encode
+	 *
+	 * This method compresses the samples of an image.  It may be called
+	 * from any thread.
+	 ******************************************************************/
+	public static EncodedImage encode(BufferedImage image) throws IOException {
+		PngWriter writer = new PngWriter();
+		EncodedImage encoded = new EncodedImage();
+		encoded.width = image.getWidth();
+		encoded.height = image.getHeight();
+		PngWriter.Palette palette = PngWriter.Palette.create(image, PngWriter.MAX_PALETTE_COLORS);
+		if (palette != null) {
+			encoded.bitDepth = palette.bitDepth;
+			encoded.palette = palette.getRGBBytes();
+			encoded.rgb = writer.compressImageData(image, palette);
+		} else {
+			encoded.rgb = writer.compressImageData(image, PngWriter.SAMPLES_RGB);
+		}
+		if (image.getColorModel().hasAlpha() && !isOpaque(image)) {
+			encoded.alpha = writer.compressImageData(image, PngWriter.SAMPLES_ALPHA);
+		}
+		encoded.digest = getDigest(encoded);
+		return encoded;
+	}
+
+	/*******************************************************************
+	 * METHOD: getDigest
+	 *
+	 * This method returns a SHA-256 digest of an image's dimensions and
+	 * encoded samples.
+	 ******************************************************************/
+	private static String getDigest(EncodedImage encoded) throws IOException {
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IOException(ex);
+		}
+		md.update((encoded.width + "x" + encoded.height + "x" + encoded.bitDepth).getBytes());
+		byte parts[][] = {encoded.palette, encoded.rgb, encoded.alpha};
+		for (byte part[] : parts) {
+			md.update((byte) ((part != null) ? 1 : 0));
+			if (part != null) {
+				md.update((part.length + ":").getBytes());
+				md.update(part);
+			}
+		}
+		return Base64.getEncoder().encodeToString(md.digest());
+	}
+
+	private static boolean isOpaque(BufferedImage image) {
+		int rgb[] = new int[image.getWidth()];
+		for (int row = 0; row < image.getHeight(); row++) {
+			image.getRGB(0, row, rgb.length, 1, rgb, 0, rgb.length);
+			for (int p : rgb) {
+				if ((p >>> 24) != 0xff) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/*******************************************************************
+	 * METHOD: create
+	 *
+	 * This method creates an image XObject in the document from encoded
+	 * samples.
+	 ******************************************************************/
+	public PDImageXObject create(EncodedImage encoded) throws IOException {
+		PDImageXObject xObject;
+		if (encoded.palette != null) {
+			COSArray indexed = new COSArray();
+			indexed.add(COSName.INDEXED);
+			indexed.add(COSName.DEVICERGB);
+			indexed.add(COSInteger.get(encoded.palette.length/3 - 1));
+			indexed.add(new COSString(encoded.palette));
+			xObject = createXObject(encoded.rgb, encoded.width, encoded.height, encoded.bitDepth, new PDIndexed(indexed), 1);
+		} else {
+			xObject = createXObject(encoded.rgb, encoded.width, encoded.height, 8, PDDeviceRGB.INSTANCE, 3);
+		}
+		if (encoded.alpha != null) {
+			PDImageXObject mask = createXObject(encoded.alpha, encoded.width, encoded.height, 8, PDDeviceGray.INSTANCE, 1);
+			xObject.getCOSObject().setItem(COSName.SMASK, mask);
+		}
+		return xObject;
+	}
+
+	private PDImageXObject createXObject(byte data[], int width, int height, int bitDepth, PDColorSpace colorSpace, int colors) throws IOException {
+		PDImageXObject xObject = new PDImageXObject(doc, new ByteArrayInputStream(data), COSName.FLATE_DECODE, width, height, bitDepth, colorSpace);
+		COSDictionary decodeParms = new COSDictionary();
+		decodeParms.setInt(COSName.PREDICTOR, 15);
+		decodeParms.setInt(COSName.COLORS, colors);
+		decodeParms.setInt(COSName.BITS_PER_COMPONENT, bitDepth);
+		decodeParms.setInt(COSName.COLUMNS, width);
+		xObject.getCOSObject().setItem(COSName.DECODE_PARMS, decodeParms);
+		return xObject;
+	}
+
+	/*******************************************************************
+	 * METHOD: prepare
+	 *
+	 * This method encodes the images (ignoring nulls and images already
+	 * converted) in parallel and creates their XObjects, reusing the
+	 * XObject of an image with the same samples.
+	 ******************************************************************/
+	public void prepare(List<BufferedImage> images) throws Exception {
+		final List<BufferedImage> pending = new ArrayList<BufferedImage>();
+		Map<BufferedImage, Boolean> seen = new IdentityHashMap<BufferedImage, Boolean>();
+		for (BufferedImage image : images) {
+			if ((image != null) && !xObjects.containsKey(image) && (seen.put(image, Boolean.TRUE) == null)) {
+				pending.add(image);
+			}
+		}
+		final EncodedImage encoded[] = new EncodedImage[pending.size()];
+		final Exception errors[] = new Exception[pending.size()];
+		List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+		for (int i = 0; i < pending.size(); i++) {
+			final int index = i;
+			tasks.add(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				protected void compute() {
+					try {
+						encoded[index] = encode(pending.get(index));
+					} catch (Exception ex) {
+						errors[index] = ex;
+					}
+				}
+			});
+		}
+		ForkJoinTask.invokeAll(tasks);
+		for (int i = 0; i < pending.size(); i++) {
+			if (errors[i] != null) {
+				throw errors[i];
+			}
+			xObjects.put(pending.get(i), getXObject(encoded[i]));
+			encoded[i] = null;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getXObject
+	 *
+	 * This method returns the XObject created for an image with the same
+	 * samples (digest) as an encoded image, or creates one.
+	 ******************************************************************/
+	private PDImageXObject getXObject(EncodedImage encoded) throws IOException {
+		PDImageXObject xObject = contents.get(encoded.digest);
+		if (xObject == null) {
+			xObject = create(encoded);
+			contents.put(encoded.digest, xObject);
+		}
+		return xObject;
+	}
+
+	/*******************************************************************
+	 * METHOD: get
+	 *
+	 * This method returns the XObject of an image, converting the image
+	 * if it has not been converted.
+	 ******************************************************************/
+	public PDImageXObject get(BufferedImage image) throws IOException {
+		PDImageXObject xObject = xObjects.get(image);
+		if (xObject == null) {
+			xObject = getXObject(encode(image));
+			xObjects.put(image, xObject);
+		}
+		return xObject;
+	}
+}
@@ -0,0 +1,521 @@
+/*******************************************************************
+ * CLASS: PngWriter
+ *
+ * This class writes images as 8 bit truecolor PNG files (RGB, or RGBA
+ * for images with alpha), or as indexed color PNG files for images
+ * without alpha of at most 256 colors (see Palette), with a
+ * configurable deflate level and scanline filter.  The filtered image
+ * data is split into segments of whole rows that are filtered and
+ * compressed in parallel on the common fork-join
+ * pool.  Each segment is primed with the last 32K of the previous
+ * segment as its dictionary and ends on a byte boundary (a sync flush),
+ * so the compressed segments join into a single zlib stream.  The same
+ * compressed scanlines are the data of flate-encoded PDF images with a
+ * PNG predictor (see PdfImages).
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class PngWriter {
+	public static final int FILTER_NONE = 0;
+	public static final int FILTER_SUB = 1;
+	public static final int FILTER_UP = 2;
+	public static final int FILTER_AVERAGE = 3;
+	public static final int FILTER_PAETH = 4;
+	public static final int FILTER_ADAPTIVE = 5;
+
+	//Image samples compressed (the value is the number of bytes per pixel)
+	public static final int SAMPLES_ALPHA = 1;
+	public static final int SAMPLES_RGB = 3;
+	public static final int SAMPLES_RGBA = 4;
+
+	public static final int MAX_PALETTE_COLORS = 256;
+
+	private static final byte SIGNATURE[] = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int DICTIONARY_SIZE = 32768;
+
+	private int level;
+	private int filter;
+
+	public PngWriter() {
+		this(PNG_COMPRESSION_LEVEL, PNG_FILTER);
+	}
+
+	public PngWriter(int level, int filter) {
+		this.level = level;
+		this.filter = filter;
+	}
+
+	/*******************************************************************
+	 * METHOD: write
+	 *
+	 * These methods write an image as a PNG to a file or stream using the
+	 * default compression level and filter (PNG_COMPRESSION_LEVEL and
+	 * PNG_FILTER).
+	 ******************************************************************/
+	public static void write(BufferedImage image, File file) throws IOException {
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+		try {
+			new PngWriter().writeImage(image, out);
+		} finally {
+			out.close();
+		}
+	}
+
+	public static void write(BufferedImage image, OutputStream out) throws IOException {
+		new PngWriter().writeImage(image, out);
+	}
+
+	/*******************************************************************
+	 * METHOD: encode
+	 *
+	 * This method returns the PNG encoding of an image.
+	 ******************************************************************/
+	public byte[] encode(BufferedImage image) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		writeImage(image, bytes);
+		return bytes.toByteArray();
+	}
+
+	/*******************************************************************
+	 * METHOD: writeImage
+	 *
+	 * This method writes the PNG signature, header, compressed image data,
+	 * and end chunks of an image to a stream.
+	 ******************************************************************/
+	public void writeImage(BufferedImage image, OutputStream out) throws IOException {
+		boolean alpha = image.getColorModel().hasAlpha();
+		Palette palette = alpha ? null : Palette.create(image, MAX_PALETTE_COLORS);
+		byte compressed[] = palette != null ? compressImageData(image, palette) : compressImageData(image, alpha ? SAMPLES_RGBA : SAMPLES_RGB);
+		DataOutputStream data = new DataOutputStream(out);
+		data.write(SIGNATURE);
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		DataOutputStream hdr = new DataOutputStream(header);
+		hdr.writeInt(image.getWidth());
+		hdr.writeInt(image.getHeight());
+		hdr.writeByte(palette != null ? palette.bitDepth : 8); // bit depth
+		hdr.writeByte(palette != null ? 3 : (alpha ? 6 : 2)); // indexed color or truecolor (with alpha)
+		hdr.writeByte(0); // deflate
+		hdr.writeByte(0); // adaptive filtering
+		hdr.writeByte(0); // no interlace
+		writeChunk(data, "IHDR", header.toByteArray(), 0, header.size());
+		if (palette != null) {
+			byte plte[] = palette.getRGBBytes();
+			writeChunk(data, "PLTE", plte, 0, plte.length);
+		}
+		for (int offset = 0; offset < compressed.length; offset += PNG_SEGMENT_BYTES) {
+			writeChunk(data, "IDAT", compressed, offset, Math.min(PNG_SEGMENT_BYTES, compressed.length - offset));
+		}
+		writeChunk(data, "IEND", new byte[0], 0, 0);
+		data.flush();
+	}
+
+	/*******************************************************************
+	 * METHOD: compressImageData
+	 *
+	 * These methods return the filtered and compressed (zlib) scanlines of
+	 * an image's RGB, RGBA, or alpha samples (SAMPLES_*), or of the
+	 * indexes of its pixels' colors in a palette.  The rows are split into
+	 * segments that are filtered and compressed in parallel.
+	 ******************************************************************/
+	public byte[] compressImageData(BufferedImage image, int samples) throws IOException {
+		return compressImageData(image, samples, null);
+	}
+
+	public byte[] compressImageData(BufferedImage image, Palette palette) throws IOException {
+		return compressImageData(image, 0, palette);
+	}
+
+	private byte[] compressImageData(BufferedImage image, int samples, Palette palette) throws IOException {
+		int rowBytes = getRowLength(image.getWidth(), samples, palette) + 1;
+		int height = image.getHeight();
+		int rowsPerSegment = Math.max(1, PNG_SEGMENT_BYTES/rowBytes);
+		List<SegmentTask> tasks = new ArrayList<SegmentTask>();
+		for (int row = 0; row < height; row += rowsPerSegment) {
+			tasks.add(new SegmentTask(image, samples, palette, row, Math.min(row + rowsPerSegment, height), row + rowsPerSegment >= height));
+		}
+		ForkJoinTask.invokeAll(tasks);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(0x78);
+		out.write(getZlibFlags());
+		Adler32 adler = new Adler32();
+		for (SegmentTask task : tasks) {
+			adler.update(task.raw, 0, task.raw.length);
+			out.write(task.compressed, 0, task.compressed.length);
+		}
+		long checksum = adler.getValue();
+		out.write((int) (checksum >>> 24) & 0xff);
+		out.write((int) (checksum >>> 16) & 0xff);
+		out.write((int) (checksum >>> 8) & 0xff);
+		out.write((int) checksum & 0xff);
+		return out.toByteArray();
+	}
+
+	/*******************************************************************
+	 * METHOD: getRowLength
+	 *
+	 * This method returns the number of bytes in an unfiltered row of 
+	 * samples or (packed) palette indexes.
+	 ******************************************************************/
+	private static int getRowLength(int width, int samples, Palette palette) {
+		return palette != null ? (width*palette.bitDepth + 7)/8 : width*samples;
+	}
+
+	/*******************************************************************
+	 * CLASS: Palette
+	 *
+	 * The distinct RGB colors (ignoring alpha) of an image, in order of
+	 * first use, and the bit depth (1, 2, 4, or 8) of an index into them.
+	 * Colors are looked up in an open addressing hash table.
+	 ******************************************************************/
+	public static class Palette {
+		public int colors[];
+		public int size = 0;
+		public int bitDepth;
+		private int keys[];
+		private int slots[];
+
+		private Palette(int maxColors) {
+			colors = new int[maxColors];
+			keys = new int[Integer.highestOneBit(maxColors)*4];
+			slots = new int[keys.length];
+			Arrays.fill(slots, -1);
+		}
+
+		/*******************************************************************
+		 * METHOD: create
+		 *
+		 * This method returns the palette of an image or null if the image
+		 * has more than maxColors colors.
+		 ******************************************************************/
+		public static Palette create(BufferedImage image, int maxColors) {
+			Palette palette = new Palette(maxColors);
+			int width = image.getWidth();
+			int rgb[] = new int[width];
+			for (int row = 0; row < image.getHeight(); row++) {
+				getRGBRow(image, row, rgb);
+				int last = ~rgb[0];
+				for (int x = 0; x < width; x++) {
+					int p = rgb[x];
+					if (p == last) {
+						continue;
+					}
+					if (palette.indexOf(p) < 0) {
+						if (palette.size == maxColors) {
+							return null;
+						}
+						palette.add(p);
+					}
+					last = p;
+				}
+			}
+			int size = Math.max(palette.size, 1);
+			palette.bitDepth = size <= 2 ? 1 : (size <= 4 ? 2 : (size <= 16 ? 4 : 8));
+			return palette;
+		}
+
+		public int indexOf(int rgb) {
+			rgb |= 0xff000000;
+			int mask = keys.length - 1;
+			for (int h = (rgb * 0x9E3779B1) >>> 16 & mask; slots[h] >= 0; h = (h + 1) & mask) {
+				if (keys[h] == rgb) {
+					return slots[h];
+				}
+			}
+			return -1;
+		}
+
+		private void add(int rgb) {
+			rgb |= 0xff000000;
+			int mask = keys.length - 1;
+			int h = (rgb * 0x9E3779B1) >>> 16 & mask;
+			while (slots[h] >= 0) {
+				h = (h + 1) & mask;
+			}
+			keys[h] = rgb;
+			slots[h] = size;
+			colors[size++] = rgb;
+		}
+
+		/*******************************************************************
+		 * METHOD: getRGBBytes
+		 *
+		 * This method returns the red, green, and blue bytes of each color
+		 * (the contents of a PNG PLTE chunk or a PDF indexed color lookup).
+		 ******************************************************************/
+		public byte[] getRGBBytes() {
+			byte bytes[] = new byte[size*3];
+			for (int i = 0; i < size; i++) {
+				bytes[i*3] = (byte) (colors[i] >> 16);
+				bytes[i*3+1] = (byte) (colors[i] >> 8);
+				bytes[i*3+2] = (byte) colors[i];
+			}
+			return bytes;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getRGBRow
+	 *
+	 * This method copies the ARGB pixels of an image row to an array.
+	 ******************************************************************/
+	private static void getRGBRow(BufferedImage image, int row, int rgb[]) {
+		int width = image.getWidth();
+		if ((image.getType() == BufferedImage.TYPE_INT_RGB) || (image.getType() == BufferedImage.TYPE_INT_ARGB)) {
+			//The raster may be a sub-image of a larger image's pixels
+			WritableRaster raster = image.getRaster();
+			DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+			int stride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+			int offset = buffer.getOffset() + (row - raster.getSampleModelTranslateY())*stride - raster.getSampleModelTranslateX();
+			System.arraycopy(buffer.getData(), offset, rgb, 0, width);
+		} else {
+			image.getRGB(0, row, width, 1, rgb, 0, width);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getZlibFlags
+	 *
+	 * This method returns the zlib header flag byte for the compression
+	 * level (the check bits make 0x78 FLG a multiple of 31).
+	 ******************************************************************/
+	private int getZlibFlags() {
+		int levelFlag = level < 2 ? 0 : (level < 6 ? 1 : (level == 6 ? 2 : 3));
+		int flags = levelFlag << 6;
+		return flags + (31 - ((0x78 << 8) + flags) % 31);
+	}
+
+	private static void writeChunk(DataOutputStream data, String type, byte chunk[], int offset, int length) throws IOException {
+		byte typeBytes[] = type.getBytes("US-ASCII");
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(chunk, offset, length);
+		data.writeInt(length);
+		data.write(typeBytes);
+		data.write(chunk, offset, length);
+		data.writeInt((int) crc.getValue());
+	}
+
+	/*******************************************************************
+	 * CLASS: SegmentTask
+	 *
+	 * Filters a range of image rows and compresses them as a raw deflate
+	 * segment (ending in a sync flush unless it is the last segment).
+	 ******************************************************************/
+	private class SegmentTask extends RecursiveTask<Void> {
+		private static final long serialVersionUID = 1L;
+		private BufferedImage image;
+		private int samples;
+		private Palette palette;
+		private int rowFilter;
+		private int firstRow;
+		private int endRow;
+		private boolean last;
+		byte raw[];
+		byte compressed[];
+
+		SegmentTask(BufferedImage image, int samples, Palette palette, int firstRow, int endRow, boolean last) {
+			this.image = image;
+			this.samples = samples;
+			this.palette = palette;
+			//Palette indexes are not filtered (adaptive filtering rarely helps indexed color images)
+			this.rowFilter = (palette != null) && (filter == FILTER_ADAPTIVE) ? FILTER_NONE : filter;
+			this.firstRow = firstRow;
+			this.endRow = endRow;
+			this.last = last;
+		}
+
+		protected Void compute() {
+			int width = image.getWidth();
+			int bpp = palette != null ? 1 : samples;
+			int rowBytes = getRowLength(width, samples, palette);
+			raw = new byte[(endRow - firstRow)*(rowBytes + 1)];
+			int rgb[] = new int[width];
+			byte prev[] = new byte[rowBytes];
+			byte cur[] = new byte[rowBytes];
+			if (firstRow > 0) {
+				getRowBytes(firstRow-1, rgb, prev);
+			}
+			int pos = 0;
+			for (int row = firstRow; row < endRow; row++) {
+				getRowBytes(row, rgb, cur);
+				pos = filterRow(cur, prev, bpp, rowFilter, raw, pos);
+				byte tmp[] = prev;
+				prev = cur;
+				cur = tmp;
+			}
+			compressed = deflate();
+			return null;
+		}
+
+		private void getRowBytes(int row, int rgb[], byte bytes[]) {
+			int width = image.getWidth();
+			getRGBRow(image, row, rgb);
+			if (palette != null) {
+				//Indexes are packed into bytes high bits first
+				int depth = palette.bitDepth;
+				int perByte = 8/depth;
+				Arrays.fill(bytes, (byte) 0);
+				for (int x = 0; x < width; x++) {
+					int index = palette.indexOf(rgb[x]);
+					bytes[x/perByte] |= index << (8 - depth*(x%perByte + 1));
+				}
+				return;
+			}
+			int b = 0;
+			for (int x = 0; x < width; x++) {
+				int p = rgb[x];
+				if (samples != SAMPLES_ALPHA) {
+					bytes[b++] = (byte) (p >> 16);
+					bytes[b++] = (byte) (p >> 8);
+					bytes[b++] = (byte) p;
+				}
+				if (samples != SAMPLES_RGB) {
+					bytes[b++] = (byte) (p >>> 24);
+				}
+			}
+		}
+
+		private byte[] deflate() {
+			Deflater deflater = new Deflater(level, true);
+			try {
+				if (firstRow > 0) {
+					//Prime with the end of the previous segment's data
+					byte dict[] = getPreviousData();
+					deflater.setDictionary(dict);
+				}
+				deflater.setInput(raw);
+				ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length/4 + 64);
+				byte buf[] = new byte[65536];
+				if (last) {
+					deflater.finish();
+					while (!deflater.finished()) {
+						out.write(buf, 0, deflater.deflate(buf));
+					}
+				} else {
+					int len;
+					do {
+						len = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+						out.write(buf, 0, len);
+					} while (len == buf.length || !deflater.needsInput());
+				}
+				return out.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+
+		/*******************************************************************
+		 * METHOD: getPreviousData
+		 *
+		 * This method re-creates the filtered data of the rows preceding the
+		 * segment (up to 32K) so segments can be compressed independently.
+		 ******************************************************************/
+		private byte[] getPreviousData() {
+			int width = image.getWidth();
+			int bpp = palette != null ? 1 : samples;
+			int filteredRowBytes = getRowLength(width, samples, palette) + 1;
+			int numRows = Math.min(firstRow, (DICTIONARY_SIZE + filteredRowBytes - 1)/filteredRowBytes);
+			int startRow = firstRow - numRows;
+			byte data[] = new byte[numRows*filteredRowBytes];
+			int rgb[] = new int[width];
+			byte prev[] = new byte[filteredRowBytes - 1];
+			byte cur[] = new byte[filteredRowBytes - 1];
+			if (startRow > 0) {
+				getRowBytes(startRow-1, rgb, prev);
+			}
+			int pos = 0;
+			for (int row = startRow; row < firstRow; row++) {
+				getRowBytes(row, rgb, cur);
+				pos = filterRow(cur, prev, bpp, rowFilter, data, pos);
+				byte tmp[] = prev;
+				prev = cur;
+				cur = tmp;
+			}
+			if (data.length <= DICTIONARY_SIZE) {
+				return data;
+			}
+			byte dict[] = new byte[DICTIONARY_SIZE];
+			System.arraycopy(data, data.length - DICTIONARY_SIZE, dict, 0, DICTIONARY_SIZE);
+			return dict;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: filterRow
+	 *
+	 * This method writes the filter type byte and bytes of a row filtered
+	 * with a filter (FILTER_*) to the output at a position, returning the
+	 * position after the row.
+	 * The adaptive filter picks the filter with the smallest sum of
+	 * absolute (signed) filtered bytes for each row.
+	 ******************************************************************/
+	private int filterRow(byte cur[], byte prev[], int bpp, int filter, byte out[], int pos) {
+		int type = filter;
+		if (filter == FILTER_ADAPTIVE) {
+			long best = Long.MAX_VALUE;
+			for (int f = FILTER_NONE; f <= FILTER_PAETH; f++) {
+				long sum = 0;
+				for (int i = 0; i < cur.length && sum < best; i++) {
+					sum += Math.abs((byte) filterByte(f, cur, prev, bpp, i));
+				}
+				if (sum < best) {
+					best = sum;
+					type = f;
+				}
+			}
+		}
+		out[pos++] = (byte) type;
+		for (int i = 0; i < cur.length; i++) {
+			out[pos++] = (byte) filterByte(type, cur, prev, bpp, i);
+		}
+		return pos;
+	}
+
+	private static int filterByte(int type, byte cur[], byte prev[], int bpp, int i) {
+		int x = cur[i] & 0xff;
+		int a = i >= bpp ? cur[i-bpp] & 0xff : 0;
+		int b = prev[i] & 0xff;
+		switch (type) {
+			case FILTER_SUB:
+				return x - a;
+			case FILTER_UP:
+				return x - b;
+			case FILTER_AVERAGE:
+				return x - ((a + b) >> 1);
+			case FILTER_PAETH:
+				int c = i >= bpp ? prev[i-bpp] & 0xff : 0;
+				int p = a + b - c;
+				int pa = Math.abs(p - a);
+				int pb = Math.abs(p - b);
+				int pc = Math.abs(p - c);
+				int pred = (pa <= pb && pa <= pc) ? a : (pb <= pc ? b : c);
+				return x - pred;
+			default:
+				return x;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************
+ * CLASS: RasterBuffer
+ *
+ * This class instantiates a RasterBuffer object used to capture the
+ * float values written to a given data tile level (e.g. thumbnail,
+ * summary, detail) so that they can later be used to construct heat
+ * map images (thumbnail PNG and PDF).  Values are held in a single
+ * row-major primitive float array rather than a boxed Float[][] so
+ * that large (detail level) maps do not require an object per cell.
+ * Cells that are never captured contain MIN_VALUES (a gap/cut).  A
+ * level with more cells than a Java array can hold is rejected when the
+ * buffer is created, so cell indexes (row*cols+col) always fit an int.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.util.Arrays;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+public class RasterBuffer extends MatrixSource {
+	public boolean captured = false;
+	private float values[];
+
+	private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+	/*******************************************************************
+	 * CONSTRUCTOR: RasterBuffer
+	 *
+	 * This constructor creates a RasterBuffer object of the given row
+	 * and column dimensions with all cells initialized to MIN_VALUES.
+	 ******************************************************************/
+	public RasterBuffer(int rowCount, int colCount) throws Exception {
+		long size = (long)rowCount*colCount;
+		if (size > MAX_CELLS) {
+			throw new Exception("HEAT MAP ERROR: A level of " + rowCount + " rows by " + colCount + " columns (" + size + " cells) exceeds the " + MAX_CELLS + " cells that can be buffered for heat map images.");
+		}
+		rows = rowCount;
+		cols = colCount;
+		values = new float[(int)size];
+		Arrays.fill(values, MIN_VALUES);
+	}
+
+	/*******************************************************************
+	 * METHOD: read
+	 *
+	 * This method creates a RasterBuffer holding all of the values of a
+	 * matrix source (e.g. a level read back from its tile files).
+	 ******************************************************************/
+	public static RasterBuffer read(MatrixSource source) throws Exception {
+		RasterBuffer buffer = new RasterBuffer(source.rows, source.cols);
+		source.getRows(0, source.rows, buffer.values);
+		buffer.captured = true;
+		return buffer;
+	}
+
+	/*******************************************************************
+	 * METHOD: set
+	 *
+	 * This method captures a value at a given 0-based row/col position.
+	 ******************************************************************/
+	public void set(int row, int col, float value) {
+		values[row*cols+col] = value;
+		captured = true;
+	}
+
+	/*******************************************************************
+	 * METHOD: get
+	 *
+	 * This method retrieves the value at a given 0-based row/col position.
+	 ******************************************************************/
+	public float get(int row, int col) {
+		return values[row*cols+col];
+	}
+
+	/*******************************************************************
+	 * METHOD: getRows
+	 *
+	 * This method copies a block of rows into a row-major array.
+	 ******************************************************************/
+	public void getRows(int firstRow, int numRows, float dest[]) {
+		System.arraycopy(values, firstRow*cols, dest, 0, numRows*cols);
+	}
+}
@@ -45,9 +45,9 @@ public class RowColData {
 	public int[] cutLocations = null;
 	public int cutWidth = 2;
 	public int treeCuts = 0;
-	public List<String> dendroValues = new ArrayList<String>();
-	public int[][] dendroMatrix;
-	public BufferedImage dendroImage;
+	public Float treeCutHeight = null;
+	public Dendrogram dendrogram = new Dendrogram();
+	public DendrogramSegments dendroSegments;
 	public List<InputClass> classFiles = new ArrayList<InputClass>();
 	public String[] topItems = null;
 	public BufferedImage topItemImage;
@@ -95,6 +95,8 @@ public class RowColData {
 			if (cutLocations.length == 0) {
 				String treeCutStr = (String) configData.get(TREE_CUTS);
 				treeCuts = treeCutStr != null ? Integer.parseInt(treeCutStr) : 0;
+				String treeCutHeightStr = (String) configData.get(TREE_CUT_HEIGHT);
+				treeCutHeight = treeCutHeightStr != null ? Float.valueOf(treeCutHeightStr) : null;
 			}
 			String cutWidthStr = (String) configData.get(CUT_WIDTH);
 			cutWidth = cutWidthStr != null ? Integer.parseInt(cutWidthStr) : 2;
@@ -111,17 +113,20 @@ public class RowColData {
 	        if (dendroFile != null) {
 	            setDendroValues();
 	            // If config file specifies that cuts be calculated based on a number
-	            // of "tree cuts". Calculate those cut positions and reconfigure required
-	            // object properties. Must be ordered hierarchically.
+	            // of "tree cuts" or a tree cut height. Calculate those cut positions and 
+	            // reconfigure required object properties. Must be ordered hierarchically.
 	    		if (treeCuts > 0){
-	    			if (dendroValues.size()-1 < treeCuts) {
-	    				String warning = "Less " + orderType + " dendrogram values found than Cluster-Based Gaps requested.  Lowering the number of gaps requested FROM: " + treeCuts + " TO: " + (dendroValues.size()-1);
+	    			if (dendrogram.count-1 < treeCuts) {
+	    				String warning = "Less " + orderType + " dendrogram values found than Cluster-Based Gaps requested.  Lowering the number of gaps requested FROM: " + treeCuts + " TO: " + (dendrogram.count-1);
 	    		    	System.out.println(warning);
 	    		    	configWarnings.add(warning);
-	    				treeCuts = dendroValues.size()-1;
+	    				treeCuts = dendrogram.count-1;
 	    			}
-	    			int[] cutLocs = getTreeCutPositions(treeCuts, dendroValues);
-	    			ResetForTreeCuts(length, cutLocs, orderArr);
+	    			TreeCut treeCut = TreeCut.cutByCount(dendrogram, treeCuts, length);
+	    			ResetForTreeCuts(length, treeCut.cutLocations, orderArr);
+	    		} else if (treeCutHeight != null) {
+	    			TreeCut treeCut = TreeCut.cutByHeight(dendrogram, treeCutHeight, length);
+	    			ResetForTreeCuts(length, treeCut.cutLocations, orderArr);
 	    		}
 	        }
 			if (topItems != null) {
@@ -133,6 +138,67 @@ public class RowColData {
 		}
 	}
 	
+	/*******************************************************************
+	 * CONSTRUCTOR: RowColData
+	 *
+	 * This constructor creates an RowColData object for an axis of an
+	 * already built heat map from its row_data/col_data section of
+	 * mapData.JSON (labels in clustered order, with empty labels at cuts,
+	 * and the dendrogram bars) and its row/col_configuration section of
+	 * mapConfig.JSON.  It is used to regenerate the PDF of a built map.
+	 ******************************************************************/
+	public RowColData(String type, JSONObject mapData, JSONObject mapConfig) throws Exception
+	{
+		orderType = type;
+		JSONObject organization = (JSONObject) mapConfig.get("organization");
+		orderMethod = organization != null ? (String) organization.get(ORDER_METHOD) : ORDER_ORIGINAL;
+		labelMaxLength = (String) mapConfig.get(LABEL_MAXIMUM_LENGTH) != null ? (String) mapConfig.get(LABEL_MAXIMUM_LENGTH) : "20";
+		labelAbbrevMethod = (String) mapConfig.get("label_display_method") != null ? (String) mapConfig.get("label_display_method") : "END";
+		JSONObject dendroConfig = (JSONObject) mapConfig.get("dendrogram");
+		if (dendroConfig != null) {
+			showDendro = (String) dendroConfig.get(SHOW);
+			heightDendro = (String) dendroConfig.get(HEIGHT);
+		}
+		JSONObject labelData = (JSONObject) mapData.get("label");
+		dataTypes = jsonArrayToStringArray((JSONArray) labelData.get("label_type"));
+		JSONArray labels = (JSONArray) labelData.get("labels");
+		classArray = new String[labels.size()+1];
+		ArrayList<Integer> cuts = new ArrayList<Integer>();
+		for (int i = 0; i < labels.size(); i++) {
+			String label = (String) labels.get(i);
+			if (label.equals(EMPTY)) {
+				//Cut positions are written as empty labels; record where each run of cuts starts
+				if ((i == 0) || !classArray[i].equals(CUT_VALUE)) {
+					cuts.add(dataSize);
+					cutWidth = 0;
+				}
+				classArray[i+1] = CUT_VALUE;
+				cutWidth++;
+			} else {
+				classArray[i+1] = label;
+				dataSize++;
+			}
+		}
+		cutLocations = new int[cuts.size()];
+		for (int i = 0; i < cuts.size(); i++) {
+			cutLocations[i] = cuts.get(i);
+		}
+		JSONArray bars = (JSONArray) mapData.get("dendrogram");
+		if (bars != null) {
+			for (int i = 0; i < bars.size(); i++) {
+				String toks[] = ((String) bars.get(i)).split(",");
+				dendrogram.add(Integer.parseInt(toks[0]), Integer.parseInt(toks[1]), Float.parseFloat(toks[2]));
+			}
+			generateDendroSegments(classArray.length-1);
+		}
+		//mapConfig.JSON has an empty top items list when none were configured
+		JSONArray items = (JSONArray) mapConfig.get(TOP_ITEMS);
+		if ((items != null) && (items.size() > 0)) {
+			topItems = jsonArrayToStringArray(items);
+			buildTopItemsArray();
+		}
+	}
+
 	/*******************************************************************
 	 * METHOD: processCutLocations
 	 *
@@ -175,7 +241,6 @@ public class RowColData {
 	 ******************************************************************/
 	private void ResetForTreeCuts(int length, int[] treeCuts, String[] orderArr) throws Exception
 	{
-		dendroValues.clear();
 		cutLocations = treeCuts;
 		orderArray = new int[length+1];
 		classArray = new String[length+(cutLocations.length*cutWidth)+1];
@@ -184,105 +249,29 @@ public class RowColData {
 	}
 	
 	/*******************************************************************
-	 * METHOD: generateDendroMatrix
+	 * METHOD: generateDendroSegments
 	 *
-	 * This method generates a 3 points per leaf matrix for a given
-	 * dendrogram (row/col).  This matrix will be used to generate 
-	 * dendrogram images for both the PDF and the thumbnail PNG.
+	 * This method generates the line segments for a given dendrogram
+	 * (row/col).  The segments will be used to generate dendrogram
+	 * images for both the PDF and the thumbnail PNG.
 	 ******************************************************************/
-	public void generateDendroMatrix(int length) throws Exception {
-		int normDendroMatrixHeight = 160;
-		int pointsPerLeaf = 3;
-		int[][] matrix = new int[normDendroMatrixHeight+1][pointsPerLeaf*length];
-		int numNodes = dendroValues.size();
-		Float maxHeight = new Float(0);
-		if (dendroValues.size() > 0) {
-			for (int j = 0; j < numNodes; j++){
-				String dendValue = dendroValues.get(j);
-				String[] dTokes = dendValue.split(COMMA);
-				Float dHeight = new Float(dTokes[2]);
-				if (dHeight > maxHeight) {
-					maxHeight = dHeight;
-				}
-			}
-		} else {
+	public void generateDendroSegments(int length) throws Exception {
+		if (dendrogram.count == 0) {
 			return;
 		}
-		List<Integer> barsLeft = new ArrayList<Integer>();
-		List<Integer> barsRight = new ArrayList<Integer>();
-		for (int i = 0; i < numNodes; i++){
-			String colValue = dendroValues.get(i);
-			String[] tokes = colValue.split(COMMA);
-			int leftIndex = Integer.parseInt(tokes[0]); // index is the location of the bar in the clustered data
-			int rightIndex = Integer.parseInt(tokes[1]);
-			Float height = new Float(tokes[2]);
-			int normHeight = Math.round(normDendroMatrixHeight*height/maxHeight);
-			int leftLoc = findLocationFromIndex(leftIndex, barsLeft, barsRight);
-			int rightLoc = findLocationFromIndex(rightIndex, barsLeft, barsRight);
-			barsLeft.add(leftLoc);
-			barsRight.add(rightLoc);
-			for (int j = leftLoc; j < rightLoc; j++){
-				matrix[normHeight][j] = 1;
-			}
-			int drawHeight = normHeight-1;
-			while (drawHeight > 0 && matrix[drawHeight][leftLoc] != 1){	// this fills in any spaces 		
-				matrix[drawHeight][leftLoc] = 1;
-				drawHeight--;
-			}
-			drawHeight = normHeight;
-			while (matrix[drawHeight][rightLoc] != 1 && drawHeight > 0){			
-				matrix[drawHeight][rightLoc] = 1;
-				drawHeight--;
-			}
-		}
-		dendroMatrix = matrix;
-	}
-	
-	/*******************************************************************
-	 * METHOD: findLocationFromIndex
-	 *
-	 * This method finds the leaf associated with a given dendrogram 
-	 * point when constructing the dendrogram matrix used to generate
-	 * dendrogram images for PNG images and the heat map PDF.
-	 ******************************************************************/
-	private int findLocationFromIndex(int index, List<Integer> barsLeft, List<Integer> barsRight)  throws Exception {
-		if (index < 0){
-			index = 0-index; // make index a positive number to find the leaf
-			return 3*index-2; // all leafs should occupy the middle space of the 3 points available
-		} else {
-			index--;
-			return (int) Math.round(new Float(barsLeft.get(index) + barsRight.get(index))/2); // gets the middle point of the bar
-		}
+		dendroSegments = DendrogramSegments.build(dendrogram, length);
 	}
 	
 	/*******************************************************************
 	 * METHOD: setDendroValues
 	 *
-	 * This method populates the dendro values array, reordering the
-	 * values to the proper clustered order.
+	 * This method reads the dendrogram file, converting leaf references
+	 * to their clustered positions.
 	 ******************************************************************/
 	private void setDendroValues()  throws Exception {
-        // Reading the data file and writing the output file
 		File dendro = new File(dendroFile);
         dendroFileDate =  dendro.lastModified();
-        BufferedReader br = new BufferedReader(new FileReader(dendro));
-        String line = br.readLine(); // skip the first line since it's just labels
-        line = br.readLine();
-        while (line != null) {
-            String[] tokes = line.split(TAB);
-            int a = Integer.parseInt(tokes[0]);
-            int b = Integer.parseInt(tokes[1]);
-            if (a<0){ // Check if first column is referring to a sample
-                a = 0-orderArray[0-a];
-            }
-            if (b<0){ // Check if second column is referring to a sample
-                b = 0-orderArray[0-b];
-            }
-            String dendroLineData = a+COMMA+b+COMMA+tokes[2];
-            dendroValues.add(dendroLineData);
-            line = br.readLine();
-        }
-        br.close();
+        dendrogram = Dendrogram.read(dendro, orderArray);
 	}
 
 	/*******************************************************************
@@ -466,55 +455,6 @@ public class RowColData {
     	}
 	}
 	
-	/*******************************************************************
-	 * METHOD: getTreeCutPositions
-	 *
-	 * This method calculates tree cut positions. It is only used when
-	 * the heatmapProperties.json file contains a TREE_CUT node in the 
-	 * row/column information. 
-	 ******************************************************************/
-	public int[] getTreeCutPositions(int tCuts, List<String> dValues)  throws Exception {
-		int[] cutLocs = null;
-		int [] cuts = new int[tCuts];
-		int firstCut = dValues.size()-(tCuts-1);
-		int[] cutBars = new int[tCuts];
-		cutBars[0] = firstCut;
-		int cutCtr = 1;
-		//Construct array for the bars that represent each tree cut.
-		for (int i=dValues.size()-1; i >= firstCut; i--) {
-			String colValue = dValues.get(i);
-			String[] tokes = colValue.split(COMMA);
-			int leftIndex = Integer.parseInt(tokes[0]); // index is the location of the bar in the clustered data
-			int rightIndex = Integer.parseInt(tokes[1]);
-			if(leftIndex < firstCut) {
-				cutBars[cutCtr] = leftIndex;
-				cutCtr++;
-			}
-			if(rightIndex < firstCut) {
-				cutBars[cutCtr] = rightIndex;
-				cutCtr++;
-			}
-		}
-		for (int j=0; j < cutBars.length; j++) {
-			int cutBar = cutBars[j];
-			int leftIndex = cutBar;
-			while (leftIndex > 0) {
-				String currBar = dValues.get(leftIndex-1);
-				String[] tokes = currBar.split(COMMA);
-				leftIndex = Integer.parseInt(tokes[0]); // index is the location of the bar in the clustered data
-			}
-			cuts[j] = leftIndex*-1;
-		}
-		cutLocs = new int[cuts.length-1];
-		java.util.Arrays.sort(cuts);
-		for (int i=0;i<cuts.length;i++) {
-			if (i > 0) {
-				cutLocs[i-1]=cuts[i];
-			}
-		}
-		return cutLocs;
-	}
-	
 	/*******************************************************************
 	 * METHOD: getVisibleRowClasses
 	 *
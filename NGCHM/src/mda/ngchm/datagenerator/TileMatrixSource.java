@@ -0,0 +1,126 @@
+/*******************************************************************
+ * CLASS: TileMatrixSource
+ *
+ * This class is a MatrixSource reading the values of a tile level
+ * (thumbnail, summary, or detail) back from the tile files written by
+ * HeatmapDataGenerator.  Tiles hold rowsPerTile x colsPerTile values
+ * (fewer in the last tile row/col) as row-major little endian floats,
+ * so a block of rows is read from each tile with one positioned read.
+ * A source can be limited to a rectangular region of the level (e.g. a
+ * single tile or a viewport) with setRegion.
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+public class TileMatrixSource extends MatrixSource {
+	private String layerDir;
+	private String layer;
+	private int rowsPerTile;
+	private int colsPerTile;
+	private int levelRows;
+	private int levelCols;
+	private int firstRow = 0;
+	private int firstCol = 0;
+
+	/*******************************************************************
+	 * CONSTRUCTOR: TileMatrixSource
+	 *
+	 * This constructor creates a source for a level of a data layer whose
+	 * tiles are in the data layer directory (e.g. <output>/dl1).
+	 ******************************************************************/
+	public TileMatrixSource(String layerDir, ImportLayerData ilData) {
+		this(layerDir, ilData.layer, ilData.totalLevelRows, ilData.totalLevelCols, ilData.rowsPerTile, ilData.colsPerTile);
+	}
+
+	/*******************************************************************
+	 * CONSTRUCTOR: TileMatrixSource
+	 *
+	 * This constructor creates a source for a level given its dimensions
+	 * and tile size (e.g. as read from the levels of mapConfig.json).
+	 ******************************************************************/
+	public TileMatrixSource(String layerDir, String layer, int levelRows, int levelCols, int rowsPerTile, int colsPerTile) {
+		this.layerDir = layerDir;
+		this.layer = layer;
+		this.levelRows = levelRows;
+		this.levelCols = levelCols;
+		this.rowsPerTile = rowsPerTile;
+		this.colsPerTile = colsPerTile;
+		rows = levelRows;
+		cols = levelCols;
+	}
+
+	/*******************************************************************
+	 * METHOD: setRegion
+	 *
+	 * This method limits the source to a region of the level starting at
+	 * a 0-based row and column.  The region is clipped to the level.
+	 ******************************************************************/
+	public void setRegion(int firstRow, int firstCol, int numRows, int numCols) {
+		this.firstRow = Math.max(0, Math.min(firstRow, levelRows));
+		this.firstCol = Math.max(0, Math.min(firstCol, levelCols));
+		rows = Math.max(0, Math.min(numRows, levelRows - this.firstRow));
+		cols = Math.max(0, Math.min(numCols, levelCols - this.firstCol));
+	}
+
+	/*******************************************************************
+	 * METHOD: getRows
+	 *
+	 * This method reads a block of rows from the tiles in each tile row
+	 * the block spans, reading only the tile columns within the region.
+	 ******************************************************************/
+	public void getRows(int startRow, int numRows, float values[]) throws Exception {
+		int row = firstRow + startRow;
+		int endRow = row + numRows;
+		int endCol = firstCol + cols;
+		while (row < endRow) {
+			int tileRow = row/rowsPerTile;
+			int tileRowStart = tileRow*rowsPerTile;
+			int blockEnd = Math.min(endRow, Math.min(tileRowStart + rowsPerTile, levelRows));
+			for (int tileCol = firstCol/colsPerTile; tileCol*colsPerTile < endCol; tileCol++) {
+				int tileColStart = tileCol*colsPerTile;
+				int tileCols = Math.min(colsPerTile, levelCols - tileColStart);
+				int colStart = Math.max(firstCol, tileColStart);
+				int colEnd = Math.min(endCol, tileColStart + tileCols);
+				readTileRows(tileRow, tileCol, tileCols, row - tileRowStart, blockEnd - row, colStart - tileColStart, colEnd - colStart,
+						values, (row - firstRow - startRow)*cols + colStart - firstCol);
+			}
+			row = blockEnd;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: readTileRows
+	 *
+	 * This method reads whole rows of a tile and copies the values of a
+	 * range of the tile's columns into the row-major values array.
+	 ******************************************************************/
+	private void readTileRows(int tileRow, int tileCol, int tileCols, int tileFirstRow, int numRows, int tileFirstCol, int numCols, float values[], int offset) throws Exception {
+		File tileFile = new File(layerDir + ImportTileData.getFileName(layer, tileRow, tileCol));
+		ByteBuffer bytes = ByteBuffer.allocate(numRows*tileCols*4).order(ByteOrder.LITTLE_ENDIAN);
+		RandomAccessFile raf = new RandomAccessFile(tileFile, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long position = (long) tileFirstRow*tileCols*4;
+			while (bytes.hasRemaining()) {
+				if (channel.read(bytes, position + bytes.position()) < 0) {
+					throw new Exception("Tile file " + tileFile.getPath() + " is shorter than expected");
+				}
+			}
+		} finally {
+			raf.close();
+		}
+		bytes.flip();
+		FloatBuffer floats = bytes.asFloatBuffer();
+		for (int r = 0; r < numRows; r++) {
+			floats.position(r*tileCols + tileFirstCol);
+			floats.get(values, offset + r*cols, numCols);
+		}
+	}
+}
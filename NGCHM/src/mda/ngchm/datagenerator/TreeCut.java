@@ -0,0 +1,111 @@
+/*******************************************************************
+ * CLASS: TreeCut
+ *
+ * This class instantiates a TreeCut object containing the clusters
+ * produced by cutting a dendrogram either into a given number of clusters
+ * (removing the last merges of the tree) or at a given height (removing
+ * every bar taller than the height).  Cluster roots are located using the
+ * dendrogram's parent and leaf span indexes so a cut is linear in the
+ * number of bars and leaves.  The results are:
+ *   cutLocations - the first clustered leaf position of every cluster
+ *                  but the first (the gap positions for the axis).
+ *   clusterIds   - the (1-based) cluster number of each clustered leaf
+ *                  position (entry 0 is unused).
+ ******************************************************************/
+
+package mda.ngchm.datagenerator;
+
+public class TreeCut {
+	public int clusterCount = 0;
+	public int cutLocations[];
+	public int clusterIds[];
+
+	/*******************************************************************
+	 * METHOD: cutByCount
+	 *
+	 * This method cuts a dendrogram into a number of clusters by removing
+	 * the last (clusters-1) bars of the tree.
+	 ******************************************************************/
+	public static TreeCut cutByCount(Dendrogram dendrogram, int clusters, int length) {
+		boolean cut[] = new boolean[dendrogram.count];
+		int firstCut = Math.max(dendrogram.count - (clusters-1), 0);
+		for (int i = firstCut; i < dendrogram.count; i++) {
+			cut[i] = true;
+		}
+		return build(dendrogram, cut, length);
+	}
+
+	/*******************************************************************
+	 * METHOD: cutByHeight
+	 *
+	 * This method cuts a dendrogram at a height by removing every bar
+	 * taller than the height.  Bars below a bar that is kept are kept
+	 * (the tree is walked top down), so the clusters are always whole
+	 * subtrees even if the dendrogram contains height inversions.
+	 ******************************************************************/
+	public static TreeCut cutByHeight(Dendrogram dendrogram, float height, int length) {
+		dendrogram.buildParents();
+		boolean cut[] = new boolean[dendrogram.count];
+		for (int i = dendrogram.count-1; i >= 0; i--) {
+			int par = dendrogram.parent[i];
+			cut[i] = (dendrogram.height[i] > height) && ((par == 0) || cut[par-1]);
+		}
+		return build(dendrogram, cut, length);
+	}
+
+	/*******************************************************************
+	 * METHOD: build
+	 *
+	 * This method marks the first leaf of every cluster (each uncut item
+	 * joined by a cut bar) and numbers the clusters in a single pass over
+	 * the clustered leaf positions.
+	 ******************************************************************/
+	private static TreeCut build(Dendrogram dendrogram, boolean cut[], int length) {
+		dendrogram.buildLeafSpans();
+		boolean clusterStart[] = new boolean[length+1];
+		for (int i = 0; i < dendrogram.count; i++) {
+			if (cut[i]) {
+				markStart(dendrogram, cut, dendrogram.left[i], clusterStart);
+				markStart(dendrogram, cut, dendrogram.right[i], clusterStart);
+			}
+		}
+		TreeCut treeCut = new TreeCut();
+		treeCut.clusterIds = new int[length+1];
+		int starts = 0;
+		for (int pos = 2; pos <= length; pos++) {
+			if (clusterStart[pos]) {
+				starts++;
+			}
+		}
+		treeCut.cutLocations = new int[starts];
+		int cluster = 1;
+		int cutCtr = 0;
+		for (int pos = 1; pos <= length; pos++) {
+			if ((pos > 1) && clusterStart[pos]) {
+				treeCut.cutLocations[cutCtr++] = pos;
+				cluster++;
+			}
+			treeCut.clusterIds[pos] = cluster;
+		}
+		treeCut.clusterCount = length > 0 ? cluster : 0;
+		return treeCut;
+	}
+
+	private static void markStart(Dendrogram dendrogram, boolean cut[], int item, boolean clusterStart[]) {
+		if (item < 0) {
+			clusterStart[-item] = true;
+		} else if (!cut[item-1]) {
+			clusterStart[dendrogram.leafStart[item-1]] = true;
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getClusterName
+	 *
+	 * This method returns the treecut classification value of a clustered
+	 * leaf position.
+	 ******************************************************************/
+	public String getClusterName(int pos) {
+		return "Cluster" + clusterIds[pos];
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************
+ * SERVLET CLASS: GeneratePDF
+ *
+ * This class contains the logic necessary to regenerate the PDF (or full
+ * PDF) of a heat map on the server from the map's tiles, mapData.json,
+ * and mapConfig.json (see MapPdfGenerator).  Generation runs in the
+ * background on a single worker thread so that the request returns
+ * immediately; a request for a PDF that is already queued or running is
+ * not queued again.  The servlet responds with the status of the PDF's
+ * generation (queued, running, done, or failed) which can be polled by
+ * repeating the request with status=Y (none if the PDF has not been
+ * requested).
+ *
+ * Argument1: map - Name of the heat map on the server
+ * Argument2: full - (optional) Y to generate the full PDF rather than
+ *            the PDF.
+ * Argument3: status - (optional) Y to only report the status of the
+ *            PDF's generation.
+ ******************************************************************/
+package mda.ngchm.servlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.json.simple.JSONObject;
+
+import mda.ngchm.datagenerator.MapPdfGenerator;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+/**
+ * Servlet implementation class GeneratePDF
+ */
+@WebServlet("/GeneratePDF")
+public class GeneratePDF extends HttpServlet {
+	private static final long serialVersionUID = 1L;
+	private static final String mapLocation = "/NGCHMProto";
+	private static final String STATUS_QUEUED = "queued";
+	private static final String STATUS_RUNNING = "running";
+	private static final String STATUS_DONE = "done";
+	private static final String STATUS_FAILED = "failed";
+	private static final String STATUS_NONE = "none";
+
+	//Status of PDF generation keyed by map and PDF option.
+	private static final Map<String, String> pdfStatus = Collections.synchronizedMap(new HashMap<String, String>());
+
+	//Single background worker so PDF generation never competes with request threads for more than one core.
+	private static final ExecutorService pdfExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "GeneratePDF");
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	/**
+	 * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
+	 */
+	@SuppressWarnings("unchecked")
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+    	String map = request.getParameter("map");
+    	final String option = "Y".equals(request.getParameter("full")) ? GENERATE_FULL_PDF : GENERATE_PDF;
+		final File mapDir = new File(mapLocation + File.separator + map);
+		if ((map == null) || !new File(mapDir, MAP_CONFIG_FILE).exists()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Map not found: " + map);
+			return;
+		}
+		final String key = mapDir.getPath() + "|" + option;
+		String status;
+		synchronized (pdfStatus) {
+			status = pdfStatus.get(key);
+			if (!"Y".equals(request.getParameter("status")) && !STATUS_QUEUED.equals(status) && !STATUS_RUNNING.equals(status)) {
+				status = STATUS_QUEUED;
+				pdfStatus.put(key, status);
+				pdfExecutor.execute(new Runnable() {
+					public void run() {
+						pdfStatus.put(key, STATUS_RUNNING);
+						String errMsg = MapPdfGenerator.processMap(new String[] {mapDir.getPath(), option});
+						pdfStatus.put(key, errMsg == EMPTY ? STATUS_DONE : STATUS_FAILED);
+					}
+				});
+			}
+		}
+		JSONObject result = new JSONObject();
+		result.put("map", map);
+		result.put("pdf", GENERATE_FULL_PDF.equals(option) ? "full" : "pdf");
+		result.put("status", status != null ? status : STATUS_NONE);
+    	response.setContentType("application/json");
+    	response.getWriter().write(result.toJSONString());
+	}
+
+	/**
+	 * @see HttpServlet#doPost(HttpServletRequest request, HttpServletResponse response)
+	 */
+	protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		doGet(request, response);
+	}
+
+	/**
+	 * @see HttpServlet#destroy()
+	 */
+	public void destroy() {
+		pdfExecutor.shutdownNow();
+	}
+
+}
@@ -5,27 +5,44 @@
  * configuration files (mapConfig.json and mapData.json) for a given
  * heat map from the server and return them to the client as JSON
  * output. It is called on the client  * side from the MatrixManager 
- * JS file.
+ * JS file.  Descriptors are returned gzip or deflate encoded when the 
+ * client accepts it (using the compressed copies written at build time)
+ * and are held in a size-bounded cache with an ETag for revalidation.
  * 
  * Argument1: map - Name of the heat map on the server
  * Argument2: type - Type of file (mapConfig or mapData) being requested.
+ * Argument3: section - (optional) Name of a section of the binary mapData
+ *            file (mapData.bin) to be returned.  A value of "index" 
+ *            returns a JSON list of the sections available for the map.
  * 
  * Author: Mark Stucky
  * Date: 2016
  ******************************************************************/
 package mda.ngchm.servlet;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import mda.ngchm.datagenerator.BinaryMapData;
+import mda.ngchm.datagenerator.CompressedDescriptor;
+import mda.ngchm.datagenerator.JsonStreamWriter;
+
+import static mda.ngchm.datagenerator.ImportConstants.MAP_DATA_BIN_FILE;
+import static mda.ngchm.datagenerator.ImportConstants.GZIP_ENCODING;
+import static mda.ngchm.datagenerator.ImportConstants.DEFLATE_ENCODING;
+
 /**
  * Servlet implementation class GetTileStructure
  */
@@ -33,6 +50,25 @@ import javax.servlet.http.HttpServletResponse;
 public class GetDescriptor extends HttpServlet {
 	private static final long serialVersionUID = 1L;
 	private static final String mapLocation = "/NGCHMProto";
+	private static final long MAX_DESCRIPTOR_CACHE_BYTES = 64L * 1024 * 1024;
+
+	//Size-bounded, least recently used, cache of encoded descriptor file bytes.
+	private static final LinkedHashMap<String, CachedDescriptor> descriptorCache = new LinkedHashMap<String, CachedDescriptor>(64, 0.75f, true);
+	private static long descriptorCacheBytes = 0;
+
+	private static class CachedDescriptor {
+		long lastModified;
+		long length;
+		byte[] bytes;
+		String etag;
+
+		CachedDescriptor(long lastModified, long length, byte[] bytes, String etag) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.bytes = bytes;
+			this.etag = etag;
+		}
+	}
        
     /**
      * @see HttpServlet#HttpServlet()
@@ -45,22 +81,188 @@ public class GetDescriptor extends HttpServlet {
 	 * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
 	 */
 	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-    	//Set the MIME type of the response stream
-    	response.setContentType("application/json");
-
-    	//serve a fixed file, located in the root folder of this web app 
     	String map = request.getParameter("map");
     	String type = request.getParameter("type");
-    	String tileFile = mapLocation + File.separator + map + File.separator + type + ".json";
-    	BufferedReader br = new BufferedReader(new FileReader(tileFile));
-    	StringBuffer tileStructureJSON = new StringBuffer();
-    	String line = br.readLine();
-    	while (line != null) {
-    		tileStructureJSON.append(line);
-    		line = br.readLine();
+    	String section = request.getParameter("section");
+    	if (section != null) {
+    		getBinarySection(map, section, response);
+    		return;
+    	}
+
+    	File jsonFile = new File(mapLocation + File.separator + map + File.separator + type + ".json");
+    	if ((map == null) || (type == null) || !jsonFile.exists()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Descriptor not found: " + type);
+			return;
     	}
-    	br.close();
-    	response.getWriter().write(tileStructureJSON.toString());
+    	String encoding = getEncoding(request.getHeader("Accept-Encoding"));
+    	CachedDescriptor descriptor = getDescriptor(jsonFile, encoding);
+
+    	//Set the MIME type of the response stream
+    	response.setContentType("application/json");
+    	response.setHeader("ETag", descriptor.etag);
+    	response.setHeader("Cache-Control", "no-cache");
+    	response.setHeader("Vary", "Accept-Encoding");
+    	String ifNoneMatch = request.getHeader("If-None-Match");
+    	if ((ifNoneMatch != null) && (ifNoneMatch.equals("*") || ifNoneMatch.contains(descriptor.etag))) {
+    		response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    		return;
+    	}
+    	if (encoding != null) {
+    		response.setHeader("Content-Encoding", encoding);
+    	}
+    	response.setContentLength(descriptor.bytes.length);
+    	response.getOutputStream().write(descriptor.bytes);
+    	response.flushBuffer();
+	}
+
+	/*******************************************************************
+	 * METHOD: getEncoding
+	 *
+	 * This method returns the preferred Content-Encoding (gzip, then 
+	 * deflate) accepted by the client or null if neither is accepted. 
+	 ******************************************************************/
+	private String getEncoding(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return null;
+		}
+		boolean gzip = false;
+		boolean deflate = false;
+		for (String token : acceptEncoding.split(",")) {
+			String parts[] = token.trim().split(";");
+			String coding = parts[0].trim().toLowerCase();
+			if ((parts.length > 1) && parts[1].trim().matches("q=0(\\.0*)?")) {
+				continue;
+			}
+			if (coding.equals(GZIP_ENCODING)) {
+				gzip = true;
+			} else if (coding.equals(DEFLATE_ENCODING)) {
+				deflate = true;
+			}
+		}
+		return gzip ? GZIP_ENCODING : (deflate ? DEFLATE_ENCODING : null);
+	}
+
+	/*******************************************************************
+	 * METHOD: getDescriptor
+	 *
+	 * This method returns the encoded bytes of a descriptor file from the
+	 * descriptor cache.  Cache entries are keyed on file path and encoding
+	 * and are replaced when the file's modification time or length change.
+	 * On a cache miss, the build-time compressed copy of the descriptor 
+	 * is used if it is current, otherwise the descriptor is compressed here.
+	 ******************************************************************/
+	private CachedDescriptor getDescriptor(File jsonFile, String encoding) throws IOException {
+		String key = jsonFile.getPath() + "|" + encoding;
+		long lastModified = jsonFile.lastModified();
+		long length = jsonFile.length();
+		synchronized (descriptorCache) {
+			CachedDescriptor descriptor = descriptorCache.get(key);
+			if ((descriptor != null) && (descriptor.lastModified == lastModified) && (descriptor.length == length)) {
+				return descriptor;
+			}
+		}
+		byte[] bytes;
+		if (encoding == null) {
+			bytes = Files.readAllBytes(jsonFile.toPath());
+		} else {
+			File compressedFile = CompressedDescriptor.getCompressedFile(jsonFile, encoding);
+			if (compressedFile.exists() && (compressedFile.lastModified() >= lastModified)) {
+				bytes = Files.readAllBytes(compressedFile.toPath());
+			} else {
+				bytes = CompressedDescriptor.compress(Files.readAllBytes(jsonFile.toPath()), encoding);
+			}
+		}
+		String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + (encoding == null ? "" : "-" + encoding) + "\"";
+		CachedDescriptor descriptor = new CachedDescriptor(lastModified, length, bytes, etag);
+		if (bytes.length <= MAX_DESCRIPTOR_CACHE_BYTES) {
+			synchronized (descriptorCache) {
+				CachedDescriptor old = descriptorCache.put(key, descriptor);
+				if (old != null) {
+					descriptorCacheBytes -= old.bytes.length;
+				}
+				descriptorCacheBytes += bytes.length;
+				Iterator<CachedDescriptor> it = descriptorCache.values().iterator();
+				while ((descriptorCacheBytes > MAX_DESCRIPTOR_CACHE_BYTES) && it.hasNext()) {
+					descriptorCacheBytes -= it.next().bytes.length;
+					it.remove();
+				}
+			}
+		}
+		return descriptor;
+	}
+
+	/*******************************************************************
+	 * METHOD: invalidateDescriptor
+	 *
+	 * This method removes all cached encodings of a map's descriptor file
+	 * (e.g. after SaveMapProperties writes a new mapConfig.json).
+	 ******************************************************************/
+	public static void invalidateDescriptor(String map, String type) {
+		String path = new File(mapLocation + File.separator + map + File.separator + type + ".json").getPath();
+		synchronized (descriptorCache) {
+			String encodings[] = {null, GZIP_ENCODING, DEFLATE_ENCODING};
+			for (String encoding : encodings) {
+				CachedDescriptor old = descriptorCache.remove(path + "|" + encoding);
+				if (old != null) {
+					descriptorCacheBytes -= old.bytes.length;
+				}
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getBinarySection
+	 *
+	 * This method returns a single named section of the binary mapData
+	 * file (or a JSON index of all sections) so that the viewer can load
+	 * only the portions of mapData that it requires.
+	 ******************************************************************/
+	private void getBinarySection(String map, String section, HttpServletResponse response) throws IOException {
+		File binFile = new File(mapLocation + File.separator + map + File.separator + MAP_DATA_BIN_FILE);
+		if (!binFile.exists()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Binary map data not available for map: " + map);
+			return;
+		}
+		List<BinaryMapData.Section> sections = BinaryMapData.readSectionTable(binFile);
+		if (section.equals("index")) {
+	    	response.setContentType("application/json");
+	    	StringBuffer index = new StringBuffer("[");
+	    	for (int i = 0; i < sections.size(); i++) {
+	    		BinaryMapData.Section sect = sections.get(i);
+	    		if (i > 0) {
+	    			index.append(",");
+	    		}
+	    		index.append("{\"name\":\"" + JsonStreamWriter.escape(sect.name) + "\",\"type\":" + sect.type + ",\"length\":" + sect.length + "}");
+	    	}
+	    	index.append("]");
+	    	response.getWriter().write(index.toString());
+	    	response.flushBuffer();
+	    	return;
+		}
+		BinaryMapData.Section sect = BinaryMapData.getSection(sections, section);
+		if (sect == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Section not found: " + section);
+			return;
+		}
+    	response.setContentType("application/binary");
+    	response.setContentLength((int) sect.length);
+    	ServletOutputStream output = response.getOutputStream();
+		RandomAccessFile input = new RandomAccessFile(binFile, "r");
+		try {
+			input.seek(sect.offset);
+	    	byte[] buffer = new byte[65535];
+	    	long remaining = sect.length;
+	    	while (remaining > 0) {
+	    		int bytesRead = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+	    		if (bytesRead < 0) {
+	    			break;
+	    		}
+	    		output.write(buffer, 0, bytesRead);
+	    		remaining -= bytesRead;
+	    	}
+		} finally {
+			input.close();
+		}
     	response.flushBuffer();
 	}
 
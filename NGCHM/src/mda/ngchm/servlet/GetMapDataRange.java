@@ -0,0 +1,303 @@
+/*******************************************************************
+ * SERVLET CLASS: GetMapDataRange
+ *
+ * This class contains the logic necessary to retrieve a range of row
+ * or column labels, label extras (the hidden, pipe delimited, portion of
+ * a label), or covariate values for a given heat map.  It allows the
+ * viewer to retrieve only the portion of mapData needed for the current
+ * view rather than the entire mapData.json file.  Data is read from the
+ * binary mapData file (mapData.bin) written at build time when the
+ * heatmapProperties.json file contains "write_binary_data": "Y".
+ *
+ * Argument1: map - Name of the heat map on the server
+ * Argument2: axis - row or col
+ * Argument3: item - labels, extras, or covariate
+ * Argument4: name - Covariate name (item=covariate only)
+ * Argument5: start - First (1-based) position to return (default 1)
+ * Argument6: end - Last (1-based, inclusive) position to return
+ *            (default last position)
+ * Argument7: interval - Summary interval (default 1).  When greater than
+ *            1, one value is returned per interval.  Continuous covariates
+ *            are averaged over the interval, other items are sampled.
+ ******************************************************************/
+package mda.ngchm.servlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import mda.ngchm.datagenerator.BinaryMapData;
+import mda.ngchm.datagenerator.JsonStreamWriter;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+/**
+ * Servlet implementation class GetMapDataRange
+ */
+@WebServlet("/GetMapDataRange")
+public class GetMapDataRange extends HttpServlet {
+	private static final long serialVersionUID = 1L;
+	private static final String mapLocation = "/NGCHMProto";
+	private static final int VALUE_CHUNK_SIZE = 1024;
+	private static final long MAX_RANGE_CACHE_BYTES = 32L * 1024 * 1024;
+
+	//Size-bounded, least recently used, cache of section tables, section indexes, and decoded label blocks / value chunks.
+	//Keys include the file modification time so rebuilt maps are never served stale data.
+	private static final LinkedHashMap<String, Object> rangeCache = new LinkedHashMap<String, Object>(256, 0.75f, true);
+	private static long rangeCacheBytes = 0;
+
+	/**
+	 * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
+	 */
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+    	String map = request.getParameter("map");
+    	String axis = request.getParameter("axis");
+    	String item = request.getParameter("item");
+    	String name = request.getParameter("name");
+		File binFile = new File(mapLocation + File.separator + map + File.separator + MAP_DATA_BIN_FILE);
+		if ((map == null) || !binFile.exists()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Binary map data not available for map: " + map);
+			return;
+		}
+		if (!ROW_AXIS.equals(axis) && !COL_AXIS.equals(axis)) {
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid axis: " + axis);
+			return;
+		}
+		String sectionName;
+		if ("labels".equals(item) || "extras".equals(item)) {
+			sectionName = axis + ".labels";
+		} else if ("covariate".equals(item) && (name != null)) {
+			sectionName = axis + ".class." + name;
+		} else {
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid item: " + item);
+			return;
+		}
+		try {
+			String keyBase = binFile.getPath() + "|" + binFile.lastModified() + "|";
+			BinaryMapData.Section sect = BinaryMapData.getSection(getSectionTable(binFile, keyBase), sectionName);
+			if (sect == null) {
+				response.sendError(HttpServletResponse.SC_NOT_FOUND, "Section not found: " + sectionName);
+				return;
+			}
+			keyBase = keyBase + sectionName + "|";
+			int count;
+			BinaryMapData.LabelIndex labelIdx = null;
+			BinaryMapData.ColumnIndex columnIdx = null;
+			if (sect.type == BinaryMapData.SECTION_LABELS) {
+				labelIdx = getLabelIndex(binFile, sect, keyBase);
+				count = labelIdx.count;
+			} else {
+				columnIdx = getColumnIndex(binFile, sect, keyBase);
+				count = columnIdx.count;
+			}
+			int start = getIntParameter(request, "start", 1);
+			int end = Math.min(getIntParameter(request, "end", count), count);
+			int interval = Math.max(getIntParameter(request, "interval", 1), 1);
+			if (start < 1) {
+				start = 1;
+			}
+
+	    	response.setContentType("application/json");
+	    	JsonStreamWriter fw = new JsonStreamWriter(response.getOutputStream(), 65536);
+	    	fw.write("{\"count\":" + count + ",\"start\":" + start + ",\"end\":" + end + ",\"interval\":" + interval + ",\"values\":[");
+	    	for (int pos = start; pos <= end; pos += interval) {
+	    		if (pos > start) {
+	    			fw.write(COMMA);
+	    		}
+	    		if (labelIdx != null) {
+	    			String label = getLabel(binFile, labelIdx, keyBase, pos-1);
+	    			if ("extras".equals(item)) {
+	    				int pipeIdx = label.indexOf(PIPE);
+	    				label = pipeIdx >= 0 ? label.substring(pipeIdx+1) : EMPTY;
+	    			}
+	    			fw.writeString(label);
+	    		} else {
+	    			fw.writeString(getIntervalValue(binFile, columnIdx, keyBase, pos-1, Math.min(interval, end-pos+1)));
+	    		}
+	    	}
+	    	fw.write("]}");
+	    	fw.close();
+		} catch (Exception e) {
+			if (response.isCommitted()) {
+				//Part of the response has been sent, the client sees a truncated body
+				System.out.println("Servlet Error: GetMapDataRange failed after the response was committed: " + e.toString());
+			} else {
+				response.resetBuffer();
+				response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Error reading map data range: " + e.toString());
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getIntervalValue
+	 *
+	 * This method returns the covariate value for an interval.  Continuous
+	 * values are averaged (ignoring missing values and cuts), otherwise
+	 * the first value of the interval is returned.
+	 ******************************************************************/
+	private String getIntervalValue(File binFile, BinaryMapData.ColumnIndex idx, String keyBase, int pos, int interval) throws IOException {
+		if (idx.type != BinaryMapData.SECTION_CONTINUOUS) {
+			return getValue(binFile, idx, keyBase, pos);
+		}
+		float first = getFloatValue(binFile, idx, keyBase, pos);
+		float total = 0;
+		int valCtr = 0;
+		for (int i = pos; i < pos+interval; i++) {
+			float val = (i == pos) ? first : getFloatValue(binFile, idx, keyBase, i);
+			if ((val != MAX_VALUES) && (val != MIN_VALUES)) {
+				total += val;
+				valCtr++;
+			}
+		}
+		return BinaryMapData.getValueString(valCtr == 0 ? first : total/valCtr);
+	}
+
+	private String getLabel(File binFile, BinaryMapData.LabelIndex idx, String keyBase, int pos) throws IOException {
+		int block = pos / idx.blockSize;
+		String key = keyBase + "b" + block;
+		String labels[] = (String[]) getCached(key);
+		if (labels == null) {
+			labels = BinaryMapData.readLabelBlock(binFile, idx, block);
+			putCached(key, labels);
+		}
+		return labels[pos % idx.blockSize];
+	}
+
+	private String getValue(File binFile, BinaryMapData.ColumnIndex idx, String keyBase, int pos) throws IOException {
+		int chunk = pos / VALUE_CHUNK_SIZE;
+		String key = keyBase + "c" + chunk;
+		String values[] = (String[]) getCached(key);
+		if (values == null) {
+			int chunkStart = chunk*VALUE_CHUNK_SIZE;
+			values = BinaryMapData.readColumnValues(binFile, idx, chunkStart, Math.min(VALUE_CHUNK_SIZE, idx.count - chunkStart));
+			putCached(key, values);
+		}
+		return values[pos % VALUE_CHUNK_SIZE];
+	}
+
+	private float getFloatValue(File binFile, BinaryMapData.ColumnIndex idx, String keyBase, int pos) throws IOException {
+		int chunk = pos / VALUE_CHUNK_SIZE;
+		String key = keyBase + "f" + chunk;
+		float values[] = (float[]) getCached(key);
+		if (values == null) {
+			int chunkStart = chunk*VALUE_CHUNK_SIZE;
+			values = BinaryMapData.readColumnFloats(binFile, idx, chunkStart, Math.min(VALUE_CHUNK_SIZE, idx.count - chunkStart));
+			putCached(key, values);
+		}
+		return values[pos % VALUE_CHUNK_SIZE];
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<BinaryMapData.Section> getSectionTable(File binFile, String keyBase) throws IOException {
+		List<BinaryMapData.Section> sections = (List<BinaryMapData.Section>) getCached(keyBase + "sections");
+		if (sections == null) {
+			sections = BinaryMapData.readSectionTable(binFile);
+			putCached(keyBase + "sections", sections);
+		}
+		return sections;
+	}
+
+	private BinaryMapData.LabelIndex getLabelIndex(File binFile, BinaryMapData.Section sect, String keyBase) throws IOException {
+		BinaryMapData.LabelIndex idx = (BinaryMapData.LabelIndex) getCached(keyBase + "index");
+		if (idx == null) {
+			idx = BinaryMapData.readLabelIndex(binFile, sect);
+			putCached(keyBase + "index", idx);
+		}
+		return idx;
+	}
+
+	private BinaryMapData.ColumnIndex getColumnIndex(File binFile, BinaryMapData.Section sect, String keyBase) throws IOException {
+		BinaryMapData.ColumnIndex idx = (BinaryMapData.ColumnIndex) getCached(keyBase + "index");
+		if (idx == null) {
+			idx = BinaryMapData.readColumnIndex(binFile, sect);
+			putCached(keyBase + "index", idx);
+		}
+		return idx;
+	}
+
+	private Object getCached(String key) {
+		synchronized (rangeCache) {
+			return rangeCache.get(key);
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: putCached
+	 *
+	 * This method adds an entry to the range cache, removing the least
+	 * recently used entries while the cache exceeds its size limit.
+	 ******************************************************************/
+	private void putCached(String key, Object value) {
+		long bytes = getCacheBytes(value);
+		if (bytes > MAX_RANGE_CACHE_BYTES) {
+			return;
+		}
+		synchronized (rangeCache) {
+			Object old = rangeCache.put(key, value);
+			if (old != null) {
+				rangeCacheBytes -= getCacheBytes(old);
+			}
+			rangeCacheBytes += bytes;
+			Iterator<Object> it = rangeCache.values().iterator();
+			while ((rangeCacheBytes > MAX_RANGE_CACHE_BYTES) && it.hasNext()) {
+				rangeCacheBytes -= getCacheBytes(it.next());
+				it.remove();
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getCacheBytes
+	 *
+	 * This method returns the approximate heap size of a cache entry
+	 * (entries are never modified once cached, so the size is the same
+	 * when the entry is added and removed).
+	 ******************************************************************/
+	private static long getCacheBytes(Object value) {
+		long bytes = 64;
+		if (value instanceof float[]) {
+			bytes += 4L*((float[]) value).length;
+		} else if (value instanceof String[]) {
+			//Discrete value chunks share their dictionary's strings, so they are overestimated
+			for (String str : (String[]) value) {
+				bytes += 8 + ((str != null) ? 40 + 2L*str.length() : 0);
+			}
+		} else if (value instanceof BinaryMapData.LabelIndex) {
+			bytes += 8L*((BinaryMapData.LabelIndex) value).blockStarts.length;
+		} else if (value instanceof BinaryMapData.ColumnIndex) {
+			String dictionary[] = ((BinaryMapData.ColumnIndex) value).dictionary;
+			bytes += (dictionary != null) ? getCacheBytes(dictionary) : 0;
+		} else if (value instanceof List) {
+			bytes += 64L*((List<?>) value).size();
+		}
+		return bytes;
+	}
+
+	private int getIntParameter(HttpServletRequest request, String param, int defaultValue) {
+		String value = request.getParameter(param);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * @see HttpServlet#doPost(HttpServletRequest request, HttpServletResponse response)
+	 */
+	protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		doGet(request, response);
+	}
+
+}
@@ -0,0 +1,280 @@
+/*******************************************************************
+ * SERVLET CLASS: GetTileImage
+ *
+ * This class contains the logic necessary to render a PNG image of a
+ * tile, or of an arbitrary viewport, of any level of a data layer for a
+ * given heat map on the server.  It allows clients that do not run the
+ * viewer (e.g. page embeds and link previews) to show a heat map without
+ * fetching the map's tiles.  Values are read from the same tile files
+ * served by GetTile and colored with the data layer's color map from
+ * mapConfig.json.  Rendered images are held in a size-bounded, least
+ * recently used, cache and are returned with an ETag for revalidation.
+ *
+ * Argument1: map - Name of the heat map on the server
+ * Argument2: datalayer - The data layer (dl1,dl2,etc...) being requested
+ *            (default dl1).
+ * Argument3: level - The data level (tn,s,d,rh,rv) being requested.
+ * Argument4: tile - (optional) Name of a tile of the level (e.g. s.1.2).
+ * Argument5: startRow, endRow, startCol, endCol - (optional, when no
+ *            tile is named) 1-based, inclusive, viewport of the level
+ *            (default the whole level).
+ ******************************************************************/
+package mda.ngchm.servlet;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import mda.ngchm.datagenerator.ColorMap;
+import mda.ngchm.datagenerator.ColorMapGenerator;
+import mda.ngchm.datagenerator.HeatmapRenderer;
+import mda.ngchm.datagenerator.PngWriter;
+import mda.ngchm.datagenerator.TileMatrixSource;
+
+import static mda.ngchm.datagenerator.ImportConstants.*;
+
+/**
+ * Servlet implementation class GetTileImage
+ */
+@WebServlet("/GetTileImage")
+public class GetTileImage extends HttpServlet {
+	private static final long serialVersionUID = 1L;
+	private static final String mapLocation = "/NGCHMProto";
+	private static final long MAX_IMAGE_CACHE_BYTES = 64L * 1024 * 1024;
+	private static final long MAX_IMAGE_PIXELS = 4L * 1024 * 1024;
+	private static final int MAX_CONFIG_ENTRIES = 64;
+
+	//Size-bounded, least recently used, cache of rendered PNG bytes keyed by map, layer, level, region, and version.
+	private static final LinkedHashMap<String, byte[]> imageCache = new LinkedHashMap<String, byte[]>(64, 0.75f, true);
+	private static long imageCacheBytes = 0;
+
+	//LRU cache of parsed map configurations.  Entries are replaced when mapConfig.json changes.
+	private static final Map<String, MapImageConfig> configCache = Collections.synchronizedMap(new LinkedHashMap<String, MapImageConfig>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		protected boolean removeEldestEntry(Map.Entry<String, MapImageConfig> eldest) {
+			return size() > MAX_CONFIG_ENTRIES;
+		}
+	});
+
+	/*******************************************************************
+	 * CLASS: MapImageConfig
+	 *
+	 * The parts of a map's mapConfig.json needed to render images: the
+	 * color map (and a version hash of its JSON) of each data layer and
+	 * the dimensions and tile sizes of each level.
+	 ******************************************************************/
+	private static class MapImageConfig {
+		long lastModified;
+		long length;
+		Map<String, ColorMap> colorMaps = new HashMap<String, ColorMap>();
+		Map<String, String> colorMapVersions = new HashMap<String, String>();
+		Map<String, JSONObject> levels = new HashMap<String, JSONObject>();
+	}
+
+	/**
+	 * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
+	 */
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+    	String map = request.getParameter("map");
+    	String datalayer = request.getParameter("datalayer");
+    	String level = request.getParameter("level");
+    	String tile = request.getParameter("tile");
+    	if (datalayer == null) {
+    		datalayer = DATA_LAYER + "1";
+    	}
+		File configFile = new File(mapLocation + File.separator + map + File.separator + "mapConfig.json");
+		if ((map == null) || !configFile.exists()) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND, "Map not found: " + map);
+			return;
+		}
+		try {
+			MapImageConfig config = getMapImageConfig(configFile);
+			ColorMap cMap = config.colorMaps.get(datalayer);
+			JSONObject levelInfo = level == null ? null : config.levels.get(level);
+			if ((cMap == null) || (levelInfo == null)) {
+				response.sendError(HttpServletResponse.SC_NOT_FOUND, "Data layer or level not found: " + datalayer + " " + level);
+				return;
+			}
+			int levelRows = getInt(levelInfo, "total_rows");
+			int levelCols = getInt(levelInfo, "total_cols");
+			int rowsPerTile = getInt(levelInfo, "rows_per_tile");
+			int colsPerTile = getInt(levelInfo, "cols_per_tile");
+			int startRow, endRow, startCol, endCol;
+			if (tile != null) {
+				String parts[] = tile.split("\\.");
+				if ((parts.length != 3) || !parts[0].equals(level)) {
+					response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tile: " + tile);
+					return;
+				}
+				int tileRow, tileCol;
+				try {
+					tileRow = Integer.parseInt(parts[1]);
+					tileCol = Integer.parseInt(parts[2]);
+				} catch (NumberFormatException e) {
+					tileRow = 0;
+					tileCol = 0;
+				}
+				if ((tileRow < 1) || (tileCol < 1) || (tileRow > (levelRows-1)/rowsPerTile + 1) || (tileCol > (levelCols-1)/colsPerTile + 1)) {
+					response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tile: " + tile);
+					return;
+				}
+				startRow = Math.max((tileRow-1)*rowsPerTile + 1, 1);
+				startCol = Math.max((tileCol-1)*colsPerTile + 1, 1);
+				endRow = Math.min(startRow + rowsPerTile - 1, levelRows);
+				endCol = Math.min(startCol + colsPerTile - 1, levelCols);
+			} else {
+				startRow = Math.max(getIntParameter(request, "startRow", 1), 1);
+				endRow = Math.min(getIntParameter(request, "endRow", levelRows), levelRows);
+				startCol = Math.max(getIntParameter(request, "startCol", 1), 1);
+				endCol = Math.min(getIntParameter(request, "endCol", levelCols), levelCols);
+			}
+			if ((startRow > endRow) || (startCol > endCol)) {
+				response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Empty or invalid region of level: " + level);
+				return;
+			}
+			if ((long) (endRow-startRow+1)*(endCol-startCol+1) > MAX_IMAGE_PIXELS) {
+				response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Requested region exceeds " + MAX_IMAGE_PIXELS + " pixels");
+				return;
+			}
+
+			//The version changes only when the layer's color map is edited, not on other property saves.
+			String version = config.colorMapVersions.get(datalayer);
+			String region = startRow + "-" + endRow + "-" + startCol + "-" + endCol;
+			String etag = "\"" + level + "-" + region + "-" + version + "\"";
+			String key = configFile.getParent() + "|" + datalayer + "|" + level + "|" + region + "|" + version;
+	    	response.setHeader("ETag", etag);
+	    	response.setHeader("Cache-Control", "no-cache");
+	    	String ifNoneMatch = request.getHeader("If-None-Match");
+	    	if ((ifNoneMatch != null) && (ifNoneMatch.equals("*") || ifNoneMatch.contains(etag))) {
+	    		response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+	    		return;
+	    	}
+
+			byte png[];
+			synchronized (imageCache) {
+				png = imageCache.get(key);
+			}
+			if (png == null) {
+				TileMatrixSource source = new TileMatrixSource(configFile.getParent() + File.separator + datalayer, level, levelRows, levelCols, rowsPerTile, colsPerTile);
+				source.setRegion(startRow-1, startCol-1, endRow-startRow+1, endCol-startCol+1);
+				BufferedImage image = HeatmapRenderer.render(source, cMap);
+				png = new PngWriter().encode(image);
+				cacheImage(key, png);
+			}
+	    	response.setContentType("image/png");
+	    	response.setContentLength(png.length);
+	    	response.getOutputStream().write(png);
+	    	response.flushBuffer();
+		} catch (Exception e) {
+			response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Error rendering tile image: " + e.toString());
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: cacheImage
+	 *
+	 * This method adds rendered PNG bytes to the image cache, removing the
+	 * least recently used images while the cache exceeds its size limit.
+	 ******************************************************************/
+	private void cacheImage(String key, byte png[]) {
+		if (png.length > MAX_IMAGE_CACHE_BYTES) {
+			return;
+		}
+		synchronized (imageCache) {
+			byte old[] = imageCache.put(key, png);
+			if (old != null) {
+				imageCacheBytes -= old.length;
+			}
+			imageCacheBytes += png.length;
+			Iterator<byte[]> it = imageCache.values().iterator();
+			while ((imageCacheBytes > MAX_IMAGE_CACHE_BYTES) && it.hasNext()) {
+				imageCacheBytes -= it.next().length;
+				it.remove();
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * METHOD: getMapImageConfig
+	 *
+	 * This method returns the color maps and levels of a map, parsing
+	 * mapConfig.json when it is not cached or has changed since it was
+	 * cached (e.g. a color map saved by SaveMapProperties).
+	 ******************************************************************/
+	private MapImageConfig getMapImageConfig(File configFile) throws Exception {
+		String key = configFile.getPath();
+		long lastModified = configFile.lastModified();
+		long length = configFile.length();
+		MapImageConfig config = configCache.get(key);
+		if ((config != null) && (config.lastModified == lastModified) && (config.length == length)) {
+			return config;
+		}
+		config = new MapImageConfig();
+		config.lastModified = lastModified;
+		config.length = length;
+		FileReader reader = new FileReader(configFile);
+		try {
+			JSONObject jo = (JSONObject) new JSONParser().parse(reader);
+			JSONObject jo_config = (JSONObject) jo.get("data_configuration");
+			JSONObject jo_info = (JSONObject) jo_config.get("map_information");
+			JSONObject jo_layers = (JSONObject) jo_info.get("data_layer");
+			for (Object layer : jo_layers.keySet()) {
+				JSONObject jocm = (JSONObject) ((JSONObject) jo_layers.get(layer)).get(COLORMAP);
+				if (jocm != null) {
+					ColorMap cMap = new ColorMap();
+					cMap.id = (String) layer;
+					cMap.type = (String) jocm.get(COLORMAP_TYPE);
+					config.colorMaps.put((String) layer, ColorMapGenerator.getJsonColors(jocm, cMap));
+					config.colorMapVersions.put((String) layer, Integer.toHexString(jocm.toJSONString().hashCode()));
+				}
+			}
+			JSONObject jo_levels = (JSONObject) jo_info.get("levels");
+			for (Object level : jo_levels.keySet()) {
+				config.levels.put((String) level, (JSONObject) jo_levels.get(level));
+			}
+		} finally {
+			reader.close();
+		}
+		configCache.put(key, config);
+		return config;
+	}
+
+	private int getInt(JSONObject jo, String name) {
+		return ((Number) jo.get(name)).intValue();
+	}
+
+	private int getIntParameter(HttpServletRequest request, String param, int defaultValue) {
+		String value = request.getParameter(param);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * @see HttpServlet#doPost(HttpServletRequest request, HttpServletResponse response)
+	 */
+	protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		doGet(request, response);
+	}
+
+}
@@ -28,6 +28,8 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import mda.ngchm.datagenerator.CompressedDescriptor;
+
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
@@ -43,7 +45,9 @@ public class SaveMapProperties extends HttpServlet {
 	 * METHOD: updateMapConfig
 	 *
 	 * This method replaces the contents of the specified colormaps.json
-	 * file with the JSON data passed in in the request payload.
+	 * file with the JSON data passed in in the request payload.  The
+	 * compressed copies of the file are replaced and then any cached copy
+	 * held by GetDescriptor is discarded.
 	 ******************************************************************/
 	protected boolean updateMapConfig(String map, JSONObject config) {
 		boolean success = true;
@@ -54,6 +58,8 @@ public class SaveMapProperties extends HttpServlet {
 				OutputStreamWriter fw = new OutputStreamWriter(writer, "utf-8");
 				fw.write(config.toString());
 				fw.close();
+				CompressedDescriptor.writeCompressedCopies(new File(configFile));
+				GetDescriptor.invalidateDescriptor(map, "mapConfig");
 	    	} else {
 	    		success = false;
 	    	}